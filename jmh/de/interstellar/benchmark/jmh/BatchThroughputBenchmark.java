@@ -0,0 +1,104 @@
+package de.interstellar.benchmark.jmh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.interstellar.algorithm.DistanceMatrix;
+import de.interstellar.algorithm.DistanceMatrixCalculator;
+import de.interstellar.algorithm.ShortestPathQuery;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ShortestPathService;
+import de.interstellar.model.graph.Graph;
+
+/** Measures how many queries per second are answered, if a whole batch of queries
+ *  is given at once:
+ *
+ *  	- service: BATCH_SIZE random queries on the ShortestPathService
+ *  	- matrix: a distance matrix with the same number of entries
+ *
+ *  Both benchmarks report the score per query.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchThroughputBenchmark {
+
+	private static final int MATRIX_WIDTH = 16;
+	private static final int BATCH_SIZE = MATRIX_WIDTH * MATRIX_WIDTH;
+
+	@Param({"1000", "100000"})
+	public int nodeCount;
+
+	@Param({"1.5", "4"})
+	public double edgesPerNode;
+
+	private ShortestPathService service;
+	private DistanceMatrixCalculator calculator;
+	private List<ShortestPathQuery> queries;
+	private List<String> sources;
+	private List<String> targets;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		Graph graph = BenchmarkGraphs.createGraph(this.nodeCount, this.edgesPerNode);
+		String[] names = BenchmarkGraphs.randomNodeNames(graph, 2 * MATRIX_WIDTH);
+
+		this.sources = Arrays.asList(names).subList(0, MATRIX_WIDTH);
+		this.targets = Arrays.asList(names).subList(MATRIX_WIDTH, 2 * MATRIX_WIDTH);
+		this.queries = new ArrayList<ShortestPathQuery>(BATCH_SIZE);
+
+		for(String source: this.sources) {
+			for(String target: this.targets) {
+				this.queries.add(new ShortestPathQuery(source, target));
+			}
+		}
+
+		this.service = new ShortestPathService(graph);
+		this.calculator = new DistanceMatrixCalculator(graph);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+
+		this.service.close();
+		this.calculator.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public List<ShortestPathResult> service() {
+		return this.service.calculateAll(this.queries);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public DistanceMatrix matrix() {
+		return this.calculator.calculate(this.sources, this.targets);
+	}
+
+}
@@ -0,0 +1,101 @@
+package de.interstellar.benchmark.jmh;
+
+import java.util.Random;
+
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** Creates the graphs and JSON documents for the JMH benchmarks. All benchmarks
+ *  use the same random graphs for the same parameters, so their results can be
+ *  compared with each other.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+final class BenchmarkGraphs {
+
+	static final long SEED = 42;
+
+	private BenchmarkGraphs() {
+	}
+
+	/** @param pNodeCount => number of nodes
+	 *  @param pEdgesPerNode => average number of (undirected) edges per node
+	 *  @return a random connected graph with a node named "Erde"
+	 */
+	static Graph createGraph(int pNodeCount, double pEdgesPerNode) {
+
+		int edgeCount = Math.max(pNodeCount - 1, (int) (pNodeCount * pEdgesPerNode));
+
+		return SyntheticGraphFactory.createRandomGraph(pNodeCount, edgeCount, SEED);
+	}
+
+	/** This function creates the JSON document of the given graph, in the same format
+	 *  as the data of the coding challenge. Every undirected edge is written once.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pGraph => the graph
+	 * @return the JSON document
+	 */
+	static String toJson(Graph pGraph) {
+
+		CsrGraph csrGraph = pGraph.getCsrGraph();
+		StringBuilder json = new StringBuilder();
+
+		json.append("{\"nodes\":[");
+
+		for(int i=0; i < csrGraph.getNodeCount(); i++) {
+			if(i > 0) {
+				json.append(',');
+			}
+			json.append("{\"label\":\"").append(csrGraph.getNodeName(i)).append("\"}");
+		}
+
+		json.append("],\"edges\":[");
+		boolean first = true;
+
+		for(int i=0; i < csrGraph.getNodeCount(); i++) {
+			for(int e = csrGraph.getEdgeStart(i); e < csrGraph.getEdgeEnd(i); e++) {
+
+				int target = csrGraph.getEdgeTarget(e);
+
+				if(i <= target) {
+
+					if(!first) {
+						json.append(',');
+					}
+
+					json.append("{\"source\":").append(i).append(",\"target\":").append(target)
+							.append(",\"cost\":").append(csrGraph.getEdgeCost(e)).append('}');
+					first = false;
+				}
+			}
+		}
+
+		json.append("]}");
+
+		return json.toString();
+	}
+
+	/** @param pGraph => the graph
+	 *  @param pCount => number of names
+	 *  @return names of randomly chosen nodes, always the same for the same graph
+	 */
+	static String[] randomNodeNames(Graph pGraph, int pCount) {
+
+		Random random = new Random(SEED);
+		String[] names = new String[pCount];
+		int nodeCount = pGraph.getCsrGraph().getNodeCount();
+
+		for(int i=0; i < pCount; i++) {
+			names[i] = pGraph.getCsrGraph().getNodeName(random.nextInt(nodeCount));
+		}
+
+		return names;
+	}
+
+}
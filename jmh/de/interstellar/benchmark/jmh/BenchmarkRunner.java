@@ -0,0 +1,33 @@
+package de.interstellar.benchmark.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Runs all JMH benchmarks of this package with the GC profiler, which adds the
+ *  allocation rate (gc.alloc.rate.norm = bytes per operation) to every result.
+ *
+ *  An optional argument restricts the benchmarks to those whose name matches the
+ *  given regular expression (e.g. "QueryLatency").
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException {
+
+		String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*";
+
+		Options options = new OptionsBuilder()
+				.include(include)
+				.addProfiler(GCProfiler.class)
+				.build();
+
+		new Runner(options).run();
+	}
+
+}
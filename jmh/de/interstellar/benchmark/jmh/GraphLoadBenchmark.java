@@ -0,0 +1,95 @@
+package de.interstellar.benchmark.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.interstellar.model.data.GraphSnapshotReader;
+import de.interstellar.model.data.GraphSnapshotWriter;
+import de.interstellar.model.data.JSONParser;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Measures how long it takes to create a graph out of its JSON document:
+ *
+ *  	- parseJsonObject: JSONParser and GraphBuilder.createGraph(JSONObject), the
+ *  	  way the original version of the application loaded the data
+ *  	- streamJson: GraphBuilder.createGraph(InputStream)
+ *  	- readSnapshot: GraphSnapshotReader, including the checksum validation
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphLoadBenchmark {
+
+	@Param({"1000", "100000"})
+	public int nodeCount;
+
+	@Param({"1.5", "4"})
+	public double edgesPerNode;
+
+	private String json;
+	private byte[] jsonBytes;
+	private Path snapshotPath;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+
+		Graph graph = BenchmarkGraphs.createGraph(this.nodeCount, this.edgesPerNode);
+
+		this.json = BenchmarkGraphs.toJson(graph);
+		this.jsonBytes = this.json.getBytes(StandardCharsets.UTF_8);
+		this.snapshotPath = Files.createTempFile("graph", ".snapshot");
+
+		new GraphSnapshotWriter().write(graph, this.snapshotPath);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(this.snapshotPath);
+	}
+
+	@Benchmark
+	public Graph parseJsonObject() {
+
+		JSONObject jsonData = new JSONParser().createJSONObject(this.json);
+
+		return new GraphBuilder().createGraph(jsonData);
+	}
+
+	@Benchmark
+	public Graph streamJson() throws IOException {
+		return new GraphBuilder().createGraph(new ByteArrayInputStream(this.jsonBytes));
+	}
+
+	@Benchmark
+	public Graph readSnapshot() throws IOException {
+		return new GraphSnapshotReader().read(this.snapshotPath);
+	}
+
+}
@@ -0,0 +1,74 @@
+package de.interstellar.benchmark.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.interstellar.algorithm.SearchMode;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.model.graph.Graph;
+
+/** Measures the latency of a single query of ShortestPathAlgorithm.calculateShortestDistance
+ *  from "Erde" to a random target. Every invocation uses the next of a fixed list of
+ *  targets, so all search modes answer the same queries.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryLatencyBenchmark {
+
+	private static final int TARGET_COUNT = 1024;
+
+	@Param({"1000", "100000", "1000000"})
+	public int nodeCount;
+
+	@Param({"1.5", "4"})
+	public double edgesPerNode;
+
+	@Param({"ONE_TO_ALL", "POINT_TO_POINT", "BIDIRECTIONAL"})
+	public SearchMode searchMode;
+
+	private Graph graph;
+	private String[] targets;
+	private int nextTarget;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		this.graph = BenchmarkGraphs.createGraph(this.nodeCount, this.edgesPerNode);
+		this.targets = BenchmarkGraphs.randomNodeNames(this.graph, TARGET_COUNT);
+		this.nextTarget = 0;
+	}
+
+	@Benchmark
+	public ShortestPathResult calculateShortestDistance() {
+
+		String target = this.targets[this.nextTarget];
+		this.nextTarget = (this.nextTarget + 1) % TARGET_COUNT;
+
+		ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(this.graph, "Erde", target);
+		algorithm.setSearchMode(this.searchMode);
+
+		return algorithm.calculateShortestDistance();
+	}
+
+}
@@ -0,0 +1,548 @@
+package de.interstellar.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** This class calculates the shortest paths from one source node to all other nodes
+ *  with several threads (delta-stepping, Meyer and Sanders).
+ *
+ *  The nodes are sorted into buckets of the width delta by their current costs. The
+ *  buckets are processed in ascending order, all nodes of a bucket are processed in
+ *  parallel:
+ *
+ *  	- light edges (cost <= delta) can lead into the same bucket, so they are relaxed
+ *  	  again and again until the bucket stays empty.
+ *  	- heavy edges (cost > delta) always lead into a later bucket, so they are relaxed
+ *  	  only once, after the bucket is finished.
+ *
+ *  The costs of the nodes are updated lock-free by compare-and-set. As the bits of
+ *  doubles that are not negative have the same order as the doubles, the costs are
+ *  kept as long bits in an AtomicLongArray. The predecessors are determined after the
+ *  search: the predecessor of a node is a neighbor whose costs plus the cost of the
+ *  edge are exactly the costs of the node.
+ *
+ *  A small delta means little wasted work but many phases, a big delta the opposite.
+ *  If no delta is set, it is estimated from the costs and the degree of the graph.
+ *  Only buckets that contain nodes are kept (sorted by their index), so a single edge
+ *  with huge costs compared to delta does not need any memory for the buckets between.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DeltaSteppingAlgorithm implements AutoCloseable {
+
+	//Number of nodes a thread takes from the phase at once
+	private static final int CHUNK_SIZE = 64;
+
+	//Number of edges whose costs are used to estimate delta
+	private static final int DELTA_SAMPLE_SIZE = 10000;
+
+	private static final long NOT_REACHED = Double.doubleToRawLongBits(Double.MAX_VALUE);
+
+	private final Graph graph;
+	private final CsrGraph csrGraph;
+	private final ForkJoinPool pool;
+	private final boolean ownsPool;
+	private final Worker[] workers;
+
+	private double delta;
+
+	//State of the running search
+	private AtomicLongArray costBits;
+	private AtomicIntegerArray lastPhase;
+	private int phase;
+	private long bucket;
+	private boolean heavyPhase;
+
+	//Nodes of the running phase, the lists of all threads one after another
+	private final List<IntList> phaseLists;
+	private int[] phaseOffsets;
+	private int phaseSize;
+	private final AtomicInteger nextChunk;
+
+	/** Creates an algorithm that uses one thread per available processor.
+	 *
+	 * @param pGraph => the graph on which the paths are calculated
+	 */
+	public DeltaSteppingAlgorithm(Graph pGraph) {
+
+		this(pGraph, Runtime.getRuntime().availableProcessors());
+	}
+
+	/** Creates an algorithm that uses the given number of threads.
+	 *
+	 * @param pGraph => the graph on which the paths are calculated
+	 * @param pThreadCount => number of threads, 1 runs the search in the calling thread
+	 */
+	public DeltaSteppingAlgorithm(Graph pGraph, int pThreadCount) {
+
+		this.graph = pGraph;
+		this.csrGraph = pGraph.getCsrGraph();
+		this.ownsPool = pThreadCount > 1;
+		this.pool = this.ownsPool ? new ForkJoinPool(pThreadCount) : ForkJoinPool.commonPool();
+		this.workers = new Worker[pThreadCount];
+		this.phaseLists = new ArrayList<IntList>();
+		this.nextChunk = new AtomicInteger();
+		this.delta = estimateDelta(this.csrGraph);
+
+		for(int i=0; i < pThreadCount; i++) {
+			this.workers[i] = new Worker();
+		}
+	}
+
+	/** This function estimates a good delta: the average cost of an edge divided by the
+	 *  average number of edges per node. So a node has about one light edge on average,
+	 *  which keeps the number of edges that are relaxed more than once low, while a
+	 *  bucket still contains enough nodes for all threads.
+	 *
+	 *  Delta is at least the smallest cost of an edge. Below that value no edge is light,
+	 *  so the buckets would only get smaller without saving any work (e.g. in grids whose
+	 *  costs are all between 1 and 2).
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph
+	 * @return the estimated delta, bigger than 0
+	 */
+	public static double estimateDelta(CsrGraph pCsrGraph) {
+
+		int edgeCount = pCsrGraph.getEdgeCount();
+
+		if(edgeCount == 0) {
+			return 1;
+		}
+
+		int step = Math.max(1, edgeCount / DELTA_SAMPLE_SIZE);
+		double costSum = 0;
+		double minimalCost = Double.MAX_VALUE;
+		int sampleCount = 0;
+
+		for(int e=0; e < edgeCount; e += step) {
+			costSum += pCsrGraph.getEdgeCost(e);
+			minimalCost = Math.min(minimalCost, pCsrGraph.getEdgeCost(e));
+			sampleCount++;
+		}
+
+		double averageCost = costSum / sampleCount;
+		double averageDegree = (double) edgeCount / pCsrGraph.getNodeCount();
+		double estimated = Math.max(averageCost / Math.max(1, averageDegree), minimalCost);
+
+		return estimated > 0 ? estimated : 1;
+	}
+
+	public double getDelta() {
+		return this.delta;
+	}
+
+	/** @param pDelta => width of the buckets, bigger than 0 */
+	public void setDelta(double pDelta) {
+
+		if(!(pDelta > 0)) {
+			throw new IllegalArgumentException("Delta has to be bigger than 0: " + pDelta);
+		}
+
+		this.delta = pDelta;
+	}
+
+	/** This function calculates the shortest paths from the given node to all other nodes.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceNodeName => name of the source node
+	 * @return the tree of shortest paths, NULL if the node does not exist
+	 */
+	public ShortestPathTree calculateShortestPathTree(String pSourceNodeName) {
+
+		int sourceNodeId = this.graph.findNodeId(pSourceNodeName);
+
+		if(sourceNodeId < 0) {
+			return null;
+		}
+
+		int nodeCount = this.csrGraph.getNodeCount();
+
+		this.costBits = new AtomicLongArray(nodeCount);
+		this.lastPhase = new AtomicIntegerArray(nodeCount);
+		this.phase = 0;
+
+		for(int i=0; i < nodeCount; i++) {
+			this.costBits.set(i, NOT_REACHED);
+		}
+
+		for(Worker worker: this.workers) {
+			worker.reset();
+		}
+
+		this.costBits.set(sourceNodeId, Double.doubleToRawLongBits(0));
+		this.workers[0].getBucket(0).add(sourceNodeId);
+
+		for(this.bucket = nextBucket(0); this.bucket >= 0; this.bucket = nextBucket(this.bucket)) {
+
+			//Light edges can refill the bucket, so it is processed until it stays empty
+			while(takeLists(false)) {
+				runPhase(false);
+			}
+
+			if(takeLists(true)) {
+				runPhase(true);
+			}
+		}
+
+		ShortestPathTree tree = new ShortestPathTree(this.csrGraph);
+		int settledCount = createTree(tree, sourceNodeId);
+
+		tree.setSearchResult(sourceNodeId, settledCount);
+		this.costBits = null;
+		this.lastPhase = null;
+
+		return tree;
+	}
+
+	/** @return the smallest bucket (not smaller than the given one) that contains nodes, -1 if all are empty */
+	private long nextBucket(long pFrom) {
+
+		long next = -1;
+
+		for(Worker worker: this.workers) {
+
+			long workerNext = worker.nextBucket(pFrom);
+
+			if(workerNext >= 0 && (next < 0 || workerNext < next)) {
+				next = workerNext;
+			}
+		}
+
+		return next;
+	}
+
+	/** This function takes the lists of the next phase from the threads: the nodes of the
+	 *  current bucket or the nodes that were settled in the current bucket.
+	 *
+	 * @return false if the lists of all threads are empty
+	 */
+	private boolean takeLists(boolean pSettledNodes) {
+
+		this.phaseLists.clear();
+
+		for(Worker worker: this.workers) {
+
+			IntList list = pSettledNodes ? worker.takeSettled() : worker.takeBucket(this.bucket);
+
+			if(list != null) {
+				this.phaseLists.add(list);
+			}
+		}
+
+		this.phaseOffsets = new int[this.phaseLists.size() + 1];
+
+		for(int i=0; i < this.phaseLists.size(); i++) {
+			this.phaseOffsets[i + 1] = this.phaseOffsets[i] + this.phaseLists.get(i).size;
+		}
+
+		this.phaseSize = this.phaseOffsets[this.phaseLists.size()];
+
+		return this.phaseSize > 0;
+	}
+
+	private void runPhase(boolean pHeavy) {
+
+		this.phase++;
+		this.heavyPhase = pHeavy;
+		this.nextChunk.set(0);
+
+		if(this.workers.length == 1) {
+			this.workers[0].call();
+		} else {
+
+			List<ForkJoinTask<Void>> tasks = new ArrayList<ForkJoinTask<Void>>(this.workers.length);
+
+			for(Worker worker: this.workers) {
+				tasks.add(ForkJoinTask.adapt(worker));
+			}
+
+			//join throws the failure of a thread, so a phase is never left unfinished silently
+			this.pool.submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+		}
+	}
+
+	/** This function copies the costs into the tree and searches the predecessor of every
+	 *  node, both in parallel.
+	 *
+	 * @return the number of reachable nodes
+	 */
+	private int createTree(ShortestPathTree pTree, int pSourceNodeId) {
+
+		double[] totalCosts = pTree.getTotalCosts();
+		int[] predecessors = pTree.getPredecessors();
+		CsrGraph reverseGraph = this.graph.getReverseCsrGraph();
+		int nodeCount = totalCosts.length;
+
+		runParallel(() -> IntStream.range(0, nodeCount).parallel()
+				.forEach(node -> totalCosts[node] = Double.longBitsToDouble(this.costBits.get(node))));
+
+		//Only neighbors with lower costs are used, so that edges with the costs 0 can not lead to cycles
+		runParallel(() -> IntStream.range(0, nodeCount).parallel().forEach(node -> {
+
+			double cost = totalCosts[node];
+
+			if(cost == Double.MAX_VALUE || node == pSourceNodeId) {
+				return;
+			}
+
+			for(int e = reverseGraph.getEdgeStart(node); e < reverseGraph.getEdgeEnd(node); e++) {
+
+				int neighbor = reverseGraph.getEdgeTarget(e);
+
+				if(totalCosts[neighbor] < cost && totalCosts[neighbor] + reverseGraph.getEdgeCost(e) == cost) {
+					predecessors[node] = neighbor;
+					return;
+				}
+			}
+		}));
+
+		int reachableCount = 0;
+		boolean missingPredecessors = false;
+
+		for(int node=0; node < nodeCount; node++) {
+			if(totalCosts[node] != Double.MAX_VALUE) {
+				reachableCount++;
+				missingPredecessors |= node != pSourceNodeId && predecessors[node] < 0;
+			}
+		}
+
+		if(missingPredecessors) {
+			connectZeroCostNodes(totalCosts, predecessors, pSourceNodeId);
+		}
+
+		return reachableCount;
+	}
+
+	/** This function finds the predecessors of the nodes that are only reached over edges
+	 *  with the costs 0 from nodes with the same costs. Starting at the nodes that already
+	 *  have a predecessor, these edges are followed like in a breadth-first search.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void connectZeroCostNodes(double[] pTotalCosts, int[] pPredecessors, int pSourceNodeId) {
+
+		IntList queue = new IntList();
+
+		for(int node=0; node < pTotalCosts.length; node++) {
+			if(node == pSourceNodeId || pPredecessors[node] >= 0) {
+				queue.add(node);
+			}
+		}
+
+		for(int i=0; i < queue.size; i++) {
+
+			int node = queue.values[i];
+
+			for(int e = this.csrGraph.getEdgeStart(node); e < this.csrGraph.getEdgeEnd(node); e++) {
+
+				int target = this.csrGraph.getEdgeTarget(e);
+
+				if(this.csrGraph.getEdgeCost(e) == 0 && target != pSourceNodeId && pPredecessors[target] < 0
+						&& pTotalCosts[target] == pTotalCosts[node]) {
+					pPredecessors[target] = node;
+					queue.add(target);
+				}
+			}
+		}
+	}
+
+	private void runParallel(Runnable pTask) {
+
+		if(this.workers.length == 1) {
+			pTask.run();
+		} else {
+			this.pool.submit(pTask).join();
+		}
+	}
+
+	private long getBucketIndex(double pCost) {
+		return (long) (pCost / this.delta);
+	}
+
+	/** Shuts down the pool of the threads. */
+	@Override
+	public void close() {
+
+		if(this.ownsPool) {
+			this.pool.shutdown();
+		}
+	}
+
+	/** The part of the search that runs in one thread. Each thread has its own buckets,
+	 *  so the nodes can be added without synchronization. The buckets are kept by their
+	 *  index, empty ones are removed. The last used bucket is remembered, as most edges
+	 *  lead into the same few buckets.
+	 */
+	private final class Worker implements Callable<Void> {
+
+		private final TreeMap<Long,IntList> buckets = new TreeMap<Long,IntList>();
+		private IntList settled = new IntList();
+
+		private long lastIndex = -1;
+		private IntList lastBucket;
+
+		private void reset() {
+
+			this.buckets.clear();
+			this.settled = new IntList();
+			this.lastIndex = -1;
+			this.lastBucket = null;
+		}
+
+		private IntList getBucket(long pIndex) {
+
+			if(pIndex == this.lastIndex) {
+				return this.lastBucket;
+			}
+
+			IntList list = this.buckets.get(pIndex);
+
+			if(list == null) {
+				list = new IntList();
+				this.buckets.put(pIndex, list);
+			}
+
+			this.lastIndex = pIndex;
+			this.lastBucket = list;
+
+			return list;
+		}
+
+		private long nextBucket(long pFrom) {
+
+			Map.Entry<Long,IntList> entry = this.buckets.ceilingEntry(pFrom);
+
+			return entry == null ? -1 : entry.getKey();
+		}
+
+		/** @return the nodes of the bucket, which is removed afterwards. NULL if it is empty already. */
+		private IntList takeBucket(long pIndex) {
+
+			if(pIndex == this.lastIndex) {
+				this.lastIndex = -1;
+				this.lastBucket = null;
+			}
+
+			return this.buckets.remove(pIndex);
+		}
+
+		private IntList takeSettled() {
+
+			if(this.settled.size == 0) {
+				return null;
+			}
+
+			IntList list = this.settled;
+			this.settled = new IntList();
+
+			return list;
+		}
+
+		@Override
+		public Void call() {
+
+			int phaseSize = DeltaSteppingAlgorithm.this.phaseSize;
+
+			for(int start = nextChunk.getAndAdd(CHUNK_SIZE); start < phaseSize; start = nextChunk.getAndAdd(CHUNK_SIZE)) {
+
+				int end = Math.min(start + CHUNK_SIZE, phaseSize);
+
+				int list = 0;
+
+				for(int i = start; i < end; i++) {
+
+					//Find the list that contains the node
+					while(phaseOffsets[list + 1] <= i) {
+						list++;
+					}
+
+					processNode(phaseLists.get(list).values[i - phaseOffsets[list]]);
+				}
+			}
+
+			return null;
+		}
+
+		private void processNode(int pNodeId) {
+
+			double cost = Double.longBitsToDouble(costBits.get(pNodeId));
+
+			//The node was moved into another bucket in the meantime
+			if(!heavyPhase && getBucketIndex(cost) != bucket) {
+				return;
+			}
+
+			//The node can be contained more than once in a phase
+			if(lastPhase.getAndSet(pNodeId, phase) == phase) {
+				return;
+			}
+
+			if(!heavyPhase) {
+				this.settled.add(pNodeId);
+			}
+
+			for(int e = csrGraph.getEdgeStart(pNodeId); e < csrGraph.getEdgeEnd(pNodeId); e++) {
+
+				double edgeCost = csrGraph.getEdgeCost(e);
+
+				if((edgeCost > delta) == heavyPhase) {
+					relax(csrGraph.getEdgeTarget(e), cost + edgeCost);
+				}
+			}
+		}
+
+		private void relax(int pNodeId, double pCost) {
+
+			long bits = Double.doubleToRawLongBits(pCost);
+			long current = costBits.get(pNodeId);
+
+			while(bits < current) {
+
+				if(costBits.compareAndSet(pNodeId, current, bits)) {
+					getBucket(getBucketIndex(pCost)).add(pNodeId);
+					return;
+				}
+
+				current = costBits.get(pNodeId);
+			}
+		}
+	}
+
+	/** A growing list of node ids. */
+	private static final class IntList {
+
+		private int[] values = new int[16];
+		private int size;
+
+		private void add(int pValue) {
+
+			if(this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, 2 * this.size);
+			}
+
+			this.values[this.size++] = pValue;
+		}
+	}
+
+}
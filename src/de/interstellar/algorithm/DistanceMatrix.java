@@ -0,0 +1,53 @@
+package de.interstellar.algorithm;
+
+import java.util.List;
+
+/** This class holds a complete distance matrix: one row for every source node with
+ *  the costs to every target node (see DistanceMatrixRow).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DistanceMatrix {
+
+	private final List<String> sourceNodeNames;
+	private final List<String> targetNodeNames;
+	private final DistanceMatrixRow[] rows;
+
+	public DistanceMatrix(List<String> pSourceNodeNames, List<String> pTargetNodeNames, DistanceMatrixRow[] pRows) {
+
+		this.sourceNodeNames = pSourceNodeNames;
+		this.targetNodeNames = pTargetNodeNames;
+		this.rows = pRows;
+	}
+
+	/** @param pSourceIndex => position of the source in the list of sources
+	 *  @param pTargetIndex => position of the target in the list of targets
+	 *  @return the cost of the shortest path, Double.MAX_VALUE if there is no path
+	 */
+	public double getDistance(int pSourceIndex, int pTargetIndex) {
+		return this.rows[pSourceIndex].getDistance(pTargetIndex);
+	}
+
+	/** @param pSourceIndex => position of the source in the list of sources
+	 *  @param pTargetIndex => position of the target in the list of targets
+	 *  @return the shortest path, NULL if the paths were not requested
+	 */
+	public ShortestPath getPath(int pSourceIndex, int pTargetIndex) {
+		return this.rows[pSourceIndex].getPath(pTargetIndex);
+	}
+
+	public DistanceMatrixRow getRow(int pSourceIndex) {
+		return this.rows[pSourceIndex];
+	}
+
+	public List<String> getSourceNodeNames() {
+		return this.sourceNodeNames;
+	}
+
+	public List<String> getTargetNodeNames() {
+		return this.targetNodeNames;
+	}
+
+}
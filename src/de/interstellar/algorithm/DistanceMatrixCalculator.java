@@ -0,0 +1,292 @@
+package de.interstellar.algorithm;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** This class calculates the costs between many source nodes and many target nodes.
+ *
+ *  Instead of one search per pair of nodes, one search is run per source node. It
+ *  stops as soon as all target nodes are visited, so the graph is searched only once
+ *  for each row of the matrix. The rows are calculated in parallel on a fork-join pool,
+ *  each thread keeps its own SearchState for all the rows it calculates.
+ *
+ *  Each row is handed over to a handler as soon as it is finished, so a large matrix
+ *  does not need to be kept in memory at once.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DistanceMatrixCalculator implements AutoCloseable {
+
+	private final Graph graph;
+	private final CsrGraph csrGraph;
+	private final ForkJoinPool pool;
+	private final boolean ownsPool;
+	private final ThreadLocal<SearchState> searchStates;
+
+	private boolean includePaths;
+
+	/** Creates a calculator that runs its searches on an own fork-join pool with one
+	 *  thread per available processor.
+	 *
+	 * @param pGraph => the graph on which the costs are calculated
+	 */
+	public DistanceMatrixCalculator(Graph pGraph) {
+
+		this(pGraph, new ForkJoinPool(Runtime.getRuntime().availableProcessors()), true);
+	}
+
+	/** Creates a calculator that runs its searches on the given pool. The pool is not
+	 *  shut down when the calculator is closed.
+	 *
+	 * @param pGraph => the graph on which the costs are calculated
+	 * @param pPool => the pool that runs the searches
+	 */
+	public DistanceMatrixCalculator(Graph pGraph, ForkJoinPool pPool) {
+
+		this(pGraph, pPool, false);
+	}
+
+	private DistanceMatrixCalculator(Graph pGraph, ForkJoinPool pPool, boolean pOwnsPool) {
+
+		this.graph = pGraph;
+		this.csrGraph = pGraph.getCsrGraph();
+		this.pool = pPool;
+		this.ownsPool = pOwnsPool;
+		this.searchStates = ThreadLocal.withInitial(
+				() -> new SearchState(this.csrGraph.getNodeCount(), FrontierType.BINARY_HEAP));
+		this.includePaths = false;
+	}
+
+	public boolean isIncludePaths() {
+		return this.includePaths;
+	}
+
+	/** @param pIncludePaths => true if the rows need to contain the paths and not only the costs */
+	public void setIncludePaths(boolean pIncludePaths) {
+		this.includePaths = pIncludePaths;
+	}
+
+	/** This function calculates the complete distance matrix and waits until it is finished.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceNodeNames => names of the source nodes
+	 * @param pTargetNodeNames => names of the target nodes
+	 * @return the matrix, unknown nodes have the cost Double.MAX_VALUE
+	 */
+	public DistanceMatrix calculate(List<String> pSourceNodeNames, List<String> pTargetNodeNames) {
+
+		DistanceMatrixRow[] rows = new DistanceMatrixRow[pSourceNodeNames.size()];
+
+		//Each row is stored at its own position, the join of the pool makes them visible
+		calculate(pSourceNodeNames, pTargetNodeNames, row -> rows[row.getSourceIndex()] = row);
+
+		return new DistanceMatrix(pSourceNodeNames, pTargetNodeNames, rows);
+	}
+
+	/** This function calculates the distance matrix and hands every row over to the
+	 *  given handler as soon as it is finished. The handler is called by several threads
+	 *  at the same time and the rows are not handed over in the order of the sources. The
+	 *  function returns when all rows were handled.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceNodeNames => names of the source nodes
+	 * @param pTargetNodeNames => names of the target nodes
+	 * @param pRowHandler => receives the rows, it needs to be thread-safe
+	 */
+	public void calculate(List<String> pSourceNodeNames, List<String> pTargetNodeNames, Consumer<DistanceMatrixRow> pRowHandler) {
+
+		int[] sourceIds = findNodeIds(pSourceNodeNames);
+		int[] targetIds = findNodeIds(pTargetNodeNames);
+
+		//Mark every target node once, even if it is given more than once
+		boolean[] isTarget = new boolean[this.csrGraph.getNodeCount()];
+		int targetNodeCount = 0;
+
+		for(int targetId: targetIds) {
+			if(targetId >= 0 && !isTarget[targetId]) {
+				isTarget[targetId] = true;
+				targetNodeCount++;
+			}
+		}
+
+		Batch batch = new Batch(pSourceNodeNames, sourceIds, targetIds, isTarget, targetNodeCount,
+				this.includePaths, pRowHandler);
+
+		if(sourceIds.length > 0) {
+			this.pool.invoke(new RowTask(batch, 0, sourceIds.length));
+		}
+	}
+
+	/** This function calculates one row of the matrix in the calling thread.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pBatch => the matrix that is calculated
+	 * @param pSourceIndex => position of the source in the list of sources
+	 */
+	private void calculateRow(Batch pBatch, int pSourceIndex) {
+
+		int[] targetIds = pBatch.targetIds;
+		int sourceId = pBatch.sourceIds[pSourceIndex];
+
+		double[] distances = new double[targetIds.length];
+		ShortestPath[] paths = pBatch.includePaths ? new ShortestPath[targetIds.length] : null;
+
+		if(sourceId < 0) {
+
+			Arrays.fill(distances, Double.MAX_VALUE);
+
+			if(paths != null) {
+				Arrays.fill(paths, new ShortestPath(this.csrGraph, new int[0], Double.MAX_VALUE));
+			}
+		} else {
+
+			SearchState state = this.searchStates.get();
+			search(state, sourceId, pBatch.isTarget, pBatch.targetNodeCount);
+
+			for(int i=0; i < targetIds.length; i++) {
+
+				if(targetIds[i] < 0) {
+					distances[i] = Double.MAX_VALUE;
+				} else {
+					distances[i] = state.getTotalCost(targetIds[i]);
+				}
+
+				if(paths != null) {
+					paths[i] = targetIds[i] < 0 ? new ShortestPath(this.csrGraph, new int[0], Double.MAX_VALUE)
+							: ShortestPath.fromSearchState(this.csrGraph, state, targetIds[i]);
+				}
+			}
+		}
+
+		pBatch.rowHandler.accept(new DistanceMatrixRow(pSourceIndex, pBatch.sourceNodeNames.get(pSourceIndex), distances, paths));
+	}
+
+	/** This function runs a search from the given node until all target nodes are visited.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pState => state for the search
+	 * @param pSourceId => id of the source node
+	 * @param pIsTarget => for every node whether it is a target node
+	 * @param pTargetNodeCount => number of target nodes
+	 */
+	private void search(SearchState pState, int pSourceId, boolean[] pIsTarget, int pTargetNodeCount) {
+
+		pState.reset(pSourceId);
+		pState.update(pSourceId, 0, -1);
+
+		Frontier unvisitedNodes = pState.getFrontier();
+		unvisitedNodes.insert(pSourceId, 0);
+
+		int remainingTargets = pTargetNodeCount;
+
+		while(remainingTargets > 0 && !unvisitedNodes.isEmpty()) {
+
+			int currentNodeId = unvisitedNodes.extractMin();
+			pState.markVisited(currentNodeId);
+
+			//The costs of a visited node do not change anymore
+			if(pIsTarget[currentNodeId] && --remainingTargets == 0) {
+				break;
+			}
+
+			ShortestPathAlgorithm.calculateMinimalCosts(this.csrGraph, currentNodeId, pState);
+		}
+	}
+
+	private int[] findNodeIds(List<String> pNodeNames) {
+
+		int[] nodeIds = new int[pNodeNames.size()];
+
+		for(int i=0; i < nodeIds.length; i++) {
+			nodeIds[i] = this.graph.findNodeId(pNodeNames.get(i));
+		}
+
+		return nodeIds;
+	}
+
+	public Graph getGraph() {
+		return this.graph;
+	}
+
+	/** Shuts down the pool of the calculator, if it was created by the calculator. */
+	@Override
+	public void close() {
+
+		if(this.ownsPool) {
+			this.pool.shutdown();
+		}
+	}
+
+	/** The data of one calculation of a matrix, which is shared by all its tasks. */
+	private static final class Batch {
+
+		private final List<String> sourceNodeNames;
+		private final int[] sourceIds;
+		private final int[] targetIds;
+		private final boolean[] isTarget;
+		private final int targetNodeCount;
+		private final boolean includePaths;
+		private final Consumer<DistanceMatrixRow> rowHandler;
+
+		private Batch(List<String> pSourceNodeNames, int[] pSourceIds, int[] pTargetIds, boolean[] pIsTarget,
+				int pTargetNodeCount, boolean pIncludePaths, Consumer<DistanceMatrixRow> pRowHandler) {
+
+			this.sourceNodeNames = pSourceNodeNames;
+			this.sourceIds = pSourceIds;
+			this.targetIds = pTargetIds;
+			this.isTarget = pIsTarget;
+			this.targetNodeCount = pTargetNodeCount;
+			this.includePaths = pIncludePaths;
+			this.rowHandler = pRowHandler;
+		}
+	}
+
+	/** Calculates the rows from start (inclusive) to end (exclusive). The range is split
+	 *  in halves until it contains only one row, so idle threads can steal the other half.
+	 */
+	private final class RowTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Batch batch;
+		private final int start;
+		private final int end;
+
+		private RowTask(Batch pBatch, int pStart, int pEnd) {
+
+			this.batch = pBatch;
+			this.start = pStart;
+			this.end = pEnd;
+		}
+
+		@Override
+		protected void compute() {
+
+			if(this.end - this.start == 1) {
+				calculateRow(this.batch, this.start);
+			} else {
+				int middle = (this.start + this.end) >>> 1;
+				invokeAll(new RowTask(this.batch, this.start, middle), new RowTask(this.batch, middle, this.end));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package de.interstellar.algorithm;
+
+/** This class holds one row of a distance matrix: the costs from one source node
+ *  to all target nodes, and the paths if they were requested.
+ *
+ *  If a target can not be reached or one of the nodes does not exist, the cost is
+ *  Double.MAX_VALUE and the path does not contain any node.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DistanceMatrixRow {
+
+	private final int sourceIndex;
+	private final String sourceNodeName;
+	private final double[] distances;
+	private final ShortestPath[] paths;
+
+	public DistanceMatrixRow(int pSourceIndex, String pSourceNodeName, double[] pDistances, ShortestPath[] pPaths) {
+
+		this.sourceIndex = pSourceIndex;
+		this.sourceNodeName = pSourceNodeName;
+		this.distances = pDistances;
+		this.paths = pPaths;
+	}
+
+	/** @return the position of the source in the list of sources */
+	public int getSourceIndex() {
+		return this.sourceIndex;
+	}
+
+	public String getSourceNodeName() {
+		return this.sourceNodeName;
+	}
+
+	/** @param pTargetIndex => position of the target in the list of targets
+	 *  @return the cost of the shortest path from the source to the target
+	 */
+	public double getDistance(int pTargetIndex) {
+		return this.distances[pTargetIndex];
+	}
+
+	/** @return the costs to all targets, in the order of the list of targets */
+	public double[] getDistances() {
+		return this.distances;
+	}
+
+	/** @param pTargetIndex => position of the target in the list of targets
+	 *  @return the shortest path from the source to the target, NULL if the paths were not requested
+	 */
+	public ShortestPath getPath(int pTargetIndex) {
+		return this.paths == null ? null : this.paths[pTargetIndex];
+	}
+
+}
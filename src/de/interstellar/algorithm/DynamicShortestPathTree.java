@@ -0,0 +1,291 @@
+package de.interstellar.algorithm;
+
+import java.util.List;
+
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.EdgeChange;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphUpdate;
+
+/** This class keeps the shortest paths from one source node to all other nodes up to
+ *  date while the edges of the graph change (see GraphUpdate). Instead of searching the
+ *  whole graph again, only the part of the tree that is affected by the changes is
+ *  repaired (similar to the algorithm of Ramalingam and Reps):
+ *
+ *  	1. Edges that got more expensive or were removed only matter, if they are part of
+ *  	   the tree. All nodes below such an edge lose their costs.
+ *  	2. These nodes get the best costs over an edge from a node that is not affected.
+ *  	3. Edges that got cheaper or were added are relaxed.
+ *  	4. Starting with the nodes of step 2 and 3 a Dijkstra search continues as long as
+ *  	   costs of nodes get lower.
+ *
+ *  If the changes only touch a small part of the tree, the repair visits far less nodes
+ *  than a new search.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DynamicShortestPathTree {
+
+	private final int sourceNodeId;
+	private final double[] totalCosts;
+	private final int[] predecessors;
+
+	private final Frontier frontier;
+	private final boolean[] affected;
+	private final int[] affectedNodes;
+
+	private Graph graph;
+
+	private DynamicShortestPathTree(Graph pGraph, ShortestPathTree pTree) {
+
+		int nodeCount = pGraph.getCsrGraph().getNodeCount();
+
+		this.graph = pGraph;
+		this.sourceNodeId = pTree.getSourceNodeId();
+		this.totalCosts = pTree.getTotalCosts();
+		this.predecessors = pTree.getPredecessors();
+		this.frontier = FrontierType.BINARY_HEAP.createFrontier(nodeCount);
+		this.affected = new boolean[nodeCount];
+		this.affectedNodes = new int[nodeCount];
+	}
+
+	/** This function calculates the shortest paths from the given node, which are kept
+	 *  up to date afterwards.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pGraph => the graph
+	 * @param pSourceNodeName => name of the source node
+	 * @return the tree, NULL if the node does not exist
+	 */
+	public static DynamicShortestPathTree create(Graph pGraph, String pSourceNodeName) {
+
+		ShortestPathTree tree = new ShortestPathAlgorithm(pGraph, pSourceNodeName, null).calculateShortestPathTree();
+
+		if(tree == null) {
+			return null;
+		}
+
+		//The repair needs the reverse graph. It is created once here, the updates with
+		//changed costs patch it instead of creating it again (see GraphUpdate).
+		pGraph.getReverseCsrGraph();
+
+		return new DynamicShortestPathTree(pGraph, tree);
+	}
+
+	/** This function applies the update to the graph of the tree and repairs the tree.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pUpdate => update of the current graph of the tree, that was not applied yet
+	 * @return the new graph
+	 */
+	public Graph apply(GraphUpdate pUpdate) {
+
+		Graph updated = pUpdate.apply();
+		update(updated, pUpdate.getChanges());
+
+		return updated;
+	}
+
+	/** This function repairs the tree after the edges of its graph were changed.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pGraph => the graph after the changes
+	 * @param pChanges => the changes that lead from the current graph of the tree to the given one
+	 * @return the number of nodes the repair visited
+	 */
+	public int update(Graph pGraph, List<EdgeChange> pChanges) {
+
+		CsrGraph csrGraph = pGraph.getCsrGraph();
+
+		if(csrGraph.getNodeCount() != this.totalCosts.length) {
+			throw new IllegalArgumentException("The graph has a different number of nodes");
+		}
+
+		this.graph = pGraph;
+
+		int affectedCount = collectAffectedNodes(csrGraph, pChanges);
+
+		for(int i=0; i < affectedCount; i++) {
+			this.totalCosts[this.affectedNodes[i]] = Double.MAX_VALUE;
+			this.predecessors[this.affectedNodes[i]] = -1;
+		}
+
+		//The affected nodes get the best costs over an edge from a node that kept its costs
+		CsrGraph reverseGraph = pGraph.getReverseCsrGraph();
+
+		for(int i=0; i < affectedCount; i++) {
+
+			int node = this.affectedNodes[i];
+
+			for(int e = reverseGraph.getEdgeStart(node); e < reverseGraph.getEdgeEnd(node); e++) {
+
+				int neighbor = reverseGraph.getEdgeTarget(e);
+
+				if(!this.affected[neighbor] && this.totalCosts[neighbor] != Double.MAX_VALUE) {
+					relax(node, this.totalCosts[neighbor] + reverseGraph.getEdgeCost(e), neighbor);
+				}
+			}
+		}
+
+		for(int i=0; i < affectedCount; i++) {
+			this.affected[this.affectedNodes[i]] = false;
+		}
+
+		//Edges that got cheaper can lower the costs of their target
+		for(EdgeChange change: pChanges) {
+
+			double sourceCost = this.totalCosts[change.getSourceNodeId()];
+
+			if(!change.isIncrease() && sourceCost != Double.MAX_VALUE) {
+				relax(change.getTargetNodeId(), sourceCost + change.getNewCost(), change.getSourceNodeId());
+			}
+		}
+
+		int visitedCount = 0;
+
+		while(!this.frontier.isEmpty()) {
+
+			int node = this.frontier.extractMin();
+			double cost = this.totalCosts[node];
+			visitedCount++;
+
+			for(int e = csrGraph.getEdgeStart(node); e < csrGraph.getEdgeEnd(node); e++) {
+				relax(csrGraph.getEdgeTarget(e), cost + csrGraph.getEdgeCost(e), node);
+			}
+		}
+
+		return visitedCount;
+	}
+
+	/** This function marks all nodes whose path in the tree contains an edge that got more
+	 *  expensive or was removed: the targets of these edges and all nodes below them.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the number of affected nodes, which are stored at the beginning of affectedNodes
+	 */
+	private int collectAffectedNodes(CsrGraph pCsrGraph, List<EdgeChange> pChanges) {
+
+		int count = 0;
+
+		for(EdgeChange change: pChanges) {
+
+			int target = change.getTargetNodeId();
+
+			if(change.isIncrease() && this.predecessors[target] == change.getSourceNodeId() && !this.affected[target]) {
+				this.affected[target] = true;
+				this.affectedNodes[count++] = target;
+			}
+		}
+
+		//The nodes below an affected node are found over its outgoing edges, as their
+		//predecessor is the affected node. The list itself is used as queue.
+		for(int i=0; i < count; i++) {
+
+			int node = this.affectedNodes[i];
+
+			for(int e = pCsrGraph.getEdgeStart(node); e < pCsrGraph.getEdgeEnd(node); e++) {
+
+				int child = pCsrGraph.getEdgeTarget(e);
+
+				if(this.predecessors[child] == node && !this.affected[child]) {
+					this.affected[child] = true;
+					this.affectedNodes[count++] = child;
+				}
+			}
+		}
+
+		return count;
+	}
+
+	private void relax(int pNodeId, double pCost, int pPredecessor) {
+
+		if(pCost < this.totalCosts[pNodeId]) {
+
+			this.totalCosts[pNodeId] = pCost;
+			this.predecessors[pNodeId] = pPredecessor;
+
+			if(this.frontier.contains(pNodeId)) {
+				this.frontier.decreaseKey(pNodeId, pCost);
+			} else {
+				this.frontier.insert(pNodeId, pCost);
+			}
+		}
+	}
+
+	/** @param pNodeId => id of the node
+	 *  @return the total costs from the source to the node, Double.MAX_VALUE if it is not reachable
+	 */
+	public double getTotalCost(int pNodeId) {
+		return this.totalCosts[pNodeId];
+	}
+
+	/** @param pNodeId => id of the node
+	 *  @return the node before the given node on its shortest path, -1 for the source
+	 *  		and for nodes that are not reachable
+	 */
+	public int getPredecessor(int pNodeId) {
+		return this.predecessors[pNodeId];
+	}
+
+	/** @param pNodeId => id of the node
+	 *  @return true if there is a path from the source to the node
+	 */
+	public boolean isReachable(int pNodeId) {
+		return this.totalCosts[pNodeId] != Double.MAX_VALUE;
+	}
+
+	/** This function creates the path from the source to the given node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pTargetNodeId => id of the node the path leads to
+	 * @return the path, an empty path if the node is not reachable
+	 */
+	public ShortestPath getPath(int pTargetNodeId) {
+
+		CsrGraph csrGraph = this.graph.getCsrGraph();
+
+		if(!isReachable(pTargetNodeId)) {
+			return new ShortestPath(csrGraph, new int[0], Double.MAX_VALUE);
+		}
+
+		int length = 1;
+
+		for(int node = this.predecessors[pTargetNodeId]; node >= 0; node = this.predecessors[node]) {
+			length++;
+		}
+
+		int[] nodeIds = new int[length];
+		int node = pTargetNodeId;
+
+		for(int i = length - 1; i >= 0; i--) {
+			nodeIds[i] = node;
+			node = this.predecessors[node];
+		}
+
+		return new ShortestPath(csrGraph, nodeIds, this.totalCosts[pTargetNodeId]);
+	}
+
+	/** @return the graph the tree belongs to, which is the graph of the last update */
+	public Graph getGraph() {
+		return this.graph;
+	}
+
+	public int getSourceNodeId() {
+		return this.sourceNodeId;
+	}
+
+}
@@ -0,0 +1,21 @@
+package de.interstellar.algorithm;
+
+/** Defines how much of the graph the ShortestPathAlgorithm searches.
+ *
+ *  	- ONE_TO_ALL: the costs to every reachable node are calculated, like the
+ *  	  original version of the algorithm did.
+ *  	- POINT_TO_POINT: the search stops as soon as the target node is visited.
+ *  	- BIDIRECTIONAL: one search starts at the source and one at the target. They
+ *  	  stop when they meet and no better path is possible anymore.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public enum SearchMode {
+
+	ONE_TO_ALL,
+	POINT_TO_POINT,
+	BIDIRECTIONAL
+
+}
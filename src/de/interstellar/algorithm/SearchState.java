@@ -0,0 +1,164 @@
+package de.interstellar.algorithm;
+
+import java.util.Arrays;
+
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.EdgeCostProfile;
+
+/** This class holds the state of one shortest path search: the total costs
+ *  and predecessors found so far, which nodes are visited and the frontier
+ *  of unvisited nodes.
+ *  
+ *  The state is kept outside of the graph, so that several searches can run on
+ *  the same graph at the same time. A state must only be used by one search at a
+ *  time, but it can be reused for the next search. Resetting the state does not
+ *  clear the arrays, instead every search gets a new stamp and values with an
+ *  older stamp count as not set.
+ *  
+ *  Instead of a path per node only the predecessor of each node on its shortest
+ *  path is stored. The path itself is created from the predecessors when it is
+ *  needed (see ShortestPath).
+ * 
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class SearchState {
+	
+	private final double[] totalCosts;
+	private final int[] predecessors;
+	private final int[] reachedStamps;
+	private final int[] visitedStamps;
+	private final Frontier frontier;
+	
+	private int currentStamp;
+	private int sourceNodeId;
+	private int settledNodeCount;
+	private long relaxedEdgeCount;
+	private int frontierPeakSize;
+	
+	public SearchState(int pNodeCount, FrontierType pFrontierType) {
+		
+		this(pNodeCount, pFrontierType, null);
+	}
+	
+	/** Creates a state whose frontier can depend on the costs of the graph (see FrontierType).
+	 * 
+	 * @param pNodeCount => number of nodes of the graph
+	 * @param pFrontierType => the type of the frontier
+	 * @param pCosts => the costs of the edges of the graph, can be NULL if they are unknown
+	 */
+	public SearchState(int pNodeCount, FrontierType pFrontierType, EdgeCostProfile pCosts) {
+		
+		this.totalCosts = new double[pNodeCount];
+		this.predecessors = new int[pNodeCount];
+		this.reachedStamps = new int[pNodeCount];
+		this.visitedStamps = new int[pNodeCount];
+		this.frontier = pFrontierType.createFrontier(pNodeCount, pCosts);
+		this.currentStamp = 0;
+	}
+	
+	/** This function prepares the state for a new search.
+	 * 
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 * 
+	 * @param pSourceNodeId => id of the node the new search starts from
+	 */
+	public void reset(int pSourceNodeId) {
+		
+		this.sourceNodeId = pSourceNodeId;
+		this.settledNodeCount = 0;
+		this.relaxedEdgeCount = 0;
+		this.frontierPeakSize = 0;
+		this.frontier.clear();
+		this.currentStamp++;
+		
+		//After an overflow of the stamp, old values could become valid again
+		if(this.currentStamp == Integer.MAX_VALUE) {
+			Arrays.fill(this.reachedStamps, 0);
+			Arrays.fill(this.visitedStamps, 0);
+			this.currentStamp = 1;
+		}
+	}
+	
+	/** @return the number of nodes this state can hold */
+	public int getCapacity() {
+		return this.totalCosts.length;
+	}
+	
+	public int getSourceNodeId() {
+		return this.sourceNodeId;
+	}
+	
+	public Frontier getFrontier() {
+		return this.frontier;
+	}
+	
+	/** @param pNodeId => id of the node
+	 *  @return the total costs of the node, Double.MAX_VALUE if the node was not reached yet
+	 */
+	public double getTotalCost(int pNodeId) {
+		return this.reachedStamps[pNodeId] == this.currentStamp ? this.totalCosts[pNodeId] : Double.MAX_VALUE;
+	}
+	
+	/** @param pNodeId => id of the node
+	 *  @return the id of the node before the given node on its shortest path, -1 for the
+	 *  		source node or if the node was not reached yet
+	 */
+	public int getPredecessor(int pNodeId) {
+		return this.reachedStamps[pNodeId] == this.currentStamp ? this.predecessors[pNodeId] : -1;
+	}
+	
+	/** Stores a new total cost and predecessor for the given node.
+	 * 
+	 * @param pNodeId => id of the node
+	 * @param pTotalCost => total costs to reach the node
+	 * @param pPredecessor => id of the node before the given node on the path, -1 for the source
+	 */
+	public void update(int pNodeId, double pTotalCost, int pPredecessor) {
+		
+		this.totalCosts[pNodeId] = pTotalCost;
+		this.predecessors[pNodeId] = pPredecessor;
+		this.reachedStamps[pNodeId] = this.currentStamp;
+	}
+	
+	public boolean isVisited(int pNodeId) {
+		return this.visitedStamps[pNodeId] == this.currentStamp;
+	}
+	
+	public void markVisited(int pNodeId) {
+		this.visitedStamps[pNodeId] = this.currentStamp;
+		this.settledNodeCount++;
+	}
+	
+	/** @return the number of nodes that were visited (settled) by the current search */
+	public int getSettledNodeCount() {
+		return this.settledNodeCount;
+	}
+	
+	/** This function is called after the edges of a settled node were looked at.
+	 * 
+	 * @param pEdgeCount => number of edges of the settled node
+	 */
+	public void countRelaxedEdges(int pEdgeCount) {
+		
+		this.relaxedEdgeCount += pEdgeCount;
+		
+		if(this.frontier.size() > this.frontierPeakSize) {
+			this.frontierPeakSize = this.frontier.size();
+		}
+	}
+	
+	/** @return the number of edges that were looked at by the current search */
+	public long getRelaxedEdgeCount() {
+		return this.relaxedEdgeCount;
+	}
+	
+	/** @return the biggest size of the frontier during the current search */
+	public int getFrontierPeakSize() {
+		return this.frontierPeakSize;
+	}
+
+}
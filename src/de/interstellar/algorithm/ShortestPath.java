@@ -0,0 +1,178 @@
+package de.interstellar.algorithm;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import de.interstellar.model.graph.CsrGraph;
+
+/** This class represents a path through a graph by the ids of its nodes, starting
+ *  with the source node and ending with the target node. The names of the nodes are
+ *  only looked up when they are requested.
+ *
+ *  If the target can not be reached from the source, the path does not contain any node.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPath {
+
+	private static final int[] NO_NODES = new int[0];
+
+	private final CsrGraph csrGraph;
+	private final int[] nodeIds;
+	private final double totalCost;
+
+	public ShortestPath(CsrGraph pCsrGraph, int[] pNodeIds, double pTotalCost) {
+
+		this.csrGraph = pCsrGraph;
+		this.nodeIds = pNodeIds;
+		this.totalCost = pTotalCost;
+	}
+
+	/** This function creates the path to the given target out of the predecessors
+	 *  that were stored during a search.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph that was searched
+	 * @param pState => the state of the search
+	 * @param pTargetNodeId => id of the node the path leads to
+	 * @return the path, an empty path if the target was not reached
+	 */
+	public static ShortestPath fromSearchState(CsrGraph pCsrGraph, SearchState pState, int pTargetNodeId) {
+
+		double totalCost = pState.getTotalCost(pTargetNodeId);
+
+		if(totalCost == Double.MAX_VALUE) {
+			return new ShortestPath(pCsrGraph, NO_NODES, totalCost);
+		}
+
+		//Count the nodes of the path first, so that the array can be filled from the end
+		int length = countNodes(pState, pTargetNodeId);
+		int[] nodeIds = new int[length];
+		int node = pTargetNodeId;
+
+		for(int i = length - 1; i >= 0; i--) {
+			nodeIds[i] = node;
+			node = pState.getPredecessor(node);
+		}
+
+		return new ShortestPath(pCsrGraph, nodeIds, totalCost);
+	}
+
+	/** This function counts the nodes of the path to the given node without creating it.
+	 *
+	 * @param pState => state of the finished search
+	 * @param pTargetNodeId => id of the target node
+	 * @return the number of nodes of the path (including source and target), 0 if the node was not reached
+	 */
+	static int countNodes(SearchState pState, int pTargetNodeId) {
+
+		if(pState.getTotalCost(pTargetNodeId) == Double.MAX_VALUE) {
+			return 0;
+		}
+
+		int length = 1;
+
+		for(int node = pState.getPredecessor(pTargetNodeId); node >= 0; node = pState.getPredecessor(node)) {
+			length++;
+		}
+
+		return length;
+	}
+
+	/** This function creates the same path in the opposite direction. This is only the
+	 *  shortest path from the target to the source, if the graph is undirected.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the reversed path with the same total costs
+	 */
+	public ShortestPath reverse() {
+
+		int[] reversedIds = new int[this.nodeIds.length];
+
+		for(int i=0; i < reversedIds.length; i++) {
+			reversedIds[i] = this.nodeIds[this.nodeIds.length - 1 - i];
+		}
+
+		return new ShortestPath(this.csrGraph, reversedIds, this.totalCost);
+	}
+
+	/** @return number of nodes of the path (including source and target) */
+	public int size() {
+		return this.nodeIds.length;
+	}
+
+	/** @return true if the path does not contain any node, which means the target is not reachable */
+	public boolean isEmpty() {
+		return this.nodeIds.length == 0;
+	}
+
+	/** @param pIndex => position in the path, 0 is the source
+	 *  @return id of the node at the given position
+	 */
+	public int getNodeId(int pIndex) {
+		return this.nodeIds[pIndex];
+	}
+
+	/** @return a copy of the ids of all nodes of the path */
+	public int[] getNodeIds() {
+		return Arrays.copyOf(this.nodeIds, this.nodeIds.length);
+	}
+
+	public double getTotalCost() {
+		return this.totalCost;
+	}
+
+	public CsrGraph getCsrGraph() {
+		return this.csrGraph;
+	}
+
+	/** @return the names of the nodes of the path, the names are looked up while iterating */
+	public Iterable<String> getNodeNames() {
+
+		return () -> new Iterator<String>() {
+
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return this.index < nodeIds.length;
+			}
+
+			@Override
+			public String next() {
+
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				return csrGraph.getNodeName(nodeIds[this.index++]);
+			}
+		};
+	}
+
+	/** @return the names of the nodes joined by " -> " */
+	@Override
+	public String toString() {
+
+		StringBuilder strBuilder = new StringBuilder();
+
+		for(String name: getNodeNames()) {
+
+			if(strBuilder.length() > 0) {
+				strBuilder.append(" -> ");
+			}
+
+			strBuilder.append(name);
+		}
+
+		return strBuilder.toString();
+	}
+
+}
@@ -1,15 +1,11 @@
 package de.interstellar.algorithm;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Map;
-
-import de.interstellar.model.graph.Edge;
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.metrics.SearchMetrics;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.EdgeCostProfile;
 import de.interstellar.model.graph.Graph;
-import de.interstellar.model.graph.Node;
 
 /** This class provides the functionality to calculate the shortest path
  *  from a given source to every other node in a given undirected graph.
@@ -26,21 +22,31 @@ import de.interstellar.model.graph.Node;
  *  			
  *  			Mark this node as unvisited.
  * 
+ *  The unvisited nodes are kept in a frontier (see FrontierType), which
+ *  delivers the node with the smallest total costs. By default an indexed
+ *  binary heap is used.
+ *
+ *  The algorithm does not change the graph. All data of a search is kept in
+ *  a SearchState, so the same graph can be used by several searches at the
+ *  same time and a search can be run more than once.
+ *
+ *  How much of the graph is searched depends on the SearchMode. By default the
+ *  search stops as soon as the target node is visited (POINT_TO_POINT).
+ *
  * @author Florian Sturn
  * @date 23.05.2019
  *
  */
 public class ShortestPathAlgorithm {
 	
-	private String sourceNodeName;
-	private String targetNodeName;
-	
-	private HashMap<Integer,Node> nodes;
-	private HashMap<String,Edge> edges;
+	private final String sourceNodeName;
+	private final String targetNodeName;
 	
+	private final Graph graph;
+	private final CsrGraph csrGraph;
+	private final FrontierType frontierType;
 	
-	private HashSet<Node> unvisitedNodes;
-	private HashSet<Node> visitedNodes;
+	private SearchMode searchMode;
 	
 	
 	/** Constructor to initialize the Algorithm with the needed data as well
@@ -56,19 +62,38 @@ public class ShortestPathAlgorithm {
 	 */
 	public ShortestPathAlgorithm(Graph pGraph, String sourceName, String targetName) {
 		
+		this(pGraph, sourceName, targetName, FrontierType.AUTO);
+	}
+	
+	/** Constructor to initialize the Algorithm with a specific type of frontier.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pGraph => Graph on which the Algorithm will work
+	 * @param sourceName => the node from which we calculate the distances/costs
+	 * @param targetName => the node we are interested in
+	 * @param pFrontierType => the data structure that keeps the unvisited nodes
+	 */
+	public ShortestPathAlgorithm(Graph pGraph, String sourceName, String targetName, FrontierType pFrontierType) {
+		
 		//Set the source and target for the algorithm
 		this.sourceNodeName = sourceName;
 		this.targetNodeName = targetName;
 		
-		//Create a copy of the edges and nodes in order to work on graphs data.
-		this.nodes = new HashMap<Integer,Node>(pGraph.getNodeList());
-		this.edges = new HashMap<String,Edge>(pGraph.getEdgeList());
-		
-		//Create HashSet in order to keep track of nodes for which the calculations
-		//are done (visited nodes) and those who still need to be calculated (unvisited nodes)
-		this.unvisitedNodes = new HashSet<Node>();
-		this.visitedNodes = new HashSet<Node>();
-						
+		//The edges are read directly from the compact representation of the graph.
+		this.graph = pGraph;
+		this.csrGraph = pGraph.getCsrGraph();
+		this.frontierType = pFrontierType;
+		this.searchMode = SearchMode.POINT_TO_POINT;
+	}
+	
+	public SearchMode getSearchMode() {
+		return this.searchMode;
+	}
+	
+	public void setSearchMode(SearchMode pSearchMode) {
+		this.searchMode = pSearchMode;
 	}
 	
 	/** This function calculates the shortest path between the source node
@@ -76,8 +101,12 @@ public class ShortestPathAlgorithm {
 	 *  about the path (which nodes lead to the target and in which order), as 
 	 *  well as the total costs to get there.
 	 *  
-	 *  The function returns NULL, if a given source node is not contained in
-	 *  the given graph.
+	 *  The function returns NULL, if the given source node or target node is
+	 *  not contained in the given graph.
+	 *  
+	 *  If the target is in another connected component than the source (see
+	 *  ComponentIndex), it can not be reached and the result is returned without
+	 *  a search: the total costs are Double.MAX_VALUE and the path is empty.
 	 *  
 	 * @author Florian Sturn
 	 * @date 23.05.2019 
@@ -86,107 +115,265 @@ public class ShortestPathAlgorithm {
 	 */
 	public ShortestPathResult calculateShortestDistance() {
 		
-		//Set the start node from which the algorithm will start to calculate
-		//the distances/costs to each node of the graph.
-		Node startNode = findNodeByName(this.sourceNodeName);
+		//The bidirectional search starts its own timer
+		if(this.searchMode == SearchMode.BIDIRECTIONAL) {
+			return calculateShortestDistance(createSearchState(), createSearchState());
+		}
 		
-		if(startNode != null) {
-			
-			//Initialize the algorithm by setting the distance/cost of the source node
-			//to zero and adding it to the unvisited nodes.
-			startNode.updateTotalCost(0);
-			this.unvisitedNodes.add(startNode);
-			
-			//Run the algorithm as long as there are unvisited nodes in the graph.
-			while(this.unvisitedNodes.size() > 0) {
-				
-				//Select the node to which we move next
-				Node currentNode = findNodeWithMinimalCost(this.unvisitedNodes);
-				//Add the chosen node to the visited lists, as we are now working on it
-				//and remove it from the unvisited node list.
-				this.visitedNodes.add(currentNode);
-				this.unvisitedNodes.remove(currentNode);
-				//Calculate/update the costs to the neighbors of the node we are
-				//currently working on
-				calculateMinimalCosts(currentNode);			
-			}
-			
-			//Get the target node
-			Node targetNode = findNodeByName(this.targetNodeName);
-			//Create the result based on the target node, for which we want to have
-			//the shortest path starting from the source node.
-			ShortestPathResult result = new ShortestPathResult(startNode.getName(),targetNode.getName(),
-					targetNode.getTotalCost(),targetNode.getShortestPath());
+		long startTime = SearchMetrics.getInstance().startTimer();
+		SearchState state = createSearchState();
+		int targetNodeId = search(state);
+		
+		if(targetNodeId >= 0) {
+			//The state is only used by this search, so the path can be created later
+			//from its predecessors, if it is needed at all.
+			ShortestPathResult result = new ShortestPathResult(this.graph, this.csrGraph.getNodeName(state.getSourceNodeId()),
+					this.csrGraph.getNodeName(targetNodeId), state, targetNodeId);
+			result.setSettledNodeCount(state.getSettledNodeCount());
+			recordQuery(startTime, state, null, null, targetNodeId);
 			
 			return result;
+		} else {
+			//Return null as a result as the source or target node is not present in
+			//the given graph.
+			SearchMetrics.getInstance().recordUnknownNodeQuery(startTime);
+			return null;
+		}
+	}
+	
+	/** This function calculates the shortest path like calculateShortestDistance(),
+	 *  but uses the given state for the search. This allows to reuse the memory of
+	 *  the state for several searches. As the state will be reused, the path is
+	 *  created right away.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pState => state for the search, it must not be used by another search at the same time.
+	 * @return => result of the Algorithm
+	 */
+	public ShortestPathResult calculateShortestDistance(SearchState pState) {
+		
+		if(this.searchMode == SearchMode.BIDIRECTIONAL) {
+			return calculateShortestDistance(pState, createSearchState());
+		}
+		
+		long startTime = SearchMetrics.getInstance().startTimer();
+		int targetNodeId = search(pState);
+		
+		if(targetNodeId >= 0) {
+			ShortestPath path = ShortestPath.fromSearchState(this.csrGraph, pState, targetNodeId);
+			ShortestPathResult result = new ShortestPathResult(this.graph, this.csrGraph.getNodeName(pState.getSourceNodeId()),
+					this.csrGraph.getNodeName(targetNodeId), path);
+			result.setSettledNodeCount(pState.getSettledNodeCount());
+			recordQuery(startTime, pState, null, path, targetNodeId);
 			
+			return result;
 		} else {
-			//Return null as a result as the source node is not present in the given
-			//graph.
+			SearchMetrics.getInstance().recordUnknownNodeQuery(startTime);
 			return null;
 		}
-				
 	}
 	
-	/** This function checks if a node with the given name exists in the graph.
-	 *  If this is the case, then the node will be returned. If a node does not
-	 *  exist, then NULL will be returned.
-	 *  
+	/** This function calculates the shortest path with a bidirectional search. One
+	 *  search starts at the source node and follows the edges forward, the other one
+	 *  starts at the target node and follows the edges backward. The searches stop as
+	 *  soon as the sum of the smallest total costs of both frontiers is not smaller
+	 *  than the best path found so far, as no better path can be found after that point.
+	 *
+	 *  This function always searches bidirectional, independent of the search mode.
+	 *
 	 * @author Florian Sturn
-	 * @date 23.05.2019 
-	 * 
-	 * @param pNodeName
-	 * @return => node that has the given name or NULL if node does not exist.
+	 * @date 18.10.2026
+	 *
+	 * @param pForwardState => state for the search from the source
+	 * @param pBackwardState => state for the search from the target
+	 * @return => result of the Algorithm, NULL if the source or target node does not exist
 	 */
-	private Node findNodeByName(String pNodeName) {
+	public ShortestPathResult calculateShortestDistance(SearchState pForwardState, SearchState pBackwardState) {
 		
-		Iterator<Map.Entry<Integer,Node>> iter = nodes.entrySet().iterator();
-		Node resultNode = null;
+		long startTime = SearchMetrics.getInstance().startTimer();
+		int startNodeId = findNodeByName(this.sourceNodeName);
+		int targetNodeId = findNodeByName(this.targetNodeName);
 		
-		while(iter.hasNext() && resultNode == null) {
+		if(startNodeId < 0 || targetNodeId < 0) {
+			SearchMetrics.getInstance().recordUnknownNodeQuery(startTime);
+			return null;
+		}
+		
+		CsrGraph reverseGraph = this.graph.getReverseCsrGraph();
+		boolean connected = this.graph.getComponentIndex().isConnected(startNodeId, targetNodeId);
+		
+		pForwardState.reset(startNodeId);
+		pForwardState.update(startNodeId, 0, -1);
+		pForwardState.getFrontier().insert(startNodeId, 0);
+		
+		pBackwardState.reset(targetNodeId);
+		pBackwardState.update(targetNodeId, 0, -1);
+		pBackwardState.getFrontier().insert(targetNodeId, 0);
+		
+		//Best path found so far: it leads over the edge from meetingNodes[0] to meetingNodes[1]
+		double bestCost = startNodeId == targetNodeId ? 0 : Double.MAX_VALUE;
+		int[] meetingNodes = {startNodeId, targetNodeId};
+		
+		//Without a connection the searches would only explore both components
+		while(connected) {
 			
-			Map.Entry<Integer, Node> pair = iter.next();
+			double forwardMin = pForwardState.getFrontier().peekMinKey();
+			double backwardMin = pBackwardState.getFrontier().peekMinKey();
 			
-			if(pair.getValue().getName().equals(pNodeName)) {
-				resultNode = pair.getValue();
+			//Stop if no better path can be found (this also stops, if one of the frontiers is empty)
+			if(forwardMin + backwardMin >= bestCost) {
+				break;
 			}
+			
+			if(forwardMin <= backwardMin) {
+				bestCost = settleAndRelax(this.csrGraph, pForwardState, pBackwardState, bestCost, meetingNodes, false);
+			} else {
+				bestCost = settleAndRelax(reverseGraph, pBackwardState, pForwardState, bestCost, meetingNodes, true);
+			}
+		}
+		
+		ShortestPath path = createBidirectionalPath(pForwardState, pBackwardState, bestCost, meetingNodes);
+		ShortestPathResult result = new ShortestPathResult(this.graph, this.csrGraph.getNodeName(startNodeId),
+				this.csrGraph.getNodeName(targetNodeId), path);
+		result.setSettledNodeCount(pForwardState.getSettledNodeCount() + pBackwardState.getSettledNodeCount());
+		recordQuery(startTime, pForwardState, pBackwardState, path, targetNodeId);
+		
+		return result;
+	}
+	
+	/** This function calculates the shortest paths from the source node to all other
+	 *  nodes with one search. The target node and the search mode are not used.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the tree of shortest paths, NULL if the source node does not exist
+	 */
+	public ShortestPathTree calculateShortestPathTree() {
+		
+		return calculateShortestPathTree(createSearchState(), new ShortestPathTree(this.csrGraph));
+	}
+	
+	/** This function calculates the shortest paths from the source node to all other
+	 *  nodes and stores them in the given tree, whose previous values are replaced.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pState => state for the search
+	 * @param pTree => the tree that receives the result
+	 * @return the given tree, NULL if the source node does not exist
+	 */
+	public ShortestPathTree calculateShortestPathTree(SearchState pState, ShortestPathTree pTree) {
+		
+		long startTime = SearchMetrics.getInstance().startTimer();
+		int startNodeId = findNodeByName(this.sourceNodeName);
+		
+		if(startNodeId < 0) {
+			SearchMetrics.getInstance().recordUnknownNodeQuery(startTime);
+			return null;
+		}
+		
+		pState.reset(startNodeId);
+		pState.update(startNodeId, 0, -1);
+		
+		Frontier unvisitedNodes = pState.getFrontier();
+		unvisitedNodes.insert(startNodeId, 0);
+		
+		while(!unvisitedNodes.isEmpty()) {
+			
+			int currentNodeId = unvisitedNodes.extractMin();
+			pState.markVisited(currentNodeId);
+			
+			calculateMinimalCosts(this.csrGraph, currentNodeId, pState);
 		}
 		
-		return resultNode;		
+		pTree.fill(pState);
+		SearchMetrics.getInstance().recordTree(startTime);
+		
+		return pTree;
 	}
 	
-	/** This function determines the Node with the smallest cost from
-	 *  all the Nodes of the Graph that have not been visited so far. 
+	/** This function runs the search from the source node on the given state.
+	 * 
+	 * @author Florian Sturn
+	 * @date 18.10.2026
 	 * 
-	 * @param pNodeSet => all the nodes that have not been visited
-	 * @return => node with the smallest costs
+	 * @param pState => state for the search
+	 * @return id of the target node, -1 if the source or target node does not exist
 	 */
-	private Node findNodeWithMinimalCost(HashSet<Node> pNodeSet) {
+	private int search(SearchState pState) {
 		
-		//Initialize variable to store the result
-		Node resultNode = null;
-		//Set the starting value for the minimal costs
-		double minimalCosts = Double.MAX_VALUE;
+		//Set the start node from which the algorithm will start to calculate
+		//the distances/costs to each node of the graph.
+		int startNodeId = findNodeByName(this.sourceNodeName);
+		int targetNodeId = findNodeByName(this.targetNodeName);
 		
-		//Loop through all the unvisited nodes of the Graph.
-		for(Node currentNode: pNodeSet) {
+		if(startNodeId >= 0 && targetNodeId >= 0) {
+			
+			pState.reset(startNodeId);
+			Frontier unvisitedNodes = pState.getFrontier();
+			
+			//Initialize the algorithm by setting the distance/cost of the source node
+			//to zero and adding it to the unvisited nodes.
+			pState.update(startNodeId, 0, -1);
+			
+			boolean stopAtTarget = this.searchMode != SearchMode.ONE_TO_ALL;
+			
+			//A target in another component can not be reached, so the whole component of the
+			//source would be searched for nothing. The state then only contains the source.
+			if(stopAtTarget && !this.graph.getComponentIndex().isConnected(startNodeId, targetNodeId)) {
+				return targetNodeId;
+			}
+			
+			unvisitedNodes.insert(startNodeId, 0);
+			
+			//Run the algorithm as long as there are unvisited nodes in the graph.
+			while(!unvisitedNodes.isEmpty()) {
+				
+				//Select the node to which we move next and remove it from the
+				//unvisited nodes. Add the chosen node to the visited nodes, as we
+				//are now working on it.
+				int currentNodeId = unvisitedNodes.extractMin();
+				pState.markVisited(currentNodeId);
+				
+				//As soon as the target is visited its total costs can not change anymore
+				if(stopAtTarget && currentNodeId == targetNodeId) {
+					break;
+				}
+				
+				//Calculate/update the costs to the neighbors of the node we are
+				//currently working on
+				calculateMinimalCosts(this.csrGraph, currentNodeId, pState);
+			}
 			
-			double currentNodeCost = currentNode.getTotalCost();
+			return targetNodeId;
 			
-			//Check if the costs of the currentNode are smaller than the 
-			//minimal costs. If yes update the value of the minimal costs
-			//as well as the value for the node with the most minimal costs
-			if(currentNodeCost < minimalCosts) {
-				minimalCosts = currentNodeCost;
-				resultNode = currentNode;
-			}			
+		} else {
+			return -1;
 		}
+				
+	}
 	
-		return resultNode;
+	/** This function checks if a node with the given name exists in the graph.
+	 *  If this is the case, then the id of the node will be returned. If a node
+	 *  does not exist, then -1 will be returned.
+	 *  
+	 * @author Florian Sturn
+	 * @date 23.05.2019 
+	 * 
+	 * @param pNodeName
+	 * @return => id of the node that has the given name or -1 if node does not exist.
+	 */
+	private int findNodeByName(String pNodeName) {
+		
+		return this.graph.findNodeId(pNodeName);
 	}
 	
 	/** This function calculates and updates the costs of each neighbor of the given
-	 *  source node. Also the path by which the neighbor is reachable and its order 
+	 *  source node. Also the predecessor by which the neighbor is reachable
 	 *  will be updated.
 	 *  
 	 *  If a neighbor node is seen for the first time, it will be added to the list
@@ -195,51 +382,196 @@ public class ShortestPathAlgorithm {
 	 * @author Florian Sturn
 	 * @date 23.05.2019 
 	 * 
-	 * @param sourceNoden=> the node the algorithm is working on at its current
+	 * @param pCsrGraph => the graph whose edges are followed
+	 * @param sourceNodeId => the node the algorithm is working on at its current
 	 * 						iteration.
+	 * @param pState => state of the current search
 	 */
-	private void calculateMinimalCosts(Node sourceNode) {
+	static void calculateMinimalCosts(CsrGraph pCsrGraph, int sourceNodeId, SearchState pState) {
+		
+		Frontier unvisitedNodes = pState.getFrontier();
+		double sourceCost = pState.getTotalCost(sourceNodeId);
 		
-		//Obtain the neighbors of the source node (the node the algorithm is currently
+		//Obtain the outgoing edges of the source node (the node the algorithm is currently
 		//working on).
-		ArrayList<Node> neighbors = sourceNode.getNeighbors();
+		int edgeStart = pCsrGraph.getEdgeStart(sourceNodeId);
+		int edgeEnd = pCsrGraph.getEdgeEnd(sourceNodeId);
 		
-		//Loop through the neighbors.
-		for(int i=0; i < neighbors.size(); i++) {
+		//Loop through the edges.
+		for(int e = edgeStart; e < edgeEnd; e++) {
 			
 			//Obtain the neighbor an check if it was already visited. If the 
 			//neighbor node was already visited then the node is finished and 
 			//does not need to be updated. 
-			Node currentTargetNode = neighbors.get(i);
+			int currentTargetNodeId = pCsrGraph.getEdgeTarget(e);
 			
-			if(!this.visitedNodes.contains(currentTargetNode)) {
+			if(!pState.isVisited(currentTargetNodeId)) {
 				
-				//Build the name of the edge that leads from the source to the target
-				String currentEdgeName = sourceNode.getId() + "To" + currentTargetNode.getId();
-				//Retrieve the edge from the edge list and get its costs.
-				Edge currentEdge = edges.get(currentEdgeName);
-				double edgeCost = currentEdge.getCost();
+				//Retrieve the costs of the edge that leads from the source to the target
+				double newCost = sourceCost + pCsrGraph.getEdgeCost(e);
 				
 				//Check if the costs from the source + the costs of the edge are smaller then
 				//the total cost of the target node. If this is the case, we have found a better
 				//solution for the shortest path of the current target node. 
-				if(sourceNode.getTotalCost() + edgeCost < currentTargetNode.getTotalCost()) {
+				if(newCost < pState.getTotalCost(currentTargetNodeId)) {
 					
 					//As we found a better solution we update the total costs to the current
-					//target node as well as the path (order of the nodes) which lead to
-					//the target.
-					currentTargetNode.updateTotalCost(sourceNode.getTotalCost() + edgeCost);
-					LinkedList<Node> shortestPath = new LinkedList<Node>(sourceNode.getShortestPath());
-					shortestPath.add(sourceNode);
-					currentTargetNode.updateShortestPath(shortestPath);
+					//target node. Instead of the whole path only the predecessor of the target
+					//node is stored.
+					pState.update(currentTargetNodeId, newCost, sourceNodeId);
 											
+					//Add the node to the unvisited nodes or, if it is already present,
+					//update its position according to the new costs.
+					if(unvisitedNodes.contains(currentTargetNodeId)) {
+						unvisitedNodes.decreaseKey(currentTargetNodeId, newCost);
+					} else {
+						unvisitedNodes.insert(currentTargetNodeId, newCost);
+					}
 				}
-				//Add the node to the list of unvisited nodes. As we use a HashSet,
-				//the node will only be added if it is not alreay present in the
-				//list.
-				this.unvisitedNodes.add(currentTargetNode);								
 			}							
-		}		
+		}
+		
+		pState.countRelaxedEdges(edgeEnd - edgeStart);
+	}
+	
+	/** This function makes one step of a bidirectional search: the node with the smallest
+	 *  total costs of the given search is visited and its neighbors are updated. For every
+	 *  edge that leads to a node that was already reached by the other search, it is checked
+	 *  whether the path over that edge is better than the best path found so far.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => graph of the search (the reverse graph for the backward search)
+	 * @param pState => the state of the search that makes the step
+	 * @param pOtherState => the state of the search in the other direction
+	 * @param pBestCost => costs of the best path found so far
+	 * @param pMeetingNodes => the edge of the best path where both searches meet
+	 * @param pBackward => true if the step is made by the backward search
+	 * @return the costs of the best path found so far
+	 */
+	private static double settleAndRelax(CsrGraph pCsrGraph, SearchState pState, SearchState pOtherState,
+			double pBestCost, int[] pMeetingNodes, boolean pBackward) {
+			
+		int currentNodeId = pState.getFrontier().extractMin();
+		pState.markVisited(currentNodeId);
+		
+		calculateMinimalCosts(pCsrGraph, currentNodeId, pState);
+		
+		double bestCost = pBestCost;
+		double currentCost = pState.getTotalCost(currentNodeId);
+		int edgeEnd = pCsrGraph.getEdgeEnd(currentNodeId);
+		
+		for(int e = pCsrGraph.getEdgeStart(currentNodeId); e < edgeEnd; e++) {
+			
+			int neighborId = pCsrGraph.getEdgeTarget(e);
+			double otherCost = pOtherState.getTotalCost(neighborId);
+			
+			if(otherCost != Double.MAX_VALUE) {
+				
+				double pathCost = currentCost + pCsrGraph.getEdgeCost(e) + otherCost;
+				
+				if(pathCost < bestCost) {
+					bestCost = pathCost;
+					pMeetingNodes[0] = pBackward ? neighborId : currentNodeId;
+					pMeetingNodes[1] = pBackward ? currentNodeId : neighborId;
+				}
+			}
+		}
+		
+		return bestCost;
+	}
+	
+	/** This function creates the path of a bidirectional search. The first part is
+	 *  given by the predecessors of the forward search, the second part by the
+	 *  predecessors of the backward search, which point towards the target.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private ShortestPath createBidirectionalPath(SearchState pForwardState, SearchState pBackwardState,
+			double pBestCost, int[] pMeetingNodes) {
+			
+		if(pBestCost == Double.MAX_VALUE) {
+			return new ShortestPath(this.csrGraph, new int[0], pBestCost);
+		}
+		
+		int startNodeId = pForwardState.getSourceNodeId();
+		
+		if(startNodeId == pBackwardState.getSourceNodeId()) {
+			return new ShortestPath(this.csrGraph, new int[] {startNodeId}, 0);
+		}
+		
+		int forwardLength = 0;
+		int backwardLength = 0;
+		
+		for(int node = pMeetingNodes[0]; node >= 0; node = pForwardState.getPredecessor(node)) {
+			forwardLength++;
+		}
+		
+		for(int node = pMeetingNodes[1]; node >= 0; node = pBackwardState.getPredecessor(node)) {
+			backwardLength++;
+		}
+		
+		int[] nodeIds = new int[forwardLength + backwardLength];
+		int position = forwardLength;
+		
+		//The forward part is filled from the meeting point back to the source
+		for(int node = pMeetingNodes[0]; node >= 0; node = pForwardState.getPredecessor(node)) {
+			nodeIds[--position] = node;
+		}
+		
+		position = forwardLength;
+		
+		for(int node = pMeetingNodes[1]; node >= 0; node = pBackwardState.getPredecessor(node)) {
+			nodeIds[position++] = node;
+		}
+		
+		return new ShortestPath(this.csrGraph, nodeIds, pBestCost);
+	}
+	
+	/** This function records the counters of a finished query in the SearchMetrics, if
+	 *  they are enabled. It is also used by the ALT and CH searches.
+	 *
+	 *  If the path was not created, its length is counted over the predecessors of the
+	 *  state, so a lazy path is not created only for the metrics.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pStartTime => result of SearchMetrics.startTimer() before the query
+	 * @param pState => state of the search
+	 * @param pOtherState => state of the backward search, NULL if the search was not bidirectional
+	 * @param pPath => the path of the result, NULL if it was not created yet
+	 * @param pTargetNodeId => id of the target node, only used if the path was not created
+	 */
+	public static void recordQuery(long pStartTime, SearchState pState, SearchState pOtherState, ShortestPath pPath, int pTargetNodeId) {
+		
+		if(pStartTime == SearchMetrics.NOT_RECORDED) {
+			return;
+		}
+		
+		int settledNodes = pState.getSettledNodeCount();
+		long relaxedEdges = pState.getRelaxedEdgeCount();
+		int frontierPeak = pState.getFrontierPeakSize();
+		
+		if(pOtherState != null) {
+			settledNodes += pOtherState.getSettledNodeCount();
+			relaxedEdges += pOtherState.getRelaxedEdgeCount();
+			frontierPeak += pOtherState.getFrontierPeakSize();
+		}
+		
+		int pathLength = pPath != null ? pPath.size() : ShortestPath.countNodes(pState, pTargetNodeId);
+		
+		SearchMetrics.getInstance().recordQuery(pStartTime, settledNodes, relaxedEdges, frontierPeak, pathLength);
+	}
+	
+	private SearchState createSearchState() {
+		
+		//The costs are only analyzed if the frontier depends on them
+		EdgeCostProfile costs = this.frontierType.needsCosts() ? this.graph.getEdgeCostProfile() : null;
+		
+		return new SearchState(this.csrGraph.getNodeCount(), this.frontierType, costs);
 	}
 	
 }
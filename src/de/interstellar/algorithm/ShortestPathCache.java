@@ -0,0 +1,238 @@
+package de.interstellar.algorithm;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import de.interstellar.metrics.SearchMetrics;
+import de.interstellar.model.graph.Graph;
+
+/** This class caches the results of shortest path queries by the names of their source
+ *  and target node. If the cache is full, the entry that was not used for the longest time
+ *  is removed (least recently used). The size of the cache is either limited by the number
+ *  of entries or by the estimated number of bytes of the entries.
+ *
+ *  In an undirected graph the path from B to A is the path from A to B in the opposite
+ *  direction. So both queries share one entry, the path is reversed for the other direction.
+ *
+ *  The cache belongs to one graph at a time. If it is used with a graph of another version
+ *  (see Graph.getVersion), all entries are removed before.
+ *
+ *  The cache can be used by several threads at the same time. The results are calculated
+ *  outside of the lock, so two threads that miss the same entry at the same time both
+ *  calculate it.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPathCache {
+
+	//Estimated size of an entry without the node ids and names (key, path and map node)
+	private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+	private final long maxWeight;
+	private final boolean weightInBytes;
+	private final LinkedHashMap<QueryKey,ShortestPath> entries;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+	private long weight;
+	private long graphVersion;
+
+	private ShortestPathCache(long pMaxWeight, boolean pWeightInBytes) {
+
+		this.maxWeight = pMaxWeight;
+		this.weightInBytes = pWeightInBytes;
+		this.entries = new LinkedHashMap<QueryKey,ShortestPath>(16, 0.75f, true);
+		this.graphVersion = -1;
+	}
+
+	/** @param pMaxEntries => maximal number of cached results
+	 *  @return a cache that is limited by the number of entries
+	 */
+	public static ShortestPathCache withMaxEntries(int pMaxEntries) {
+		return new ShortestPathCache(pMaxEntries, false);
+	}
+
+	/** @param pMaxBytes => maximal estimated memory of all cached results
+	 *  @return a cache that is limited by the memory of the entries
+	 */
+	public static ShortestPathCache withMaxBytes(long pMaxBytes) {
+		return new ShortestPathCache(pMaxBytes, true);
+	}
+
+	/** This function returns the cached result of the query, or calculates and caches it
+	 *  if it is not cached yet. Results that are NULL (unknown nodes) are not cached.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pGraph => the graph of the query
+	 * @param pSourceNodeName => name of the start node
+	 * @param pTargetNodeName => name of the target node
+	 * @param pCalculation => calculates the result, if it is not cached
+	 * @return the result of the query
+	 */
+	public ShortestPathResult getOrCalculate(Graph pGraph, String pSourceNodeName, String pTargetNodeName,
+			BiFunction<String,String,ShortestPathResult> pCalculation) {
+
+		if(pSourceNodeName == null || pTargetNodeName == null) {
+			return pCalculation.apply(pSourceNodeName, pTargetNodeName);
+		}
+
+		boolean undirected = pGraph.getCsrGraph().isSymmetric();
+
+		//In an undirected graph both directions are stored with the smaller name as source
+		boolean reversed = undirected && pSourceNodeName.compareTo(pTargetNodeName) > 0;
+		QueryKey key = reversed ? new QueryKey(pTargetNodeName, pSourceNodeName) : new QueryKey(pSourceNodeName, pTargetNodeName);
+
+		ShortestPath cached;
+
+		synchronized(this) {
+			checkVersion(pGraph);
+			cached = this.entries.get(key);
+		}
+
+		if(cached != null) {
+
+			this.hitCount.incrementAndGet();
+			SearchMetrics.getInstance().recordCacheHit();
+
+			return new ShortestPathResult(pGraph, pSourceNodeName, pTargetNodeName, reversed ? cached.reverse() : cached);
+		}
+
+		this.missCount.incrementAndGet();
+
+		ShortestPathResult result = pCalculation.apply(pSourceNodeName, pTargetNodeName);
+
+		if(result != null) {
+
+			put(pGraph, key, reversed ? result.getPath().reverse() : result.getPath());
+		}
+
+		return result;
+	}
+
+	/** Removes all entries of the cache. */
+	public synchronized void invalidate() {
+
+		this.entries.clear();
+		this.weight = 0;
+		this.invalidationCount.incrementAndGet();
+	}
+
+	private synchronized void put(Graph pGraph, QueryKey pKey, ShortestPath pPath) {
+
+		//The graph could have been replaced while the result was calculated
+		if(pGraph.getVersion() != this.graphVersion) {
+			return;
+		}
+
+		ShortestPath previous = this.entries.put(pKey, pPath);
+
+		if(previous != null) {
+			this.weight -= getWeight(pKey, previous);
+		}
+
+		this.weight += getWeight(pKey, pPath);
+
+		//Remove the least recently used entries, which are at the beginning of the map
+		Iterator<Map.Entry<QueryKey,ShortestPath>> iterator = this.entries.entrySet().iterator();
+
+		while(this.weight > this.maxWeight && iterator.hasNext()) {
+
+			Map.Entry<QueryKey,ShortestPath> eldest = iterator.next();
+			this.weight -= getWeight(eldest.getKey(), eldest.getValue());
+			iterator.remove();
+			this.evictionCount.incrementAndGet();
+		}
+	}
+
+	/** Removes all entries, if the given graph is not the graph of the entries. */
+	private void checkVersion(Graph pGraph) {
+
+		if(pGraph.getVersion() != this.graphVersion) {
+
+			if(!this.entries.isEmpty()) {
+				invalidate();
+			}
+
+			this.graphVersion = pGraph.getVersion();
+		}
+	}
+
+	private long getWeight(QueryKey pKey, ShortestPath pPath) {
+
+		if(!this.weightInBytes) {
+			return 1;
+		}
+
+		return ENTRY_OVERHEAD_BYTES + 4L * pPath.size()
+				+ 2L * (pKey.sourceNodeName.length() + pKey.targetNodeName.length());
+	}
+
+	/** @return the number of cached results */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/** @return the number of entries, or the estimated bytes of all entries for a cache limited by bytes */
+	public synchronized long getWeight() {
+		return this.weight;
+	}
+
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/** @return the number of entries that were removed as the cache was full */
+	public long getEvictionCount() {
+		return this.evictionCount.get();
+	}
+
+	/** @return how often all entries were removed, because the graph changed or invalidate was called */
+	public long getInvalidationCount() {
+		return this.invalidationCount.get();
+	}
+
+	/** Key of an entry: the names of source and target node. */
+	private static final class QueryKey {
+
+		private final String sourceNodeName;
+		private final String targetNodeName;
+
+		private QueryKey(String pSourceNodeName, String pTargetNodeName) {
+
+			this.sourceNodeName = pSourceNodeName;
+			this.targetNodeName = pTargetNodeName;
+		}
+
+		@Override
+		public boolean equals(Object pObject) {
+
+			if(!(pObject instanceof QueryKey)) {
+				return false;
+			}
+
+			QueryKey other = (QueryKey) pObject;
+
+			return this.sourceNodeName.equals(other.sourceNodeName) && this.targetNodeName.equals(other.targetNodeName);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.sourceNodeName.hashCode() + this.targetNodeName.hashCode();
+		}
+	}
+
+}
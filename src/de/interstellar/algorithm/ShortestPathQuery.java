@@ -0,0 +1,28 @@
+package de.interstellar.algorithm;
+
+/** Simple class that describes a query for the shortest path between two nodes.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPathQuery {
+
+	private final String sourceNodeName;
+	private final String targetNodeName;
+
+	public ShortestPathQuery(String pSourceNodeName, String pTargetNodeName) {
+
+		this.sourceNodeName = pSourceNodeName;
+		this.targetNodeName = pTargetNodeName;
+	}
+
+	public String getSourceNodeName() {
+		return this.sourceNodeName;
+	}
+
+	public String getTargetNodeName() {
+		return this.targetNodeName;
+	}
+
+}
@@ -2,9 +2,14 @@ package de.interstellar.algorithm;
 
 import java.util.LinkedList;
 
+import de.interstellar.model.graph.Graph;
 import de.interstellar.model.graph.Node;
 
 /** Simple class to store the result of the shortest path algorithm.
+ *  
+ *  The path is only created when it is requested (getPath or getShortestPath).
+ *  Until then the result only keeps the predecessors of the search, so callers
+ *  that are only interested in the total costs do not pay for the path.
  * 
  * @author Florian Sturn
  * @date 23.05.2019
@@ -18,6 +23,13 @@ public class ShortestPathResult {
 	private double totalCost;
 	private LinkedList<Node> shortestPath;
 	
+	private Graph graph;
+	private ShortestPath path;
+	private SearchState searchState;
+	private int targetNodeId;
+	
+	private int settledNodeCount;
+	
 	
 	public ShortestPathResult(String pSourceNodeName, String pTargetNodeName, double pTotalCost, LinkedList<Node> pShortestPath) {
 		
@@ -27,6 +39,37 @@ public class ShortestPathResult {
 		this.shortestPath = pShortestPath;
 		
 	}
+	
+	/** Creates a result with an already known path.
+	 * 
+	 * @param pGraph => the graph that was searched
+	 * @param pPath => the path from the source to the target
+	 */
+	public ShortestPathResult(Graph pGraph, String pSourceNodeName, String pTargetNodeName, ShortestPath pPath) {
+		
+		this.sourceNodeName = pSourceNodeName;
+		this.targetNodeName = pTargetNodeName;
+		this.totalCost = pPath.getTotalCost();
+		this.graph = pGraph;
+		this.path = pPath;
+	}
+	
+	/** Creates a result whose path is created from the predecessors of the given search
+	 *  state when it is requested. The state must not be used for another search afterwards.
+	 * 
+	 * @param pGraph => the graph that was searched
+	 * @param pSearchState => state of the finished search
+	 * @param pTargetNodeId => id of the target node
+	 */
+	public ShortestPathResult(Graph pGraph, String pSourceNodeName, String pTargetNodeName, SearchState pSearchState, int pTargetNodeId) {
+		
+		this.sourceNodeName = pSourceNodeName;
+		this.targetNodeName = pTargetNodeName;
+		this.totalCost = pSearchState.getTotalCost(pTargetNodeId);
+		this.graph = pGraph;
+		this.searchState = pSearchState;
+		this.targetNodeId = pTargetNodeId;
+	}
 
 
 	public String getSourceNodeName() {
@@ -59,9 +102,42 @@ public class ShortestPathResult {
 	}
 
 
-	public LinkedList<Node> getShortestPath() {
+	/** @return the nodes that lead from the source to the target, without the target itself */
+	public synchronized LinkedList<Node> getShortestPath() {
+		
+		if(this.shortestPath == null && this.graph != null) {
+			
+			ShortestPath nodePath = getPath();
+			LinkedList<Node> nodes = new LinkedList<Node>();
+			
+			for(int i=0; i < nodePath.size() - 1; i++) {
+				nodes.add(this.graph.getNode(nodePath.getNodeId(i)));
+			}
+			
+			this.shortestPath = nodes;
+		}
+		
 		return shortestPath;
 	}
+	
+	/** @return the path from the source to the target (including both) as node ids,
+	 *  		NULL if the result was created without a graph
+	 */
+	public synchronized ShortestPath getPath() {
+		
+		if(this.path == null && this.searchState != null) {
+			this.path = ShortestPath.fromSearchState(this.graph.getCsrGraph(), this.searchState, this.targetNodeId);
+			this.searchState = null;
+		}
+		
+		return this.path;
+	}
+
+
+	/** @return true if the path was already created, false if it is still only given by the predecessors of the search */
+	public synchronized boolean isPathCreated() {
+		return this.path != null;
+	}
 
 
 	public void setShortestPath(LinkedList<Node> shortestPath) {
@@ -69,5 +145,16 @@ public class ShortestPathResult {
 	}
 	
 	
+	/** @return the number of nodes the algorithm visited to find the result */
+	public int getSettledNodeCount() {
+		return settledNodeCount;
+	}
+	
+	
+	public void setSettledNodeCount(int settledNodeCount) {
+		this.settledNodeCount = settledNodeCount;
+	}
+	
+	
 
 }
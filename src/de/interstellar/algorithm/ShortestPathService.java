@@ -0,0 +1,218 @@
+package de.interstellar.algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.Graph;
+
+/** This class answers shortest path queries on one shared graph. The queries
+ *  can be run from several threads at the same time, or be handed over to the
+ *  executor of the service.
+ *
+ *  The SearchStates are kept in a pool. A query takes a state from the pool and
+ *  returns it afterwards, so the memory for the search is not allocated once per
+ *  query. The pool keeps at most one state per thread of the executor, states
+ *  that are returned to a full pool are dropped. A SearchState is not bound to a
+ *  thread, so threads that only run a few queries do not keep one forever.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPathService implements AutoCloseable {
+
+	private final Graph graph;
+	private final FrontierType frontierType;
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private final ConcurrentLinkedQueue<SearchState> searchStates;
+	private final AtomicInteger pooledStateCount;
+	private final int maxPooledStates;
+
+	private volatile ShortestPathCache cache;
+
+	/** Creates a service that runs its queries on an own fork-join pool with one
+	 *  thread per available processor.
+	 *
+	 * @param pGraph => the graph on which the queries are answered
+	 */
+	public ShortestPathService(Graph pGraph) {
+
+		this(pGraph, new ForkJoinPool(Runtime.getRuntime().availableProcessors()), true);
+	}
+
+	/** Creates a service that runs its queries on the given executor. The executor
+	 *  is not shut down when the service is closed.
+	 *
+	 * @param pGraph => the graph on which the queries are answered
+	 * @param pExecutor => executor that runs the queries
+	 */
+	public ShortestPathService(Graph pGraph, ExecutorService pExecutor) {
+
+		this(pGraph, pExecutor, false);
+	}
+
+	private ShortestPathService(Graph pGraph, ExecutorService pExecutor, boolean pOwnsExecutor) {
+
+		this.graph = pGraph;
+		this.frontierType = FrontierType.AUTO;
+		this.executor = pExecutor;
+		this.ownsExecutor = pOwnsExecutor;
+		this.searchStates = new ConcurrentLinkedQueue<SearchState>();
+		this.pooledStateCount = new AtomicInteger();
+		this.maxPooledStates = pExecutor instanceof ForkJoinPool
+				? ((ForkJoinPool) pExecutor).getParallelism() : Runtime.getRuntime().availableProcessors();
+	}
+
+	/** This function calculates the shortest path between the given nodes in the
+	 *  calling thread.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceNodeName => name of the start node
+	 * @param pTargetNodeName => name of the target node
+	 * @return the result, NULL if one of the nodes does not exist
+	 */
+	public ShortestPathResult calculateShortestDistance(String pSourceNodeName, String pTargetNodeName) {
+
+		ShortestPathCache currentCache = this.cache;
+
+		if(currentCache != null) {
+			return currentCache.getOrCalculate(this.graph, pSourceNodeName, pTargetNodeName, this::calculateUncached);
+		}
+
+		return calculateUncached(pSourceNodeName, pTargetNodeName);
+	}
+
+	private ShortestPathResult calculateUncached(String pSourceNodeName, String pTargetNodeName) {
+
+		ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(this.graph, pSourceNodeName, pTargetNodeName, this.frontierType);
+		SearchState state = borrowSearchState();
+
+		try {
+			return algorithm.calculateShortestDistance(state);
+		} finally {
+			returnSearchState(state);
+		}
+	}
+
+	/** @return a SearchState from the pool, a new one if the pool is empty */
+	private SearchState borrowSearchState() {
+
+		SearchState state = this.searchStates.poll();
+
+		if(state == null) {
+			return new SearchState(this.graph.getCsrGraph().getNodeCount(), this.frontierType, this.graph.getEdgeCostProfile());
+		}
+
+		this.pooledStateCount.decrementAndGet();
+
+		return state;
+	}
+
+	/** Puts the SearchState back into the pool, if the pool is not full. */
+	private void returnSearchState(SearchState pState) {
+
+		if(this.pooledStateCount.incrementAndGet() <= this.maxPooledStates) {
+			this.searchStates.offer(pState);
+		} else {
+			this.pooledStateCount.decrementAndGet();
+		}
+	}
+
+	/** This function calculates the shortest paths from the given node to all other
+	 *  nodes in the calling thread.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceNodeName => name of the start node
+	 * @return the tree of shortest paths, NULL if the node does not exist
+	 */
+	public ShortestPathTree calculateShortestPathTree(String pSourceNodeName) {
+
+		ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(this.graph, pSourceNodeName, null, this.frontierType);
+
+		SearchState state = borrowSearchState();
+
+		try {
+			return algorithm.calculateShortestPathTree(state, new ShortestPathTree(this.graph.getCsrGraph()));
+		} finally {
+			returnSearchState(state);
+		}
+	}
+
+	/** This function hands the query over to the executor of the service.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pQuery => the query
+	 * @return a future that is completed with the result of the query
+	 */
+	public CompletableFuture<ShortestPathResult> submit(ShortestPathQuery pQuery) {
+
+		return CompletableFuture.supplyAsync(
+				() -> calculateShortestDistance(pQuery.getSourceNodeName(), pQuery.getTargetNodeName()), this.executor);
+	}
+
+	/** This function runs all the given queries concurrently and waits until all
+	 *  of them are finished.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pQueries => the queries
+	 * @return the results, in the same order as the queries
+	 */
+	public List<ShortestPathResult> calculateAll(List<ShortestPathQuery> pQueries) {
+
+		List<CompletableFuture<ShortestPathResult>> futures = new ArrayList<CompletableFuture<ShortestPathResult>>(pQueries.size());
+
+		for(ShortestPathQuery query: pQueries) {
+			futures.add(submit(query));
+		}
+
+		List<ShortestPathResult> results = new ArrayList<ShortestPathResult>(pQueries.size());
+
+		for(CompletableFuture<ShortestPathResult> future: futures) {
+			results.add(future.join());
+		}
+
+		return results;
+	}
+
+	public Graph getGraph() {
+		return this.graph;
+	}
+
+	/** Sets the cache for the results of calculateShortestDistance, NULL to disable the cache.
+	 *  One cache can be shared by several services.
+	 *
+	 * @param pCache => the cache for the results
+	 */
+	public void setCache(ShortestPathCache pCache) {
+		this.cache = pCache;
+	}
+
+	public ShortestPathCache getCache() {
+		return this.cache;
+	}
+
+	/** Shuts down the executor of the service, if it was created by the service. */
+	@Override
+	public void close() {
+
+		if(this.ownsExecutor) {
+			this.executor.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+package de.interstellar.algorithm;
+
+import java.util.Arrays;
+
+import de.interstellar.model.graph.CsrGraph;
+
+/** This class holds the result of a search from one source node to all other nodes:
+ *  for every node the total costs of its shortest path and its predecessor on that path.
+ *  The paths to any number of targets can be created from it afterwards, without
+ *  searching the graph again.
+ *
+ *  The values are kept in primitive arrays indexed by the node id. A tree can be filled
+ *  again by the next search (see ShortestPathAlgorithm.calculateShortestPathTree), so
+ *  the arrays only need to be allocated once.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPathTree {
+
+	private final CsrGraph csrGraph;
+	private final double[] totalCosts;
+	private final int[] predecessors;
+
+	private int sourceNodeId;
+	private int settledNodeCount;
+
+	public ShortestPathTree(CsrGraph pCsrGraph) {
+
+		int nodeCount = pCsrGraph.getNodeCount();
+
+		this.csrGraph = pCsrGraph;
+		this.totalCosts = new double[nodeCount];
+		this.predecessors = new int[nodeCount];
+		this.sourceNodeId = -1;
+
+		Arrays.fill(this.totalCosts, Double.MAX_VALUE);
+		Arrays.fill(this.predecessors, -1);
+	}
+
+	/** This function copies the costs and predecessors of a finished search into the tree.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pState => state of a search that visited all reachable nodes
+	 */
+	void fill(SearchState pState) {
+
+		for(int i=0; i < this.totalCosts.length; i++) {
+			this.totalCosts[i] = pState.getTotalCost(i);
+			this.predecessors[i] = pState.getPredecessor(i);
+		}
+
+		this.sourceNodeId = pState.getSourceNodeId();
+		this.settledNodeCount = pState.getSettledNodeCount();
+	}
+
+	/** Sets the source and the number of visited nodes, after the costs and predecessors
+	 *  were written into the arrays of the tree directly.
+	 *
+	 * @param pSourceNodeId => id of the source node
+	 * @param pSettledNodeCount => number of nodes the search visited
+	 */
+	void setSearchResult(int pSourceNodeId, int pSettledNodeCount) {
+
+		this.sourceNodeId = pSourceNodeId;
+		this.settledNodeCount = pSettledNodeCount;
+	}
+
+	/** @param pNodeId => id of the node
+	 *  @return the total costs from the source to the node, Double.MAX_VALUE if it is not reachable
+	 */
+	public double getTotalCost(int pNodeId) {
+		return this.totalCosts[pNodeId];
+	}
+
+	/** @param pNodeId => id of the node
+	 *  @return the node before the given node on its shortest path, -1 for the source
+	 *  		and for nodes that are not reachable
+	 */
+	public int getPredecessor(int pNodeId) {
+		return this.predecessors[pNodeId];
+	}
+
+	/** @param pNodeId => id of the node
+	 *  @return true if there is a path from the source to the node
+	 */
+	public boolean isReachable(int pNodeId) {
+		return this.totalCosts[pNodeId] != Double.MAX_VALUE;
+	}
+
+	/** This function creates the path from the source to the given node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pTargetNodeId => id of the node the path leads to
+	 * @return the path, an empty path if the node is not reachable
+	 */
+	public ShortestPath getPath(int pTargetNodeId) {
+
+		if(!isReachable(pTargetNodeId)) {
+			return new ShortestPath(this.csrGraph, new int[0], Double.MAX_VALUE);
+		}
+
+		int length = 1;
+
+		for(int node = this.predecessors[pTargetNodeId]; node >= 0; node = this.predecessors[node]) {
+			length++;
+		}
+
+		int[] nodeIds = new int[length];
+		int node = pTargetNodeId;
+
+		for(int i = length - 1; i >= 0; i--) {
+			nodeIds[i] = node;
+			node = this.predecessors[node];
+		}
+
+		return new ShortestPath(this.csrGraph, nodeIds, this.totalCosts[pTargetNodeId]);
+	}
+
+	/** @return the total costs of all nodes, indexed by the node id. The array belongs to
+	 *  		the tree, it is overwritten when the tree is filled again.
+	 */
+	public double[] getTotalCosts() {
+		return this.totalCosts;
+	}
+
+	/** @return the predecessors of all nodes, indexed by the node id. The array belongs to
+	 *  		the tree, it is overwritten when the tree is filled again.
+	 */
+	public int[] getPredecessors() {
+		return this.predecessors;
+	}
+
+	/** @return the id of the source node, -1 if the tree was not filled yet */
+	public int getSourceNodeId() {
+		return this.sourceNodeId;
+	}
+
+	/** @return the number of nodes the search visited */
+	public int getSettledNodeCount() {
+		return this.settledNodeCount;
+	}
+
+	public CsrGraph getCsrGraph() {
+		return this.csrGraph;
+	}
+
+}
@@ -0,0 +1,157 @@
+package de.interstellar.algorithm.alt;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.metrics.SearchMetrics;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** This class calculates the shortest path between two nodes with the ALT algorithm.
+ *  It works like the ShortestPathAlgorithm, but the unvisited nodes are ordered by
+ *  their total costs plus a lower bound for the remaining costs to the target. The
+ *  lower bounds are taken from a LandmarkIndex. This way the search is directed
+ *  towards the target and visits far less nodes.
+ *
+ *  As the lower bounds never overestimate the remaining costs, the result is the
+ *  same as the result of the ShortestPathAlgorithm.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class AltShortestPathAlgorithm {
+
+	private static final int DEFAULT_ACTIVE_LANDMARKS = 4;
+
+	private final Graph graph;
+	private final CsrGraph csrGraph;
+	private final LandmarkIndex landmarkIndex;
+	private final String sourceNodeName;
+	private final String targetNodeName;
+
+	private int activeLandmarkCount;
+
+	public AltShortestPathAlgorithm(Graph pGraph, LandmarkIndex pLandmarkIndex, String pSourceNodeName, String pTargetNodeName) {
+
+		this.graph = pGraph;
+		this.csrGraph = pGraph.getCsrGraph();
+		this.landmarkIndex = pLandmarkIndex;
+		this.sourceNodeName = pSourceNodeName;
+		this.targetNodeName = pTargetNodeName;
+		this.activeLandmarkCount = DEFAULT_ACTIVE_LANDMARKS;
+	}
+
+	/** Sets the number of landmarks that are used for a query. The landmarks with the
+	 *  best lower bound between source and target are used.
+	 *
+	 * @param pActiveLandmarkCount => number of landmarks per query
+	 */
+	public void setActiveLandmarkCount(int pActiveLandmarkCount) {
+		this.activeLandmarkCount = pActiveLandmarkCount;
+	}
+
+	/** This function calculates the shortest path between the source and the target node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the result, NULL if the source or target node does not exist
+	 */
+	public ShortestPathResult calculateShortestDistance() {
+
+		return calculateShortestDistance(new SearchState(this.csrGraph.getNodeCount(), FrontierType.BINARY_HEAP));
+	}
+
+	/** This function calculates the shortest path between the source and the target node
+	 *  and uses the given state for the search.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pState => state for the search, it must not be used by another search at the same time.
+	 * @return the result, NULL if the source or target node does not exist
+	 */
+	public ShortestPathResult calculateShortestDistance(SearchState pState) {
+
+		long startTime = SearchMetrics.getInstance().startTimer();
+		int startNodeId = this.graph.findNodeId(this.sourceNodeName);
+		int targetNodeId = this.graph.findNodeId(this.targetNodeName);
+
+		if(startNodeId < 0 || targetNodeId < 0) {
+			SearchMetrics.getInstance().recordUnknownNodeQuery(startTime);
+			return null;
+		}
+
+		int[] activeLandmarks = this.landmarkIndex.selectActiveLandmarks(startNodeId, targetNodeId, this.activeLandmarkCount);
+
+		pState.reset(startNodeId);
+		Frontier unvisitedNodes = pState.getFrontier();
+
+		pState.update(startNodeId, 0, -1);
+
+		//The source is only added, if the target is reachable at all
+		double startBound = this.landmarkIndex.getLowerBound(startNodeId, targetNodeId, activeLandmarks, activeLandmarks.length);
+
+		if(startBound != Double.MAX_VALUE && this.graph.getComponentIndex().isConnected(startNodeId, targetNodeId)) {
+			unvisitedNodes.insert(startNodeId, startBound);
+		}
+
+		while(!unvisitedNodes.isEmpty()) {
+
+			int currentNodeId = unvisitedNodes.extractMin();
+			pState.markVisited(currentNodeId);
+
+			if(currentNodeId == targetNodeId) {
+				break;
+			}
+
+			double currentCost = pState.getTotalCost(currentNodeId);
+			int edgeStart = this.csrGraph.getEdgeStart(currentNodeId);
+			int edgeEnd = this.csrGraph.getEdgeEnd(currentNodeId);
+
+			for(int e = edgeStart; e < edgeEnd; e++) {
+
+				int neighborId = this.csrGraph.getEdgeTarget(e);
+
+				if(pState.isVisited(neighborId)) {
+					continue;
+				}
+
+				double newCost = currentCost + this.csrGraph.getEdgeCost(e);
+
+				if(newCost < pState.getTotalCost(neighborId)) {
+
+					double bound = this.landmarkIndex.getLowerBound(neighborId, targetNodeId, activeLandmarks, activeLandmarks.length);
+
+					//Nodes from which the target can not be reached are not searched
+					if(bound == Double.MAX_VALUE) {
+						continue;
+					}
+
+					pState.update(neighborId, newCost, currentNodeId);
+
+					//The order of the unvisited nodes is given by their costs plus the lower bound
+					if(unvisitedNodes.contains(neighborId)) {
+						unvisitedNodes.decreaseKey(neighborId, newCost + bound);
+					} else {
+						unvisitedNodes.insert(neighborId, newCost + bound);
+					}
+				}
+			}
+
+			pState.countRelaxedEdges(edgeEnd - edgeStart);
+		}
+
+		ShortestPath path = ShortestPath.fromSearchState(this.csrGraph, pState, targetNodeId);
+		ShortestPathResult result = new ShortestPathResult(this.graph, this.sourceNodeName, this.targetNodeName, path);
+		result.setSettledNodeCount(pState.getSettledNodeCount());
+		ShortestPathAlgorithm.recordQuery(startTime, pState, null, path, targetNodeId);
+
+		return result;
+	}
+
+}
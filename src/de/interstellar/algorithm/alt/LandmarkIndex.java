@@ -0,0 +1,412 @@
+package de.interstellar.algorithm.alt;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.IndexedDaryHeap;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** This class holds the preprocessed data of the ALT algorithm (A*, Landmarks,
+ *  Triangle inequality). For a few selected nodes (landmarks) the costs from the
+ *  landmark to every node and from every node to the landmark are stored.
+ *
+ *  Because of the triangle inequality, these tables give a lower bound for the
+ *  costs between any two nodes V and T:
+ *
+ *  	d(V,T) >= d(L,T) - d(L,V)   and   d(V,T) >= d(V,L) - d(T,L)
+ *
+ *  For undirected graphs both tables are the same and only stored once.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class LandmarkIndex {
+
+	private final CsrGraph csrGraph;
+	private final int[] landmarks;
+	private final double[][] costsFromLandmark;
+	private final double[][] costsToLandmark;
+	private final long preprocessingNanos;
+
+	/** Creates the index for the given graph. The landmarks are selected and the
+	 *  costs from and to each landmark are calculated.
+	 *
+	 * @param pGraph => the graph
+	 * @param pLandmarkCount => number of landmarks to select
+	 * @param pSelection => strategy to select the landmarks
+	 * @param pSeed => seed for the random choices of the selection
+	 */
+	public LandmarkIndex(Graph pGraph, int pLandmarkCount, LandmarkSelection pSelection, long pSeed) {
+
+		long start = System.nanoTime();
+
+		this.csrGraph = pGraph.getCsrGraph();
+		CsrGraph reverseGraph = pGraph.getReverseCsrGraph();
+
+		int landmarkCount = Math.min(pLandmarkCount, this.csrGraph.getNodeCount());
+		this.landmarks = new int[landmarkCount];
+		this.costsFromLandmark = new double[landmarkCount][];
+		this.costsToLandmark = new double[landmarkCount][];
+
+		Random random = new Random(pSeed);
+
+		for(int i=0; i < landmarkCount; i++) {
+
+			int landmark = selectLandmark(i, pSelection, random);
+			this.landmarks[i] = landmark;
+
+			this.costsFromLandmark[i] = new double[this.csrGraph.getNodeCount()];
+			computeShortestPathTree(this.csrGraph, landmark, this.costsFromLandmark[i], null, null);
+
+			if(reverseGraph == this.csrGraph) {
+				this.costsToLandmark[i] = this.costsFromLandmark[i];
+			} else {
+				this.costsToLandmark[i] = new double[this.csrGraph.getNodeCount()];
+				computeShortestPathTree(reverseGraph, landmark, this.costsToLandmark[i], null, null);
+			}
+		}
+
+		this.preprocessingNanos = System.nanoTime() - start;
+	}
+
+	/** This function calculates the lower bound for the costs from the given node to
+	 *  the given target, using the given landmarks.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeId => id of the node
+	 * @param pTargetId => id of the target
+	 * @param pLandmarkIndices => positions of the landmarks to use (see getLandmarkCount)
+	 * @param pLandmarkCount => number of valid entries in pLandmarkIndices
+	 * @return the lower bound, Double.MAX_VALUE if the target can not be reached from the node
+	 */
+	public double getLowerBound(int pNodeId, int pTargetId, int[] pLandmarkIndices, int pLandmarkCount) {
+
+		double bound = 0;
+
+		for(int i=0; i < pLandmarkCount; i++) {
+
+			int l = pLandmarkIndices[i];
+			double fromLandmarkToTarget = this.costsFromLandmark[l][pTargetId];
+			double fromLandmarkToNode = this.costsFromLandmark[l][pNodeId];
+			double fromNodeToLandmark = this.costsToLandmark[l][pNodeId];
+			double fromTargetToLandmark = this.costsToLandmark[l][pTargetId];
+
+			if(fromLandmarkToTarget == Double.MAX_VALUE) {
+				//The landmark reaches the node but not the target: the node can not reach the target
+				if(fromLandmarkToNode != Double.MAX_VALUE) {
+					return Double.MAX_VALUE;
+				}
+			} else if(fromLandmarkToNode != Double.MAX_VALUE) {
+				bound = Math.max(bound, fromLandmarkToTarget - fromLandmarkToNode);
+			}
+
+			if(fromNodeToLandmark == Double.MAX_VALUE) {
+				//The target reaches the landmark but the node does not: the node can not reach the target
+				if(fromTargetToLandmark != Double.MAX_VALUE) {
+					return Double.MAX_VALUE;
+				}
+			} else if(fromTargetToLandmark != Double.MAX_VALUE) {
+				bound = Math.max(bound, fromNodeToLandmark - fromTargetToLandmark);
+			}
+		}
+
+		return bound;
+	}
+
+	/** This function selects the landmarks that give the best lower bound for the given
+	 *  query. Using only a few good landmarks is faster than using all of them.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceId => id of the source of the query
+	 * @param pTargetId => id of the target of the query
+	 * @param pCount => number of landmarks to select
+	 * @return positions of the selected landmarks
+	 */
+	public int[] selectActiveLandmarks(int pSourceId, int pTargetId, int pCount) {
+
+		int count = Math.min(pCount, this.landmarks.length);
+		Integer[] order = new Integer[this.landmarks.length];
+		double[] bounds = new double[this.landmarks.length];
+		int[] single = new int[1];
+
+		for(int i=0; i < this.landmarks.length; i++) {
+			order[i] = i;
+			single[0] = i;
+			bounds[i] = getLowerBound(pSourceId, pTargetId, single, 1);
+		}
+
+		Arrays.sort(order, (a, b) -> Double.compare(bounds[b], bounds[a]));
+
+		int[] active = new int[count];
+
+		for(int i=0; i < count; i++) {
+			active[i] = order[i];
+		}
+
+		return active;
+	}
+
+	public CsrGraph getCsrGraph() {
+		return this.csrGraph;
+	}
+
+	public int getLandmarkCount() {
+		return this.landmarks.length;
+	}
+
+	/** @return a copy of the ids of the landmark nodes */
+	public int[] getLandmarks() {
+		return Arrays.copyOf(this.landmarks, this.landmarks.length);
+	}
+
+	/** @return the time it took to build the index in nanoseconds */
+	public long getPreprocessingNanos() {
+		return this.preprocessingNanos;
+	}
+
+	/** @return the memory the cost tables of one landmark need in bytes */
+	public long getBytesPerLandmark() {
+
+		long tables = this.csrGraph.isSymmetric() ? 1 : 2;
+
+		return tables * Double.BYTES * this.csrGraph.getNodeCount();
+	}
+
+	/** This function selects the next landmark based on the given strategy.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSelected => number of landmarks selected so far
+	 * @param pSelection => strategy to select the landmark
+	 * @param pRandom => random generator
+	 * @return id of the landmark
+	 */
+	private int selectLandmark(int pSelected, LandmarkSelection pSelection, Random pRandom) {
+
+		int nodeCount = this.csrGraph.getNodeCount();
+
+		switch(pSelection) {
+			case FARTHEST:
+				return selectFarthestLandmark(pSelected, pRandom.nextInt(nodeCount));
+			case AVOID:
+				return selectAvoidLandmark(pSelected, pRandom.nextInt(nodeCount));
+			case RANDOM:
+			default:
+				int landmark;
+				do {
+					landmark = pRandom.nextInt(nodeCount);
+				} while(contains(this.landmarks, pSelected, landmark) && pSelected < nodeCount);
+				return landmark;
+		}
+	}
+
+	/** This function selects the node whose smallest cost from any selected landmark is the
+	 *  biggest. The first landmark is the node farthest away from a random start node. Nodes
+	 *  that can not be reached are ignored.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private int selectFarthestLandmark(int pSelected, int pStartNode) {
+
+		int nodeCount = this.csrGraph.getNodeCount();
+		double[] minimalCosts = new double[nodeCount];
+
+		if(pSelected == 0) {
+			computeShortestPathTree(this.csrGraph, pStartNode, minimalCosts, null, null);
+		} else {
+
+			Arrays.fill(minimalCosts, Double.MAX_VALUE);
+
+			for(int i=0; i < pSelected; i++) {
+				for(int v=0; v < nodeCount; v++) {
+					minimalCosts[v] = Math.min(minimalCosts[v], this.costsFromLandmark[i][v]);
+				}
+			}
+		}
+
+		int best = -1;
+
+		for(int v=0; v < nodeCount; v++) {
+			if(minimalCosts[v] != Double.MAX_VALUE && (best < 0 || minimalCosts[v] > minimalCosts[best])
+					&& !contains(this.landmarks, pSelected, v)) {
+				best = v;
+			}
+		}
+
+		return best >= 0 ? best : pStartNode;
+	}
+
+	/** This function selects a landmark with the "avoid" strategy. A shortest path tree is
+	 *  build from a random root. Each node gets a weight, which is the difference between its
+	 *  real cost and the lower bound of the current landmarks. The weight of a subtree is the
+	 *  sum of its weights, or zero if it contains a landmark. Starting at the root, the child
+	 *  with the heaviest subtree is followed until a leaf is reached. That leaf is the new landmark.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private int selectAvoidLandmark(int pSelected, int pRoot) {
+
+		int nodeCount = this.csrGraph.getNodeCount();
+		double[] costs = new double[nodeCount];
+		int[] predecessors = new int[nodeCount];
+		int[] order = new int[nodeCount];
+
+		int settled = computeShortestPathTree(this.csrGraph, pRoot, costs, predecessors, order);
+
+		int[] all = new int[pSelected];
+		for(int i=0; i < pSelected; i++) {
+			all[i] = i;
+		}
+
+		//Weight of each subtree, computed from the leaves to the root
+		double[] subtreeWeights = new double[nodeCount];
+		boolean[] containsLandmark = new boolean[nodeCount];
+
+		for(int i = settled - 1; i >= 0; i--) {
+
+			int v = order[i];
+			subtreeWeights[v] += costs[v] - getLowerBound(pRoot, v, all, pSelected);
+
+			if(contains(this.landmarks, pSelected, v)) {
+				containsLandmark[v] = true;
+			}
+
+			if(containsLandmark[v]) {
+				subtreeWeights[v] = 0;
+			}
+
+			int parent = predecessors[v];
+
+			if(parent >= 0) {
+				subtreeWeights[parent] += subtreeWeights[v];
+				containsLandmark[parent] |= containsLandmark[v];
+			}
+		}
+
+		//Children of each node in the tree, in CSR form
+		int[] childOffsets = new int[nodeCount + 1];
+
+		for(int i=1; i < settled; i++) {
+			childOffsets[predecessors[order[i]] + 1]++;
+		}
+
+		for(int v=0; v < nodeCount; v++) {
+			childOffsets[v + 1] += childOffsets[v];
+		}
+
+		int[] children = new int[Math.max(settled - 1, 0)];
+		int[] position = Arrays.copyOf(childOffsets, nodeCount);
+
+		for(int i=1; i < settled; i++) {
+			children[position[predecessors[order[i]]]++] = order[i];
+		}
+
+		//Follow the heaviest subtree down to a leaf
+		int current = pRoot;
+
+		while(childOffsets[current] < childOffsets[current + 1]) {
+
+			int heaviest = -1;
+
+			for(int c = childOffsets[current]; c < childOffsets[current + 1]; c++) {
+				if(heaviest < 0 || subtreeWeights[children[c]] > subtreeWeights[heaviest]) {
+					heaviest = children[c];
+				}
+			}
+
+			if(subtreeWeights[heaviest] <= 0) {
+				break;
+			}
+
+			current = heaviest;
+		}
+
+		//The whole tree is covered already, fall back to the farthest node
+		if(contains(this.landmarks, pSelected, current)) {
+			return selectFarthestLandmark(pSelected, pRoot);
+		}
+
+		return current;
+	}
+
+	/** This function calculates the costs from the given root to every node of the graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => graph to search
+	 * @param pRoot => id of the start node
+	 * @param pCosts => array that is filled with the costs, Double.MAX_VALUE for unreachable nodes
+	 * @param pPredecessors => array that is filled with the predecessors, may be NULL
+	 * @param pOrder => array that is filled with the nodes in the order they were visited, may be NULL
+	 * @return the number of visited nodes
+	 */
+	static int computeShortestPathTree(CsrGraph pCsrGraph, int pRoot, double[] pCosts, int[] pPredecessors, int[] pOrder) {
+
+		Arrays.fill(pCosts, Double.MAX_VALUE);
+
+		if(pPredecessors != null) {
+			Arrays.fill(pPredecessors, -1);
+		}
+
+		Frontier frontier = new IndexedDaryHeap(pCsrGraph.getNodeCount(), 4);
+		pCosts[pRoot] = 0;
+		frontier.insert(pRoot, 0);
+		int settled = 0;
+
+		while(!frontier.isEmpty()) {
+
+			int node = frontier.extractMin();
+
+			if(pOrder != null) {
+				pOrder[settled] = node;
+			}
+			settled++;
+
+			for(int e = pCsrGraph.getEdgeStart(node); e < pCsrGraph.getEdgeEnd(node); e++) {
+
+				int target = pCsrGraph.getEdgeTarget(e);
+				double cost = pCosts[node] + pCsrGraph.getEdgeCost(e);
+
+				if(cost < pCosts[target]) {
+
+					if(frontier.contains(target)) {
+						frontier.decreaseKey(target, cost);
+					} else {
+						frontier.insert(target, cost);
+					}
+
+					pCosts[target] = cost;
+
+					if(pPredecessors != null) {
+						pPredecessors[target] = node;
+					}
+				}
+			}
+		}
+
+		return settled;
+	}
+
+	private static boolean contains(int[] pArray, int pLength, int pValue) {
+
+		for(int i=0; i < pLength; i++) {
+			if(pArray[i] == pValue) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
@@ -0,0 +1,21 @@
+package de.interstellar.algorithm.alt;
+
+/** The strategies to select the landmarks of a LandmarkIndex.
+ *
+ *  	- RANDOM: the landmarks are chosen randomly.
+ *  	- FARTHEST: each new landmark is the node that is farthest away from all
+ *  	  landmarks chosen so far.
+ *  	- AVOID: each new landmark is placed in a region of the graph for which the
+ *  	  current landmarks give bad lower bounds (Goldberg and Werneck).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public enum LandmarkSelection {
+
+	RANDOM,
+	FARTHEST,
+	AVOID
+
+}
@@ -0,0 +1,274 @@
+package de.interstellar.algorithm.ch;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.metrics.SearchMetrics;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** This class calculates the shortest path between two nodes with a Contraction
+ *  Hierarchy. Two Dijkstra searches are run: one from the source in the upward graph
+ *  and one from the target in the downward graph. Both searches only go to nodes with
+ *  a higher rank, so they only visit a small part of the graph. The shortest path is
+ *  the best path over a node that was reached by both searches. Inside the core of the
+ *  hierarchy all edges are kept, there both searches work like a normal Dijkstra search.
+ *
+ *  A node is not expanded, if it can be reached cheaper over a node with a higher
+ *  rank (stall-on-demand), as the shortest path can not lead over that node.
+ *
+ *  In the end the shortcuts of the path are replaced by the original edges, so the
+ *  result is the same as the result of the ShortestPathAlgorithm.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ChShortestPathAlgorithm {
+
+	private final Graph graph;
+	private final ContractionHierarchy hierarchy;
+	private final String sourceNodeName;
+	private final String targetNodeName;
+
+	public ChShortestPathAlgorithm(Graph pGraph, ContractionHierarchy pHierarchy, String pSourceNodeName, String pTargetNodeName) {
+
+		this.graph = pGraph;
+		this.hierarchy = pHierarchy;
+		this.sourceNodeName = pSourceNodeName;
+		this.targetNodeName = pTargetNodeName;
+	}
+
+	/** This function calculates the shortest path between the source and the target node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the result, NULL if the source or target node does not exist
+	 */
+	public ShortestPathResult calculateShortestDistance() {
+
+		int nodeCount = this.hierarchy.getCsrGraph().getNodeCount();
+
+		return calculateShortestDistance(new SearchState(nodeCount, FrontierType.BINARY_HEAP),
+				new SearchState(nodeCount, FrontierType.BINARY_HEAP));
+	}
+
+	/** This function calculates the shortest path between the source and the target node
+	 *  and uses the given states for the searches.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pForwardState => state for the search from the source
+	 * @param pBackwardState => state for the search from the target
+	 * @return the result, NULL if the source or target node does not exist
+	 */
+	public ShortestPathResult calculateShortestDistance(SearchState pForwardState, SearchState pBackwardState) {
+
+		long startTime = SearchMetrics.getInstance().startTimer();
+		int startNodeId = this.graph.findNodeId(this.sourceNodeName);
+		int targetNodeId = this.graph.findNodeId(this.targetNodeName);
+
+		if(startNodeId < 0 || targetNodeId < 0) {
+			SearchMetrics.getInstance().recordUnknownNodeQuery(startTime);
+			return null;
+		}
+
+		CsrGraph upwardGraph = this.hierarchy.getUpwardGraph();
+		CsrGraph downwardGraph = this.hierarchy.getDownwardGraph();
+
+		pForwardState.reset(startNodeId);
+		pForwardState.update(startNodeId, 0, -1);
+
+		pBackwardState.reset(targetNodeId);
+		pBackwardState.update(targetNodeId, 0, -1);
+
+		//Nodes in different components are not connected, then both frontiers stay empty
+		if(this.graph.getComponentIndex().isConnected(startNodeId, targetNodeId)) {
+			pForwardState.getFrontier().insert(startNodeId, 0);
+			pBackwardState.getFrontier().insert(targetNodeId, 0);
+		}
+
+		double bestCost = Double.MAX_VALUE;
+		int meetingNode = -1;
+
+		while(true) {
+
+			//A search is finished, if its frontier is empty or can not lead to a better path
+			double forwardMin = pForwardState.getFrontier().peekMinKey();
+			double backwardMin = pBackwardState.getFrontier().peekMinKey();
+			boolean forward = forwardMin < bestCost;
+			boolean backward = backwardMin < bestCost;
+
+			if(!forward && !backward) {
+				break;
+			}
+
+			SearchState state;
+			SearchState otherState;
+
+			if(forward && (!backward || forwardMin <= backwardMin)) {
+				state = pForwardState;
+				otherState = pBackwardState;
+			} else {
+				state = pBackwardState;
+				otherState = pForwardState;
+			}
+
+			int currentNodeId = state.getFrontier().extractMin();
+			state.markVisited(currentNodeId);
+
+			double currentCost = state.getTotalCost(currentNodeId);
+			double otherCost = otherState.getTotalCost(currentNodeId);
+
+			if(otherCost != Double.MAX_VALUE && currentCost + otherCost < bestCost) {
+				bestCost = currentCost + otherCost;
+				meetingNode = currentNodeId;
+			}
+
+			if(state == pForwardState) {
+				//The edges that lead to the node from above are in the downward graph
+				if(!isStalled(downwardGraph, state, currentNodeId)) {
+					relaxEdges(upwardGraph, state, currentNodeId);
+				}
+			} else {
+				if(!isStalled(upwardGraph, state, currentNodeId)) {
+					relaxEdges(downwardGraph, state, currentNodeId);
+				}
+			}
+		}
+
+		ShortestPath path = createPath(pForwardState, pBackwardState, meetingNode);
+		ShortestPathResult result = new ShortestPathResult(this.graph, this.sourceNodeName, this.targetNodeName, path);
+		result.setSettledNodeCount(pForwardState.getSettledNodeCount() + pBackwardState.getSettledNodeCount());
+		ShortestPathAlgorithm.recordQuery(startTime, pForwardState, pBackwardState, path, targetNodeId);
+
+		return result;
+	}
+
+	/** This function checks whether the given node can be reached cheaper over a node with
+	 *  a higher rank than over the path the search found.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pOppositeGraph => edges of the other search direction, they lead to the node from above
+	 * @param pState => state of the search
+	 * @param pNodeId => the node that is visited
+	 * @return true if the node does not need to be expanded
+	 */
+	private static boolean isStalled(CsrGraph pOppositeGraph, SearchState pState, int pNodeId) {
+
+		double cost = pState.getTotalCost(pNodeId);
+		int edgeEnd = pOppositeGraph.getEdgeEnd(pNodeId);
+
+		for(int e = pOppositeGraph.getEdgeStart(pNodeId); e < edgeEnd; e++) {
+
+			double neighborCost = pState.getTotalCost(pOppositeGraph.getEdgeTarget(e));
+
+			if(neighborCost != Double.MAX_VALUE && neighborCost + pOppositeGraph.getEdgeCost(e) < cost) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/** This function updates the costs of the neighbors of the given node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private static void relaxEdges(CsrGraph pCsrGraph, SearchState pState, int pNodeId) {
+
+		double currentCost = pState.getTotalCost(pNodeId);
+		int edgeStart = pCsrGraph.getEdgeStart(pNodeId);
+		int edgeEnd = pCsrGraph.getEdgeEnd(pNodeId);
+
+		for(int e = edgeStart; e < edgeEnd; e++) {
+
+			int neighborId = pCsrGraph.getEdgeTarget(e);
+
+			if(pState.isVisited(neighborId)) {
+				continue;
+			}
+
+			double newCost = currentCost + pCsrGraph.getEdgeCost(e);
+
+			if(newCost < pState.getTotalCost(neighborId)) {
+
+				pState.update(neighborId, newCost, pNodeId);
+
+				if(pState.getFrontier().contains(neighborId)) {
+					pState.getFrontier().decreaseKey(neighborId, newCost);
+				} else {
+					pState.getFrontier().insert(neighborId, newCost);
+				}
+			}
+		}
+
+		pState.countRelaxedEdges(edgeEnd - edgeStart);
+	}
+
+	/** This function creates the path over the given meeting node and unpacks its
+	 *  shortcuts. The costs are summed up again over the original edges in the order
+	 *  of the path, which gives exactly the same value as the ShortestPathAlgorithm.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pForwardState => state of the search from the source
+	 * @param pBackwardState => state of the search from the target
+	 * @param pMeetingNode => node where both searches meet, -1 if they did not meet
+	 * @return the path, an empty path if the target is not reachable
+	 */
+	private ShortestPath createPath(SearchState pForwardState, SearchState pBackwardState, int pMeetingNode) {
+
+		CsrGraph csrGraph = this.hierarchy.getCsrGraph();
+
+		if(pMeetingNode < 0) {
+			return new ShortestPath(csrGraph, new int[0], Double.MAX_VALUE);
+		}
+
+		int length = 1;
+
+		for(int node = pForwardState.getPredecessor(pMeetingNode); node >= 0; node = pForwardState.getPredecessor(node)) {
+			length++;
+		}
+
+		for(int node = pBackwardState.getPredecessor(pMeetingNode); node >= 0; node = pBackwardState.getPredecessor(node)) {
+			length++;
+		}
+
+		int[] hierarchyPath = new int[length];
+		int position = 0;
+
+		for(int node = pMeetingNode; node >= 0; node = pForwardState.getPredecessor(node)) {
+			hierarchyPath[position++] = node;
+		}
+
+		//The forward part was added from the meeting node down to the source
+		for(int i=0; i < position / 2; i++) {
+			int node = hierarchyPath[i];
+			hierarchyPath[i] = hierarchyPath[position - 1 - i];
+			hierarchyPath[position - 1 - i] = node;
+		}
+
+		for(int node = pBackwardState.getPredecessor(pMeetingNode); node >= 0; node = pBackwardState.getPredecessor(node)) {
+			hierarchyPath[position++] = node;
+		}
+
+		int[] nodeIds = this.hierarchy.unpackPath(hierarchyPath, length);
+		double totalCost = 0;
+
+		for(int i=1; i < nodeIds.length; i++) {
+			totalCost += csrGraph.getEdgeCost(csrGraph.findEdge(nodeIds[i - 1], nodeIds[i]));
+		}
+
+		return new ShortestPath(csrGraph, nodeIds, totalCost);
+	}
+
+}
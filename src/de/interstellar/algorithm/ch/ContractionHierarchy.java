@@ -0,0 +1,165 @@
+package de.interstellar.algorithm.ch;
+
+import java.util.Arrays;
+
+import de.interstellar.model.graph.CsrGraph;
+
+/** This class holds the preprocessed data of a Contraction Hierarchy. Every node
+ *  has a rank, which is the order in which the nodes were contracted. When a node
+ *  is contracted, shortcut edges are added between its remaining neighbors, so that
+ *  the costs between them do not change.
+ *
+ *  The edges are split into two graphs, both only lead from a node to nodes with a
+ *  higher rank:
+ *  	- upward graph: the edges in their original direction
+ *  	- downward graph: the reversed edges that lead down to a node, so that the
+ *  	  backward search from the target also only goes up
+ *
+ *  The nodes of the core (see ContractionHierarchyBuilder) are not contracted. An edge
+ *  between two core nodes is stored in both graphs.
+ *
+ *  For every edge the node it bypasses is stored (-1 for an original edge). A
+ *  shortcut from A to B over the node M consists of the edge from A to M (stored in
+ *  the downward graph of M) and the edge from M to B (stored in the upward graph of M).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ContractionHierarchy {
+
+	private final CsrGraph csrGraph;
+	private final int[] ranks;
+	private final CsrGraph upwardGraph;
+	private final int[] upwardMiddleNodes;
+	private final CsrGraph downwardGraph;
+	private final int[] downwardMiddleNodes;
+	private final int shortcutCount;
+	private final int coreNodeCount;
+	private final long preprocessingNanos;
+
+	ContractionHierarchy(CsrGraph pCsrGraph, int[] pRanks, CsrGraph pUpwardGraph, int[] pUpwardMiddleNodes,
+			CsrGraph pDownwardGraph, int[] pDownwardMiddleNodes, int pShortcutCount, int pCoreNodeCount,
+			long pPreprocessingNanos) {
+
+		this.csrGraph = pCsrGraph;
+		this.ranks = pRanks;
+		this.upwardGraph = pUpwardGraph;
+		this.upwardMiddleNodes = pUpwardMiddleNodes;
+		this.downwardGraph = pDownwardGraph;
+		this.downwardMiddleNodes = pDownwardMiddleNodes;
+		this.shortcutCount = pShortcutCount;
+		this.coreNodeCount = pCoreNodeCount;
+		this.preprocessingNanos = pPreprocessingNanos;
+	}
+
+	/** This function replaces the edges of a path in the hierarchy by the original
+	 *  edges they consist of. The shortcuts are unpacked with a stack instead of recursion,
+	 *  as a shortcut can consist of a long chain of other shortcuts.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeIds => the nodes of the path in the hierarchy, starting with the source
+	 * @param pLength => number of nodes of the path
+	 * @return the nodes of the path in the original graph
+	 */
+	int[] unpackPath(int[] pNodeIds, int pLength) {
+
+		int[] path = new int[Math.max(pLength, 16)];
+		int length = 0;
+
+		if(pLength > 0) {
+			path[length++] = pNodeIds[0];
+		}
+
+		//Pairs of source and target of the edges that still need to be unpacked
+		int[] stack = new int[16];
+
+		for(int i=1; i < pLength; i++) {
+
+			stack[0] = pNodeIds[i - 1];
+			stack[1] = pNodeIds[i];
+			int stackSize = 2;
+
+			while(stackSize > 0) {
+
+				int targetId = stack[--stackSize];
+				int sourceId = stack[--stackSize];
+				int middleNode = findMiddleNode(sourceId, targetId);
+
+				if(middleNode < 0) {
+
+					if(length == path.length) {
+						path = Arrays.copyOf(path, 2 * length);
+					}
+
+					path[length++] = targetId;
+				} else {
+
+					if(stackSize + 4 > stack.length) {
+						stack = Arrays.copyOf(stack, 2 * stack.length);
+					}
+
+					//The second half is pushed first, so that the first half is unpacked first
+					stack[stackSize++] = middleNode;
+					stack[stackSize++] = targetId;
+					stack[stackSize++] = sourceId;
+					stack[stackSize++] = middleNode;
+				}
+			}
+		}
+
+		return Arrays.copyOf(path, length);
+	}
+
+	/** @return the node the edge from the given source to the given target bypasses,
+	 *  		-1 if it is an original edge
+	 */
+	private int findMiddleNode(int pSourceId, int pTargetId) {
+
+		//The edge is stored at the node with the lower rank
+		if(this.ranks[pSourceId] < this.ranks[pTargetId]) {
+			return this.upwardMiddleNodes[this.upwardGraph.findEdge(pSourceId, pTargetId)];
+		} else {
+			return this.downwardMiddleNodes[this.downwardGraph.findEdge(pTargetId, pSourceId)];
+		}
+	}
+
+	/** @return the graph the hierarchy was created for */
+	public CsrGraph getCsrGraph() {
+		return this.csrGraph;
+	}
+
+	/** @param pNodeId => id of the node
+	 *  @return the position of the node in the contraction order
+	 */
+	public int getRank(int pNodeId) {
+		return this.ranks[pNodeId];
+	}
+
+	/** @return the edges that lead from a node to a node with a higher rank */
+	public CsrGraph getUpwardGraph() {
+		return this.upwardGraph;
+	}
+
+	/** @return the reversed edges that lead to a node from a node with a higher rank */
+	public CsrGraph getDownwardGraph() {
+		return this.downwardGraph;
+	}
+
+	/** @return the number of shortcut edges that were added */
+	public int getShortcutCount() {
+		return this.shortcutCount;
+	}
+
+	/** @return the number of nodes that were not contracted */
+	public int getCoreNodeCount() {
+		return this.coreNodeCount;
+	}
+
+	public long getPreprocessingNanos() {
+		return this.preprocessingNanos;
+	}
+
+}
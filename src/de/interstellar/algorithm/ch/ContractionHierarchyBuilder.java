@@ -0,0 +1,642 @@
+package de.interstellar.algorithm.ch;
+
+import java.util.Arrays;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.algorithm.frontier.IndexedDaryHeap;
+import de.interstellar.model.graph.ArrayCsrGraph;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** This class provides the functionality to create a ContractionHierarchy for a
+ *  given Graph.
+ *
+ *  The nodes are contracted one after the other. Contracting a node V means that
+ *  V is removed from the remaining graph. For every pair of an incoming edge (U to V)
+ *  and an outgoing edge (V to W) a shortcut from U to W is added, unless a path from
+ *  U to W that is not longer exists without V (a witness). The witnesses are searched
+ *  with a small Dijkstra search that stops after a few visited nodes, so sometimes a
+ *  shortcut is added that would not be needed. This does not change the costs.
+ *
+ *  The next node to contract is the one with the smallest priority:
+ *  	2 * (shortcuts needed - edges removed) + neighbors that are already contracted + level
+ *  The level of a node is the length of the longest chain of contracted neighbors below
+ *  it, which keeps the hierarchy flat. The priorities are only updated when a node is
+ *  taken out of the queue (lazy update).
+ *
+ *  On dense graphs the remaining graph fills up with shortcuts. Therefore the contraction
+ *  stops when the average degree of the remaining graph gets too high. The remaining
+ *  nodes form the core: they get the highest ranks and all of their edges are kept, so
+ *  the query searches the core like a normal Dijkstra search.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ContractionHierarchyBuilder {
+
+	private static final int INITIAL_CAPACITY = 4;
+	private static final int SIMULATION_SETTLE_LIMIT = 20;
+	private static final int CONTRACTION_SETTLE_LIMIT = 100;
+	private static final double DEFAULT_MAX_CORE_DEGREE = 32;
+
+	private double maxCoreDegree;
+
+	private CsrGraph csrGraph;
+	private int nodeCount;
+
+	//The remaining graph, for each node its outgoing and incoming edges
+	private int[][] outTargets;
+	private double[][] outCosts;
+	private int[][] outMiddleNodes;
+	private int[] outSizes;
+	private int[][] inSources;
+	private double[][] inCosts;
+	private int[][] inMiddleNodes;
+	private int[] inSizes;
+
+	private int remainingEdgeCount;
+
+	//Upward and downward edges of each node, they are taken from the remaining graph
+	//at the moment the node is contracted
+	private int[][] upTargets;
+	private double[][] upCosts;
+	private int[][] upMiddleNodes;
+	private int[][] downSources;
+	private double[][] downCosts;
+	private int[][] downMiddleNodes;
+
+	private boolean[] contracted;
+	private int[] contractedNeighbors;
+	private int[] levels;
+	private SearchState witnessState;
+	private int[] targetMarks;
+	private int currentTargetMark;
+
+	//Shortcuts found for the node that is currently contracted
+	private int[] shortcutSources;
+	private int[] shortcutTargets;
+	private double[] shortcutCosts;
+	private int shortcutCount;
+
+	public ContractionHierarchyBuilder() {
+
+		this.maxCoreDegree = DEFAULT_MAX_CORE_DEGREE;
+	}
+
+	/** Sets the average number of outgoing edges per node, up to which the remaining graph
+	 *  is contracted. Denser graphs (like random graphs) get a bigger core, which makes the
+	 *  preprocessing faster and the queries slower. Use Double.MAX_VALUE to contract all nodes.
+	 *
+	 * @param pMaxCoreDegree => maximal average degree of the remaining graph
+	 */
+	public void setMaxCoreDegree(double pMaxCoreDegree) {
+		this.maxCoreDegree = pMaxCoreDegree;
+	}
+
+	/** This function creates the Contraction Hierarchy for the given graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pGraph => the graph
+	 * @return the created hierarchy
+	 */
+	public ContractionHierarchy createHierarchy(Graph pGraph) {
+
+		long start = System.nanoTime();
+
+		initialize(pGraph.getCsrGraph());
+
+		int[] ranks = new int[this.nodeCount];
+		Frontier queue = new IndexedDaryHeap(this.nodeCount, 4);
+
+		for(int node=0; node < this.nodeCount; node++) {
+			queue.insert(node, calculatePriority(node));
+		}
+
+		int totalShortcuts = 0;
+		int rank = 0;
+
+		//The contraction stops, if the remaining graph gets too dense
+		while(!queue.isEmpty() && this.remainingEdgeCount <= this.maxCoreDegree * queue.size()) {
+
+			int node = queue.extractMin();
+
+			//Lazy update: if the priority got worse, the node is put back into the queue
+			double priority = calculatePriority(node);
+
+			if(priority > queue.peekMinKey()) {
+				queue.insert(node, priority);
+				continue;
+			}
+
+			ranks[node] = rank++;
+
+			removeContractedNeighbors(node);
+			storeEdges(node);
+
+			findShortcuts(node, CONTRACTION_SETTLE_LIMIT);
+			contractNode(node);
+
+			totalShortcuts += this.shortcutCount;
+		}
+
+		//The remaining nodes are the core of the hierarchy. They are not contracted, so all
+		//of their edges are kept in both graphs.
+		int coreNodeCount = queue.size();
+
+		while(!queue.isEmpty()) {
+
+			int node = queue.extractMin();
+			ranks[node] = rank++;
+
+			removeContractedNeighbors(node);
+			storeEdges(node);
+		}
+
+		String[] names = new String[this.nodeCount];
+
+		for(int node=0; node < this.nodeCount; node++) {
+			names[node] = this.csrGraph.getNodeName(node);
+		}
+
+		int[] upwardMiddleNodes = new int[countEdges(this.upTargets)];
+		int[] downwardMiddleNodes = new int[countEdges(this.downSources)];
+
+		CsrGraph upwardGraph = createCsrGraph(names, this.upTargets, this.upCosts, this.upMiddleNodes, upwardMiddleNodes);
+		CsrGraph downwardGraph = createCsrGraph(names, this.downSources, this.downCosts, this.downMiddleNodes, downwardMiddleNodes);
+
+		ContractionHierarchy hierarchy = new ContractionHierarchy(this.csrGraph, ranks, upwardGraph, upwardMiddleNodes,
+				downwardGraph, downwardMiddleNodes, totalShortcuts, coreNodeCount, System.nanoTime() - start);
+
+		release();
+
+		return hierarchy;
+	}
+
+	/** This function copies the edges of the given graph into the remaining graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void initialize(CsrGraph pCsrGraph) {
+
+		this.csrGraph = pCsrGraph;
+		this.nodeCount = pCsrGraph.getNodeCount();
+
+		this.outTargets = new int[this.nodeCount][];
+		this.outCosts = new double[this.nodeCount][];
+		this.outMiddleNodes = new int[this.nodeCount][];
+		this.outSizes = new int[this.nodeCount];
+		this.inSources = new int[this.nodeCount][];
+		this.inCosts = new double[this.nodeCount][];
+		this.inMiddleNodes = new int[this.nodeCount][];
+		this.inSizes = new int[this.nodeCount];
+		this.remainingEdgeCount = 0;
+
+		for(int node=0; node < this.nodeCount; node++) {
+			this.outTargets[node] = new int[INITIAL_CAPACITY];
+			this.outCosts[node] = new double[INITIAL_CAPACITY];
+			this.outMiddleNodes[node] = new int[INITIAL_CAPACITY];
+			this.inSources[node] = new int[INITIAL_CAPACITY];
+			this.inCosts[node] = new double[INITIAL_CAPACITY];
+			this.inMiddleNodes[node] = new int[INITIAL_CAPACITY];
+		}
+
+		for(int node=0; node < this.nodeCount; node++) {
+			for(int e = pCsrGraph.getEdgeStart(node); e < pCsrGraph.getEdgeEnd(node); e++) {
+
+				int target = pCsrGraph.getEdgeTarget(e);
+
+				//Loops are never part of a shortest path
+				if(target != node) {
+					addEdge(node, target, pCsrGraph.getEdgeCost(e), -1);
+				}
+			}
+		}
+
+		this.upTargets = new int[this.nodeCount][];
+		this.upCosts = new double[this.nodeCount][];
+		this.upMiddleNodes = new int[this.nodeCount][];
+		this.downSources = new int[this.nodeCount][];
+		this.downCosts = new double[this.nodeCount][];
+		this.downMiddleNodes = new int[this.nodeCount][];
+
+		this.contracted = new boolean[this.nodeCount];
+		this.contractedNeighbors = new int[this.nodeCount];
+		this.levels = new int[this.nodeCount];
+		this.witnessState = new SearchState(this.nodeCount, FrontierType.BINARY_HEAP);
+		this.targetMarks = new int[this.nodeCount];
+		this.currentTargetMark = 0;
+
+		this.shortcutSources = new int[INITIAL_CAPACITY];
+		this.shortcutTargets = new int[INITIAL_CAPACITY];
+		this.shortcutCosts = new double[INITIAL_CAPACITY];
+		this.shortcutCount = 0;
+	}
+
+	/** This function frees the memory of the remaining graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void release() {
+
+		this.csrGraph = null;
+		this.outTargets = null;
+		this.outCosts = null;
+		this.outMiddleNodes = null;
+		this.outSizes = null;
+		this.inSources = null;
+		this.inCosts = null;
+		this.inMiddleNodes = null;
+		this.inSizes = null;
+		this.upTargets = null;
+		this.upCosts = null;
+		this.upMiddleNodes = null;
+		this.downSources = null;
+		this.downCosts = null;
+		this.downMiddleNodes = null;
+		this.contracted = null;
+		this.contractedNeighbors = null;
+		this.levels = null;
+		this.witnessState = null;
+		this.targetMarks = null;
+	}
+
+	/** This function stores the edges of the given node in the remaining graph as its
+	 *  upward and downward edges.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeId => id of the node
+	 */
+	private void storeEdges(int pNodeId) {
+
+		this.upTargets[pNodeId] = Arrays.copyOf(this.outTargets[pNodeId], this.outSizes[pNodeId]);
+		this.upCosts[pNodeId] = Arrays.copyOf(this.outCosts[pNodeId], this.outSizes[pNodeId]);
+		this.upMiddleNodes[pNodeId] = Arrays.copyOf(this.outMiddleNodes[pNodeId], this.outSizes[pNodeId]);
+		this.downSources[pNodeId] = Arrays.copyOf(this.inSources[pNodeId], this.inSizes[pNodeId]);
+		this.downCosts[pNodeId] = Arrays.copyOf(this.inCosts[pNodeId], this.inSizes[pNodeId]);
+		this.downMiddleNodes[pNodeId] = Arrays.copyOf(this.inMiddleNodes[pNodeId], this.inSizes[pNodeId]);
+	}
+
+	/** This function calculates the priority of the given node, a small value means the
+	 *  node should be contracted early.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeId => id of the node
+	 * @return the priority
+	 */
+	private double calculatePriority(int pNodeId) {
+
+		removeContractedNeighbors(pNodeId);
+		findShortcuts(pNodeId, SIMULATION_SETTLE_LIMIT);
+
+		int edgeDifference = this.shortcutCount - this.outSizes[pNodeId] - this.inSizes[pNodeId];
+
+		return 2 * edgeDifference + this.contractedNeighbors[pNodeId] + this.levels[pNodeId];
+	}
+
+	/** This function finds the shortcuts that are needed, if the given node is contracted.
+	 *  The shortcuts are stored in the shortcut arrays.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeId => id of the node
+	 * @param pSettleLimit => maximal number of visited nodes of a witness search
+	 */
+	private void findShortcuts(int pNodeId, int pSettleLimit) {
+
+		this.shortcutCount = 0;
+
+		int[] targets = this.outTargets[pNodeId];
+		double[] costs = this.outCosts[pNodeId];
+		int outSize = this.outSizes[pNodeId];
+
+		//Mark the targets, so that the witness searches can stop when all of them are visited
+		this.currentTargetMark++;
+
+		for(int j=0; j < outSize; j++) {
+			this.targetMarks[targets[j]] = this.currentTargetMark;
+		}
+
+		for(int i=0; i < this.inSizes[pNodeId]; i++) {
+
+			int source = this.inSources[pNodeId][i];
+			double inCost = this.inCosts[pNodeId][i];
+
+			//The witness search only needs to find paths up to the most expensive shortcut
+			double maxCost = -1;
+
+			for(int j=0; j < outSize; j++) {
+				if(targets[j] != source) {
+					maxCost = Math.max(maxCost, inCost + costs[j]);
+				}
+			}
+
+			if(maxCost < 0) {
+				continue;
+			}
+
+			//The source itself is never visited as a target
+			int targetCount = this.targetMarks[source] == this.currentTargetMark ? outSize - 1 : outSize;
+
+			searchWitnesses(source, pNodeId, maxCost, targetCount, pSettleLimit);
+
+			for(int j=0; j < outSize; j++) {
+
+				int target = targets[j];
+				double shortcutCost = inCost + costs[j];
+
+				if(target != source && this.witnessState.getTotalCost(target) > shortcutCost) {
+					addShortcut(source, target, shortcutCost);
+				}
+			}
+		}
+	}
+
+	/** This function runs a Dijkstra search from the given source in the remaining
+	 *  graph without the given node. The search stops when all targets are visited, when the
+	 *  costs get higher than the given maximum or when too many nodes are visited.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceId => start of the search
+	 * @param pIgnoredNodeId => the node that is contracted
+	 * @param pMaxCost => the maximal costs of interest
+	 * @param pTargetCount => number of marked targets that can be reached
+	 * @param pSettleLimit => maximal number of visited nodes
+	 */
+	private void searchWitnesses(int pSourceId, int pIgnoredNodeId, double pMaxCost, int pTargetCount, int pSettleLimit) {
+
+		SearchState state = this.witnessState;
+		Frontier unvisitedNodes = state.getFrontier();
+
+		state.reset(pSourceId);
+		state.update(pSourceId, 0, -1);
+		unvisitedNodes.insert(pSourceId, 0);
+
+		int targetsLeft = pTargetCount;
+
+		while(targetsLeft > 0 && !unvisitedNodes.isEmpty() && unvisitedNodes.peekMinKey() <= pMaxCost
+				&& state.getSettledNodeCount() < pSettleLimit) {
+
+			int currentNodeId = unvisitedNodes.extractMin();
+			state.markVisited(currentNodeId);
+
+			if(this.targetMarks[currentNodeId] == this.currentTargetMark && currentNodeId != pSourceId) {
+				targetsLeft--;
+			}
+
+			double currentCost = state.getTotalCost(currentNodeId);
+			int[] targets = this.outTargets[currentNodeId];
+			double[] costs = this.outCosts[currentNodeId];
+
+			for(int i=0; i < this.outSizes[currentNodeId]; i++) {
+
+				int neighborId = targets[i];
+
+				if(neighborId == pIgnoredNodeId || this.contracted[neighborId] || state.isVisited(neighborId)) {
+					continue;
+				}
+
+				double newCost = currentCost + costs[i];
+
+				if(newCost < state.getTotalCost(neighborId)) {
+
+					state.update(neighborId, newCost, currentNodeId);
+
+					if(unvisitedNodes.contains(neighborId)) {
+						unvisitedNodes.decreaseKey(neighborId, newCost);
+					} else {
+						unvisitedNodes.insert(neighborId, newCost);
+					}
+				}
+			}
+		}
+	}
+
+	/** This function removes the given node from the remaining graph and adds the
+	 *  shortcuts that were found for it.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeId => id of the node
+	 */
+	private void contractNode(int pNodeId) {
+
+		this.contracted[pNodeId] = true;
+		this.remainingEdgeCount -= this.outSizes[pNodeId] + this.inSizes[pNodeId];
+
+		for(int i=0; i < this.outSizes[pNodeId]; i++) {
+			updateLevel(this.outTargets[pNodeId][i], pNodeId);
+		}
+
+		for(int i=0; i < this.inSizes[pNodeId]; i++) {
+			updateLevel(this.inSources[pNodeId][i], pNodeId);
+		}
+
+		for(int i=0; i < this.shortcutCount; i++) {
+			addEdge(this.shortcutSources[i], this.shortcutTargets[i], this.shortcutCosts[i], pNodeId);
+		}
+
+		//The edges of the node are not needed anymore
+		this.outTargets[pNodeId] = null;
+		this.outCosts[pNodeId] = null;
+		this.outMiddleNodes[pNodeId] = null;
+		this.inSources[pNodeId] = null;
+		this.inCosts[pNodeId] = null;
+		this.inMiddleNodes[pNodeId] = null;
+	}
+
+	/** This function notes for the given neighbor, that the given node was contracted.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void updateLevel(int pNeighborId, int pNodeId) {
+
+		this.contractedNeighbors[pNeighborId]++;
+		this.levels[pNeighborId] = Math.max(this.levels[pNeighborId], this.levels[pNodeId] + 1);
+	}
+
+	/** This function removes the edges from and to contracted nodes from the edge lists
+	 *  of the given node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeId => id of the node
+	 */
+	private void removeContractedNeighbors(int pNodeId) {
+
+		int write = 0;
+
+		for(int i=0; i < this.outSizes[pNodeId]; i++) {
+
+			int target = this.outTargets[pNodeId][i];
+
+			if(!this.contracted[target]) {
+				this.outTargets[pNodeId][write] = target;
+				this.outCosts[pNodeId][write] = this.outCosts[pNodeId][i];
+				this.outMiddleNodes[pNodeId][write] = this.outMiddleNodes[pNodeId][i];
+				write++;
+			}
+		}
+
+		this.outSizes[pNodeId] = write;
+		write = 0;
+
+		for(int i=0; i < this.inSizes[pNodeId]; i++) {
+
+			int source = this.inSources[pNodeId][i];
+
+			if(!this.contracted[source]) {
+				this.inSources[pNodeId][write] = source;
+				this.inCosts[pNodeId][write] = this.inCosts[pNodeId][i];
+				this.inMiddleNodes[pNodeId][write] = this.inMiddleNodes[pNodeId][i];
+				write++;
+			}
+		}
+
+		this.inSizes[pNodeId] = write;
+	}
+
+	/** This function stores a shortcut that is needed for the current node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void addShortcut(int pSourceId, int pTargetId, double pCost) {
+
+		if(this.shortcutCount == this.shortcutSources.length) {
+			int capacity = 2 * this.shortcutSources.length;
+			this.shortcutSources = Arrays.copyOf(this.shortcutSources, capacity);
+			this.shortcutTargets = Arrays.copyOf(this.shortcutTargets, capacity);
+			this.shortcutCosts = Arrays.copyOf(this.shortcutCosts, capacity);
+		}
+
+		this.shortcutSources[this.shortcutCount] = pSourceId;
+		this.shortcutTargets[this.shortcutCount] = pTargetId;
+		this.shortcutCosts[this.shortcutCount] = pCost;
+		this.shortcutCount++;
+	}
+
+	/** This function adds an edge to the remaining graph. If there already is an edge
+	 *  between the two nodes, only the cheaper one is kept.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceId => id of the source node
+	 * @param pTargetId => id of the target node
+	 * @param pCost => costs of the edge
+	 * @param pMiddleNodeId => the node the edge bypasses, -1 for an original edge
+	 */
+	private void addEdge(int pSourceId, int pTargetId, double pCost, int pMiddleNodeId) {
+
+		int[] targets = this.outTargets[pSourceId];
+
+		for(int i=0; i < this.outSizes[pSourceId]; i++) {
+			if(targets[i] == pTargetId) {
+
+				if(pCost < this.outCosts[pSourceId][i]) {
+
+					this.outCosts[pSourceId][i] = pCost;
+					this.outMiddleNodes[pSourceId][i] = pMiddleNodeId;
+
+					//Update the same edge in the incoming edges of the target
+					int[] sources = this.inSources[pTargetId];
+
+					for(int j=0; j < this.inSizes[pTargetId]; j++) {
+						if(sources[j] == pSourceId) {
+							this.inCosts[pTargetId][j] = pCost;
+							this.inMiddleNodes[pTargetId][j] = pMiddleNodeId;
+						}
+					}
+				}
+
+				return;
+			}
+		}
+
+		int size = this.outSizes[pSourceId];
+
+		if(size == targets.length) {
+			this.outTargets[pSourceId] = Arrays.copyOf(targets, 2 * size);
+			this.outCosts[pSourceId] = Arrays.copyOf(this.outCosts[pSourceId], 2 * size);
+			this.outMiddleNodes[pSourceId] = Arrays.copyOf(this.outMiddleNodes[pSourceId], 2 * size);
+		}
+
+		this.outTargets[pSourceId][size] = pTargetId;
+		this.outCosts[pSourceId][size] = pCost;
+		this.outMiddleNodes[pSourceId][size] = pMiddleNodeId;
+		this.outSizes[pSourceId]++;
+		this.remainingEdgeCount++;
+
+		size = this.inSizes[pTargetId];
+
+		if(size == this.inSources[pTargetId].length) {
+			this.inSources[pTargetId] = Arrays.copyOf(this.inSources[pTargetId], 2 * size);
+			this.inCosts[pTargetId] = Arrays.copyOf(this.inCosts[pTargetId], 2 * size);
+			this.inMiddleNodes[pTargetId] = Arrays.copyOf(this.inMiddleNodes[pTargetId], 2 * size);
+		}
+
+		this.inSources[pTargetId][size] = pSourceId;
+		this.inCosts[pTargetId][size] = pCost;
+		this.inMiddleNodes[pTargetId][size] = pMiddleNodeId;
+		this.inSizes[pTargetId]++;
+	}
+
+	/** @return the total number of edges in the given edge lists */
+	private static int countEdges(int[][] pTargets) {
+
+		int count = 0;
+
+		for(int[] targets: pTargets) {
+			count += targets.length;
+		}
+
+		return count;
+	}
+
+	/** This function puts the given edge lists into a CSR graph. The middle nodes of
+	 *  the edges are written to the given array at the index of the edge.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private static CsrGraph createCsrGraph(String[] pNames, int[][] pTargets, double[][] pCosts, int[][] pMiddleNodes,
+			int[] pEdgeMiddleNodes) {
+
+		int nodeCount = pNames.length;
+		int[] offsets = new int[nodeCount + 1];
+		int[] targets = new int[pEdgeMiddleNodes.length];
+		double[] costs = new double[pEdgeMiddleNodes.length];
+
+		for(int node=0; node < nodeCount; node++) {
+
+			int offset = offsets[node];
+			int size = pTargets[node].length;
+
+			System.arraycopy(pTargets[node], 0, targets, offset, size);
+			System.arraycopy(pCosts[node], 0, costs, offset, size);
+			System.arraycopy(pMiddleNodes[node], 0, pEdgeMiddleNodes, offset, size);
+
+			offsets[node + 1] = offset + size;
+		}
+
+		return new ArrayCsrGraph(pNames, offsets, targets, costs, false);
+	}
+
+}
@@ -0,0 +1,179 @@
+package de.interstellar.algorithm.frontier;
+
+import java.util.Arrays;
+
+/** Frontier that sorts the nodes into buckets by their costs (Dial's algorithm). The
+ *  costs are converted into whole numbers (multiples of the precision), every number
+ *  has its own bucket. The nodes of a bucket are kept in a doubly linked list, so
+ *  insert and decrease-key are O(1). extractMin walks forward to the next bucket
+ *  that is not empty.
+ *
+ *  All nodes of the frontier have costs between the current minimum and the minimum
+ *  plus the biggest cost of an edge, so C + 1 buckets are enough, if C is the biggest
+ *  cost of an edge. They are used as ring. This only works, if no node gets lower
+ *  costs than the last extracted node (true for Dijkstra's algorithm) and all edge
+ *  costs are multiples of the precision.
+ *
+ *  Dial's frontier is the fastest one for small whole costs, for big costs the
+ *  walk over the empty buckets gets too long (see RadixHeapFrontier).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DialFrontier implements Frontier {
+
+	private final double precision;
+	private final int bucketCount;
+	private final int[] firstNodes;
+
+	private final int[] nextNodes;
+	private final int[] previousNodes;
+	private final int[] buckets;
+	private final double[] keys;
+
+	private long currentKey;
+	private int size;
+
+	//The key is taken from the next inserted node after the creation or clear(). It must
+	//not be taken on every insert into an empty frontier: Dijkstra's algorithm empties the
+	//frontier when it extracts the start node and inserts the neighbors in any order.
+	private boolean keyUnset = true;
+
+	/** Creates the frontier.
+	 *
+	 * @param pCapacity => number of nodes of the graph
+	 * @param pPrecision => precision of the costs
+	 * @param pMaxQuantizedCost => the biggest cost of an edge as multiple of the precision
+	 */
+	public DialFrontier(int pCapacity, double pPrecision, int pMaxQuantizedCost) {
+
+		this.precision = pPrecision;
+
+		//One more bucket, in case the rounding of a total cost gives one more
+		this.bucketCount = pMaxQuantizedCost + 2;
+		this.firstNodes = new int[this.bucketCount];
+		this.nextNodes = new int[pCapacity];
+		this.previousNodes = new int[pCapacity];
+		this.buckets = new int[pCapacity];
+		this.keys = new double[pCapacity];
+
+		Arrays.fill(this.firstNodes, -1);
+		Arrays.fill(this.buckets, -1);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean contains(int pNodeId) {
+		return this.buckets[pNodeId] >= 0;
+	}
+
+	@Override
+	public void insert(int pNodeId, double pKey) {
+
+		long quantized = Math.round(pKey / this.precision);
+
+		if(this.keyUnset) {
+			this.currentKey = quantized;
+			this.keyUnset = false;
+		}
+
+		add(pNodeId, (int) (quantized % this.bucketCount));
+		this.keys[pNodeId] = pKey;
+		this.size++;
+	}
+
+	@Override
+	public void decreaseKey(int pNodeId, double pKey) {
+
+		remove(pNodeId);
+		add(pNodeId, (int) (Math.round(pKey / this.precision) % this.bucketCount));
+		this.keys[pNodeId] = pKey;
+	}
+
+	@Override
+	public int extractMin() {
+
+		int bucket = findMinBucket();
+		int node = this.firstNodes[bucket];
+
+		remove(node);
+		this.size--;
+
+		return node;
+	}
+
+	@Override
+	public double peekMinKey() {
+		return this.size == 0 ? Double.MAX_VALUE : this.keys[this.firstNodes[findMinBucket()]];
+	}
+
+	@Override
+	public void clear() {
+
+		for(int bucket=0; bucket < this.bucketCount && this.size > 0; bucket++) {
+			while(this.firstNodes[bucket] >= 0) {
+				remove(this.firstNodes[bucket]);
+				this.size--;
+			}
+		}
+
+		this.keyUnset = true;
+	}
+
+	/** @return the bucket with the smallest costs, the frontier must not be empty */
+	private int findMinBucket() {
+
+		int bucket = (int) (this.currentKey % this.bucketCount);
+
+		while(this.firstNodes[bucket] < 0) {
+			this.currentKey++;
+			bucket = bucket + 1 == this.bucketCount ? 0 : bucket + 1;
+		}
+
+		return bucket;
+	}
+
+	private void add(int pNodeId, int pBucket) {
+
+		int first = this.firstNodes[pBucket];
+
+		this.nextNodes[pNodeId] = first;
+		this.previousNodes[pNodeId] = -1;
+		this.buckets[pNodeId] = pBucket;
+
+		if(first >= 0) {
+			this.previousNodes[first] = pNodeId;
+		}
+
+		this.firstNodes[pBucket] = pNodeId;
+	}
+
+	private void remove(int pNodeId) {
+
+		int next = this.nextNodes[pNodeId];
+		int previous = this.previousNodes[pNodeId];
+
+		if(previous >= 0) {
+			this.nextNodes[previous] = next;
+		} else {
+			this.firstNodes[this.buckets[pNodeId]] = next;
+		}
+
+		if(next >= 0) {
+			this.previousNodes[next] = previous;
+		}
+
+		this.buckets[pNodeId] = -1;
+	}
+
+}
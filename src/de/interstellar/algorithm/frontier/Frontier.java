@@ -0,0 +1,53 @@
+package de.interstellar.algorithm.frontier;
+
+/** This interface describes the frontier of a shortest path search. The frontier
+ *  contains the nodes that were reached but not visited yet, each with its
+ *  current total cost (key). The search always continues with the node
+ *  that has the smallest key.
+ *
+ *  Nodes are addressed by their id (0 ... capacity-1).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public interface Frontier {
+
+	/** @return true if the frontier does not contain any node */
+	boolean isEmpty();
+
+	/** @return number of nodes in the frontier */
+	int size();
+
+	/** @param pNodeId => id of the node
+	 *  @return true if the node is currently contained in the frontier
+	 */
+	boolean contains(int pNodeId);
+
+	/** Adds a node that is not contained in the frontier.
+	 *
+	 * @param pNodeId => id of the node
+	 * @param pKey => total cost of the node
+	 */
+	void insert(int pNodeId, double pKey);
+
+	/** Lowers the key of a node that is contained in the frontier.
+	 *
+	 * @param pNodeId => id of the node
+	 * @param pKey => new total cost of the node, not bigger than the current one
+	 */
+	void decreaseKey(int pNodeId, double pKey);
+
+	/** Removes the node with the smallest key from the frontier.
+	 *
+	 * @return the id of the removed node
+	 */
+	int extractMin();
+
+	/** @return the smallest key in the frontier, Double.MAX_VALUE if the frontier is empty */
+	double peekMinKey();
+
+	/** Removes all nodes from the frontier, so that it can be used for the next search. */
+	void clear();
+
+}
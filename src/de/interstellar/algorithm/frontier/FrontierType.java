@@ -0,0 +1,116 @@
+package de.interstellar.algorithm.frontier;
+
+import de.interstellar.model.graph.EdgeCostProfile;
+
+/** The available frontier implementations of the shortest path search.
+ *
+ *  	- LINEAR_SCAN: searches the whole frontier for the minimum (O(V) per step).
+ *  	- BINARY_HEAP: indexed binary heap with decrease-key (O(log V) per step).
+ *  	- QUATERNARY_HEAP: indexed 4-ary heap with decrease-key. Less levels and better
+ *  	  cache usage than the binary heap, faster on graphs with many decrease-key operations.
+ *  	- DIAL: one bucket per whole cost (O(1) per step plus the walk over empty buckets).
+ *  	  Only for small costs that are multiples of a precision.
+ *  	- RADIX_HEAP: buckets of growing width (O(log C) per node for the biggest edge cost C).
+ *  	  Only for costs that are multiples of a precision.
+ *  	- AUTO: DIAL if the costs of the graph are small compared to the number of nodes,
+ *  	  RADIX_HEAP for other costs that are multiples of a precision, otherwise BINARY_HEAP.
+ *
+ *  If the costs of the graph do not allow DIAL or RADIX_HEAP, a binary heap is used instead.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public enum FrontierType {
+
+	LINEAR_SCAN,
+	BINARY_HEAP,
+	QUATERNARY_HEAP,
+	DIAL,
+	RADIX_HEAP,
+	AUTO;
+
+	//Maximal number of buckets of Dial's frontier, for bigger costs it needs too much memory
+	public static final int DIAL_MAX_BUCKETS = 1 << 20;
+
+	//AUTO uses Dial's frontier up to this biggest edge cost (as multiple of the precision) or
+	//DIAL_AUTO_BUCKETS_PER_NODE buckets per node, whatever is bigger. With more buckets the walk
+	//over the empty buckets costs more than the radix heap (see BucketFrontierBenchmark).
+	public static final int DIAL_AUTO_LIMIT = 1000;
+	public static final int DIAL_AUTO_BUCKETS_PER_NODE = 4;
+
+	/** This function creates a new, empty frontier of this type. DIAL and RADIX_HEAP
+	 *  need the costs of the graph, so they are replaced by a binary heap here.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCapacity => number of nodes of the graph
+	 * @return the frontier
+	 */
+	public Frontier createFrontier(int pCapacity) {
+		return createFrontier(pCapacity, null);
+	}
+
+	/** This function creates a new, empty frontier of this type. If the costs do not
+	 *  allow the type, a binary heap is created instead.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCapacity => number of nodes of the graph
+	 * @param pCosts => the costs of the edges of the graph, can be NULL if they are unknown
+	 * @return the frontier
+	 */
+	public Frontier createFrontier(int pCapacity, EdgeCostProfile pCosts) {
+
+		switch(resolve(pCosts, pCapacity)) {
+			case LINEAR_SCAN:
+				return new LinearScanFrontier(pCapacity);
+			case QUATERNARY_HEAP:
+				return new IndexedDaryHeap(pCapacity, 4);
+			case DIAL:
+				return new DialFrontier(pCapacity, pCosts.getPrecision(), (int) pCosts.getMaxQuantizedCost());
+			case RADIX_HEAP:
+				return new RadixHeapFrontier(pCapacity, pCosts.getPrecision());
+			case BINARY_HEAP:
+			default:
+				return new IndexedDaryHeap(pCapacity, 2);
+		}
+	}
+
+	/** This function determines the frontier that is really used for the given costs.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCosts => the costs of the edges of the graph, can be NULL if they are unknown
+	 * @param pCapacity => number of nodes of the graph
+	 * @return this type, or BINARY_HEAP if the costs do not allow it
+	 */
+	public FrontierType resolve(EdgeCostProfile pCosts, int pCapacity) {
+
+		boolean quantized = pCosts != null && pCosts.isQuantized();
+
+		switch(this) {
+			case DIAL:
+				return quantized && pCosts.getMaxQuantizedCost() < DIAL_MAX_BUCKETS ? DIAL : BINARY_HEAP;
+			case RADIX_HEAP:
+				return quantized ? RADIX_HEAP : BINARY_HEAP;
+			case AUTO:
+				if(!quantized) {
+					return BINARY_HEAP;
+				}
+				long dialLimit = Math.max(DIAL_AUTO_LIMIT, (long) DIAL_AUTO_BUCKETS_PER_NODE * pCapacity);
+				return pCosts.getMaxQuantizedCost() <= Math.min(dialLimit, DIAL_MAX_BUCKETS - 1) ? DIAL : RADIX_HEAP;
+			default:
+				return this;
+		}
+	}
+
+	/** @return true if the frontier depends on the costs of the graph */
+	public boolean needsCosts() {
+		return this == DIAL || this == RADIX_HEAP || this == AUTO;
+	}
+
+}
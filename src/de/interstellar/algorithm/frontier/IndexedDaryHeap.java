@@ -0,0 +1,179 @@
+package de.interstellar.algorithm.frontier;
+
+import java.util.Arrays;
+
+/** Frontier that is implemented as an indexed d-ary min heap. Besides the heap
+ *  itself, the position of every node in the heap is stored, which makes it
+ *  possible to lower the key of a node without searching it (decrease-key).
+ *
+ *  With an arity of 2 this is a classic binary heap. An arity of 4 results in
+ *  a flatter heap, which needs less moves on decrease-key and uses the cache better.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class IndexedDaryHeap implements Frontier {
+
+	private final int arity;
+
+	private int[] heap;
+	private double[] heapKeys;
+	private int[] positions;
+	private int size;
+
+	public IndexedDaryHeap(int pCapacity, int pArity) {
+
+		this.arity = pArity;
+		this.heap = new int[pCapacity];
+		this.heapKeys = new double[pCapacity];
+		this.positions = new int[pCapacity];
+		Arrays.fill(this.positions, -1);
+		this.size = 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean contains(int pNodeId) {
+		return this.positions[pNodeId] >= 0;
+	}
+
+	@Override
+	public void insert(int pNodeId, double pKey) {
+
+		siftUp(this.size++, pNodeId, pKey);
+	}
+
+	@Override
+	public void decreaseKey(int pNodeId, double pKey) {
+
+		siftUp(this.positions[pNodeId], pNodeId, pKey);
+	}
+
+	@Override
+	public int extractMin() {
+
+		int node = this.heap[0];
+		this.positions[node] = -1;
+		this.size--;
+
+		//Move the last element of the heap to the root and restore the heap order
+		if(this.size > 0) {
+			siftDown(0, this.heap[this.size], this.heapKeys[this.size]);
+		}
+
+		return node;
+	}
+
+	@Override
+	public double peekMinKey() {
+		return this.size == 0 ? Double.MAX_VALUE : this.heapKeys[0];
+	}
+
+	@Override
+	public void clear() {
+
+		for(int i=0; i < this.size; i++) {
+			this.positions[this.heap[i]] = -1;
+		}
+
+		this.size = 0;
+	}
+
+	/** This function moves the given node from the given position up, until its
+	 *  parent has a smaller key.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pPosition => position at which the node is placed at the moment
+	 * @param pNodeId => id of the node
+	 * @param pKey => key of the node
+	 */
+	private void siftUp(int pPosition, int pNodeId, double pKey) {
+
+		int position = pPosition;
+
+		while(position > 0) {
+
+			int parent = (position - 1) / this.arity;
+
+			if(this.heapKeys[parent] <= pKey) {
+				break;
+			}
+
+			move(parent, position);
+			position = parent;
+		}
+
+		place(position, pNodeId, pKey);
+	}
+
+	/** This function moves the given node from the given position down, until all
+	 *  of its children have a bigger key.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pPosition => position at which the node is placed at the moment
+	 * @param pNodeId => id of the node
+	 * @param pKey => key of the node
+	 */
+	private void siftDown(int pPosition, int pNodeId, double pKey) {
+
+		int position = pPosition;
+
+		while(true) {
+
+			int firstChild = position * this.arity + 1;
+
+			if(firstChild >= this.size) {
+				break;
+			}
+
+			//Find the child with the smallest key
+			int lastChild = Math.min(firstChild + this.arity, this.size);
+			int minChild = firstChild;
+
+			for(int child = firstChild + 1; child < lastChild; child++) {
+				if(this.heapKeys[child] < this.heapKeys[minChild]) {
+					minChild = child;
+				}
+			}
+
+			if(this.heapKeys[minChild] >= pKey) {
+				break;
+			}
+
+			move(minChild, position);
+			position = minChild;
+		}
+
+		place(position, pNodeId, pKey);
+	}
+
+	private void move(int pFrom, int pTo) {
+
+		int node = this.heap[pFrom];
+		this.heap[pTo] = node;
+		this.heapKeys[pTo] = this.heapKeys[pFrom];
+		this.positions[node] = pTo;
+	}
+
+	private void place(int pPosition, int pNodeId, double pKey) {
+
+		this.heap[pPosition] = pNodeId;
+		this.heapKeys[pPosition] = pKey;
+		this.positions[pNodeId] = pPosition;
+	}
+
+}
@@ -0,0 +1,104 @@
+package de.interstellar.algorithm.frontier;
+
+import java.util.Arrays;
+
+/** Frontier that stores its nodes in an unordered array. To find the node with
+ *  the smallest key, all nodes of the frontier are checked. This is the behavior
+ *  of the original implementation of the algorithm and is mainly kept to compare
+ *  the other frontiers against it.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class LinearScanFrontier implements Frontier {
+
+	private int[] nodes;
+	private double[] keys;
+	private int[] positions;
+	private int size;
+
+	public LinearScanFrontier(int pCapacity) {
+
+		this.nodes = new int[pCapacity];
+		this.keys = new double[pCapacity];
+		this.positions = new int[pCapacity];
+		Arrays.fill(this.positions, -1);
+		this.size = 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean contains(int pNodeId) {
+		return this.positions[pNodeId] >= 0;
+	}
+
+	@Override
+	public void insert(int pNodeId, double pKey) {
+
+		this.nodes[this.size] = pNodeId;
+		this.keys[this.size] = pKey;
+		this.positions[pNodeId] = this.size;
+		this.size++;
+	}
+
+	@Override
+	public void decreaseKey(int pNodeId, double pKey) {
+		this.keys[this.positions[pNodeId]] = pKey;
+	}
+
+	@Override
+	public int extractMin() {
+
+		int minPosition = findMinPosition();
+		int node = this.nodes[minPosition];
+
+		//Fill the gap with the last node of the array
+		this.size--;
+		this.nodes[minPosition] = this.nodes[this.size];
+		this.keys[minPosition] = this.keys[this.size];
+		this.positions[this.nodes[minPosition]] = minPosition;
+		this.positions[node] = -1;
+
+		return node;
+	}
+
+	@Override
+	public double peekMinKey() {
+		return this.size == 0 ? Double.MAX_VALUE : this.keys[findMinPosition()];
+	}
+
+	@Override
+	public void clear() {
+
+		for(int i=0; i < this.size; i++) {
+			this.positions[this.nodes[i]] = -1;
+		}
+
+		this.size = 0;
+	}
+
+	/** @return position of the node with the smallest key */
+	private int findMinPosition() {
+
+		int minPosition = 0;
+
+		for(int i=1; i < this.size; i++) {
+			if(this.keys[i] < this.keys[minPosition]) {
+				minPosition = i;
+			}
+		}
+
+		return minPosition;
+	}
+
+}
@@ -0,0 +1,224 @@
+package de.interstellar.algorithm.frontier;
+
+import java.util.Arrays;
+
+/** Frontier that is implemented as radix heap. Like the DialFrontier it works with
+ *  costs that are converted into whole numbers (multiples of the precision), but the
+ *  buckets get wider: bucket 0 contains the nodes with the same costs as the last
+ *  extracted node, bucket i the nodes whose costs differ from it first in bit i-1.
+ *  So 65 buckets are enough for any costs.
+ *
+ *  If bucket 0 is empty, the smallest costs of the next bucket become the new last
+ *  costs and the nodes of that bucket are moved into the smaller buckets. Every node
+ *  can only move down, so the work per node is O(log C) for the biggest edge cost C.
+ *
+ *  Like Dial's frontier this only works, if no node gets lower costs than the last
+ *  extracted node (true for Dijkstra's algorithm) and all edge costs are multiples
+ *  of the precision.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class RadixHeapFrontier implements Frontier {
+
+	private static final int BUCKET_COUNT = 65;
+
+	private final double precision;
+	private final int[] firstNodes;
+
+	private final int[] nextNodes;
+	private final int[] previousNodes;
+	private final int[] buckets;
+	private final long[] quantizedKeys;
+	private final double[] keys;
+
+	private long lastKey;
+	private int size;
+
+	//The key is taken from the next inserted node after the creation or clear(). It must
+	//not be taken on every insert into an empty frontier: Dijkstra's algorithm empties the
+	//frontier when it extracts the start node and inserts the neighbors in any order.
+	private boolean keyUnset = true;
+
+	/** Creates the frontier.
+	 *
+	 * @param pCapacity => number of nodes of the graph
+	 * @param pPrecision => precision of the costs
+	 */
+	public RadixHeapFrontier(int pCapacity, double pPrecision) {
+
+		this.precision = pPrecision;
+		this.firstNodes = new int[BUCKET_COUNT];
+		this.nextNodes = new int[pCapacity];
+		this.previousNodes = new int[pCapacity];
+		this.buckets = new int[pCapacity];
+		this.quantizedKeys = new long[pCapacity];
+		this.keys = new double[pCapacity];
+
+		Arrays.fill(this.firstNodes, -1);
+		Arrays.fill(this.buckets, -1);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean contains(int pNodeId) {
+		return this.buckets[pNodeId] >= 0;
+	}
+
+	@Override
+	public void insert(int pNodeId, double pKey) {
+
+		long quantized = Math.round(pKey / this.precision);
+
+		if(this.keyUnset) {
+			this.lastKey = quantized;
+			this.keyUnset = false;
+		}
+
+		this.quantizedKeys[pNodeId] = quantized;
+		this.keys[pNodeId] = pKey;
+		add(pNodeId, getBucket(quantized));
+		this.size++;
+	}
+
+	@Override
+	public void decreaseKey(int pNodeId, double pKey) {
+
+		long quantized = Math.round(pKey / this.precision);
+
+		this.quantizedKeys[pNodeId] = quantized;
+		this.keys[pNodeId] = pKey;
+
+		int bucket = getBucket(quantized);
+
+		if(bucket != this.buckets[pNodeId]) {
+			remove(pNodeId);
+			add(pNodeId, bucket);
+		}
+	}
+
+	@Override
+	public int extractMin() {
+
+		fillFirstBucket();
+
+		int node = this.firstNodes[0];
+
+		remove(node);
+		this.size--;
+
+		return node;
+	}
+
+	@Override
+	public double peekMinKey() {
+
+		if(this.size == 0) {
+			return Double.MAX_VALUE;
+		}
+
+		fillFirstBucket();
+
+		return this.keys[this.firstNodes[0]];
+	}
+
+	@Override
+	public void clear() {
+
+		for(int bucket=0; bucket < BUCKET_COUNT; bucket++) {
+			while(this.firstNodes[bucket] >= 0) {
+				remove(this.firstNodes[bucket]);
+			}
+		}
+
+		this.size = 0;
+		this.keyUnset = true;
+	}
+
+	/** This function makes sure that bucket 0 contains the nodes with the smallest costs.
+	 *  The frontier must not be empty.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void fillFirstBucket() {
+
+		if(this.firstNodes[0] >= 0) {
+			return;
+		}
+
+		int bucket = 1;
+
+		while(this.firstNodes[bucket] < 0) {
+			bucket++;
+		}
+
+		long minKey = Long.MAX_VALUE;
+
+		for(int node = this.firstNodes[bucket]; node >= 0; node = this.nextNodes[node]) {
+			minKey = Math.min(minKey, this.quantizedKeys[node]);
+		}
+
+		this.lastKey = minKey;
+
+		//All nodes of the bucket move into smaller buckets now
+		int node = this.firstNodes[bucket];
+
+		while(node >= 0) {
+
+			int next = this.nextNodes[node];
+
+			remove(node);
+			add(node, getBucket(this.quantizedKeys[node]));
+			node = next;
+		}
+	}
+
+	private int getBucket(long pQuantizedKey) {
+		return pQuantizedKey == this.lastKey ? 0 : 64 - Long.numberOfLeadingZeros(pQuantizedKey ^ this.lastKey);
+	}
+
+	private void add(int pNodeId, int pBucket) {
+
+		int first = this.firstNodes[pBucket];
+
+		this.nextNodes[pNodeId] = first;
+		this.previousNodes[pNodeId] = -1;
+		this.buckets[pNodeId] = pBucket;
+
+		if(first >= 0) {
+			this.previousNodes[first] = pNodeId;
+		}
+
+		this.firstNodes[pBucket] = pNodeId;
+	}
+
+	private void remove(int pNodeId) {
+
+		int next = this.nextNodes[pNodeId];
+		int previous = this.previousNodes[pNodeId];
+
+		if(previous >= 0) {
+			this.nextNodes[previous] = next;
+		} else {
+			this.firstNodes[this.buckets[pNodeId]] = next;
+		}
+
+		if(next >= 0) {
+			this.previousNodes[next] = previous;
+		}
+
+		this.buckets[pNodeId] = -1;
+	}
+
+}
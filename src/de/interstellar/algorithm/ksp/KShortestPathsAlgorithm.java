@@ -0,0 +1,104 @@
+package de.interstellar.algorithm.ksp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.model.graph.Graph;
+
+/** This class calculates alternative routes between two nodes: the k shortest loopless
+ *  paths, ordered by their costs. The first path is the same as the one of the
+ *  ShortestPathAlgorithm (or one with the same costs).
+ *
+ *  The paths are calculated lazily with Yen's algorithm (see YenPathIterator), so
+ *  stream().limit(k) or stream().takeWhile(...) only pay for the paths they use.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class KShortestPathsAlgorithm {
+
+	private final Graph graph;
+	private final String sourceNodeName;
+	private final String targetNodeName;
+
+	public KShortestPathsAlgorithm(Graph pGraph, String pSourceNodeName, String pTargetNodeName) {
+
+		this.graph = pGraph;
+		this.sourceNodeName = pSourceNodeName;
+		this.targetNodeName = pTargetNodeName;
+	}
+
+	/** This function creates an iterator over the paths from the source to the target,
+	 *  the cheapest path first. Creating it calculates the shortest path tree towards
+	 *  the target, each further path is calculated when it is requested.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the iterator, NULL if the source or target node does not exist
+	 */
+	public YenPathIterator iterator() {
+
+		int sourceNodeId = this.graph.findNodeId(this.sourceNodeName);
+		int targetNodeId = this.graph.findNodeId(this.targetNodeName);
+
+		if(sourceNodeId < 0 || targetNodeId < 0) {
+			return null;
+		}
+
+		return new YenPathIterator(this.graph.getCsrGraph(), this.graph.getReverseCsrGraph(), sourceNodeId, targetNodeId);
+	}
+
+	/** This function returns the paths from the source to the target as ordered stream.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the paths, the cheapest path first. Empty if the source or target node
+	 * 		   does not exist or the target can not be reached.
+	 */
+	public Stream<ShortestPath> stream() {
+
+		YenPathIterator iterator = iterator();
+
+		if(iterator == null) {
+			return Stream.empty();
+		}
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false);
+	}
+
+	/** This function calculates the k shortest paths from the source to the target.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pK => the maximal number of paths
+	 * @return the paths, the cheapest path first. Less than k if there are not more paths,
+	 * 		   NULL if the source or target node does not exist.
+	 */
+	public List<ShortestPath> calculateShortestPaths(int pK) {
+
+		YenPathIterator iterator = iterator();
+
+		if(iterator == null) {
+			return null;
+		}
+
+		List<ShortestPath> paths = new ArrayList<ShortestPath>(pK);
+
+		while(paths.size() < pK && iterator.hasNext()) {
+			paths.add(iterator.next());
+		}
+
+		return paths;
+	}
+
+}
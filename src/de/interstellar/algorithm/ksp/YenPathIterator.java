@@ -0,0 +1,520 @@
+package de.interstellar.algorithm.ksp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.CsrGraph;
+
+/** This class delivers the loopless paths between two nodes ordered by their costs
+ *  (Yen's algorithm). Each path is only calculated when it is requested, so the caller
+ *  can stop after any number of paths.
+ *
+ *  For every path P the next paths are searched from each node of P (spur node): the
+ *  part of P before the spur node (root) stays the same, the nodes of the root are
+ *  blocked and so are the edges from the spur node to the next node of every path
+ *  found so far with the same root. The shortest path from the spur node to the target
+ *  in the rest of the graph then gives a candidate, the cheapest candidate is the next
+ *  path. The graph itself is never copied, the blocked nodes and edges are marked in
+ *  arrays with a stamp per spur search (like in the SearchState).
+ *
+ *  The following optimizations make the spur searches cheap:
+ *  	- The shortest path tree towards the target is calculated once. Its costs are a
+ *  	  lower bound for the costs to the target, as blocking only removes edges. So
+ *  	  the spur searches are A* searches with exact costs as estimates, they visit
+ *  	  little more than the nodes of the path they find.
+ *  	- If the path of the tree from the spur node to the target does not use a blocked
+ *  	  node or edge, it is the shortest one and no search is needed at all.
+ *  	- For a path that branched off its parent path at node i, the spur nodes before i
+ *  	  were already searched for the parent with the same blocked edges (Lawler), so
+ *  	  only the spur nodes from i on are searched.
+ *
+ *  Parallel edges between the same nodes are treated as one edge with the smallest cost.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class YenPathIterator implements Iterator<ShortestPath> {
+
+	private final CsrGraph csrGraph;
+	private final int targetNodeId;
+
+	//Shortest path tree towards the target: costs to the target and the next node on the way
+	private final double[] targetCosts;
+	private final int[] nextNodes;
+
+	private final SearchState state;
+	private final int[] blockedNodes;
+	private final int[] blockedNextNodes;
+	private int blockStamp;
+
+	private final List<AcceptedPath> acceptedPaths;
+	private final PriorityQueue<Candidate> candidates;
+	private final Set<PathKey> knownPaths;
+
+	private ShortestPath nextPath;
+	private boolean finished;
+
+	private int spurSearchCount;
+	private int treePathCount;
+	private long settledNodeCount;
+
+	/** Creates the iterator and calculates the shortest path tree towards the target.
+	 *
+	 * @param pCsrGraph => the graph
+	 * @param pReverseCsrGraph => the graph with all edges reversed (the graph itself if it is symmetric)
+	 * @param pSourceNodeId => id of the source node
+	 * @param pTargetNodeId => id of the target node
+	 */
+	public YenPathIterator(CsrGraph pCsrGraph, CsrGraph pReverseCsrGraph, int pSourceNodeId, int pTargetNodeId) {
+
+		int nodeCount = pCsrGraph.getNodeCount();
+
+		this.csrGraph = pCsrGraph;
+		this.targetNodeId = pTargetNodeId;
+		this.targetCosts = new double[nodeCount];
+		this.nextNodes = new int[nodeCount];
+		this.state = new SearchState(nodeCount, FrontierType.BINARY_HEAP);
+		this.blockedNodes = new int[nodeCount];
+		this.blockedNextNodes = new int[nodeCount];
+		this.blockStamp = 1;
+		this.acceptedPaths = new ArrayList<AcceptedPath>();
+		this.candidates = new PriorityQueue<Candidate>();
+		this.knownPaths = new HashSet<PathKey>();
+
+		calculateTargetTree(pReverseCsrGraph);
+
+		//The first path is the path of the tree
+		int[] firstPath = getTreePath(pSourceNodeId, 0, null);
+
+		if(firstPath == null) {
+			this.finished = true;
+		} else {
+			this.nextPath = accept(firstPath, 0);
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		if(this.nextPath == null && !this.finished) {
+			this.nextPath = calculateNextPath();
+			this.finished = this.nextPath == null;
+		}
+
+		return this.nextPath != null;
+	}
+
+	@Override
+	public ShortestPath next() {
+
+		if(!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		ShortestPath path = this.nextPath;
+		this.nextPath = null;
+
+		return path;
+	}
+
+	/** @return the number of spur searches that were needed so far */
+	public int getSpurSearchCount() {
+		return this.spurSearchCount;
+	}
+
+	/** @return the number of spur paths that were taken from the tree without a search */
+	public int getTreePathCount() {
+		return this.treePathCount;
+	}
+
+	/** @return the number of nodes that were settled by the spur searches */
+	public long getSettledNodeCount() {
+		return this.settledNodeCount;
+	}
+
+	/** This function calculates the costs of all nodes to the target and the next node
+	 *  on their shortest path to it, with a search from the target on the reverse graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void calculateTargetTree(CsrGraph pReverseCsrGraph) {
+
+		search(pReverseCsrGraph, this.targetNodeId, -1, false);
+
+		for(int i=0; i < this.targetCosts.length; i++) {
+			this.targetCosts[i] = this.state.getTotalCost(i);
+			this.nextNodes[i] = this.state.getPredecessor(i);
+		}
+	}
+
+	/** This function creates the candidates that branch off the last accepted path and
+	 *  returns the cheapest candidate.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the next path, NULL if there are no more paths
+	 */
+	private ShortestPath calculateNextPath() {
+
+		AcceptedPath lastPath = this.acceptedPaths.get(this.acceptedPaths.size() - 1);
+		int[] nodes = lastPath.nodeIds;
+
+		for(int i = lastPath.deviationIndex; i < nodes.length - 1; i++) {
+
+			int spurNodeId = nodes[i];
+
+			nextBlockStamp();
+
+			//The nodes of the root must not be used again, so the path stays loopless
+			for(int j=0; j < i; j++) {
+				this.blockedNodes[nodes[j]] = this.blockStamp;
+			}
+
+			//The continuations of all paths with the same root were already found
+			for(AcceptedPath path: this.acceptedPaths) {
+				if(path.nodeIds.length > i + 1 && hasSameRoot(path.nodeIds, nodes, i)) {
+					this.blockedNextNodes[path.nodeIds[i + 1]] = this.blockStamp;
+				}
+			}
+
+			int[] candidateNodes = getTreePath(spurNodeId, i, nodes);
+
+			if(candidateNodes != null) {
+				this.treePathCount++;
+			} else {
+				candidateNodes = searchSpurPath(spurNodeId, i, nodes);
+			}
+
+			if(candidateNodes != null) {
+
+				PathKey key = new PathKey(candidateNodes);
+
+				if(this.knownPaths.add(key)) {
+					this.candidates.add(new Candidate(candidateNodes, i, lastPath.prefixCosts[i] + calculateCost(candidateNodes, i)));
+				}
+			}
+		}
+
+		Candidate best = this.candidates.poll();
+
+		return best == null ? null : accept(best.nodeIds, best.deviationIndex);
+	}
+
+	/** This function starts a new spur search: all nodes and edges are free again.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void nextBlockStamp() {
+
+		this.blockStamp++;
+
+		//After an overflow of the stamp, old blocks could become valid again
+		if(this.blockStamp == Integer.MAX_VALUE) {
+			Arrays.fill(this.blockedNodes, 0);
+			Arrays.fill(this.blockedNextNodes, 0);
+			this.blockStamp = 1;
+		}
+	}
+
+	/** This function follows the shortest path tree from the spur node to the target.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSpurNodeId => the node to start from
+	 * @param pRootLength => number of nodes of the root before the spur node
+	 * @param pRootNodes => the nodes of the root at the start of the array, NULL if the root is empty
+	 * @return the root followed by the path of the tree, NULL if the tree path uses a blocked
+	 * 		   node or edge or the target can not be reached
+	 */
+	private int[] getTreePath(int pSpurNodeId, int pRootLength, int[] pRootNodes) {
+
+		if(this.targetCosts[pSpurNodeId] == Double.MAX_VALUE) {
+			return null;
+		}
+
+		if(pSpurNodeId != this.targetNodeId && this.blockedNextNodes[this.nextNodes[pSpurNodeId]] == this.blockStamp) {
+			return null;
+		}
+
+		int length = pRootLength + 1;
+
+		for(int node = pSpurNodeId; node != this.targetNodeId; node = this.nextNodes[node]) {
+
+			if(this.blockedNodes[this.nextNodes[node]] == this.blockStamp) {
+				return null;
+			}
+
+			length++;
+		}
+
+		int[] path = new int[length];
+
+		if(pRootLength > 0) {
+			System.arraycopy(pRootNodes, 0, path, 0, pRootLength);
+		}
+
+		int position = pRootLength;
+
+		for(int node = pSpurNodeId; node != this.targetNodeId; node = this.nextNodes[node]) {
+			path[position++] = node;
+		}
+
+		path[position] = this.targetNodeId;
+
+		return path;
+	}
+
+	/** This function searches the shortest path from the spur node to the target that
+	 *  does not use the blocked nodes and edges.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the root followed by the found path, NULL if the target can not be reached
+	 */
+	private int[] searchSpurPath(int pSpurNodeId, int pRootLength, int[] pRootNodes) {
+
+		this.spurSearchCount++;
+
+		search(this.csrGraph, pSpurNodeId, this.targetNodeId, true);
+		this.settledNodeCount += this.state.getSettledNodeCount();
+
+		if(this.state.getTotalCost(this.targetNodeId) == Double.MAX_VALUE) {
+			return null;
+		}
+
+		int spurLength = 0;
+
+		for(int node = this.targetNodeId; node >= 0; node = this.state.getPredecessor(node)) {
+			spurLength++;
+		}
+
+		int[] path = Arrays.copyOf(pRootNodes, pRootLength + spurLength);
+		int position = path.length;
+
+		for(int node = this.targetNodeId; node >= 0; node = this.state.getPredecessor(node)) {
+			path[--position] = node;
+		}
+
+		return path;
+	}
+
+	/** This function runs a search on the given graph. With blocking, the blocked nodes
+	 *  and the blocked edges of the start node are skipped, and the costs to the target
+	 *  are used as estimates (A*). Otherwise it is a plain search of the whole graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph to search
+	 * @param pStartNodeId => id of the start node
+	 * @param pTargetNodeId => id of the node at which the search stops, -1 to search the whole graph
+	 * @param pBlocking => true to skip the blocked nodes and edges and to use the estimates
+	 */
+	private void search(CsrGraph pCsrGraph, int pStartNodeId, int pTargetNodeId, boolean pBlocking) {
+
+		SearchState state = this.state;
+		Frontier unvisitedNodes = state.getFrontier();
+
+		state.reset(pStartNodeId);
+		state.update(pStartNodeId, 0, -1);
+		unvisitedNodes.insert(pStartNodeId, 0);
+
+		while(!unvisitedNodes.isEmpty()) {
+
+			int currentNodeId = unvisitedNodes.extractMin();
+			state.markVisited(currentNodeId);
+
+			if(currentNodeId == pTargetNodeId) {
+				break;
+			}
+
+			double currentCost = state.getTotalCost(currentNodeId);
+			boolean startNode = currentNodeId == pStartNodeId;
+			int edgeEnd = pCsrGraph.getEdgeEnd(currentNodeId);
+
+			for(int e = pCsrGraph.getEdgeStart(currentNodeId); e < edgeEnd; e++) {
+
+				int neighborId = pCsrGraph.getEdgeTarget(e);
+
+				if(state.isVisited(neighborId)) {
+					continue;
+				}
+
+				double estimate = 0;
+
+				if(pBlocking) {
+
+					if(this.blockedNodes[neighborId] == this.blockStamp
+							|| (startNode && this.blockedNextNodes[neighborId] == this.blockStamp)) {
+						continue;
+					}
+
+					//Nodes from which the target can not be reached are not searched
+					estimate = this.targetCosts[neighborId];
+
+					if(estimate == Double.MAX_VALUE) {
+						continue;
+					}
+				}
+
+				double newCost = currentCost + pCsrGraph.getEdgeCost(e);
+
+				if(newCost < state.getTotalCost(neighborId)) {
+
+					state.update(neighborId, newCost, currentNodeId);
+
+					if(unvisitedNodes.contains(neighborId)) {
+						unvisitedNodes.decreaseKey(neighborId, newCost + estimate);
+					} else {
+						unvisitedNodes.insert(neighborId, newCost + estimate);
+					}
+				}
+			}
+		}
+	}
+
+	/** This function stores the path as found and creates the ShortestPath for it.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private ShortestPath accept(int[] pNodeIds, int pDeviationIndex) {
+
+		double[] prefixCosts = new double[pNodeIds.length];
+
+		for(int i=1; i < pNodeIds.length; i++) {
+			prefixCosts[i] = prefixCosts[i - 1] + getEdgeCost(pNodeIds[i - 1], pNodeIds[i]);
+		}
+
+		if(this.acceptedPaths.isEmpty()) {
+			this.knownPaths.add(new PathKey(pNodeIds));
+		}
+
+		this.acceptedPaths.add(new AcceptedPath(pNodeIds, pDeviationIndex, prefixCosts));
+
+		return new ShortestPath(this.csrGraph, pNodeIds, prefixCosts[pNodeIds.length - 1]);
+	}
+
+	/** @return the costs of the given path from the given index to its end */
+	private double calculateCost(int[] pNodeIds, int pStartIndex) {
+
+		double cost = 0;
+
+		for(int i = pStartIndex + 1; i < pNodeIds.length; i++) {
+			cost += getEdgeCost(pNodeIds[i - 1], pNodeIds[i]);
+		}
+
+		return cost;
+	}
+
+	/** @return the smallest cost of an edge from the source to the target node */
+	private double getEdgeCost(int pSourceNodeId, int pTargetNodeId) {
+
+		double cost = Double.MAX_VALUE;
+		int edgeEnd = this.csrGraph.getEdgeEnd(pSourceNodeId);
+
+		for(int e = this.csrGraph.getEdgeStart(pSourceNodeId); e < edgeEnd; e++) {
+			if(this.csrGraph.getEdgeTarget(e) == pTargetNodeId) {
+				cost = Math.min(cost, this.csrGraph.getEdgeCost(e));
+			}
+		}
+
+		return cost;
+	}
+
+	/** @return true if both paths have the same first pLength + 1 nodes */
+	private static boolean hasSameRoot(int[] pPath, int[] pOtherPath, int pLength) {
+
+		for(int j = pLength; j >= 0; j--) {
+			if(pPath[j] != pOtherPath[j]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/** A path that was delivered by the iterator.
+	 *
+	 *  deviationIndex => index of the spur node at which it branched off its parent path
+	 *  prefixCosts => the costs from the source to each node of the path
+	 */
+	private static final class AcceptedPath {
+
+		private final int[] nodeIds;
+		private final int deviationIndex;
+		private final double[] prefixCosts;
+
+		private AcceptedPath(int[] pNodeIds, int pDeviationIndex, double[] pPrefixCosts) {
+
+			this.nodeIds = pNodeIds;
+			this.deviationIndex = pDeviationIndex;
+			this.prefixCosts = pPrefixCosts;
+		}
+	}
+
+	/** A path that was found by a spur search, but was not delivered yet. Candidates
+	 *  with the same costs are ordered by their number of nodes.
+	 */
+	private static final class Candidate implements Comparable<Candidate> {
+
+		private final int[] nodeIds;
+		private final int deviationIndex;
+		private final double cost;
+
+		private Candidate(int[] pNodeIds, int pDeviationIndex, double pCost) {
+
+			this.nodeIds = pNodeIds;
+			this.deviationIndex = pDeviationIndex;
+			this.cost = pCost;
+		}
+
+		@Override
+		public int compareTo(Candidate pOther) {
+
+			int result = Double.compare(this.cost, pOther.cost);
+
+			return result != 0 ? result : Integer.compare(this.nodeIds.length, pOther.nodeIds.length);
+		}
+	}
+
+	/** Key to find paths with the same nodes in a hash set. */
+	private static final class PathKey {
+
+		private final int[] nodeIds;
+		private final int hash;
+
+		private PathKey(int[] pNodeIds) {
+
+			this.nodeIds = pNodeIds;
+			this.hash = Arrays.hashCode(pNodeIds);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object pObject) {
+			return pObject instanceof PathKey && Arrays.equals(this.nodeIds, ((PathKey) pObject).nodeIds);
+		}
+	}
+
+}
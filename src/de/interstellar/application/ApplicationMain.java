@@ -2,17 +2,18 @@ package de.interstellar.application;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.LinkedList;
 
-import org.json.JSONObject;
-
 import de.interstellar.algorithm.ShortestPathAlgorithm;
 import de.interstellar.algorithm.ShortestPathResult;
-import de.interstellar.model.data.JSONDataProvider;
-import de.interstellar.model.data.JSONParser;
+import de.interstellar.batch.BatchQueryRunner;
+import de.interstellar.metrics.SearchMetrics;
 import de.interstellar.model.graph.Graph;
-import de.interstellar.model.graph.GraphBuilder;
 import de.interstellar.model.graph.Node;
+import de.interstellar.server.RouteServer;
 
 
 /** This class represents the main entry point of the Application.
@@ -27,17 +28,24 @@ public class ApplicationMain {
 	
 	public static void main(String[] args) throws MalformedURLException, IOException {
 		
-		//Receive the data
-		JSONDataProvider dataProvider = new JSONDataProvider();
-		String data = dataProvider.retrieveDataFromUrl("https://www.get-in-it.de/imgs/it/codingCompetition/graph/generatedGraph.json");
+		//Server mode: the graph is loaded once and the queries are answered over HTTP
+		if(args.length > 0 && args[0].equals("--server")) {
+			
+			RouteServer.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
 		
-		//Parse the data
-		JSONParser parser = new JSONParser();
-		JSONObject jsonData = parser.createJSONObject(data);
+		//Batch mode: the graph is loaded once and the queries are read from a file or stdin
+		if(args.length > 0 && args[0].equals("--batch")) {
+			
+			BatchQueryRunner.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
 		
-		//Create a graph out of the given data
-		GraphBuilder graphBuilder = new GraphBuilder();
-		Graph g = graphBuilder.createGraph(jsonData);
+		//An optional snapshot file (first argument) is loaded instead of the download.
+		//If it does not exist yet, it is created after the download.
+		Path snapshotPath = args.length > 0 ? Paths.get(args[0]) : null;
+		Graph g = new GraphLoader().load(snapshotPath);
 		
 		//Calculate the shortest distance between the source node and the target node
 		ShortestPathAlgorithm sp = new ShortestPathAlgorithm(g,"Erde","b3-r7-r4nd7");
@@ -76,5 +84,11 @@ public class ApplicationMain {
 			System.out.println("Kein Ergebnis ermittelbar. Der Startknoten existiert nicht");
 		
 		}
+		
+		//With -Dinterstellar.metrics=true the timings of the load and of the query are printed
+		if(SearchMetrics.getInstance().isEnabled()) {
+			System.out.println("");
+			System.out.print(SearchMetrics.getInstance().dump());
+		}
 	}
 }
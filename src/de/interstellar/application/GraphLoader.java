@@ -0,0 +1,128 @@
+package de.interstellar.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import de.interstellar.metrics.SearchMetrics;
+import de.interstellar.model.data.GraphSnapshotReader;
+import de.interstellar.model.data.GraphSnapshotWriter;
+import de.interstellar.model.data.JSONDataProvider;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.GraphStorage;
+
+/** This class loads the graph of the challenge, either out of a snapshot file or
+ *  by downloading the JSON data.
+ *
+ *  A graph that is created out of JSON data is kept in the given storage (see
+ *  GraphStorage). A snapshot is always read from the mapped file.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphLoader {
+
+	public static final String DATA_URL = "https://www.get-in-it.de/imgs/it/codingCompetition/graph/generatedGraph.json";
+
+	private final GraphStorage storage;
+
+	public GraphLoader() {
+
+		this(GraphStorage.HEAP);
+	}
+
+	/** @param pStorage => where the graphs that are created out of JSON data are kept */
+	public GraphLoader(GraphStorage pStorage) {
+
+		this.storage = pStorage;
+	}
+
+	/** This function loads the graph. If a snapshot file is given and exists, it is
+	 *  loaded instead of the download. If it does not exist yet, it is created after
+	 *  the download.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSnapshotPath => path of the snapshot file, NULL to always download the data
+	 * @return the loaded graph
+	 * @throws IOException if the data can not be read
+	 */
+	public Graph load(Path pSnapshotPath) throws IOException {
+
+		long startTime = SearchMetrics.getInstance().startTimer();
+
+		if(pSnapshotPath != null && Files.exists(pSnapshotPath)) {
+			Graph g = new GraphSnapshotReader().read(pSnapshotPath);
+			SearchMetrics.getInstance().recordLoad(startTime);
+			return g;
+		}
+
+		//Receive the data and create a graph out of it. The data is processed while it
+		//is received, so the whole JSON document never needs to be in memory.
+		JSONDataProvider dataProvider = new JSONDataProvider();
+		GraphBuilder graphBuilder = new GraphBuilder(this.storage);
+		Graph g;
+
+		try(InputStream data = dataProvider.openDataStream(DATA_URL)) {
+			g = graphBuilder.createGraph(data);
+		}
+
+		SearchMetrics.getInstance().recordLoad(startTime);
+
+		if(pSnapshotPath != null) {
+			new GraphSnapshotWriter().write(g, pSnapshotPath);
+		}
+
+		return g;
+	}
+
+	/** This function loads the graph from the given source, which can be
+	 *
+	 *  	- an URL (http:// or https://) of JSON data
+	 *  	- a snapshot file (see GraphSnapshotWriter)
+	 *  	- a file with JSON data
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSource => the URL or the path of the file
+	 * @return the loaded graph
+	 * @throws IOException if the data can not be read
+	 */
+	public Graph loadFrom(String pSource) throws IOException {
+
+		long startTime = SearchMetrics.getInstance().startTimer();
+		Graph g;
+
+		if(pSource.startsWith("http://") || pSource.startsWith("https://")) {
+
+			try(InputStream data = new JSONDataProvider().openDataStream(pSource)) {
+				g = new GraphBuilder(this.storage).createGraph(data);
+			}
+
+		} else {
+
+			Path path = Paths.get(pSource);
+
+			if(GraphSnapshotReader.isSnapshot(path)) {
+				g = new GraphSnapshotReader().read(path);
+			} else {
+				try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+					g = new GraphBuilder(this.storage).createGraph(channel);
+				}
+			}
+		}
+
+		SearchMetrics.getInstance().recordLoad(startTime);
+
+		return g;
+	}
+
+}
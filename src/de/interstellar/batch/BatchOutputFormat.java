@@ -0,0 +1,147 @@
+package de.interstellar.batch;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import de.interstellar.algorithm.ShortestPathResult;
+
+/** The formats in which the BatchQueryRunner writes its results, one line per query:
+ *
+ *  	- CSV: from,to,status,totalCost,path with a header line. The nodes of the path
+ *  	  are separated by '|', fields with a comma, quote or line break are quoted.
+ *  	- NDJSON: one JSON object per line with the members from, to, status, totalCost
+ *  	  and path (an array of node names).
+ *
+ *  The status is one of STATUS_OK, STATUS_UNREACHABLE, STATUS_UNKNOWN_NODE and
+ *  STATUS_INVALID_LINE. Without a path (status not ok) totalCost is empty or null.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public enum BatchOutputFormat {
+
+	CSV {
+		@Override
+		void writeHeader(Writer pWriter) throws IOException {
+			pWriter.write("from,to,status,totalCost,path\n");
+		}
+
+		@Override
+		void writeResult(Writer pWriter, String pFrom, String pTo, String pStatus, ShortestPathResult pResult,
+				boolean pIncludePath) throws IOException {
+
+			StringBuilder line = new StringBuilder();
+
+			appendField(line, pFrom).append(',');
+			appendField(line, pTo).append(',');
+			line.append(pStatus).append(',');
+
+			boolean ok = STATUS_OK.equals(pStatus);
+
+			if(ok) {
+				line.append(pResult.getTotalCost());
+			}
+
+			line.append(',');
+
+			if(ok && pIncludePath) {
+
+				StringBuilder path = new StringBuilder();
+
+				for(String name: pResult.getPath().getNodeNames()) {
+					if(path.length() > 0) {
+						path.append('|');
+					}
+					path.append(name);
+				}
+
+				appendField(line, path.toString());
+			}
+
+			pWriter.write(line.append('\n').toString());
+		}
+	},
+
+	NDJSON {
+		@Override
+		void writeHeader(Writer pWriter) {
+			//NDJSON has no header
+		}
+
+		@Override
+		void writeResult(Writer pWriter, String pFrom, String pTo, String pStatus, ShortestPathResult pResult,
+				boolean pIncludePath) throws IOException {
+
+			JSONObject json = new JSONObject();
+			boolean ok = STATUS_OK.equals(pStatus);
+
+			json.put("from", pFrom == null ? JSONObject.NULL : pFrom);
+			json.put("to", pTo == null ? JSONObject.NULL : pTo);
+			json.put("status", pStatus);
+			json.put("totalCost", ok ? pResult.getTotalCost() : JSONObject.NULL);
+
+			if(pIncludePath) {
+
+				JSONArray path = new JSONArray();
+
+				if(ok) {
+					for(String name: pResult.getPath().getNodeNames()) {
+						path.put(name);
+					}
+				}
+
+				json.put("path", path);
+			}
+
+			pWriter.write(json.toString());
+			pWriter.write('\n');
+		}
+	};
+
+	public static final String STATUS_OK = "ok";
+	public static final String STATUS_UNREACHABLE = "unreachable";
+	public static final String STATUS_UNKNOWN_NODE = "unknown_node";
+	public static final String STATUS_INVALID_LINE = "invalid_line";
+
+	abstract void writeHeader(Writer pWriter) throws IOException;
+
+	/** This function writes the result of one query.
+	 *
+	 * @param pWriter => the output
+	 * @param pFrom => name of the source node, NULL for an invalid line
+	 * @param pTo => name of the target node, NULL for an invalid line
+	 * @param pStatus => the status of the query
+	 * @param pResult => the result of the query, only used for STATUS_OK
+	 * @param pIncludePath => true to write the nodes of the path
+	 */
+	abstract void writeResult(Writer pWriter, String pFrom, String pTo, String pStatus, ShortestPathResult pResult,
+			boolean pIncludePath) throws IOException;
+
+	/** @return the status of the given result (STATUS_OK, STATUS_UNREACHABLE or STATUS_UNKNOWN_NODE) */
+	static String getStatus(ShortestPathResult pResult) {
+
+		if(pResult == null) {
+			return STATUS_UNKNOWN_NODE;
+		}
+
+		return pResult.getTotalCost() == Double.MAX_VALUE ? STATUS_UNREACHABLE : STATUS_OK;
+	}
+
+	private static StringBuilder appendField(StringBuilder pLine, String pValue) {
+
+		if(pValue == null) {
+			return pLine;
+		}
+
+		if(pValue.indexOf(',') < 0 && pValue.indexOf('"') < 0 && pValue.indexOf('\n') < 0 && pValue.indexOf('\r') < 0) {
+			return pLine.append(pValue);
+		}
+
+		return pLine.append('"').append(pValue.replace("\"", "\"\"")).append('"');
+	}
+
+}
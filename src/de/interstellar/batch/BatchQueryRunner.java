@@ -0,0 +1,350 @@
+package de.interstellar.batch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import de.interstellar.algorithm.ShortestPathQuery;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ShortestPathService;
+import de.interstellar.application.GraphLoader;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphStorage;
+
+/** This class answers a batch of shortest path queries with one loaded graph, so the
+ *  start of the JVM and the loading of the graph are only paid once.
+ *
+ *  The input has one query per line: the name of the source and of the target node,
+ *  separated by a comma or a tab. Names with a comma or '"' are quoted like in the CSV
+ *  output (see parseLine), so the output can be read again. Empty lines, lines starting with '#' and a header
+ *  line "from,to" are skipped. The results are written in the same order as the
+ *  queries (see BatchOutputFormat).
+ *
+ *  The queries run in parallel on the ShortestPathService, but at most windowSize
+ *  queries are in progress at the same time. If the oldest query of the window is not
+ *  finished yet, reading waits for it, and if the output is written slower than the
+ *  queries are answered, reading waits for the output. So the memory stays bounded,
+ *  however big the input is.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class BatchQueryRunner {
+
+	public static final int DEFAULT_WINDOW_SIZE = 4096;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final ShortestPathService service;
+	private final BatchOutputFormat format;
+	private final int windowSize;
+	private final boolean includePath;
+
+	/** Creates the runner.
+	 *
+	 * @param pService => the service that answers the queries
+	 * @param pFormat => the format of the results
+	 * @param pWindowSize => maximal number of queries in progress at the same time
+	 * @param pIncludePath => true to write the nodes of the paths, false for the costs only
+	 */
+	public BatchQueryRunner(ShortestPathService pService, BatchOutputFormat pFormat, int pWindowSize, boolean pIncludePath) {
+
+		if(pWindowSize < 1) {
+			throw new IllegalArgumentException("The window size has to be at least 1: " + pWindowSize);
+		}
+
+		this.service = pService;
+		this.format = pFormat;
+		this.windowSize = pWindowSize;
+		this.includePath = pIncludePath;
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		String graphSource = GraphLoader.DATA_URL;
+		String inputPath = "-";
+		String outputPath = "-";
+		BatchOutputFormat format = BatchOutputFormat.CSV;
+		int threads = Runtime.getRuntime().availableProcessors();
+		int windowSize = DEFAULT_WINDOW_SIZE;
+		boolean includePath = true;
+		GraphStorage storage = GraphStorage.HEAP;
+
+		try {
+			for(int i=0; i < args.length; i++) {
+
+				switch(args[i]) {
+					case "--graph":
+						graphSource = args[++i];
+						break;
+					case "--input":
+						inputPath = args[++i];
+						break;
+					case "--output":
+						outputPath = args[++i];
+						break;
+					case "--format":
+						format = BatchOutputFormat.valueOf(args[++i].toUpperCase(Locale.ROOT));
+						break;
+					case "--threads":
+						threads = Integer.parseInt(args[++i]);
+						break;
+					case "--window":
+						windowSize = Integer.parseInt(args[++i]);
+						break;
+					case "--no-path":
+						includePath = false;
+						break;
+					case "--off-heap":
+						storage = GraphStorage.OFF_HEAP;
+						break;
+					default:
+						throw new IllegalArgumentException("Unbekannte Option: " + args[i]);
+				}
+			}
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			System.err.println("Ungültige Argumente: " + e.getMessage());
+			System.err.println("Aufruf: --batch [--graph URL|Datei] [--input Datei|-] [--output Datei|-]"
+					+ " [--format csv|ndjson] [--threads N] [--window N] [--no-path] [--off-heap]");
+			return;
+		}
+
+		Graph g = new GraphLoader(storage).loadFrom(graphSource);
+		long start = System.nanoTime();
+		long count;
+
+		ForkJoinPool pool = new ForkJoinPool(threads);
+
+		try(ShortestPathService service = new ShortestPathService(g, pool);
+				Reader input = inputPath.equals("-")
+						? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+						: Files.newBufferedReader(Paths.get(inputPath), StandardCharsets.UTF_8);
+				Writer output = outputPath.equals("-")
+						? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+						: Files.newBufferedWriter(Paths.get(outputPath), StandardCharsets.UTF_8)) {
+
+			count = new BatchQueryRunner(service, format, windowSize, includePath).run(input, output);
+
+		} finally {
+			pool.shutdown();
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		//The results can be written to the standard output, so the summary goes to the error output
+		System.err.println(String.format(Locale.ROOT, "%d Anfragen in %.1f s beantwortet (%.0f pro Sekunde)",
+				count, seconds, count / Math.max(seconds, 1e-9)));
+	}
+
+	/** This function answers all queries of the input and writes the results to the output.
+	 *  Neither the input nor the output are closed, the output is flushed.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pInput => the queries, one per line
+	 * @param pOutput => receives the results in the order of the queries
+	 * @return the number of queries (without the skipped lines)
+	 * @throws IOException if the input can not be read or the output can not be written
+	 */
+	public long run(Reader pInput, Writer pOutput) throws IOException {
+
+		BufferedReader reader = pInput instanceof BufferedReader ? (BufferedReader) pInput : new BufferedReader(pInput, BUFFER_SIZE);
+		Writer writer = pOutput instanceof BufferedWriter ? pOutput : new BufferedWriter(pOutput, BUFFER_SIZE);
+
+		ArrayDeque<PendingQuery> window = new ArrayDeque<PendingQuery>(Math.min(this.windowSize, 1 << 16));
+		long count = 0;
+		boolean firstLine = true;
+		String line;
+
+		this.format.writeHeader(writer);
+
+		while((line = reader.readLine()) != null) {
+
+			line = line.trim();
+
+			if(line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+
+			if(firstLine) {
+
+				firstLine = false;
+
+				if(line.equalsIgnoreCase("from,to")) {
+					continue;
+				}
+			}
+
+			window.add(submit(line));
+			count++;
+
+			//The oldest query has to be written first, so reading waits until it is finished
+			if(window.size() >= this.windowSize) {
+				write(writer, window.poll());
+			}
+
+			//Finished queries are written right away, so the output does not come in bursts
+			while(!window.isEmpty() && window.peek().result.isDone()) {
+				write(writer, window.poll());
+			}
+		}
+
+		while(!window.isEmpty()) {
+			write(writer, window.poll());
+		}
+
+		writer.flush();
+
+		return count;
+	}
+
+	private PendingQuery submit(String pLine) {
+
+		String[] names = parseLine(pLine);
+
+		if(names == null) {
+			return new PendingQuery(null, null, null);
+		}
+
+		return new PendingQuery(names[0], names[1], this.service.submit(new ShortestPathQuery(names[0], names[1])));
+	}
+
+	/** This function splits a line into the name of the source and of the target node. The
+	 *  names are separated by the first comma, or by the first tab if the line has no comma.
+	 *  A name can be quoted like in the CSV output (see BatchOutputFormat): it is enclosed in
+	 *  '"' and a '"' in the name is doubled, so it can contain commas and tabs. A name with a
+	 *  line break can not be read, as every line is a query.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pLine => the line
+	 * @return the two names, NULL if the line has no separator or a quoted name is malformed
+	 */
+	private static String[] parseLine(String pLine) {
+
+		String from;
+		int separator;
+		int start = skipSpaces(pLine, 0);
+
+		if(start < pLine.length() && pLine.charAt(start) == '"') {
+
+			StringBuilder name = new StringBuilder();
+			separator = skipSpaces(pLine, readQuoted(pLine, start, name));
+
+			if(separator < 0 || separator >= pLine.length() || (pLine.charAt(separator) != ',' && pLine.charAt(separator) != '\t')) {
+				return null;
+			}
+
+			from = name.toString();
+		} else {
+
+			separator = pLine.indexOf(',');
+
+			if(separator < 0) {
+				separator = pLine.indexOf('\t');
+			}
+
+			if(separator < 0) {
+				return null;
+			}
+
+			from = pLine.substring(0, separator).trim();
+		}
+
+		String to;
+		start = skipSpaces(pLine, separator + 1);
+
+		if(start < pLine.length() && pLine.charAt(start) == '"') {
+
+			StringBuilder name = new StringBuilder();
+			int end = readQuoted(pLine, start, name);
+
+			//Nothing but spaces may follow the closing quote
+			if(end < 0 || !pLine.substring(end).trim().isEmpty()) {
+				return null;
+			}
+
+			to = name.toString();
+		} else {
+			to = pLine.substring(separator + 1).trim();
+		}
+
+		return new String[] {from, to};
+	}
+
+	/** @return the position after the closing quote, -1 if the quote is not closed */
+	private static int readQuoted(String pLine, int pStart, StringBuilder pName) {
+
+		for(int i = pStart + 1; i < pLine.length(); i++) {
+
+			char c = pLine.charAt(i);
+
+			if(c != '"') {
+				pName.append(c);
+			} else if(i + 1 < pLine.length() && pLine.charAt(i + 1) == '"') {
+				pName.append('"');
+				i++;
+			} else {
+				return i + 1;
+			}
+		}
+
+		return -1;
+	}
+
+	/** @return the position of the first character that is not a space, -1 for -1 */
+	private static int skipSpaces(String pLine, int pStart) {
+
+		int i = pStart;
+
+		while(i >= 0 && i < pLine.length() && pLine.charAt(i) == ' ') {
+			i++;
+		}
+
+		return i;
+	}
+
+	private void write(Writer pWriter, PendingQuery pQuery) throws IOException {
+
+		if(pQuery.from == null) {
+			this.format.writeResult(pWriter, null, null, BatchOutputFormat.STATUS_INVALID_LINE, null, this.includePath);
+			return;
+		}
+
+		ShortestPathResult result = pQuery.result.join();
+
+		this.format.writeResult(pWriter, pQuery.from, pQuery.to, BatchOutputFormat.getStatus(result), result, this.includePath);
+	}
+
+	/** A query whose result was not written yet. For an invalid line the names are NULL. */
+	private static final class PendingQuery {
+
+		private static final CompletableFuture<ShortestPathResult> NO_RESULT = CompletableFuture.completedFuture(null);
+
+		private final String from;
+		private final String to;
+		private final CompletableFuture<ShortestPathResult> result;
+
+		private PendingQuery(String pFrom, String pTo, CompletableFuture<ShortestPathResult> pResult) {
+
+			this.from = pFrom;
+			this.to = pTo;
+			this.result = pResult == null ? NO_RESULT : pResult;
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+package de.interstellar.benchmark;
+
+import java.util.Random;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.alt.AltShortestPathAlgorithm;
+import de.interstellar.algorithm.alt.LandmarkIndex;
+import de.interstellar.algorithm.alt.LandmarkSelection;
+import de.interstellar.model.graph.Graph;
+
+/** Benchmark for the ALT algorithm. For different numbers of landmarks and each
+ *  selection strategy it reports the preprocessing time, the memory needed per
+ *  landmark and the settled nodes and speedup of the queries compared to the
+ *  point-to-point search of the ShortestPathAlgorithm.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class AltBenchmark {
+
+	private static final int NODE_COUNT = 1000000;
+	private static final double EDGES_PER_NODE = 1.5;
+	private static final int[] LANDMARK_COUNTS = {4, 8, 16};
+	private static final int QUERIES = 50;
+
+	public static void main(String[] args) {
+
+		Graph graph = SyntheticGraphFactory.createRandomGraph(NODE_COUNT, (int) (NODE_COUNT * EDGES_PER_NODE), 42);
+
+		//Reference: plain Dijkstra with early exit
+		long[] reference = runQueries(graph, null);
+		System.out.println("dijkstra\tavg settled " + reference[0] + "\tavg ms " + String.format("%.3f", reference[1] / 1e6));
+		System.out.println("landmarks\tselection\tpreprocessing ms\tbytes/landmark\tavg settled\tavg ms\tspeedup");
+
+		for(int landmarkCount: LANDMARK_COUNTS) {
+			for(LandmarkSelection selection: LandmarkSelection.values()) {
+
+				LandmarkIndex index = new LandmarkIndex(graph, landmarkCount, selection, 7);
+				long[] alt = runQueries(graph, index);
+
+				System.out.println(landmarkCount + "\t" + selection + "\t" + (index.getPreprocessingNanos() / 1000000) + "\t"
+						+ index.getBytesPerLandmark() + "\t" + alt[0] + "\t" + String.format("%.3f", alt[1] / 1e6) + "\t"
+						+ String.format("%.1f", (double) reference[1] / alt[1]));
+			}
+		}
+	}
+
+	/** Runs the same random queries from "Erde" for each configuration.
+	 *
+	 * @return average settled nodes and average nanoseconds per query
+	 */
+	private static long[] runQueries(Graph pGraph, LandmarkIndex pIndex) {
+
+		Random random = new Random(1);
+		long settled = 0;
+		long nanos = 0;
+
+		for(int i = -QUERIES / 5; i < QUERIES; i++) {
+
+			String target = pGraph.getCsrGraph().getNodeName(random.nextInt(NODE_COUNT));
+
+			long start = System.nanoTime();
+			ShortestPathResult result;
+
+			if(pIndex == null) {
+				result = new ShortestPathAlgorithm(pGraph, "Erde", target).calculateShortestDistance();
+			} else {
+				result = new AltShortestPathAlgorithm(pGraph, pIndex, "Erde", target).calculateShortestDistance();
+			}
+
+			long duration = System.nanoTime() - start;
+
+			//The first queries are only used to warm up
+			if(i >= 0) {
+				settled += result.getSettledNodeCount();
+				nanos += duration;
+			}
+		}
+
+		return new long[] {settled / QUERIES, nanos / QUERIES};
+	}
+
+}
@@ -0,0 +1,99 @@
+package de.interstellar.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathTree;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.EdgeCostProfile;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Benchmark that compares the bucket frontiers (DIAL, RADIX_HEAP) with the heaps for
+ *  different distributions of the edge costs: small and big whole numbers, costs with
+ *  two decimals and arbitrary doubles (where both bucket frontiers fall back to the
+ *  binary heap). Each run is a one-to-all search on a random graph, the number of
+ *  nodes can be given as first argument.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class BucketFrontierBenchmark {
+
+	private static int nodeCount = 300000;
+	private static final double EDGES_PER_NODE = 2;
+	private static final int RUNS = 5;
+
+	private static final FrontierType[] TYPES = {FrontierType.BINARY_HEAP, FrontierType.QUATERNARY_HEAP,
+			FrontierType.DIAL, FrontierType.RADIX_HEAP, FrontierType.AUTO};
+
+	public static void main(String[] args) {
+
+		if(args.length > 0) {
+			nodeCount = Integer.parseInt(args[0]);
+		}
+
+		Random random = new Random(42);
+
+		System.out.println("costs\tfrontier\tused\tmedian ms");
+
+		run("int 1-10", () -> 1 + random.nextInt(10));
+		run("int 1-1000", () -> 1 + random.nextInt(1000));
+		run("int 1-10^6", () -> 1 + random.nextInt(1000000));
+		run("0.01-10.00", () -> (1 + random.nextInt(1000)) / 100.0);
+		run("double 0-1", random::nextDouble);
+	}
+
+	private static void run(String pName, DoubleSupplier pCosts) {
+
+		Graph g = createGraph(pCosts);
+		EdgeCostProfile profile = g.getEdgeCostProfile();
+
+		for(FrontierType type: TYPES) {
+
+			SearchState state = new SearchState(nodeCount, type, profile);
+			ShortestPathTree tree = new ShortestPathTree(g.getCsrGraph());
+			ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(g, "Erde", null);
+			double[] times = new double[RUNS];
+
+			for(int run = -1; run < RUNS; run++) {
+
+				long start = System.nanoTime();
+				algorithm.calculateShortestPathTree(state, tree);
+
+				if(run >= 0) {
+					times[run] = (System.nanoTime() - start) / 1e6;
+				}
+			}
+
+			Arrays.sort(times);
+			System.out.println(pName + "\t" + type + "\t" + type.resolve(profile, nodeCount) + "\t" + String.format("%.1f", times[RUNS / 2]));
+		}
+	}
+
+	private static Graph createGraph(DoubleSupplier pCosts) {
+
+		Random random = new Random(7);
+		GraphBuilder builder = new GraphBuilder();
+
+		builder.addNode("Erde");
+		for(int i=1; i < nodeCount; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		for(int i=1; i < nodeCount; i++) {
+			builder.addEdge(random.nextInt(i), i, pCosts.getAsDouble());
+		}
+
+		for(int i = nodeCount - 1; i < nodeCount * EDGES_PER_NODE; i++) {
+			builder.addEdge(random.nextInt(nodeCount), random.nextInt(nodeCount), pCosts.getAsDouble());
+		}
+
+		return builder.buildGraph();
+	}
+
+}
@@ -0,0 +1,91 @@
+package de.interstellar.benchmark;
+
+import java.util.Random;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ch.ChShortestPathAlgorithm;
+import de.interstellar.algorithm.ch.ContractionHierarchy;
+import de.interstellar.algorithm.ch.ContractionHierarchyBuilder;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.Graph;
+
+/** Benchmark for the Contraction Hierarchy. It reports the preprocessing time, the
+ *  number of shortcuts, the size of the core and the settled nodes and query times
+ *  compared to the point-to-point search of the ShortestPathAlgorithm.
+ *
+ *  Random graphs have no hierarchy, so a big part of them ends up in the core. Grid
+ *  graphs show how the hierarchy behaves on graphs that are closer to road networks.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ChBenchmark {
+
+	private static final int[] NODE_COUNTS = {1000, 10000, 100000};
+	private static final int[] GRID_WIDTHS = {30, 100, 300};
+	private static final double EDGES_PER_NODE = 1.5;
+	private static final int QUERIES = 200;
+
+	public static void main(String[] args) {
+
+		System.out.println("graph\tnodes\tpreprocessing ms\tshortcuts\tcore\tdijkstra settled\tdijkstra us\tch settled\tch us\tspeedup");
+
+		for(int nodeCount: NODE_COUNTS) {
+			runQueries("random", SyntheticGraphFactory.createRandomGraph(nodeCount, (int) (nodeCount * EDGES_PER_NODE), 42));
+		}
+
+		for(int width: GRID_WIDTHS) {
+			runQueries("grid", SyntheticGraphFactory.createGridGraph(width, 42));
+		}
+	}
+
+	/** Creates the hierarchy for the given graph and compares random queries with the
+	 *  ShortestPathAlgorithm.
+	 */
+	private static void runQueries(String pGraphType, Graph pGraph) {
+
+		int nodeCount = pGraph.getCsrGraph().getNodeCount();
+		ContractionHierarchy hierarchy = new ContractionHierarchyBuilder().createHierarchy(pGraph);
+
+		SearchState forwardState = new SearchState(nodeCount, FrontierType.BINARY_HEAP);
+		SearchState backwardState = new SearchState(nodeCount, FrontierType.BINARY_HEAP);
+
+		long dijkstraSettled = 0;
+		long dijkstraNanos = 0;
+		long chSettled = 0;
+		long chNanos = 0;
+		Random random = new Random(1);
+
+		for(int i = -QUERIES / 5; i < QUERIES; i++) {
+
+			String source = pGraph.getCsrGraph().getNodeName(random.nextInt(nodeCount));
+			String target = pGraph.getCsrGraph().getNodeName(random.nextInt(nodeCount));
+
+			long start = System.nanoTime();
+			ShortestPathResult expected = new ShortestPathAlgorithm(pGraph, source, target).calculateShortestDistance(forwardState);
+			long dijkstraDuration = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			ShortestPathResult result = new ChShortestPathAlgorithm(pGraph, hierarchy, source, target)
+					.calculateShortestDistance(forwardState, backwardState);
+			long chDuration = System.nanoTime() - start;
+
+			//The first queries are only used to warm up
+			if(i >= 0) {
+				dijkstraSettled += expected.getSettledNodeCount();
+				dijkstraNanos += dijkstraDuration;
+				chSettled += result.getSettledNodeCount();
+				chNanos += chDuration;
+			}
+		}
+
+		System.out.println(pGraphType + "\t" + nodeCount + "\t" + (hierarchy.getPreprocessingNanos() / 1000000) + "\t"
+				+ hierarchy.getShortcutCount() + "\t" + hierarchy.getCoreNodeCount() + "\t" + (dijkstraSettled / QUERIES) + "\t"
+				+ (dijkstraNanos / 1000 / QUERIES) + "\t" + (chSettled / QUERIES) + "\t" + (chNanos / 1000 / QUERIES) + "\t"
+				+ String.format("%.1f", (double) dijkstraNanos / chNanos));
+	}
+
+}
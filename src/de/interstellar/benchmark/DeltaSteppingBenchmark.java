@@ -0,0 +1,89 @@
+package de.interstellar.benchmark;
+
+import de.interstellar.algorithm.DeltaSteppingAlgorithm;
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathTree;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.Graph;
+
+/** Benchmark for the DeltaSteppingAlgorithm: a one-to-all search with 1, 2, 4, ... threads
+ *  (up to the number of processors) compared to Dijkstra's algorithm in one thread.
+ *  Afterwards the estimated delta is compared to smaller and bigger deltas.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DeltaSteppingBenchmark {
+
+	private static final int NODE_COUNT = 500000;
+	private static final double EDGES_PER_NODE = 2;
+	private static final int GRID_WIDTH = 700;
+	private static final int RUNS = 5;
+	private static final double[] DELTA_FACTORS = {0.1, 0.3, 1, 3, 10};
+
+	public static void main(String[] args) {
+
+		int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+		run("random", SyntheticGraphFactory.createRandomGraph(NODE_COUNT, (int) (NODE_COUNT * EDGES_PER_NODE), 42), maxThreads);
+		run("grid", SyntheticGraphFactory.createGridGraph(GRID_WIDTH, 42), maxThreads);
+	}
+
+	private static void run(String pName, Graph pGraph, int pMaxThreads) {
+
+		SearchState state = new SearchState(pGraph.getCsrGraph().getNodeCount(), FrontierType.BINARY_HEAP);
+		ShortestPathTree tree = new ShortestPathTree(pGraph.getCsrGraph());
+		ShortestPathAlgorithm dijkstra = new ShortestPathAlgorithm(pGraph, "Erde", null);
+
+		dijkstra.calculateShortestPathTree(state, tree);
+
+		long start = System.nanoTime();
+		for(int i=0; i < RUNS; i++) {
+			dijkstra.calculateShortestPathTree(state, tree);
+		}
+		double dijkstraMillis = (System.nanoTime() - start) / 1e6 / RUNS;
+
+		System.out.println(pName + ": Dijkstra " + String.format("%.1f", dijkstraMillis) + " ms");
+		System.out.println("threads\tdelta\tms\tspeedup");
+
+		for(int threads = 1; threads <= pMaxThreads; threads *= 2) {
+
+			try(DeltaSteppingAlgorithm algorithm = new DeltaSteppingAlgorithm(pGraph, threads)) {
+
+				double millis = measure(algorithm);
+				System.out.println(threads + "\t" + String.format("%.4f", algorithm.getDelta()) + "\t"
+						+ String.format("%.1f", millis) + "\t" + String.format("%.2f", dijkstraMillis / millis));
+			}
+		}
+
+		//Estimated delta compared to other deltas, with all threads
+		try(DeltaSteppingAlgorithm algorithm = new DeltaSteppingAlgorithm(pGraph, pMaxThreads)) {
+
+			double estimated = algorithm.getDelta();
+
+			for(double factor: DELTA_FACTORS) {
+
+				algorithm.setDelta(estimated * factor);
+				double millis = measure(algorithm);
+				System.out.println(pMaxThreads + "\t" + String.format("%.4f", algorithm.getDelta()) + "\t"
+						+ String.format("%.1f", millis) + "\t" + String.format("%.2f", dijkstraMillis / millis)
+						+ (factor == 1 ? "\t(estimated)" : ""));
+			}
+		}
+	}
+
+	private static double measure(DeltaSteppingAlgorithm pAlgorithm) {
+
+		pAlgorithm.calculateShortestPathTree("Erde");
+
+		long start = System.nanoTime();
+		for(int i=0; i < RUNS; i++) {
+			pAlgorithm.calculateShortestPathTree("Erde");
+		}
+
+		return (System.nanoTime() - start) / 1e6 / RUNS;
+	}
+
+}
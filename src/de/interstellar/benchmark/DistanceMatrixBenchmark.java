@@ -0,0 +1,82 @@
+package de.interstellar.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import de.interstellar.algorithm.DistanceMatrixCalculator;
+import de.interstellar.algorithm.ShortestPathQuery;
+import de.interstellar.algorithm.ShortestPathService;
+import de.interstellar.model.graph.Graph;
+
+/** Benchmark that compares the DistanceMatrixCalculator with one point-to-point
+ *  query per pair of nodes (run in parallel by the ShortestPathService).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DistanceMatrixBenchmark {
+
+	private static final int NODE_COUNT = 100000;
+	private static final double EDGES_PER_NODE = 1.5;
+	private static final int[] MATRIX_SIZES = {10, 25, 50};
+
+	public static void main(String[] args) {
+
+		Graph graph = SyntheticGraphFactory.createRandomGraph(NODE_COUNT, (int) (NODE_COUNT * EDGES_PER_NODE), 42);
+
+		System.out.println("size\tpairwise ms\tmatrix ms\tspeedup");
+
+		try(ShortestPathService service = new ShortestPathService(graph);
+				DistanceMatrixCalculator calculator = new DistanceMatrixCalculator(graph)) {
+
+			for(int size: MATRIX_SIZES) {
+
+				List<String> sources = randomNodeNames(graph, size, new Random(size));
+				List<String> targets = randomNodeNames(graph, size, new Random(size + 1));
+
+				//Warm up
+				runPairwise(service, sources.subList(0, 2), targets);
+				calculator.calculate(sources.subList(0, 2), targets);
+
+				long start = System.nanoTime();
+				runPairwise(service, sources, targets);
+				long pairwiseNanos = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				calculator.calculate(sources, targets);
+				long matrixNanos = System.nanoTime() - start;
+
+				System.out.println(size + "\t" + String.format("%.1f", pairwiseNanos / 1e6) + "\t"
+						+ String.format("%.1f", matrixNanos / 1e6) + "\t"
+						+ String.format("%.1f", (double) pairwiseNanos / matrixNanos));
+			}
+		}
+	}
+
+	private static void runPairwise(ShortestPathService pService, List<String> pSources, List<String> pTargets) {
+
+		List<ShortestPathQuery> queries = new ArrayList<ShortestPathQuery>();
+
+		for(String source: pSources) {
+			for(String target: pTargets) {
+				queries.add(new ShortestPathQuery(source, target));
+			}
+		}
+
+		pService.calculateAll(queries);
+	}
+
+	private static List<String> randomNodeNames(Graph pGraph, int pCount, Random pRandom) {
+
+		List<String> names = new ArrayList<String>(pCount);
+
+		for(int i=0; i < pCount; i++) {
+			names.add(pGraph.getCsrGraph().getNodeName(pRandom.nextInt(NODE_COUNT)));
+		}
+
+		return names;
+	}
+
+}
@@ -0,0 +1,111 @@
+package de.interstellar.benchmark;
+
+import java.util.Random;
+
+import de.interstellar.algorithm.DynamicShortestPathTree;
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathTree;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphUpdate;
+
+/** Benchmark that compares the repair of a DynamicShortestPathTree with a new search
+ *  from the source after every update. Each update changes the costs of random edges
+ *  by up to +/- 50 percent, which is how the travel hazards change.
+ *
+ *  The undirected grid shares its edges with its reverse graph, the directed grid has a
+ *  separate reverse graph whose costs are patched by every update as well.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DynamicUpdateBenchmark {
+
+	private static final int GRID_WIDTH = 400;
+	private static final int UPDATE_COUNT = 200;
+	private static final int[] CHANGES_PER_UPDATE = {1, 10, 100};
+
+	public static void main(String[] args) {
+
+		System.out.println("graph\tchanges\tupdate ms\trepair ms\trepair nodes\tsearch ms\tspeedup");
+
+		run("grid", SyntheticGraphFactory.createGridGraph(GRID_WIDTH, 42));
+		run("directed", SyntheticGraphFactory.createDirectedGridGraph(GRID_WIDTH, 42));
+	}
+
+	private static void run(String pName, Graph pInitial) {
+
+		int nodeCount = pInitial.getCsrGraph().getNodeCount();
+
+		for(int changes: CHANGES_PER_UPDATE) {
+
+			Random random = new Random(changes);
+			Graph g = pInitial;
+
+			DynamicShortestPathTree tree = DynamicShortestPathTree.create(g, "Erde");
+			SearchState state = new SearchState(nodeCount, FrontierType.BINARY_HEAP);
+			ShortestPathTree searchTree = new ShortestPathTree(g.getCsrGraph());
+
+			long updateNanos = 0;
+			long repairNanos = 0;
+			long searchNanos = 0;
+			long repairNodes = 0;
+
+			for(int u=0; u < UPDATE_COUNT; u++) {
+
+				CsrGraph csrGraph = g.getCsrGraph();
+				GraphUpdate update = g.update();
+
+				for(int i=0; i < changes; i++) {
+
+					int edge = random.nextInt(csrGraph.getEdgeCount());
+					int source = findSource(csrGraph, edge);
+
+					update.setEdgeCost(source, csrGraph.getEdgeTarget(edge), csrGraph.getEdgeCost(edge) * (0.5 + random.nextDouble()));
+				}
+
+				long start = System.nanoTime();
+				g = update.apply();
+				updateNanos += System.nanoTime() - start;
+
+				start = System.nanoTime();
+				repairNodes += tree.update(g, update.getChanges());
+				repairNanos += System.nanoTime() - start;
+
+				start = System.nanoTime();
+				new ShortestPathAlgorithm(g, "Erde", null).calculateShortestPathTree(state, searchTree);
+				searchNanos += System.nanoTime() - start;
+			}
+
+			System.out.println(pName + "\t" + changes + "\t" + String.format("%.3f", updateNanos / 1e6 / UPDATE_COUNT) + "\t"
+					+ String.format("%.3f", repairNanos / 1e6 / UPDATE_COUNT) + "\t"
+					+ repairNodes / UPDATE_COUNT + "\t"
+					+ String.format("%.3f", searchNanos / 1e6 / UPDATE_COUNT) + "\t"
+					+ String.format("%.1f", (double) searchNanos / repairNanos));
+		}
+	}
+
+	/** @return the node whose outgoing edges contain the given edge */
+	private static int findSource(CsrGraph pCsrGraph, int pEdge) {
+
+		int low = 0;
+		int high = pCsrGraph.getNodeCount() - 1;
+
+		while(low < high) {
+
+			int middle = (low + high + 1) >>> 1;
+
+			if(pCsrGraph.getEdgeStart(middle) <= pEdge) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		return low;
+	}
+
+}
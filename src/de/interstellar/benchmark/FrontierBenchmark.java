@@ -0,0 +1,77 @@
+package de.interstellar.benchmark;
+
+import java.util.Arrays;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.Graph;
+
+/** Benchmark that compares the different frontier implementations of the
+ *  ShortestPathAlgorithm. It measures a one-to-all query from "Erde" on random
+ *  graphs of different sizes. The smallest graph has the shape of the
+ *  generatedGraph.json of the challenge (1000 nodes, about 1.5 edges per node).
+ *
+ *  The linear scan is only measured on the smaller graphs, as it needs O(V^2) time.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class FrontierBenchmark {
+
+	private static final int[] NODE_COUNTS = {1000, 10000, 100000, 1000000};
+	private static final double EDGES_PER_NODE = 1.5;
+	private static final int LINEAR_SCAN_LIMIT = 20000;
+	private static final int RUNS = 5;
+
+	public static void main(String[] args) {
+
+		System.out.println("nodes\tedges\tfrontier\tmedian ms");
+
+		for(int nodeCount: NODE_COUNTS) {
+
+			int edgeCount = (int) (nodeCount * EDGES_PER_NODE);
+			Graph graph = SyntheticGraphFactory.createRandomGraph(nodeCount, edgeCount, 42);
+			String target = graph.getCsrGraph().getNodeName(nodeCount - 1);
+
+			for(FrontierType type: FrontierType.values()) {
+
+				if(type == FrontierType.LINEAR_SCAN && nodeCount > LINEAR_SCAN_LIMIT) {
+					System.out.println(nodeCount + "\t" + edgeCount + "\t" + type + "\tskipped");
+					continue;
+				}
+
+				double median = measure(graph, target, type);
+				System.out.println(nodeCount + "\t" + edgeCount + "\t" + type + "\t" + String.format("%.3f", median));
+			}
+		}
+	}
+
+	/** This function runs the query several times and returns the median runtime.
+	 *  The first run is a warm up and is not measured.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private static double measure(Graph pGraph, String pTarget, FrontierType pType) {
+
+		double[] times = new double[RUNS];
+
+		for(int run = -1; run < RUNS; run++) {
+
+			ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(pGraph, "Erde", pTarget, pType);
+
+			long start = System.nanoTime();
+			algorithm.calculateShortestDistance();
+			long duration = System.nanoTime() - start;
+
+			if(run >= 0) {
+				times[run] = duration / 1e6;
+			}
+		}
+
+		Arrays.sort(times);
+		return times[RUNS / 2];
+	}
+
+}
@@ -0,0 +1,115 @@
+package de.interstellar.benchmark;
+
+import java.util.Random;
+
+import de.interstellar.model.graph.ArrayCsrGraph;
+import de.interstellar.model.graph.DuplicateEdgePolicy;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Benchmark for building graphs out of big edge lists: the throughput (edges per second)
+ *  of ArrayCsrGraph.fromEdges with 1, 2, 4, ... parts (up to the number of processors)
+ *  and both DuplicateEdgePolicy values, and of the whole GraphBuilder with the same part
+ *  counts (addEdge, buildGraph with the index of the names and the components).
+ *
+ *  	- random: random edges between nodeCount nodes
+ *  	- hubs: a quarter of the edges start at one of 16 nodes and every tenth edge
+ *  	  repeats an earlier one with another cost
+ *
+ *  The number of edges can be given as first argument (by default 10000000) and the
+ *  maximal number of parts as second argument. The JVM needs enough heap for the edge list and the graph (e.g. -Xmx4g for 10000000 edges).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphBuildBenchmark {
+
+	private static final int EDGES_PER_NODE = 5;
+	private static final int HUB_COUNT = 16;
+	private static final int RUNS = 3;
+
+	public static void main(String[] args) {
+
+		int edgeCount = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+		int maxParts = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+		System.out.println(edgeCount + " undirected edges, " + Runtime.getRuntime().availableProcessors() + " processors");
+		System.out.println("input\tstep\tpolicy\tparts\tms\tedges/s");
+
+		run("random", edgeCount, false, maxParts);
+		run("hubs", edgeCount, true, maxParts);
+	}
+
+	private static void run(String pName, int pEdgeCount, boolean pHubs, int pMaxParts) {
+
+		Random random = new Random(42);
+		int nodeCount = pEdgeCount / EDGES_PER_NODE;
+		int[] sources = new int[pEdgeCount];
+		int[] targets = new int[pEdgeCount];
+		double[] costs = new double[pEdgeCount];
+
+		for(int i=0; i < pEdgeCount; i++) {
+
+			if(pHubs && i % 10 == 9) {
+				int earlier = random.nextInt(i);
+				sources[i] = sources[earlier];
+				targets[i] = targets[earlier];
+			} else {
+				sources[i] = pHubs && i % 4 == 0 ? random.nextInt(HUB_COUNT) : random.nextInt(nodeCount);
+				targets[i] = random.nextInt(nodeCount);
+			}
+
+			costs[i] = random.nextDouble();
+		}
+
+		String[] names = new String[nodeCount];
+
+		for(DuplicateEdgePolicy policy: DuplicateEdgePolicy.values()) {
+			for(int parts = 1; parts <= pMaxParts; parts *= 2) {
+
+				long best = Long.MAX_VALUE;
+
+				for(int r=0; r < RUNS; r++) {
+
+					long start = System.nanoTime();
+					ArrayCsrGraph.fromEdges(names, nodeCount, sources, targets, costs, pEdgeCount, true, policy, parts);
+					best = Math.min(best, System.nanoTime() - start);
+				}
+
+				print(pName, "fromEdges", policy.name(), String.valueOf(parts), pEdgeCount, best);
+			}
+		}
+
+		for(int parts = 1; parts <= pMaxParts; parts *= 2) {
+
+			long best = Long.MAX_VALUE;
+
+			for(int r=0; r < RUNS; r++) {
+
+				long start = System.nanoTime();
+				GraphBuilder builder = new GraphBuilder();
+				builder.setPartCount(parts);
+
+				for(int i=0; i < nodeCount; i++) {
+					builder.addNode("node_" + i);
+				}
+
+				for(int i=0; i < pEdgeCount; i++) {
+					builder.addEdge(sources[i], targets[i], costs[i]);
+				}
+
+				builder.buildGraph();
+				best = Math.min(best, System.nanoTime() - start);
+			}
+
+			print(pName, "builder", DuplicateEdgePolicy.KEEP_LAST.name(), String.valueOf(parts), pEdgeCount, best);
+		}
+	}
+
+	private static void print(String pName, String pStep, String pPolicy, String pParts, int pEdgeCount, long pNanos) {
+
+		System.out.println(pName + "\t" + pStep + "\t" + pPolicy + "\t" + pParts + "\t" + pNanos / 1000000
+				+ "\t" + String.format("%.0f", pEdgeCount / (pNanos / 1e9)));
+	}
+
+}
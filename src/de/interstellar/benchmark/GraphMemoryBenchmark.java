@@ -0,0 +1,146 @@
+package de.interstellar.benchmark;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Random;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.Edge;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.GraphStorage;
+import de.interstellar.model.graph.Node;
+
+/** Benchmark that compares the memory that a random graph needs in the different
+ *  representations:
+ *
+ *  	- off-heap: OffHeapCsrGraph with the index of the names
+ *  	- heap: the CSR arrays (ArrayCsrGraph) with the index of the names
+ *  	- objects: the HashMap<Integer,Node> and HashMap<String,Edge> of the original model
+ *
+ *  For each representation the used heap and direct memory are measured after a full
+ *  garbage collection, as well as the duration of that collection (which grows with the
+ *  number of live objects) and of point-to-point queries. The number of nodes can be
+ *  given as first argument, the JVM needs enough heap for the object model
+ *  (e.g. -Xmx4g for 1000000 nodes).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphMemoryBenchmark {
+
+	private static int nodeCount = 1000000;
+	private static final double EDGES_PER_NODE = 2;
+	private static final int QUERY_COUNT = 20;
+
+	public static void main(String[] args) {
+
+		if(args.length > 0) {
+			nodeCount = Integer.parseInt(args[0]);
+		}
+
+		System.out.println(nodeCount + " nodes, " + (int) (nodeCount * EDGES_PER_NODE) + " undirected edges");
+		System.out.println("model\theap MB\tdirect MB\tfull gc ms\tquery ms");
+
+		//Each graph is measured against the memory before it was created
+		long[] empty = measure();
+		Graph g = createGraph(GraphStorage.OFF_HEAP);
+		long[] offHeap = measure();
+
+		print("off-heap", offHeap, empty, runQueries(g));
+
+		g = null;
+		empty = measure();
+		g = createGraph(GraphStorage.HEAP);
+		long[] csr = measure();
+
+		print("heap", csr, empty, runQueries(g));
+
+		//The object model is only an adapter view, so its size is the difference to the CSR arrays
+		HashMap<Integer,Node> nodes = g.getNodeList();
+		HashMap<String,Edge> edges = g.getEdgeList();
+
+		print("objects", measure(), csr, Double.NaN);
+		System.out.println("(" + nodes.size() + " Node and " + edges.size() + " Edge objects in addition to the CSR arrays)");
+	}
+
+	private static Graph createGraph(GraphStorage pStorage) {
+
+		Random random = new Random(42);
+		GraphBuilder builder = new GraphBuilder(pStorage);
+		int edgeCount = (int) (nodeCount * EDGES_PER_NODE);
+
+		builder.addNode("Erde");
+		for(int i=1; i < nodeCount; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		for(int i=1; i < nodeCount; i++) {
+			builder.addEdge(random.nextInt(i), i, random.nextDouble());
+		}
+
+		for(int i = nodeCount - 1; i < edgeCount; i++) {
+			builder.addEdge(random.nextInt(nodeCount), random.nextInt(nodeCount), random.nextDouble());
+		}
+
+		Graph g = builder.buildGraph();
+
+		//Create the index of the names and the components before the memory is measured
+		g.findNodeId("Erde");
+		g.getComponentIndex();
+
+		return g;
+	}
+
+	/** @return the used heap, the used direct memory (both in bytes) and the duration of a full gc in ms */
+	private static long[] measure() {
+
+		System.gc();
+
+		long start = System.nanoTime();
+		System.gc();
+		long gcMillis = (System.nanoTime() - start) / 1000000;
+
+		Runtime runtime = Runtime.getRuntime();
+		long direct = 0;
+
+		for(BufferPoolMXBean pool: ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+			if(pool.getName().equals("direct")) {
+				direct = pool.getMemoryUsed();
+			}
+		}
+
+		return new long[] {runtime.totalMemory() - runtime.freeMemory(), direct, gcMillis};
+	}
+
+	private static double runQueries(Graph pGraph) {
+
+		Random random = new Random(11);
+		SearchState state = new SearchState(nodeCount, FrontierType.BINARY_HEAP);
+		long start = 0;
+
+		//The first half warms up the JIT
+		for(int i=0; i < 2 * QUERY_COUNT; i++) {
+
+			if(i == QUERY_COUNT) {
+				start = System.nanoTime();
+			}
+
+			new ShortestPathAlgorithm(pGraph, "node_" + (1 + random.nextInt(nodeCount - 1)), "node_" + (1 + random.nextInt(nodeCount - 1)),
+					FrontierType.BINARY_HEAP).calculateShortestDistance(state);
+		}
+
+		return (System.nanoTime() - start) / 1e6 / QUERY_COUNT;
+	}
+
+	private static void print(String pName, long[] pMeasurement, long[] pBefore, double pQueryMillis) {
+
+		System.out.println(pName + "\t" + (pMeasurement[0] - pBefore[0]) / (1 << 20) + "\t" + Math.max(0, pMeasurement[1] - pBefore[1]) / (1 << 20)
+				+ "\t" + pMeasurement[2] + "\t" + (Double.isNaN(pQueryMillis) ? "-" : String.format("%.2f", pQueryMillis)));
+	}
+
+}
@@ -0,0 +1,81 @@
+package de.interstellar.benchmark;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.algorithm.ksp.KShortestPathsAlgorithm;
+import de.interstellar.algorithm.ksp.YenPathIterator;
+import de.interstellar.model.graph.Graph;
+
+/** Benchmark for the KShortestPathsAlgorithm: the time for the first k paths between
+ *  two far away nodes, the number of spur paths that needed a search or were taken
+ *  from the tree, and the settled nodes per spur search. For comparison, Yen's
+ *  algorithm without the tree needs one Dijkstra search per spur node, which is
+ *  estimated with the time of one point-to-point search.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class KShortestPathsBenchmark {
+
+	private static final int NODE_COUNT = 250000;
+	private static final double EDGES_PER_NODE = 2;
+	private static final int GRID_WIDTH = 500;
+	private static final int[] K_VALUES = {1, 10, 50, 200};
+	private static final int RUNS = 3;
+
+	public static void main(String[] args) {
+
+		Graph random = SyntheticGraphFactory.createRandomGraph(NODE_COUNT, (int) (NODE_COUNT * EDGES_PER_NODE), 42);
+		Graph grid = SyntheticGraphFactory.createGridGraph(GRID_WIDTH, 42);
+
+		run("random", random, "node_" + (NODE_COUNT - 1));
+		run("grid", grid, "node_" + (GRID_WIDTH * GRID_WIDTH - 1));
+	}
+
+	private static void run(String pName, Graph pGraph, String pTarget) {
+
+		ShortestPathAlgorithm dijkstra = new ShortestPathAlgorithm(pGraph, "Erde", pTarget, FrontierType.BINARY_HEAP);
+		SearchState state = new SearchState(pGraph.getCsrGraph().getNodeCount(), FrontierType.BINARY_HEAP);
+
+		dijkstra.calculateShortestDistance(state);
+
+		long start = System.nanoTime();
+		for(int i=0; i < RUNS; i++) {
+			dijkstra.calculateShortestDistance(state);
+		}
+		double dijkstraMillis = (System.nanoTime() - start) / 1e6 / RUNS;
+
+		System.out.println(pName + ": Dijkstra " + String.format("%.1f", dijkstraMillis) + " ms, "
+				+ state.getSettledNodeCount() + " settled nodes");
+		System.out.println("k\tms\tspur searches\ttree paths\tsettled/search\tnaive estimate ms");
+
+		KShortestPathsAlgorithm algorithm = new KShortestPathsAlgorithm(pGraph, "Erde", pTarget);
+
+		for(int k: K_VALUES) {
+
+			YenPathIterator iterator = null;
+			double millis = Double.MAX_VALUE;
+
+			for(int run=0; run < RUNS; run++) {
+
+				start = System.nanoTime();
+				iterator = algorithm.iterator();
+
+				for(int i=0; i < k && iterator.hasNext(); i++) {
+					iterator.next();
+				}
+
+				millis = Math.min(millis, (System.nanoTime() - start) / 1e6);
+			}
+
+			int spurNodes = iterator.getSpurSearchCount() + iterator.getTreePathCount();
+			long settledPerSearch = iterator.getSpurSearchCount() == 0 ? 0 : iterator.getSettledNodeCount() / iterator.getSpurSearchCount();
+
+			System.out.println(k + "\t" + String.format("%.1f", millis) + "\t" + iterator.getSpurSearchCount() + "\t"
+					+ iterator.getTreePathCount() + "\t" + settledPerSearch + "\t" + String.format("%.0f", spurNodes * dijkstraMillis));
+		}
+	}
+
+}
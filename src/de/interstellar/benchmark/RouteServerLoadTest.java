@@ -0,0 +1,181 @@
+package de.interstellar.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import de.interstellar.server.RouteServer;
+
+/** Load test for the RouteServer. Several client threads send /route requests (or
+ *  batches to /routes) between random nodes, afterwards the requests per second and
+ *  the percentiles of the latency are printed.
+ *
+ *  Arguments: [requests] [client threads] [batch size] [server url]
+ *  Without a server url a RouteServer is started in this JVM on a synthetic graph,
+ *  so no external service is needed.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class RouteServerLoadTest {
+
+	private static final int GRID_WIDTH = 300;
+	private static final int NODE_SAMPLE_SIZE = 1000;
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+
+		int requestCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		int threadCount = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+		int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+		RouteServer server = null;
+		String baseUrl;
+
+		if(args.length > 3) {
+			baseUrl = args[3];
+		} else {
+			server = new RouteServer(SyntheticGraphFactory.createGridGraph(GRID_WIDTH, 42), 0);
+			server.start();
+			baseUrl = "http://localhost:" + server.getPort();
+		}
+
+		try {
+			HttpClient client = HttpClient.newHttpClient();
+			List<String> nodeNames = loadNodeNames(client, baseUrl);
+
+			//Warm up
+			run(client, baseUrl, nodeNames, Math.min(requestCount, 200), threadCount, batchSize);
+
+			long start = System.nanoTime();
+			long[] latencies = run(client, baseUrl, nodeNames, requestCount, threadCount, batchSize);
+			long nanos = System.nanoTime() - start;
+
+			Arrays.sort(latencies);
+
+			System.out.println("requests\tthreads\tbatch\trequests/s\tqueries/s\tp50 ms\tp99 ms\tmax ms");
+			System.out.println(requestCount + "\t" + threadCount + "\t" + batchSize + "\t"
+					+ String.format("%.0f", requestCount / (nanos / 1e9)) + "\t"
+					+ String.format("%.0f", (long) requestCount * batchSize / (nanos / 1e9)) + "\t"
+					+ String.format("%.2f", percentile(latencies, 0.5) / 1e6) + "\t"
+					+ String.format("%.2f", percentile(latencies, 0.99) / 1e6) + "\t"
+					+ String.format("%.2f", latencies[latencies.length - 1] / 1e6));
+
+		} finally {
+			if(server != null) {
+				server.stop(1);
+			}
+		}
+	}
+
+	/** This function sends the requests from the given number of threads.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the latency of every request in nanoseconds
+	 */
+	private static long[] run(HttpClient pClient, String pBaseUrl, List<String> pNodeNames, int pRequestCount,
+			int pThreadCount, int pBatchSize) throws InterruptedException {
+
+		long[] latencies = new long[pRequestCount];
+		AtomicInteger nextRequest = new AtomicInteger();
+		AtomicInteger failures = new AtomicInteger();
+		List<Thread> threads = new ArrayList<Thread>();
+
+		for(int t=0; t < pThreadCount; t++) {
+
+			Random random = new Random(t);
+
+			Thread thread = new Thread(() -> {
+
+				for(int i = nextRequest.getAndIncrement(); i < pRequestCount; i = nextRequest.getAndIncrement()) {
+
+					HttpRequest request = createRequest(pBaseUrl, pNodeNames, pBatchSize, random);
+					long start = System.nanoTime();
+
+					try {
+						HttpResponse<String> response = pClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+						if(response.statusCode() != 200) {
+							failures.incrementAndGet();
+						}
+					} catch (IOException | InterruptedException e) {
+						failures.incrementAndGet();
+					}
+
+					latencies[i] = System.nanoTime() - start;
+				}
+			});
+
+			thread.start();
+			threads.add(thread);
+		}
+
+		for(Thread thread: threads) {
+			thread.join();
+		}
+
+		if(failures.get() > 0) {
+			System.out.println(failures.get() + " Anfragen sind fehlgeschlagen");
+		}
+
+		return latencies;
+	}
+
+	private static HttpRequest createRequest(String pBaseUrl, List<String> pNodeNames, int pBatchSize, Random pRandom) {
+
+		if(pBatchSize <= 1) {
+
+			String from = URLEncoder.encode(pNodeNames.get(pRandom.nextInt(pNodeNames.size())), StandardCharsets.UTF_8);
+			String to = URLEncoder.encode(pNodeNames.get(pRandom.nextInt(pNodeNames.size())), StandardCharsets.UTF_8);
+
+			return HttpRequest.newBuilder(URI.create(pBaseUrl + "/route?from=" + from + "&to=" + to)).GET().build();
+		}
+
+		JSONArray batch = new JSONArray();
+
+		for(int i=0; i < pBatchSize; i++) {
+			batch.put(new JSONObject().put("from", pNodeNames.get(pRandom.nextInt(pNodeNames.size())))
+					.put("to", pNodeNames.get(pRandom.nextInt(pNodeNames.size()))));
+		}
+
+		return HttpRequest.newBuilder(URI.create(pBaseUrl + "/routes"))
+				.POST(HttpRequest.BodyPublishers.ofString(batch.toString())).build();
+	}
+
+	/** @return the names of some nodes of the server's graph, which are used as source and target */
+	private static List<String> loadNodeNames(HttpClient pClient, String pBaseUrl) throws IOException, InterruptedException {
+
+		HttpRequest request = HttpRequest.newBuilder(URI.create(pBaseUrl + "/nodes?limit=" + NODE_SAMPLE_SIZE)).GET().build();
+		JSONArray names = new JSONArray(pClient.send(request, HttpResponse.BodyHandlers.ofString()).body());
+
+		List<String> nodeNames = new ArrayList<String>(names.length());
+
+		for(int i=0; i < names.length(); i++) {
+			nodeNames.add(names.getString(i));
+		}
+
+		return nodeNames;
+	}
+
+	private static long percentile(long[] pSortedValues, double pPercentile) {
+
+		int index = (int) Math.ceil(pPercentile * pSortedValues.length) - 1;
+
+		return pSortedValues[Math.max(0, Math.min(index, pSortedValues.length - 1))];
+	}
+
+}
@@ -0,0 +1,62 @@
+package de.interstellar.benchmark;
+
+import java.util.Random;
+
+import de.interstellar.algorithm.SearchMode;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.model.graph.Graph;
+
+/** Benchmark that compares the search modes of the ShortestPathAlgorithm. For
+ *  random queries from "Erde" it reports the average number of settled nodes and
+ *  the average query time of each mode.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class SearchModeBenchmark {
+
+	private static final int[] NODE_COUNTS = {1000, 100000, 1000000};
+	private static final double EDGES_PER_NODE = 1.5;
+	private static final int QUERIES = 50;
+
+	public static void main(String[] args) {
+
+		System.out.println("nodes\tmode\tavg settled\tavg ms");
+
+		for(int nodeCount: NODE_COUNTS) {
+
+			Graph graph = SyntheticGraphFactory.createRandomGraph(nodeCount, (int) (nodeCount * EDGES_PER_NODE), 42);
+
+			for(SearchMode mode: SearchMode.values()) {
+
+				//Same queries for every mode
+				Random random = new Random(1);
+				long settled = 0;
+				long nanos = 0;
+
+				for(int i = -QUERIES / 5; i < QUERIES; i++) {
+
+					String target = graph.getCsrGraph().getNodeName(random.nextInt(nodeCount));
+					ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(graph, "Erde", target);
+					algorithm.setSearchMode(mode);
+
+					long start = System.nanoTime();
+					ShortestPathResult result = algorithm.calculateShortestDistance();
+					long duration = System.nanoTime() - start;
+
+					//The first queries are only used to warm up
+					if(i >= 0) {
+						settled += result.getSettledNodeCount();
+						nanos += duration;
+					}
+				}
+
+				System.out.println(nodeCount + "\t" + mode + "\t" + (settled / QUERIES) + "\t"
+						+ String.format("%.3f", nanos / 1e6 / QUERIES));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+package de.interstellar.benchmark;
+
+import java.util.Random;
+
+import de.interstellar.model.graph.ArrayCsrGraph;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Helper class to create random, connected graphs for the benchmarks.
+ *  The graphs are created deterministically from the given seed.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class SyntheticGraphFactory {
+
+	/** This function creates a random connected graph. First a random spanning tree
+	 *  is created, so that every node is reachable. Afterwards random edges are added
+	 *  until the graph has the requested number of edges. The costs are uniformly
+	 *  distributed between 0 and 1.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeCount => number of nodes
+	 * @param pEdgeCount => number of (undirected) edges, at least pNodeCount - 1
+	 * @param pSeed => seed of the random generator
+	 * @return the created graph
+	 */
+	public static Graph createRandomGraph(int pNodeCount, int pEdgeCount, long pSeed) {
+
+		Random random = new Random(pSeed);
+		GraphBuilder builder = new GraphBuilder();
+
+		builder.addNode("Erde");
+		for(int i=1; i < pNodeCount; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		//Spanning tree: every node is connected to a node with a smaller id
+		for(int i=1; i < pNodeCount; i++) {
+			builder.addEdge(random.nextInt(i), i, random.nextDouble());
+		}
+
+		for(int i = pNodeCount - 1; i < pEdgeCount; i++) {
+			builder.addEdge(random.nextInt(pNodeCount), random.nextInt(pNodeCount), random.nextDouble());
+		}
+
+		return builder.buildGraph();
+	}
+
+	/** This function creates a grid graph. Every node is connected to its right and
+	 *  lower neighbor, the costs are uniformly distributed between 1 and 2. Such graphs
+	 *  are closer to road networks than random graphs.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pWidth => number of nodes per row and column
+	 * @param pSeed => seed of the random generator
+	 * @return the created graph
+	 */
+	public static Graph createGridGraph(int pWidth, long pSeed) {
+
+		Random random = new Random(pSeed);
+		GraphBuilder builder = new GraphBuilder();
+
+		builder.addNode("Erde");
+		for(int i=1; i < pWidth * pWidth; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		for(int y=0; y < pWidth; y++) {
+			for(int x=0; x < pWidth; x++) {
+
+				int node = y * pWidth + x;
+
+				if(x + 1 < pWidth) {
+					builder.addEdge(node, node + 1, 1 + random.nextDouble());
+				}
+
+				if(y + 1 < pWidth) {
+					builder.addEdge(node, node + pWidth, 1 + random.nextDouble());
+				}
+			}
+		}
+
+		return builder.buildGraph();
+	}
+
+	/** This function creates a directed grid graph. Like in createGridGraph neighbors are
+	 *  connected, but the two directions are separate edges with different costs between
+	 *  1 and 2, so the graph is not symmetric.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pWidth => number of nodes per row and column
+	 * @param pSeed => seed of the random generator
+	 * @return the created graph
+	 */
+	public static Graph createDirectedGridGraph(int pWidth, long pSeed) {
+
+		Random random = new Random(pSeed);
+		int nodeCount = pWidth * pWidth;
+		int edgeCount = 4 * pWidth * (pWidth - 1);
+		String[] names = new String[nodeCount];
+		int[] sources = new int[edgeCount];
+		int[] targets = new int[edgeCount];
+		double[] costs = new double[edgeCount];
+		int edge = 0;
+
+		names[0] = "Erde";
+		for(int i=1; i < nodeCount; i++) {
+			names[i] = "node_" + i;
+		}
+
+		for(int y=0; y < pWidth; y++) {
+			for(int x=0; x < pWidth; x++) {
+
+				int node = y * pWidth + x;
+
+				for(int neighbor: new int[] {x + 1 < pWidth ? node + 1 : -1, y + 1 < pWidth ? node + pWidth : -1}) {
+
+					if(neighbor >= 0) {
+						sources[edge] = node;
+						targets[edge] = neighbor;
+						costs[edge++] = 1 + random.nextDouble();
+						sources[edge] = neighbor;
+						targets[edge] = node;
+						costs[edge++] = 1 + random.nextDouble();
+					}
+				}
+			}
+		}
+
+		return new Graph(ArrayCsrGraph.fromEdges(names, nodeCount, sources, targets, costs, edge, false));
+	}
+
+}
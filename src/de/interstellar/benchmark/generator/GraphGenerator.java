@@ -0,0 +1,486 @@
+package de.interstellar.benchmark.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** This class creates large random graphs for load and scale tests. The graphs are
+ *  created deterministically from the seed: the same parameters always give the same
+ *  graph. The first node is called "Erde", all others "node_" + id.
+ *
+ *  The nodes and edges are handed over to a GraphSink one after another. Apart from
+ *  a few nodes at a time, nothing of the graph is kept in memory, so graphs with up
+ *  to 10^8 edges can be written to a JSON file (see writeJson). The number of edges is
+ *  about nodeCount * edgesPerNode, the exact number depends on the topology.
+ *
+ *  Usage from the command line:
+ *  	GraphGenerator <topology> <node count> <edges per node> <seed> <output file>
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphGenerator {
+
+	private static final int CLUSTER_SIZE = 100;
+	private static final double INTER_CLUSTER_RATIO = 0.05;
+
+	//A target u^3 * n gives node x an expected degree proportional to x^(-2/3), which is a
+	//power law degree distribution with the exponent 1 + 3/2 = 2.5
+	private static final double SCALE_FREE_SKEW = 3;
+
+	private final GraphTopology topology;
+	private final int nodeCount;
+	private final double edgesPerNode;
+	private final long seed;
+
+	/** @param pTopology => structure of the graph
+	 *  @param pNodeCount => number of nodes, at least 2
+	 *  @param pEdgesPerNode => average number of (undirected) edges per node, at least 1
+	 *  @param pSeed => seed of the random generator
+	 */
+	public GraphGenerator(GraphTopology pTopology, int pNodeCount, double pEdgesPerNode, long pSeed) {
+
+		if(pNodeCount < 2 || pEdgesPerNode < 1) {
+			throw new IllegalArgumentException("A graph needs at least 2 nodes and 1 edge per node");
+		}
+
+		this.topology = pTopology;
+		this.nodeCount = pNodeCount;
+		this.edgesPerNode = pEdgesPerNode;
+		this.seed = pSeed;
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		if(args.length != 5) {
+			System.out.println("Usage: GraphGenerator <topology> <node count> <edges per node> <seed> <output file>");
+			return;
+		}
+
+		GraphGenerator generator = new GraphGenerator(GraphTopology.valueOf(args[0]), Integer.parseInt(args[1]),
+				Double.parseDouble(args[2]), Long.parseLong(args[3]));
+
+		long start = System.nanoTime();
+		long edgeCount = generator.writeJson(Paths.get(args[4]));
+
+		System.out.println(args[1] + " nodes and " + edgeCount + " edges written in "
+				+ (System.nanoTime() - start) / 1000000 + " ms");
+	}
+
+	/** This function writes the graph as JSON document into the given file.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pPath => the file
+	 * @return the number of edges
+	 * @throws IOException
+	 */
+	public long writeJson(Path pPath) throws IOException {
+
+		try(OutputStream out = Files.newOutputStream(pPath)) {
+			return writeJson(out);
+		}
+	}
+
+	/** This function writes the graph as JSON document into the given stream. The stream
+	 *  is closed afterwards.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pOutputStream => the stream
+	 * @return the number of edges
+	 * @throws IOException
+	 */
+	public long writeJson(OutputStream pOutputStream) throws IOException {
+
+		try(JsonGraphWriter writer = new JsonGraphWriter(pOutputStream)) {
+			generate(writer);
+			return writer.getEdgeCount();
+		}
+	}
+
+	/** This function creates the graph directly, without a JSON document.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the created graph
+	 */
+	public Graph createGraph() {
+
+		GraphBuilder builder = new GraphBuilder();
+
+		try {
+			generate(new GraphSink() {
+
+				@Override
+				public void addNode(String pName) {
+					builder.addNode(pName);
+				}
+
+				@Override
+				public void addEdge(int pSourceId, int pTargetId, double pCost) {
+					builder.addEdge(pSourceId, pTargetId, pCost);
+				}
+			});
+		} catch(IOException e) {
+			//The builder does not write anything
+			throw new UncheckedIOException(e);
+		}
+
+		return builder.buildGraph();
+	}
+
+	/** This function hands all nodes and then all edges of the graph over to the given sink.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSink => receives the graph
+	 * @throws IOException if the sink can not take the graph
+	 */
+	public void generate(GraphSink pSink) throws IOException {
+
+		pSink.addNode("Erde");
+		for(int i=1; i < this.nodeCount; i++) {
+			pSink.addNode("node_" + i);
+		}
+
+		switch(this.topology) {
+			case UNIFORM:
+				generateUniformEdges(pSink);
+				break;
+			case RANDOM_GEOMETRIC:
+				generateGeometricEdges(pSink);
+				break;
+			case GRID:
+				generateGridEdges(pSink);
+				break;
+			case SCALE_FREE:
+				generateScaleFreeEdges(pSink);
+				break;
+			case CLUSTERED:
+				generateClusteredEdges(pSink);
+				break;
+		}
+	}
+
+	/** @return the number of edges the graph should have */
+	private long getEdgeCount() {
+		return Math.max(this.nodeCount - 1, (long) (this.nodeCount * this.edgesPerNode));
+	}
+
+	private void generateUniformEdges(GraphSink pSink) throws IOException {
+
+		Random random = new Random(this.seed);
+
+		//Spanning tree: every node is connected to a node with a smaller id
+		for(int i=1; i < this.nodeCount; i++) {
+			pSink.addEdge(random.nextInt(i), i, random.nextDouble());
+		}
+
+		for(long i = this.nodeCount - 1; i < getEdgeCount(); i++) {
+
+			int source = random.nextInt(this.nodeCount);
+			int target = randomOtherNode(random, source, 0, this.nodeCount);
+
+			pSink.addEdge(source, target, random.nextDouble());
+		}
+	}
+
+	/** This function creates the edges of a scale free graph. The nodes with a low id
+	 *  are chosen much more often as target of an edge (u^3 * n for a uniform u), so
+	 *  they become the hubs of the graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void generateScaleFreeEdges(GraphSink pSink) throws IOException {
+
+		Random random = new Random(this.seed);
+
+		//Every node is attached to one of the nodes that were added before
+		for(int i=1; i < this.nodeCount; i++) {
+			pSink.addEdge(i, (int) (i * Math.pow(random.nextDouble(), SCALE_FREE_SKEW)), random.nextDouble());
+		}
+
+		long edgeCount = this.nodeCount - 1;
+
+		while(edgeCount < getEdgeCount()) {
+
+			int source = random.nextInt(this.nodeCount);
+			int target = (int) (this.nodeCount * Math.pow(random.nextDouble(), SCALE_FREE_SKEW));
+
+			//Loops are not added
+			if(target != source) {
+				pSink.addEdge(source, target, random.nextDouble());
+				edgeCount++;
+			}
+		}
+	}
+
+	/** This function creates the edges of a clustered graph. The nodes are split into
+	 *  groups of CLUSTER_SIZE nodes by their id. Most edges connect two nodes of the same
+	 *  group (cost between 0 and 1), some connect different groups (cost between 5 and 10).
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void generateClusteredEdges(GraphSink pSink) throws IOException {
+
+		Random random = new Random(this.seed);
+
+		//Spanning tree: inside a cluster every node is connected to an earlier node of the
+		//cluster, the first node of a cluster is connected to an earlier cluster
+		for(int i=1; i < this.nodeCount; i++) {
+
+			int clusterStart = i - i % CLUSTER_SIZE;
+
+			if(i == clusterStart) {
+				pSink.addEdge(random.nextInt(i), i, 5 + 5 * random.nextDouble());
+			} else {
+				pSink.addEdge(clusterStart + random.nextInt(i - clusterStart), i, random.nextDouble());
+			}
+		}
+
+		for(long i = this.nodeCount - 1; i < getEdgeCount(); i++) {
+
+			int source = random.nextInt(this.nodeCount);
+			int clusterStart = source - source % CLUSTER_SIZE;
+			int clusterEnd = Math.min(clusterStart + CLUSTER_SIZE, this.nodeCount);
+
+			//The last cluster can consist of a single node
+			if(clusterEnd - clusterStart < 2 || random.nextDouble() < INTER_CLUSTER_RATIO) {
+				pSink.addEdge(source, randomOtherNode(random, source, 0, this.nodeCount), 5 + 5 * random.nextDouble());
+			} else {
+				pSink.addEdge(source, randomOtherNode(random, source, clusterStart, clusterEnd), random.nextDouble());
+			}
+		}
+	}
+
+	/** This function creates the edges of a grid with width * width nodes (the last row
+	 *  can be incomplete). The diagonal edges are added randomly, so that the graph has
+	 *  about the requested number of edges per node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void generateGridEdges(GraphSink pSink) throws IOException {
+
+		Random random = new Random(this.seed);
+		int width = (int) Math.ceil(Math.sqrt(this.nodeCount));
+		double diagonalProbability = Math.min(1, Math.max(0, (this.edgesPerNode - 2) / 2));
+
+		for(int node=0; node < this.nodeCount; node++) {
+
+			int x = node % width;
+			boolean hasLowerRow = node + width < this.nodeCount;
+
+			if(x + 1 < width && node + 1 < this.nodeCount) {
+				pSink.addEdge(node, node + 1, 1 + random.nextDouble());
+			}
+
+			if(hasLowerRow) {
+				pSink.addEdge(node, node + width, 1 + random.nextDouble());
+			}
+
+			if(diagonalProbability > 0) {
+
+				if(x + 1 < width && node + width + 1 < this.nodeCount && random.nextDouble() < diagonalProbability) {
+					pSink.addEdge(node, node + width + 1, Math.sqrt(2) * (1 + random.nextDouble()));
+				}
+
+				if(x > 0 && hasLowerRow && random.nextDouble() < diagonalProbability) {
+					pSink.addEdge(node, node + width - 1, Math.sqrt(2) * (1 + random.nextDouble()));
+				}
+			}
+		}
+	}
+
+	/** This function creates the edges of a random geometric graph: the nodes are random
+	 *  points in the unit square and all points within a radius are connected.
+	 *
+	 *  The square is split into cells that are at least as large as the radius, so only
+	 *  points of neighboring cells need to be compared. Every cell contains a fixed range
+	 *  of node ids and its points are created from a seed of their own, so the points of a
+	 *  cell can be created again whenever they are needed instead of keeping all of them.
+	 *
+	 *  To make sure the graph is connected, the points of a cell are connected in the order
+	 *  of their ids and the first points of the cells are connected in a snake order through
+	 *  the rows of cells, if they are not connected anyway.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void generateGeometricEdges(GraphSink pSink) throws IOException {
+
+		//Expected number of points within the radius: n * pi * r^2 = 2 * edgesPerNode
+		double radius = Math.sqrt(2 * this.edgesPerNode / (Math.PI * this.nodeCount));
+
+		//Every cell contains at least 2 points
+		int cellsPerRow = (int) Math.max(1, Math.min(Math.floor(1 / radius), Math.floor(Math.sqrt(this.nodeCount / 2.0))));
+
+		GeometricCells cells = new GeometricCells(cellsPerRow, this.nodeCount, this.seed);
+		double[] points = new double[0];
+		double[][] neighborPoints = new double[4][];
+		int[][] neighborOffsets = {{1, 0}, {-1, 1}, {0, 1}, {1, 1}};
+
+		for(int cy=0; cy < cellsPerRow; cy++) {
+			for(int cx=0; cx < cellsPerRow; cx++) {
+
+				int cell = cy * cellsPerRow + cx;
+				int firstId = cells.getFirstNodeId(cell);
+				points = cells.createPoints(cell, points);
+				int count = cells.getNodeCount(cell);
+
+				//Edges inside the cell, and the chain through the points of the cell
+				for(int i=0; i < count; i++) {
+					for(int j = i + 1; j < count; j++) {
+
+						double distance = distance(points, i, points, j);
+
+						if(distance <= radius || j == i + 1) {
+							pSink.addEdge(firstId + i, firstId + j, distance);
+						}
+					}
+				}
+
+				//Edges to the cells to the right and below, the other neighbors were already handled
+				for(int n=0; n < neighborOffsets.length; n++) {
+
+					int nx = cx + neighborOffsets[n][0];
+					int ny = cy + neighborOffsets[n][1];
+
+					if(nx < 0 || nx >= cellsPerRow || ny >= cellsPerRow) {
+						continue;
+					}
+
+					int neighborCell = ny * cellsPerRow + nx;
+					int neighborFirstId = cells.getFirstNodeId(neighborCell);
+					neighborPoints[n] = cells.createPoints(neighborCell, neighborPoints[n]);
+
+					for(int i=0; i < count; i++) {
+						for(int j=0; j < cells.getNodeCount(neighborCell); j++) {
+
+							double distance = distance(points, i, neighborPoints[n], j);
+
+							if(distance <= radius) {
+								pSink.addEdge(firstId + i, neighborFirstId + j, distance);
+							}
+						}
+					}
+				}
+
+			}
+		}
+
+		//Connect the cells in snake order: left to right in even rows, right to left in odd rows
+		int previousCell = -1;
+
+		for(int cy=0; cy < cellsPerRow; cy++) {
+			for(int i=0; i < cellsPerRow; i++) {
+
+				int cx = cy % 2 == 0 ? i : cellsPerRow - 1 - i;
+				int cell = cy * cellsPerRow + cx;
+
+				if(previousCell >= 0) {
+					addSnakeEdge(pSink, cells, previousCell, cell, radius);
+				}
+
+				previousCell = cell;
+			}
+		}
+	}
+
+	/** This function connects the first points of two cells, if the radius does not
+	 *  connect them already.
+	 */
+	private static void addSnakeEdge(GraphSink pSink, GeometricCells pCells, int pCell, int pNextCell, double pRadius) throws IOException {
+
+		double[] first = pCells.createPoints(pCell, null);
+		double[] second = pCells.createPoints(pNextCell, null);
+		double distance = distance(first, 0, second, 0);
+
+		if(distance > pRadius) {
+			pSink.addEdge(pCells.getFirstNodeId(pCell), pCells.getFirstNodeId(pNextCell), distance);
+		}
+	}
+
+	private static double distance(double[] pPoints, int pIndex, double[] pOtherPoints, int pOtherIndex) {
+
+		double dx = pPoints[2 * pIndex] - pOtherPoints[2 * pOtherIndex];
+		double dy = pPoints[2 * pIndex + 1] - pOtherPoints[2 * pOtherIndex + 1];
+
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+
+	/** @return a random node in the range from start (inclusive) to end (exclusive)
+	 *  		that is not the given node
+	 */
+	private static int randomOtherNode(Random pRandom, int pNodeId, int pStart, int pEnd) {
+
+		int node = pStart + pRandom.nextInt(pEnd - pStart - 1);
+
+		return node >= pNodeId ? node + 1 : node;
+	}
+
+	/** The cells of a random geometric graph. The nodes are distributed evenly over the
+	 *  cells in the order of their ids.
+	 */
+	private static final class GeometricCells {
+
+		private final int cellsPerRow;
+		private final int nodesPerCell;
+		private final int remainder;
+		private final long seed;
+
+		private GeometricCells(int pCellsPerRow, int pNodeCount, long pSeed) {
+
+			int cellCount = pCellsPerRow * pCellsPerRow;
+
+			this.cellsPerRow = pCellsPerRow;
+			this.nodesPerCell = pNodeCount / cellCount;
+			this.remainder = pNodeCount % cellCount;
+			this.seed = pSeed;
+		}
+
+		private int getFirstNodeId(int pCell) {
+			return pCell * this.nodesPerCell + Math.min(pCell, this.remainder);
+		}
+
+		private int getNodeCount(int pCell) {
+			return this.nodesPerCell + (pCell < this.remainder ? 1 : 0);
+		}
+
+		/** @return the coordinates of the points of the cell (x and y after each other),
+		 *  		the given array is reused if it is large enough
+		 */
+		private double[] createPoints(int pCell, double[] pPoints) {
+
+			int count = getNodeCount(pCell);
+			double[] points = pPoints != null && pPoints.length >= 2 * count ? pPoints : new double[2 * count];
+			Random random = new Random(this.seed * 31 + pCell);
+
+			int cx = pCell % this.cellsPerRow;
+			int cy = pCell / this.cellsPerRow;
+
+			for(int i=0; i < count; i++) {
+				points[2 * i] = (cx + random.nextDouble()) / this.cellsPerRow;
+				points[2 * i + 1] = (cy + random.nextDouble()) / this.cellsPerRow;
+			}
+
+			return points;
+		}
+	}
+
+}
@@ -0,0 +1,24 @@
+package de.interstellar.benchmark.generator;
+
+import java.io.IOException;
+
+/** Receives the nodes and edges of a graph one after another (see GraphGenerator).
+ *  All nodes are given before the first edge, the id of a node is the number of
+ *  nodes given before it.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public interface GraphSink {
+
+	/** @param pName => name (label) of the node */
+	void addNode(String pName) throws IOException;
+
+	/** @param pSourceId => id of the source node
+	 *  @param pTargetId => id of the target node
+	 *  @param pCost => cost of the (undirected) edge
+	 */
+	void addEdge(int pSourceId, int pTargetId, double pCost) throws IOException;
+
+}
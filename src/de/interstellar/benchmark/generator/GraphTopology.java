@@ -0,0 +1,30 @@
+package de.interstellar.benchmark.generator;
+
+/** Defines the structure of the graphs the GraphGenerator creates.
+ *
+ *  	- UNIFORM: the edges connect randomly chosen nodes, costs between 0 and 1.
+ *  	- RANDOM_GEOMETRIC: the nodes are random points in the unit square, two nodes
+ *  	  are connected if they are close to each other. The cost of an edge is the
+ *  	  distance between its nodes.
+ *  	- GRID: a road-like grid, every node is connected to its right and lower neighbor
+ *  	  (costs between 1 and 2). For more than 2 edges per node diagonal edges are added,
+ *  	  up to 4 edges per node.
+ *  	- SCALE_FREE: a few hub nodes have very many edges, most nodes only a few (power law).
+ *  	- CLUSTERED: groups of nodes with many cheap edges inside a group and a few
+ *  	  expensive edges between the groups.
+ *
+ *  The graphs of all topologies are connected.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public enum GraphTopology {
+
+	UNIFORM,
+	RANDOM_GEOMETRIC,
+	GRID,
+	SCALE_FREE,
+	CLUSTERED
+
+}
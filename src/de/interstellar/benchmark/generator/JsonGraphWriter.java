@@ -0,0 +1,103 @@
+package de.interstellar.benchmark.generator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/** Writes a graph in the JSON format the GraphBuilder reads:
+ *
+ *  	{"nodes": [{"label": "Erde"}, ...], "edges": [{"source": 0, "target": 1, "cost": 0.5}, ...]}
+ *
+ *  Every node and edge is written as soon as it is given, so the graph is never
+ *  kept in memory. The document is completed when the writer is closed.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class JsonGraphWriter implements GraphSink, Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final Writer writer;
+	private int nodeCount;
+	private long edgeCount;
+	private boolean writingEdges;
+
+	public JsonGraphWriter(OutputStream pOutputStream) throws IOException {
+
+		this.writer = new BufferedWriter(new OutputStreamWriter(pOutputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+		this.writer.write("{\"nodes\":[");
+	}
+
+	@Override
+	public void addNode(String pName) throws IOException {
+
+		if(this.writingEdges) {
+			throw new IllegalStateException("All nodes need to be added before the first edge");
+		}
+
+		if(this.nodeCount > 0) {
+			this.writer.write(',');
+		}
+
+		this.writer.write("{\"label\":\"");
+		writeEscaped(pName);
+		this.writer.write("\"}");
+		this.nodeCount++;
+	}
+
+	@Override
+	public void addEdge(int pSourceId, int pTargetId, double pCost) throws IOException {
+
+		if(!this.writingEdges) {
+			this.writer.write("],\"edges\":[");
+			this.writingEdges = true;
+		} else {
+			this.writer.write(',');
+		}
+
+		this.writer.write("{\"source\":" + pSourceId + ",\"target\":" + pTargetId + ",\"cost\":" + pCost + "}");
+		this.edgeCount++;
+	}
+
+	/** @return the number of edges that were written */
+	public long getEdgeCount() {
+		return this.edgeCount;
+	}
+
+	/** Completes the document and closes the stream. */
+	@Override
+	public void close() throws IOException {
+
+		if(!this.writingEdges) {
+			this.writer.write("],\"edges\":[");
+			this.writingEdges = true;
+		}
+
+		this.writer.write("]}\n");
+		this.writer.close();
+	}
+
+	private void writeEscaped(String pValue) throws IOException {
+
+		for(int i=0; i < pValue.length(); i++) {
+
+			char c = pValue.charAt(i);
+
+			if(c == '"' || c == '\\') {
+				this.writer.write('\\');
+				this.writer.write(c);
+			} else if(c < 0x20) {
+				this.writer.write(String.format("\\u%04x", (int) c));
+			} else {
+				this.writer.write(c);
+			}
+		}
+	}
+
+}
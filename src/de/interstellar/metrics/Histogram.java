@@ -0,0 +1,147 @@
+package de.interstellar.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Histogram of values that are not negative (e.g. durations in nanoseconds or the
+ *  number of settled nodes of a search). The values are counted in buckets whose
+ *  width grows with the values: every power of two is split into SUB_BUCKETS buckets
+ *  of the same width, values below SUB_BUCKETS have their own bucket. So percentiles
+ *  are exact for small values and at most 1 / SUB_BUCKETS too big otherwise, for a
+ *  fixed size of memory.
+ *
+ *  Values can be recorded by several threads at the same time without a lock.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	//Values below SUB_BUCKETS and SUB_BUCKETS buckets for each power of two above
+	private static final int BUCKET_COUNT = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/** @param pValue => the value to record, negative values are recorded as 0 */
+	public void record(long pValue) {
+
+		long value = Math.max(0, pValue);
+
+		this.counts.incrementAndGet(getBucket(value));
+		this.count.increment();
+		this.sum.add(value);
+
+		long currentMax = this.max.get();
+
+		while(value > currentMax && !this.max.compareAndSet(currentMax, value)) {
+			currentMax = this.max.get();
+		}
+	}
+
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	public long getSum() {
+		return this.sum.sum();
+	}
+
+	/** @return the mean of the recorded values, 0 if no value was recorded */
+	public double getMean() {
+
+		long n = getCount();
+
+		return n == 0 ? 0 : (double) getSum() / n;
+	}
+
+	/** @return the biggest recorded value, 0 if no value was recorded */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/** This function returns the value below or at which the given percentage of the
+	 *  recorded values are.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pPercentile => the percentile between 0 and 100, e.g. 99.9
+	 * @return the biggest value of the bucket of the percentile, 0 if no value was recorded
+	 */
+	public long getValueAtPercentile(double pPercentile) {
+
+		long n = getCount();
+
+		if(n == 0) {
+			return 0;
+		}
+
+		//Rank of the value of the percentile, at least the first value
+		long rank = Math.max(1, (long) Math.ceil(Math.min(100, pPercentile) / 100 * n));
+		long seen = 0;
+
+		for(int bucket=0; bucket < BUCKET_COUNT; bucket++) {
+
+			seen += this.counts.get(bucket);
+
+			if(seen >= rank) {
+				return Math.min(getUpperBound(bucket), getMax());
+			}
+		}
+
+		//The buckets and the count are not updated together, so a value can be missing
+		return getMax();
+	}
+
+	/** This function removes all recorded values. Values that are recorded at the same
+	 *  time can be lost or counted only in parts.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	public void reset() {
+
+		for(int bucket=0; bucket < BUCKET_COUNT; bucket++) {
+			this.counts.set(bucket, 0);
+		}
+
+		this.count.reset();
+		this.sum.reset();
+		this.max.set(0);
+	}
+
+	private static int getBucket(long pValue) {
+
+		if(pValue < SUB_BUCKETS) {
+			return (int) pValue;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(pValue);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (pValue >>> shift) - SUB_BUCKETS;
+
+		return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+	}
+
+	private static long getUpperBound(int pBucket) {
+
+		if(pBucket < SUB_BUCKETS) {
+			return pBucket;
+		}
+
+		int shift = (pBucket - SUB_BUCKETS) / SUB_BUCKETS;
+		long subBucket = (pBucket - SUB_BUCKETS) % SUB_BUCKETS;
+		long lowerBound = (SUB_BUCKETS + subBucket) << shift;
+
+		return lowerBound + (1L << shift) - 1;
+	}
+
+}
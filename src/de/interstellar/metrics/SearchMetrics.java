@@ -0,0 +1,324 @@
+package de.interstellar.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/** This class collects counters and timings of the searches and of the loading of the
+ *  graph for the whole JVM:
+ *
+ *  	- per point-to-point query: latency, settled nodes, relaxed edges (edges that
+ *  	  were looked at), peak size of the frontier and number of nodes of the path.
+ *  	  Queries of the ShortestPathAlgorithm, the ALT and the CH search are recorded.
+ *  	- queries that were answered by a ShortestPathCache: only their number, they
+ *  	  are not part of the histograms of the queries, as they do not search at all
+ *  	- per one-to-all search (shortest path tree): latency
+ *  	- per graph: time to parse the JSON data, to build the graph and to load it
+ *
+ *  The values are kept in histograms, so percentiles can be read. They are available
+ *  as MBean (see register()) and as plain text (see dump()).
+ *
+ *  The metrics are disabled by default, or enabled with -Dinterstellar.metrics=true.
+ *  The instrumented code calls startTimer() first, which only reads the clock if the
+ *  metrics are enabled, and passes its result to the record functions, which return
+ *  at once for NOT_RECORDED. So a disabled instance costs one volatile read per query.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class SearchMetrics implements SearchMetricsMBean {
+
+	public static final String OBJECT_NAME = "de.interstellar:type=SearchMetrics";
+	public static final String ENABLED_PROPERTY = "interstellar.metrics";
+
+	//Returned by startTimer() if the metrics are disabled
+	public static final long NOT_RECORDED = Long.MIN_VALUE;
+
+	private static final SearchMetrics INSTANCE = new SearchMetrics();
+
+	private volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+	private final Histogram queryLatency = new Histogram();
+	private final Histogram settledNodes = new Histogram();
+	private final Histogram relaxedEdges = new Histogram();
+	private final Histogram frontierPeak = new Histogram();
+	private final Histogram pathLength = new Histogram();
+	private final LongAdder unknownNodeQueries = new LongAdder();
+	private final LongAdder cacheHits = new LongAdder();
+
+	private final Histogram treeLatency = new Histogram();
+
+	private final Histogram parseTime = new Histogram();
+	private final Histogram buildTime = new Histogram();
+	private final Histogram loadTime = new Histogram();
+
+	/** @return the metrics of this JVM */
+	public static SearchMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	/** This function registers the metrics at the platform MBean server under OBJECT_NAME.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return true if the MBean was registered, false if it was already registered
+	 */
+	public static boolean register() {
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+		try {
+			server.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+			return true;
+		} catch (InstanceAlreadyExistsException e) {
+			return false;
+		} catch (JMException e) {
+			throw new IllegalStateException("The metrics can not be registered", e);
+		}
+	}
+
+	/** @return the current time in nanoseconds, NOT_RECORDED if the metrics are disabled */
+	public long startTimer() {
+		return this.enabled ? System.nanoTime() : NOT_RECORDED;
+	}
+
+	/** This function records a point-to-point query.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pStartTime => result of startTimer() before the query
+	 * @param pSettledNodes => number of nodes that were settled
+	 * @param pRelaxedEdges => number of edges that were looked at
+	 * @param pFrontierPeak => biggest size of the frontier during the search
+	 * @param pPathLength => number of nodes of the path, 0 if the target was not reached
+	 */
+	public void recordQuery(long pStartTime, int pSettledNodes, long pRelaxedEdges, int pFrontierPeak, int pPathLength) {
+
+		if(pStartTime == NOT_RECORDED) {
+			return;
+		}
+
+		this.queryLatency.record(System.nanoTime() - pStartTime);
+		this.settledNodes.record(pSettledNodes);
+		this.relaxedEdges.record(pRelaxedEdges);
+		this.frontierPeak.record(pFrontierPeak);
+		this.pathLength.record(pPathLength);
+	}
+
+	/** This function records a query whose source or target node does not exist.
+	 *
+	 * @param pStartTime => result of startTimer() before the query
+	 */
+	public void recordUnknownNodeQuery(long pStartTime) {
+
+		if(pStartTime != NOT_RECORDED) {
+			this.unknownNodeQueries.increment();
+		}
+	}
+
+	/** This function records a query that was answered by a cache without a search. */
+	public void recordCacheHit() {
+
+		if(this.enabled) {
+			this.cacheHits.increment();
+		}
+	}
+
+	/** @param pStartTime => result of startTimer() before the search of the shortest path tree */
+	public void recordTree(long pStartTime) {
+		record(this.treeLatency, pStartTime);
+	}
+
+	/** @param pStartTime => result of startTimer() before the JSON data was parsed */
+	public void recordParse(long pStartTime) {
+		record(this.parseTime, pStartTime);
+	}
+
+	/** @param pStartTime => result of startTimer() before the graph was built */
+	public void recordBuild(long pStartTime) {
+		record(this.buildTime, pStartTime);
+	}
+
+	/** @param pStartTime => result of startTimer() before the graph was loaded */
+	public void recordLoad(long pStartTime) {
+		record(this.loadTime, pStartTime);
+	}
+
+	private static void record(Histogram pHistogram, long pStartTime) {
+
+		if(pStartTime != NOT_RECORDED) {
+			pHistogram.record(System.nanoTime() - pStartTime);
+		}
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean pEnabled) {
+		this.enabled = pEnabled;
+	}
+
+	@Override
+	public long getQueryCount() {
+		return this.queryLatency.getCount();
+	}
+
+	@Override
+	public long getUnknownNodeQueryCount() {
+		return this.unknownNodeQueries.sum();
+	}
+
+	@Override
+	public long getCacheHitCount() {
+		return this.cacheHits.sum();
+	}
+
+	@Override
+	public double getQueryLatencyMeanMillis() {
+		return this.queryLatency.getMean() / 1e6;
+	}
+
+	@Override
+	public double getQueryLatencyP50Millis() {
+		return this.queryLatency.getValueAtPercentile(50) / 1e6;
+	}
+
+	@Override
+	public double getQueryLatencyP99Millis() {
+		return this.queryLatency.getValueAtPercentile(99) / 1e6;
+	}
+
+	@Override
+	public double getQueryLatencyP999Millis() {
+		return this.queryLatency.getValueAtPercentile(99.9) / 1e6;
+	}
+
+	@Override
+	public double getQueryLatencyMaxMillis() {
+		return this.queryLatency.getMax() / 1e6;
+	}
+
+	@Override
+	public double getSettledNodesMean() {
+		return this.settledNodes.getMean();
+	}
+
+	@Override
+	public long getSettledNodesP99() {
+		return this.settledNodes.getValueAtPercentile(99);
+	}
+
+	@Override
+	public double getRelaxedEdgesMean() {
+		return this.relaxedEdges.getMean();
+	}
+
+	@Override
+	public long getRelaxedEdgesP99() {
+		return this.relaxedEdges.getValueAtPercentile(99);
+	}
+
+	@Override
+	public long getFrontierPeakMax() {
+		return this.frontierPeak.getMax();
+	}
+
+	@Override
+	public double getPathLengthMean() {
+		return this.pathLength.getMean();
+	}
+
+	@Override
+	public long getTreeCount() {
+		return this.treeLatency.getCount();
+	}
+
+	@Override
+	public double getTreeLatencyMeanMillis() {
+		return this.treeLatency.getMean() / 1e6;
+	}
+
+	/** @return the total time to parse JSON data */
+	@Override
+	public double getParseMillis() {
+		return this.parseTime.getSum() / 1e6;
+	}
+
+	/** @return the total time to build graphs */
+	@Override
+	public double getBuildMillis() {
+		return this.buildTime.getSum() / 1e6;
+	}
+
+	/** @return the total time to load graphs (download or snapshot, including parse and build) */
+	@Override
+	public double getLoadMillis() {
+		return this.loadTime.getSum() / 1e6;
+	}
+
+	@Override
+	public void reset() {
+
+		this.queryLatency.reset();
+		this.settledNodes.reset();
+		this.relaxedEdges.reset();
+		this.frontierPeak.reset();
+		this.pathLength.reset();
+		this.unknownNodeQueries.reset();
+		this.cacheHits.reset();
+		this.treeLatency.reset();
+		this.parseTime.reset();
+		this.buildTime.reset();
+		this.loadTime.reset();
+	}
+
+	/** This function creates a plain text overview of all metrics, one line per metric
+	 *  with the count, mean, percentiles and maximum.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the metrics as text
+	 */
+	@Override
+	public String dump() {
+
+		StringBuilder text = new StringBuilder();
+
+		text.append("metrics ").append(this.enabled ? "enabled" : "disabled").append('\n');
+		text.append(String.format(Locale.ROOT, "%-20s%d%n", "unknown node queries", getUnknownNodeQueryCount()));
+		text.append(String.format(Locale.ROOT, "%-20s%d%n", "cache hits", getCacheHitCount()));
+		appendLine(text, "query latency ms", this.queryLatency, 1e6);
+		appendLine(text, "settled nodes", this.settledNodes, 1);
+		appendLine(text, "relaxed edges", this.relaxedEdges, 1);
+		appendLine(text, "frontier peak", this.frontierPeak, 1);
+		appendLine(text, "path length", this.pathLength, 1);
+		appendLine(text, "tree latency ms", this.treeLatency, 1e6);
+		appendLine(text, "parse ms", this.parseTime, 1e6);
+		appendLine(text, "build ms", this.buildTime, 1e6);
+		appendLine(text, "load ms", this.loadTime, 1e6);
+
+		return text.toString();
+	}
+
+	private static void appendLine(StringBuilder pText, String pName, Histogram pHistogram, double pScale) {
+
+		pText.append(String.format(Locale.ROOT, "%-20scount %d  mean %.3f  p50 %.3f  p90 %.3f  p99 %.3f  p99.9 %.3f  max %.3f%n",
+				pName, pHistogram.getCount(), pHistogram.getMean() / pScale,
+				pHistogram.getValueAtPercentile(50) / pScale, pHistogram.getValueAtPercentile(90) / pScale,
+				pHistogram.getValueAtPercentile(99) / pScale, pHistogram.getValueAtPercentile(99.9) / pScale,
+				pHistogram.getMax() / pScale));
+	}
+
+}
@@ -0,0 +1,58 @@
+package de.interstellar.metrics;
+
+/** Management interface of the SearchMetrics, so they can be read and switched on
+ *  with JMX tools like jconsole or VisualVM. The durations are in milliseconds.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public interface SearchMetricsMBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean pEnabled);
+
+	long getQueryCount();
+
+	long getUnknownNodeQueryCount();
+
+	long getCacheHitCount();
+
+	double getQueryLatencyMeanMillis();
+
+	double getQueryLatencyP50Millis();
+
+	double getQueryLatencyP99Millis();
+
+	double getQueryLatencyP999Millis();
+
+	double getQueryLatencyMaxMillis();
+
+	double getSettledNodesMean();
+
+	long getSettledNodesP99();
+
+	double getRelaxedEdgesMean();
+
+	long getRelaxedEdgesP99();
+
+	long getFrontierPeakMax();
+
+	double getPathLengthMean();
+
+	long getTreeCount();
+
+	double getTreeLatencyMeanMillis();
+
+	double getParseMillis();
+
+	double getBuildMillis();
+
+	double getLoadMillis();
+
+	void reset();
+
+	String dump();
+
+}
@@ -0,0 +1,71 @@
+package de.interstellar.model.data;
+
+/** This class describes the layout of a binary graph snapshot. All values are stored
+ *  in little endian byte order.
+ *
+ *  Header (HEADER_SIZE bytes):
+ *  	- int magic number, always MAGIC
+ *  	- int version of the format, the reader only accepts VERSION
+ *  	- int flags (FLAG_SYMMETRIC if the graph is undirected)
+ *  	- int number of nodes (N)
+ *  	- int number of edges (M)
+ *  	- int unused, always 0
+ *  	- long number of bytes of the node names (B)
+ *  	- long CRC32 checksum of everything after the header
+ *
+ *  Body:
+ *  	- long[N + 1] for each node the position of its name in the name bytes, the
+ *  	  end position of a node without name (NULL) is marked with NULL_NAME
+ *  	- int[N + 1] for each node the index of its first edge
+ *  	- int[M] for each edge the id of the node it leads to
+ *  	- padding up to a multiple of 8 bytes
+ *  	- double[M] for each edge its cost
+ *  	- byte[B] the UTF-8 encoded names of the nodes one after another
+ *
+ *  All positions are long values, so a snapshot can be bigger than 2 GB. Version 1 stored
+ *  the name positions and B as int and is not read anymore.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+final class GraphSnapshotFormat {
+
+	static final int MAGIC = 0x47534E49; //"INSG" in little endian
+	static final int VERSION = 2;
+	static final int HEADER_SIZE = 40;
+	static final int FLAG_SYMMETRIC = 1;
+	static final long NULL_NAME = Long.MIN_VALUE;
+
+	private GraphSnapshotFormat() {
+	}
+
+	static long getNameOffsetsPosition() {
+		return HEADER_SIZE;
+	}
+
+	static long getOffsetsPosition(int pNodeCount) {
+		return getNameOffsetsPosition() + 8L * (pNodeCount + 1);
+	}
+
+	static long getTargetsPosition(int pNodeCount) {
+		return getOffsetsPosition(pNodeCount) + 4L * (pNodeCount + 1);
+	}
+
+	static long getCostsPosition(int pNodeCount, int pEdgeCount) {
+
+		long end = getTargetsPosition(pNodeCount) + 4L * pEdgeCount;
+
+		//The doubles start at a multiple of 8 bytes
+		return (end + 7) & ~7L;
+	}
+
+	static long getNameBytesPosition(int pNodeCount, int pEdgeCount) {
+		return getCostsPosition(pNodeCount, pEdgeCount) + 8L * pEdgeCount;
+	}
+
+	static long getFileSize(int pNodeCount, int pEdgeCount, long pNameByteCount) {
+		return getNameBytesPosition(pNodeCount, pEdgeCount) + pNameByteCount;
+	}
+
+}
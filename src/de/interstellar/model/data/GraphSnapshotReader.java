@@ -0,0 +1,184 @@
+package de.interstellar.model.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.MappedCsrGraph;
+
+/** This class loads a graph from a binary snapshot file (see GraphSnapshotFormat),
+ *  which was created by the GraphSnapshotWriter.
+ *
+ *  The file is mapped into memory (FileChannel.map) and the graph reads its data
+ *  directly from the mapped file (see MappedCsrGraph). Nothing needs to be parsed
+ *  or copied, so the graph can be used right after it was loaded.
+ *
+ *  A mapped buffer can not be bigger than 2 GB. Each section of the file is therefore
+ *  mapped separately in windows of the same size, so the file itself can be bigger.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphSnapshotReader {
+
+	private static final int DEFAULT_WINDOW_SHIFT = 30;
+
+	private final int windowShift;
+
+	/** Creates a reader that maps windows of 1 GB. */
+	public GraphSnapshotReader() {
+		this(DEFAULT_WINDOW_SHIFT);
+	}
+
+	/** Creates a reader that maps windows of the given size. Small windows are only useful
+	 *  to test files that consist of several windows.
+	 *
+	 * @param pWindowShift => every window has 1 << pWindowShift bytes (3 to 30)
+	 */
+	public GraphSnapshotReader(int pWindowShift) {
+
+		if(pWindowShift < 3 || pWindowShift > DEFAULT_WINDOW_SHIFT) {
+			throw new IllegalArgumentException("Invalid window shift: " + pWindowShift);
+		}
+
+		this.windowShift = pWindowShift;
+	}
+
+	/** This function checks whether the given file starts like a snapshot, e.g. to
+	 *  tell a snapshot from a file with JSON data.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pPath => path of the file
+	 * @return true if the file starts with the magic number of the snapshots
+	 * @throws IOException if the file can not be read
+	 */
+	public static boolean isSnapshot(Path pPath) throws IOException {
+
+		ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+
+		try(FileChannel channel = FileChannel.open(pPath, StandardOpenOption.READ)) {
+			while(magic.hasRemaining() && channel.read(magic) >= 0) {
+				//Read until the magic number is complete or the file ends
+			}
+		}
+
+		return !magic.hasRemaining() && magic.getInt(0) == GraphSnapshotFormat.MAGIC;
+	}
+
+	/** This function loads the graph from the given snapshot file and validates
+	 *  its checksum.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pPath => path of the snapshot file
+	 * @return the loaded graph
+	 * @throws IOException if the file can not be read or is not a valid snapshot
+	 */
+	public Graph read(Path pPath) throws IOException {
+		return read(pPath, true);
+	}
+
+	/** This function loads the graph from the given snapshot file. Validating the
+	 *  checksum needs to read the whole file once, without the validation only the
+	 *  pages that are used by the queries are loaded.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pPath => path of the snapshot file
+	 * @param pValidateChecksum => true if the checksum of the file needs to be validated
+	 * @return the loaded graph
+	 * @throws IOException if the file can not be read or is not a valid snapshot
+	 */
+	public Graph read(Path pPath, boolean pValidateChecksum) throws IOException {
+
+		//The mappings stay valid after the channel is closed
+		try(FileChannel channel = FileChannel.open(pPath, StandardOpenOption.READ)) {
+
+			long size = channel.size();
+
+			if(size < GraphSnapshotFormat.HEADER_SIZE) {
+				throw new IOException("Invalid size of the snapshot: " + size + " bytes");
+			}
+
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, GraphSnapshotFormat.HEADER_SIZE)
+					.order(ByteOrder.LITTLE_ENDIAN);
+
+			if(header.getInt(0) != GraphSnapshotFormat.MAGIC) {
+				throw new IOException("File is not a graph snapshot");
+			}
+
+			int version = header.getInt(4);
+
+			if(version != GraphSnapshotFormat.VERSION) {
+				throw new IOException("Unsupported snapshot version: " + version);
+			}
+
+			boolean symmetric = (header.getInt(8) & GraphSnapshotFormat.FLAG_SYMMETRIC) != 0;
+			int nodeCount = header.getInt(12);
+			int edgeCount = header.getInt(16);
+			long nameByteCount = header.getLong(24);
+			long checksum = header.getLong(32);
+
+			if(nodeCount < 0 || edgeCount < 0 || nameByteCount < 0
+					|| GraphSnapshotFormat.getFileSize(nodeCount, edgeCount, nameByteCount) != size) {
+				throw new IOException("Header of the snapshot does not match its size");
+			}
+
+			if(pValidateChecksum) {
+
+				CRC32 crc = new CRC32();
+
+				for(long position = GraphSnapshotFormat.HEADER_SIZE; position < size; position += 1L << this.windowShift) {
+					crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(1L << this.windowShift, size - position)));
+				}
+
+				if(crc.getValue() != checksum) {
+					throw new IOException("Checksum of the snapshot does not match");
+				}
+			}
+
+			long offsetsPosition = GraphSnapshotFormat.getOffsetsPosition(nodeCount);
+			long targetsPosition = GraphSnapshotFormat.getTargetsPosition(nodeCount);
+			long costsPosition = GraphSnapshotFormat.getCostsPosition(nodeCount, edgeCount);
+			long nameBytesPosition = GraphSnapshotFormat.getNameBytesPosition(nodeCount, edgeCount);
+
+			MappedCsrGraph csrGraph = new MappedCsrGraph(nodeCount, this.windowShift,
+					map(channel, offsetsPosition, targetsPosition),
+					map(channel, targetsPosition, targetsPosition + 4L * edgeCount),
+					map(channel, costsPosition, nameBytesPosition),
+					map(channel, GraphSnapshotFormat.getNameOffsetsPosition(), offsetsPosition),
+					map(channel, nameBytesPosition, size),
+					symmetric);
+
+			return new Graph(csrGraph);
+		}
+	}
+
+	/** @return the bytes between the given positions of the file, split into windows */
+	private ByteBuffer[] map(FileChannel pChannel, long pStart, long pEnd) throws IOException {
+
+		long windowSize = 1L << this.windowShift;
+		ByteBuffer[] windows = new ByteBuffer[(int) ((pEnd - pStart + windowSize - 1) >>> this.windowShift)];
+
+		for(int i=0; i < windows.length; i++) {
+
+			long position = pStart + i * windowSize;
+
+			windows[i] = pChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, pEnd - position))
+					.order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		return windows;
+	}
+
+}
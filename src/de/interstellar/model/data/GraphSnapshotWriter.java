@@ -0,0 +1,216 @@
+package de.interstellar.model.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** This class writes a graph into a binary snapshot file (see GraphSnapshotFormat),
+ *  which can be loaded again by the GraphSnapshotReader without parsing.
+ *
+ *  The file is first written next to the target file and then moved to its place,
+ *  so a reader never sees a file that is only partly written.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphSnapshotWriter {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private FileChannel channel;
+	private ByteBuffer buffer;
+	private CRC32 checksum;
+
+	/** This function writes the given graph into the given file. An existing file
+	 *  is replaced.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pGraph => the graph to write
+	 * @param pPath => path of the snapshot file
+	 * @throws IOException
+	 */
+	public void write(Graph pGraph, Path pPath) throws IOException {
+
+		CsrGraph csrGraph = pGraph.getCsrGraph();
+		int nodeCount = csrGraph.getNodeCount();
+		int edgeCount = csrGraph.getEdgeCount();
+
+		byte[][] names = new byte[nodeCount][];
+		long nameByteCount = 0;
+
+		for(int i=0; i < nodeCount; i++) {
+			String name = csrGraph.getNodeName(i);
+
+			//A node without name keeps NULL, its offset is marked
+			if(name != null) {
+				names[i] = name.getBytes(StandardCharsets.UTF_8);
+				nameByteCount += names[i].length;
+			}
+		}
+
+		Path absolutePath = pPath.toAbsolutePath();
+		Path tempPath = absolutePath.resolveSibling(absolutePath.getFileName() + ".tmp");
+
+		try(FileChannel fileChannel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			this.channel = fileChannel;
+			this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			this.checksum = new CRC32();
+
+			//The header is written at the end, when the checksum is known
+			this.channel.position(GraphSnapshotFormat.HEADER_SIZE);
+
+			long nameOffset = 0;
+			putLong(nameOffset);
+
+			for(int i=0; i < nodeCount; i++) {
+
+				if(names[i] == null) {
+					putLong(nameOffset | GraphSnapshotFormat.NULL_NAME);
+				} else {
+					nameOffset += names[i].length;
+					putLong(nameOffset);
+				}
+			}
+
+			for(int i=0; i <= nodeCount; i++) {
+				putInt(i < nodeCount ? csrGraph.getEdgeStart(i) : edgeCount);
+			}
+
+			for(int e=0; e < edgeCount; e++) {
+				putInt(csrGraph.getEdgeTarget(e));
+			}
+
+			long position = GraphSnapshotFormat.getTargetsPosition(nodeCount) + 4L * edgeCount;
+
+			for(long p = position; p < GraphSnapshotFormat.getCostsPosition(nodeCount, edgeCount); p++) {
+				putByte((byte) 0);
+			}
+
+			for(int e=0; e < edgeCount; e++) {
+				putDouble(csrGraph.getEdgeCost(e));
+			}
+
+			for(int i=0; i < nodeCount; i++) {
+				if(names[i] != null) {
+					putBytes(names[i]);
+				}
+			}
+
+			flush();
+
+			ByteBuffer header = ByteBuffer.allocate(GraphSnapshotFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(GraphSnapshotFormat.MAGIC);
+			header.putInt(GraphSnapshotFormat.VERSION);
+			header.putInt(csrGraph.isSymmetric() ? GraphSnapshotFormat.FLAG_SYMMETRIC : 0);
+			header.putInt(nodeCount);
+			header.putInt(edgeCount);
+			header.putInt(0);
+			header.putLong(nameByteCount);
+			header.putLong(this.checksum.getValue());
+			header.flip();
+
+			this.channel.position(0);
+
+			while(header.hasRemaining()) {
+				this.channel.write(header);
+			}
+
+			this.channel.force(false);
+		} catch(IOException e) {
+			Files.deleteIfExists(tempPath);
+			throw e;
+		} finally {
+			this.channel = null;
+			this.buffer = null;
+			this.checksum = null;
+		}
+
+		try {
+			Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch(AtomicMoveNotSupportedException e) {
+			Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private void putInt(int pValue) throws IOException {
+
+		if(this.buffer.remaining() < 4) {
+			flush();
+		}
+
+		this.buffer.putInt(pValue);
+	}
+
+	private void putLong(long pValue) throws IOException {
+
+		if(this.buffer.remaining() < 8) {
+			flush();
+		}
+
+		this.buffer.putLong(pValue);
+	}
+
+	private void putDouble(double pValue) throws IOException {
+
+		if(this.buffer.remaining() < 8) {
+			flush();
+		}
+
+		this.buffer.putDouble(pValue);
+	}
+
+	private void putByte(byte pValue) throws IOException {
+
+		if(!this.buffer.hasRemaining()) {
+			flush();
+		}
+
+		this.buffer.put(pValue);
+	}
+
+	private void putBytes(byte[] pValues) throws IOException {
+
+		int offset = 0;
+
+		while(offset < pValues.length) {
+
+			if(!this.buffer.hasRemaining()) {
+				flush();
+			}
+
+			int length = Math.min(this.buffer.remaining(), pValues.length - offset);
+			this.buffer.put(pValues, offset, length);
+			offset += length;
+		}
+	}
+
+	/** This function writes the buffered bytes into the file and adds them to the checksum. */
+	private void flush() throws IOException {
+
+		this.buffer.flip();
+		this.checksum.update(this.buffer.array(), 0, this.buffer.limit());
+
+		while(this.buffer.hasRemaining()) {
+			this.channel.write(this.buffer);
+		}
+
+		this.buffer.clear();
+	}
+
+}
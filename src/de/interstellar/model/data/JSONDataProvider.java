@@ -2,6 +2,7 @@ package de.interstellar.model.data;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -60,6 +61,25 @@ public class JSONDataProvider {
 		return response.toString();
 	}
 	
+	/** This function opens a stream to the JSON data of the given website (URL). Other
+	 *  than retrieveDataFromUrl, the data is not read into memory, so it can be
+	 *  processed while it is received (see JSONStreamReader). The caller needs to
+	 *  close the stream.
+	 * 
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 * 
+	 * @param pDataUrl => a String representing the URL to the JSON data.
+	 * @return => stream that delivers the bytes of the JSON data.
+	 * 
+	 * @throws MalformedURLException
+	 * @throws IOException
+	 */
+	public InputStream openDataStream(String pDataUrl) throws MalformedURLException, IOException {
+		
+		return establishDataConnection(pDataUrl).getInputStream();
+	}
+	
 	/** This function establishes a connection to the given URL in order to
 	 *  retrieve the provided JSON Data.
 	 * 
@@ -4,6 +4,8 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import de.interstellar.metrics.SearchMetrics;
+
 /** This class provides the functionality to parse a JSON object
  *  and retrieve the included data. 
  * 
@@ -28,12 +30,15 @@ public class JSONParser {
 	public JSONObject createJSONObject(String pData) {
 		
 		JSONObject obj = null;
+		long startTime = SearchMetrics.getInstance().startTimer();
 		
 		try {
 			obj = new JSONObject(pData);
 		} catch(JSONException ex) {
 			System.out.println("The given String does not represent a valid JSON object!");
 		}
+		
+		SearchMetrics.getInstance().recordParse(startTime);
 				
 		return obj;
 		
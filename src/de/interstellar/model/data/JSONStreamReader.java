@@ -0,0 +1,524 @@
+package de.interstellar.model.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/** This class reads data in JavaScript Object Notation (JSON) token by token
+ *  from a stream. Other than the JSONParser, it does not need the whole document
+ *  in memory: the caller pulls one value after the other and decides what to do
+ *  with it, values that are not of interest can be skipped.
+ *
+ *  Example for the document {"nodes":[{"label":"Erde"}]}:
+ *  	beginObject(), nextName() => "nodes", beginArray(), beginObject(),
+ *  	nextName() => "label", nextString() => "Erde", endObject(), endArray(), endObject()
+ *
+ *  If the data does not fit the expected structure, an IOException is thrown.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class JSONStreamReader {
+
+	/** The kind of the next token in the stream */
+	public enum Token {
+		BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+	}
+
+	private static final int BUFFER_SIZE = 65536;
+
+	//Position within the surrounding structure, one entry per nesting level
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_ARRAY = 2;
+	private static final int NONEMPTY_ARRAY = 3;
+	private static final int EMPTY_OBJECT = 4;
+	private static final int NONEMPTY_OBJECT = 5;
+	private static final int DANGLING_NAME = 6;
+
+	private final InputStream inputStream;
+	private final byte[] buffer;
+	private int position;
+	private int limit;
+	private long offset;
+
+	private int[] stack;
+	private int stackSize;
+
+	private Token peeked;
+	private final StringBuilder value;
+
+	public JSONStreamReader(InputStream pInputStream) {
+
+		this.inputStream = pInputStream;
+		this.buffer = new byte[BUFFER_SIZE];
+		this.stack = new int[32];
+		this.stack[this.stackSize++] = EMPTY_DOCUMENT;
+		this.value = new StringBuilder();
+	}
+
+	public JSONStreamReader(ReadableByteChannel pChannel) {
+
+		this(Channels.newInputStream(pChannel));
+	}
+
+	/** @return the kind of the next token, without consuming it */
+	public Token peek() throws IOException {
+
+		if(this.peeked == null) {
+			this.peeked = readToken();
+		}
+
+		return this.peeked;
+	}
+
+	/** @return true if the current array or object has another element */
+	public boolean hasNext() throws IOException {
+
+		Token token = peek();
+
+		return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+	}
+
+	public void beginObject() throws IOException {
+
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+
+	public void endObject() throws IOException {
+
+		expect(Token.END_OBJECT);
+		this.stackSize--;
+	}
+
+	public void beginArray() throws IOException {
+
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+
+	public void endArray() throws IOException {
+
+		expect(Token.END_ARRAY);
+		this.stackSize--;
+	}
+
+	/** @return the name of the next member of the current object */
+	public String nextName() throws IOException {
+
+		expect(Token.NAME);
+
+		return this.value.toString();
+	}
+
+	/** @return the next value as a string, numbers are returned as they were written */
+	public String nextString() throws IOException {
+
+		Token token = peek();
+
+		if(token != Token.STRING && token != Token.NUMBER) {
+			throw syntaxError("Expected a string but found " + token);
+		}
+
+		this.peeked = null;
+
+		return this.value.toString();
+	}
+
+	/** @return the next value as a number, strings that contain a number are accepted as well */
+	public double nextDouble() throws IOException {
+
+		String text = nextString();
+
+		try {
+			return Double.parseDouble(text);
+		} catch(NumberFormatException ex) {
+			throw syntaxError("Expected a number but found \"" + text + "\"");
+		}
+	}
+
+	/** @return the next value as an integer, like JSONObject.getInt the value is truncated */
+	public int nextInt() throws IOException {
+
+		return (int) nextDouble();
+	}
+
+	/** This function skips the next value. If it is an array or an object, all of its
+	 *  content is skipped.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	public void skipValue() throws IOException {
+
+		int depth = 0;
+
+		do {
+
+			Token token = peek();
+			this.peeked = null;
+
+			if(token == Token.BEGIN_OBJECT) {
+				push(EMPTY_OBJECT);
+				depth++;
+			} else if(token == Token.BEGIN_ARRAY) {
+				push(EMPTY_ARRAY);
+				depth++;
+			} else if(token == Token.END_OBJECT || token == Token.END_ARRAY) {
+				this.stackSize--;
+				depth--;
+			} else if(token == Token.END_DOCUMENT) {
+				throw syntaxError("Unexpected end of data");
+			}
+
+		} while(depth > 0);
+	}
+
+	/** This function consumes the next token, which needs to be of the given kind.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void expect(Token pToken) throws IOException {
+
+		Token token = peek();
+
+		if(token != pToken) {
+			throw syntaxError("Expected " + pToken + " but found " + token);
+		}
+
+		this.peeked = null;
+	}
+
+	/** This function reads the next token from the stream. Commas and colons are checked
+	 *  depending on the position within the surrounding array or object.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the kind of the token
+	 */
+	private Token readToken() throws IOException {
+
+		int scope = this.stack[this.stackSize - 1];
+		int c;
+
+		if(scope == EMPTY_ARRAY) {
+
+			this.stack[this.stackSize - 1] = NONEMPTY_ARRAY;
+			c = nextNonWhitespace();
+
+			if(c == ']') {
+				return Token.END_ARRAY;
+			}
+
+			return readValue(c);
+
+		} else if(scope == NONEMPTY_ARRAY) {
+
+			c = nextNonWhitespace();
+
+			if(c == ']') {
+				return Token.END_ARRAY;
+			} else if(c != ',') {
+				throw syntaxError("Expected ',' or ']'");
+			}
+
+		} else if(scope == EMPTY_OBJECT || scope == NONEMPTY_OBJECT) {
+
+			this.stack[this.stackSize - 1] = DANGLING_NAME;
+			c = nextNonWhitespace();
+
+			if(c == '}') {
+				return Token.END_OBJECT;
+			}
+
+			if(scope == NONEMPTY_OBJECT) {
+				if(c != ',') {
+					throw syntaxError("Expected ',' or '}'");
+				}
+				c = nextNonWhitespace();
+			}
+
+			if(c != '"') {
+				throw syntaxError("Expected a name");
+			}
+
+			readString();
+
+			return Token.NAME;
+
+		} else if(scope == DANGLING_NAME) {
+
+			this.stack[this.stackSize - 1] = NONEMPTY_OBJECT;
+
+			if(nextNonWhitespace() != ':') {
+				throw syntaxError("Expected ':'");
+			}
+
+		} else if(scope == EMPTY_DOCUMENT) {
+
+			this.stack[this.stackSize - 1] = NONEMPTY_DOCUMENT;
+
+		} else {
+
+			if(nextNonWhitespace() == -1) {
+				return Token.END_DOCUMENT;
+			}
+
+			throw syntaxError("Unexpected data after the end of the document");
+		}
+
+		return readValue(nextNonWhitespace());
+	}
+
+	/** This function reads a value that starts with the given character.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private Token readValue(int pFirst) throws IOException {
+
+		switch(pFirst) {
+		case '{':
+			return Token.BEGIN_OBJECT;
+		case '[':
+			return Token.BEGIN_ARRAY;
+		case '"':
+			readString();
+			return Token.STRING;
+		case 't':
+			readLiteral("true");
+			return Token.BOOLEAN;
+		case 'f':
+			readLiteral("false");
+			return Token.BOOLEAN;
+		case 'n':
+			readLiteral("null");
+			return Token.NULL;
+		case -1:
+			throw syntaxError("Unexpected end of data");
+		default:
+			if(pFirst == '-' || (pFirst >= '0' && pFirst <= '9')) {
+				readNumber(pFirst);
+				return Token.NUMBER;
+			}
+			throw syntaxError("Unexpected character '" + (char) pFirst + "'");
+		}
+	}
+
+	/** This function reads a string after its opening quote. The UTF-8 bytes and the
+	 *  escape sequences are decoded into the value buffer.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void readString() throws IOException {
+
+		this.value.setLength(0);
+
+		while(true) {
+
+			int c = read();
+
+			if(c == '"') {
+				return;
+			} else if(c == -1) {
+				throw syntaxError("Unterminated string");
+			} else if(c == '\\') {
+				readEscape();
+			} else if(c < 0x80) {
+				this.value.append((char) c);
+			} else {
+				readMultiByteCharacter(c);
+			}
+		}
+	}
+
+	/** This function decodes an escape sequence after the backslash.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void readEscape() throws IOException {
+
+		int c = read();
+
+		switch(c) {
+		case 'b':
+			this.value.append('\b');
+			break;
+		case 'f':
+			this.value.append('\f');
+			break;
+		case 'n':
+			this.value.append('\n');
+			break;
+		case 'r':
+			this.value.append('\r');
+			break;
+		case 't':
+			this.value.append('\t');
+			break;
+		case 'u':
+			int code = 0;
+			for(int i=0; i < 4; i++) {
+				int digit = Character.digit(read(), 16);
+				if(digit < 0) {
+					throw syntaxError("Invalid unicode escape");
+				}
+				code = code * 16 + digit;
+			}
+			//Surrogate pairs are written as two escapes, appending both chars joins them
+			this.value.append((char) code);
+			break;
+		case '"':
+		case '\\':
+		case '/':
+			this.value.append((char) c);
+			break;
+		default:
+			throw syntaxError("Invalid escape sequence");
+		}
+	}
+
+	/** This function decodes a character that is encoded in more than one byte (UTF-8).
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pFirst => the first byte of the character
+	 */
+	private void readMultiByteCharacter(int pFirst) throws IOException {
+
+		int count;
+		int codePoint;
+
+		if((pFirst & 0xE0) == 0xC0) {
+			count = 1;
+			codePoint = pFirst & 0x1F;
+		} else if((pFirst & 0xF0) == 0xE0) {
+			count = 2;
+			codePoint = pFirst & 0x0F;
+		} else if((pFirst & 0xF8) == 0xF0) {
+			count = 3;
+			codePoint = pFirst & 0x07;
+		} else {
+			this.value.append('\uFFFD');
+			return;
+		}
+
+		for(int i=0; i < count; i++) {
+
+			int c = read();
+
+			if((c & 0xC0) != 0x80) {
+				throw syntaxError("Invalid UTF-8 data");
+			}
+
+			codePoint = (codePoint << 6) | (c & 0x3F);
+		}
+
+		this.value.appendCodePoint(codePoint);
+	}
+
+	/** This function reads a number into the value buffer.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void readNumber(int pFirst) throws IOException {
+
+		this.value.setLength(0);
+		this.value.append((char) pFirst);
+
+		while(true) {
+
+			int c = peekByte();
+
+			if((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+				this.value.append((char) c);
+				this.position++;
+			} else {
+				return;
+			}
+		}
+	}
+
+	/** This function checks that the stream continues with the given literal. The
+	 *  first character was already read.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void readLiteral(String pLiteral) throws IOException {
+
+		for(int i=1; i < pLiteral.length(); i++) {
+			if(read() != pLiteral.charAt(i)) {
+				throw syntaxError("Expected " + pLiteral);
+			}
+		}
+	}
+
+	/** @return the next character that is not a whitespace, -1 at the end of the stream */
+	private int nextNonWhitespace() throws IOException {
+
+		while(true) {
+
+			int c = read();
+
+			if(c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+				return c;
+			}
+		}
+	}
+
+	/** @return the next byte of the stream, -1 at the end of the stream */
+	private int read() throws IOException {
+
+		int c = peekByte();
+
+		if(c >= 0) {
+			this.position++;
+		}
+
+		return c;
+	}
+
+	/** @return the next byte of the stream without consuming it, -1 at the end of the stream */
+	private int peekByte() throws IOException {
+
+		if(this.position == this.limit) {
+
+			this.offset += this.limit;
+			this.position = 0;
+			this.limit = Math.max(this.inputStream.read(this.buffer), 0);
+
+			if(this.limit == 0) {
+				return -1;
+			}
+		}
+
+		return this.buffer[this.position] & 0xFF;
+	}
+
+	private void push(int pScope) {
+
+		if(this.stackSize == this.stack.length) {
+			int[] newStack = new int[2 * this.stackSize];
+			System.arraycopy(this.stack, 0, newStack, 0, this.stackSize);
+			this.stack = newStack;
+		}
+
+		this.stack[this.stackSize++] = pScope;
+	}
+
+	private IOException syntaxError(String pMessage) {
+
+		return new IOException(pMessage + " at byte " + (this.offset + this.position));
+	}
+
+}
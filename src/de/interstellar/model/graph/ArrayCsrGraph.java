@@ -0,0 +1,469 @@
+package de.interstellar.model.graph;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/** Immutable implementation of a CsrGraph that is backed by primitive arrays.
+ *
+ *  	- offsets: for each node the index of its first edge (length nodeCount + 1)
+ *  	- targets: for each edge the id of the node it leads to
+ *  	- costs: for each edge its cost
+ *
+ *  The costs are kept in blocks of COST_BLOCK_SIZE edges. A graph with changed costs
+ *  (see withCostChanges) shares all blocks without changes with the old graph, so an
+ *  update of a few costs does not copy the costs of all edges.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public final class ArrayCsrGraph implements CsrGraph {
+
+	/** Nodes with up to this number of edges search for duplicates without a table. */
+	private static final int SMALL_DEGREE = 16;
+
+	private static final int COST_BLOCK_SHIFT = 12;
+	private static final int COST_BLOCK_SIZE = 1 << COST_BLOCK_SHIFT;
+	private static final int COST_BLOCK_MASK = COST_BLOCK_SIZE - 1;
+
+	private final String[] names;
+	private final int[] offsets;
+	private final int[] targets;
+	private final double[][] costBlocks;
+	private final boolean symmetric;
+
+	public ArrayCsrGraph(String[] pNames, int[] pOffsets, int[] pTargets, double[] pCosts, boolean pSymmetric) {
+
+		this.names = pNames;
+		this.offsets = pOffsets;
+		this.targets = pTargets;
+		this.costBlocks = new double[(pCosts.length + COST_BLOCK_MASK) >>> COST_BLOCK_SHIFT][];
+		this.symmetric = pSymmetric;
+
+		for(int i=0; i < this.costBlocks.length; i++) {
+			this.costBlocks[i] = Arrays.copyOfRange(pCosts, i << COST_BLOCK_SHIFT, Math.min(pCosts.length, (i + 1) << COST_BLOCK_SHIFT));
+		}
+	}
+
+	private ArrayCsrGraph(String[] pNames, int[] pOffsets, int[] pTargets, double[][] pCostBlocks, boolean pSymmetric) {
+
+		this.names = pNames;
+		this.offsets = pOffsets;
+		this.targets = pTargets;
+		this.costBlocks = pCostBlocks;
+		this.symmetric = pSymmetric;
+	}
+
+	/** This function creates a CSR graph out of a list of edges, like
+	 *  fromEdges(..., pPolicy), with the cost of the last duplicate (KEEP_LAST).
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	public static ArrayCsrGraph fromEdges(String[] pNames, int pNodeCount, int[] pSources, int[] pTargets,
+			double[] pCosts, int pEdgeCount, boolean pUndirected) {
+
+		return fromEdges(pNames, pNodeCount, pSources, pTargets, pCosts, pEdgeCount, pUndirected, DuplicateEdgePolicy.KEEP_LAST);
+	}
+
+	/** This function creates a CSR graph out of a list of edges in a single part.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @see #fromEdges(String[], int, int[], int[], double[], int, boolean, DuplicateEdgePolicy, int)
+	 */
+	public static ArrayCsrGraph fromEdges(String[] pNames, int pNodeCount, int[] pSources, int[] pTargets,
+			double[] pCosts, int pEdgeCount, boolean pUndirected, DuplicateEdgePolicy pPolicy) {
+
+		return fromEdges(pNames, pNodeCount, pSources, pTargets, pCosts, pEdgeCount, pUndirected, pPolicy, 1);
+	}
+
+	/** This function creates a CSR graph out of a list of edges. The edges are given
+	 *  as three parallel arrays (source id, target id, cost). If the graph is undirected,
+	 *  each edge is stored in both directions with the same costs.
+	 *
+	 *  The edges are sorted by their source with a counting sort that is split into parts
+	 *  handled in parallel. The input is split into one chunk per part and every chunk
+	 *  counts the edges of each node. A prefix sum over (node, chunk) gives every chunk its
+	 *  own place for the edges of each node, so the chunks can place their edges at the
+	 *  same time. As the chunks of a node follow each other in input order, the edges of
+	 *  every node keep their input order. Afterwards the nodes are split into ranges with
+	 *  about the same number of edges, each range removes the duplicate edges of its nodes
+	 *  (see DuplicateEdgePolicy) and the remaining edges are moved together.
+	 *
+	 *  If the same connection is given more than once, the cost is chosen by the policy.
+	 *  The order of the neighbors of a node is the order in which they were first seen.
+	 *  The result does not depend on the number of parts. Every part needs an int per node
+	 *  for its counts.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNames => names of the nodes, the index is the id of the node
+	 * @param pNodeCount => number of nodes
+	 * @param pSources => source node ids of the edges
+	 * @param pTargets => target node ids of the edges
+	 * @param pCosts => costs of the edges
+	 * @param pEdgeCount => number of valid entries in the edge arrays
+	 * @param pUndirected => true if every edge needs to be stored in both directions
+	 * @param pPolicy => which cost is kept for duplicate edges
+	 * @param pPartCount => number of parts that are built in parallel
+	 * @return the created graph
+	 */
+	public static ArrayCsrGraph fromEdges(String[] pNames, int pNodeCount, int[] pSources, int[] pTargets,
+			double[] pCosts, int pEdgeCount, boolean pUndirected, DuplicateEdgePolicy pPolicy, int pPartCount) {
+
+		long arcCount = pUndirected ? 2L * pEdgeCount : pEdgeCount;
+
+		if(arcCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many edges for a graph: " + arcCount);
+		}
+
+		int chunkCount = Math.max(1, Math.min(pPartCount, pEdgeCount));
+		int[] chunkBounds = new int[chunkCount + 1];
+
+		for(int i=0; i <= chunkCount; i++) {
+			chunkBounds[i] = (int) ((long) pEdgeCount * i / chunkCount);
+		}
+
+		//Count the outgoing edges of each node per chunk (counting sort, step 1)
+		int[][] cursors = new int[chunkCount][pNodeCount];
+
+		runParts(chunkCount, chunk -> {
+
+			int[] counts = cursors[chunk];
+
+			for(int i = chunkBounds[chunk]; i < chunkBounds[chunk + 1]; i++) {
+				counts[pSources[i]]++;
+				if(pUndirected) {
+					counts[pTargets[i]]++;
+				}
+			}
+		});
+
+		//Exclusive prefix sum over (node, chunk): the counts become the place where each
+		//chunk puts its first edge of the node
+		int[] offsets = new int[pNodeCount + 1];
+		int sum = 0;
+
+		for(int node=0; node < pNodeCount; node++) {
+
+			offsets[node] = sum;
+
+			for(int chunk=0; chunk < chunkCount; chunk++) {
+				int count = cursors[chunk][node];
+				cursors[chunk][node] = sum;
+				sum += count;
+			}
+		}
+
+		offsets[pNodeCount] = sum;
+
+		//Put each edge at its place
+		int[] targets = new int[(int) arcCount];
+		double[] costs = new double[(int) arcCount];
+
+		runParts(chunkCount, chunk -> {
+
+			int[] position = cursors[chunk];
+
+			for(int i = chunkBounds[chunk]; i < chunkBounds[chunk + 1]; i++) {
+
+				int p = position[pSources[i]]++;
+				targets[p] = pTargets[i];
+				costs[p] = pCosts[i];
+
+				if(pUndirected) {
+					p = position[pTargets[i]]++;
+					targets[p] = pSources[i];
+					costs[p] = pCosts[i];
+				}
+			}
+		});
+
+		//Each range of nodes gets about the same number of edges, so nodes with a lot of
+		//edges do not slow down a single part
+		int partCount = Math.max(1, Math.min(pPartCount, pNodeCount));
+		int[] bounds = new int[partCount + 1];
+
+		for(int i=1; i < partCount; i++) {
+			bounds[i] = Math.max(bounds[i - 1], findNode(offsets, (int) (arcCount * i / partCount)));
+		}
+		bounds[partCount] = pNodeCount;
+
+		//The cursors of the first chunk are not needed anymore, they receive the number
+		//of edges of each node without duplicates
+		int[] degrees = cursors[0];
+
+		runParts(partCount, part -> removeDuplicates(bounds[part], bounds[part + 1], offsets, targets, costs, degrees, pPolicy));
+
+		return compact(pNames, pNodeCount, offsets, targets, costs, degrees, bounds, pUndirected);
+	}
+
+	private static void runParts(int pPartCount, IntConsumer pPart) {
+
+		if(pPartCount == 1) {
+			pPart.accept(0);
+		} else {
+			IntStream.range(0, pPartCount).parallel().forEach(pPart);
+		}
+	}
+
+	/** @return the node whose edges contain the given edge index (the last one for empty nodes) */
+	private static int findNode(int[] pOffsets, int pEdgeIndex) {
+
+		int low = 0;
+		int high = pOffsets.length - 1;
+
+		//Find the last node with offsets[node] <= index
+		while(low < high) {
+
+			int middle = (low + high + 1) >>> 1;
+
+			if(pOffsets[middle] <= pEdgeIndex) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		return low;
+	}
+
+	/** This function removes the duplicate edges of the nodes from pLow to pHigh - 1. The
+	 *  edges of each node stay in its section of the arrays, the first position of an edge
+	 *  is kept and its cost is chosen by the policy.
+	 *
+	 *  Nodes with few edges compare each edge with the ones kept before, the others use a
+	 *  hash table of the targets. So no part needs an array over all nodes and a node with
+	 *  a lot of edges does not take quadratic time.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pDegrees => receives the number of remaining edges of each node
+	 */
+	private static void removeDuplicates(int pLow, int pHigh, int[] pOffsets, int[] pTargets, double[] pCosts,
+			int[] pDegrees, DuplicateEdgePolicy pPolicy) {
+
+		//Position of a kept edge + 1 within its node, 0 for a free slot
+		int[] table = new int[0];
+
+		for(int node = pLow; node < pHigh; node++) {
+
+			int start = pOffsets[node];
+			int end = pOffsets[node + 1];
+			int write = start;
+
+			if(end - start <= SMALL_DEGREE) {
+
+				for(int e = start; e < end; e++) {
+
+					int target = pTargets[e];
+					int kept = start;
+
+					while(kept < write && pTargets[kept] != target) {
+						kept++;
+					}
+
+					if(kept < write) {
+						pCosts[kept] = pPolicy.merge(pCosts[kept], pCosts[e]);
+					} else {
+						pTargets[write] = target;
+						pCosts[write] = pCosts[e];
+						write++;
+					}
+				}
+			} else {
+
+				int capacity = Integer.highestOneBit(2 * (end - start) - 1) << 1;
+				if(table.length < capacity) {
+					table = new int[capacity];
+				}
+				int mask = capacity - 1;
+
+				for(int e = start; e < end; e++) {
+
+					int target = pTargets[e];
+					int hash = target * 0x9E3779B9;
+					int slot = (hash ^ hash >>> 16) & mask;
+
+					while(table[slot] != 0 && pTargets[start + table[slot] - 1] != target) {
+						slot = (slot + 1) & mask;
+					}
+
+					if(table[slot] != 0) {
+						int kept = start + table[slot] - 1;
+						pCosts[kept] = pPolicy.merge(pCosts[kept], pCosts[e]);
+					} else {
+						table[slot] = write - start + 1;
+						pTargets[write] = target;
+						pCosts[write] = pCosts[e];
+						write++;
+					}
+				}
+
+				Arrays.fill(table, 0, capacity, 0);
+			}
+
+			pDegrees[node] = write - start;
+		}
+	}
+
+	/** This function moves the remaining edges of all nodes together, after the duplicates
+	 *  were removed. If there were none, the arrays are used as they are.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private static ArrayCsrGraph compact(String[] pNames, int pNodeCount, int[] pOffsets, int[] pTargets, double[] pCosts,
+			int[] pDegrees, int[] pBounds, boolean pSymmetric) {
+
+		int[] offsets = new int[pNodeCount + 1];
+
+		for(int i=0; i < pNodeCount; i++) {
+			offsets[i + 1] = offsets[i] + pDegrees[i];
+		}
+
+		if(offsets[pNodeCount] == pTargets.length) {
+			return new ArrayCsrGraph(pNames, pOffsets, pTargets, pCosts, pSymmetric);
+		}
+
+		int[] targets = new int[offsets[pNodeCount]];
+		double[] costs = new double[offsets[pNodeCount]];
+
+		runParts(pBounds.length - 1, part -> {
+			for(int node = pBounds[part]; node < pBounds[part + 1]; node++) {
+				System.arraycopy(pTargets, pOffsets[node], targets, offsets[node], pDegrees[node]);
+				System.arraycopy(pCosts, pOffsets[node], costs, offsets[node], pDegrees[node]);
+			}
+		});
+
+		return new ArrayCsrGraph(pNames, offsets, targets, costs, pSymmetric);
+	}
+
+	/** This function creates the reverse of the given graph: for each edge from A to B
+	 *  the reverse graph contains an edge from B to A with the same costs.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph to reverse
+	 * @return the reverse graph
+	 */
+	public static ArrayCsrGraph transpose(CsrGraph pCsrGraph) {
+
+		int nodeCount = pCsrGraph.getNodeCount();
+		int edgeCount = pCsrGraph.getEdgeCount();
+
+		String[] names = new String[nodeCount];
+		int[] offsets = new int[nodeCount + 1];
+
+		for(int node=0; node < nodeCount; node++) {
+
+			names[node] = pCsrGraph.getNodeName(node);
+
+			for(int e = pCsrGraph.getEdgeStart(node); e < pCsrGraph.getEdgeEnd(node); e++) {
+				offsets[pCsrGraph.getEdgeTarget(e) + 1]++;
+			}
+		}
+
+		for(int i=0; i < nodeCount; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+
+		int[] position = Arrays.copyOf(offsets, nodeCount);
+		int[] targets = new int[edgeCount];
+		double[] costs = new double[edgeCount];
+
+		for(int node=0; node < nodeCount; node++) {
+			for(int e = pCsrGraph.getEdgeStart(node); e < pCsrGraph.getEdgeEnd(node); e++) {
+
+				int p = position[pCsrGraph.getEdgeTarget(e)]++;
+				targets[p] = node;
+				costs[p] = pCsrGraph.getEdgeCost(e);
+			}
+		}
+
+		return new ArrayCsrGraph(names, offsets, targets, costs, pCsrGraph.isSymmetric());
+	}
+
+	/** This function creates a graph with the same nodes and edges but some changed costs.
+	 *  Only the blocks of the costs that contain a changed edge are copied, all other arrays
+	 *  are shared with this graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pEdges => the indices of the changed edges
+	 * @param pCosts => the new costs, in the same order as the edges
+	 * @param pCount => number of changed edges
+	 * @return the graph with the new costs
+	 */
+	ArrayCsrGraph withCostChanges(int[] pEdges, double[] pCosts, int pCount) {
+
+		double[][] blocks = this.costBlocks.clone();
+
+		for(int i=0; i < pCount; i++) {
+
+			int block = pEdges[i] >>> COST_BLOCK_SHIFT;
+
+			//Copy each block only once
+			if(blocks[block] == this.costBlocks[block]) {
+				blocks[block] = blocks[block].clone();
+			}
+
+			blocks[block][pEdges[i] & COST_BLOCK_MASK] = pCosts[i];
+		}
+
+		return new ArrayCsrGraph(this.names, this.offsets, this.targets, blocks, this.symmetric);
+	}
+
+	/** @return the names of the nodes, the array is shared and must not be changed */
+	String[] getNames() {
+		return this.names;
+	}
+
+	@Override
+	public int getNodeCount() {
+		return this.offsets.length - 1;
+	}
+
+	@Override
+	public int getEdgeCount() {
+		return this.targets.length;
+	}
+
+	@Override
+	public int getEdgeStart(int pNodeId) {
+		return this.offsets[pNodeId];
+	}
+
+	@Override
+	public int getEdgeEnd(int pNodeId) {
+		return this.offsets[pNodeId + 1];
+	}
+
+	@Override
+	public int getEdgeTarget(int pEdgeIndex) {
+		return this.targets[pEdgeIndex];
+	}
+
+	@Override
+	public double getEdgeCost(int pEdgeIndex) {
+		return this.costBlocks[pEdgeIndex >>> COST_BLOCK_SHIFT][pEdgeIndex & COST_BLOCK_MASK];
+	}
+
+	@Override
+	public String getNodeName(int pNodeId) {
+		return this.names[pNodeId];
+	}
+
+	@Override
+	public boolean isSymmetric() {
+		return this.symmetric;
+	}
+
+}
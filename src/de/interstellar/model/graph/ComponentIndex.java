@@ -0,0 +1,240 @@
+package de.interstellar.model.graph;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/** This class stores for every node the connected component it belongs to, so it can
+ *  be decided without a search, that a node can not be reached from another node.
+ *
+ *  The components are found with a union-find over the edges. The edges are processed
+ *  in parallel: the parent of a root is only set with compareAndSet and always points
+ *  to a node with a lower id, so several threads can join components at the same time
+ *  without creating cycles. The id of a component is the lowest id of its nodes.
+ *
+ *  For a directed graph the direction of the edges is ignored (weakly connected
+ *  components). Nodes in different components are never connected, but in the same
+ *  component a node is not necessarily reachable from every other node.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public final class ComponentIndex {
+
+	//Below this number of edges the threads cost more than they save
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	private final int[] componentIds;
+	private final int componentCount;
+
+	private ComponentIndex(int[] pComponentIds, int pComponentCount) {
+
+		this.componentIds = pComponentIds;
+		this.componentCount = pComponentCount;
+	}
+
+	/** This function finds the components of a graph that is given by its list of edges.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeCount => number of nodes
+	 * @param pSources => ids of the source nodes of the edges
+	 * @param pTargets => ids of the target nodes of the edges
+	 * @param pEdgeCount => number of edges, only the first pEdgeCount entries of the arrays are used
+	 * @return the created index
+	 */
+	public static ComponentIndex create(int pNodeCount, int[] pSources, int[] pTargets, int pEdgeCount) {
+
+		AtomicIntegerArray parents = createParents(pNodeCount);
+
+		range(pEdgeCount).forEach(e -> union(parents, pSources[e], pTargets[e]));
+
+		return flatten(parents);
+	}
+
+	/** This function finds the components of the given graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph
+	 * @return the created index
+	 */
+	public static ComponentIndex create(CsrGraph pCsrGraph) {
+
+		AtomicIntegerArray parents = createParents(pCsrGraph.getNodeCount());
+		IntStream nodes = IntStream.range(0, pCsrGraph.getNodeCount());
+
+		if(pCsrGraph.getEdgeCount() >= PARALLEL_THRESHOLD) {
+			nodes = nodes.parallel();
+		}
+
+		nodes.forEach(node -> {
+			for(int e = pCsrGraph.getEdgeStart(node); e < pCsrGraph.getEdgeEnd(node); e++) {
+				union(parents, node, pCsrGraph.getEdgeTarget(e));
+			}
+		});
+
+		return flatten(parents);
+	}
+
+	/** This function creates the index for the graph after the given changes of its edges.
+	 *  Added edges join the components of their nodes. A removed edge can split a component,
+	 *  which can only be found out with the whole graph, so then NULL is returned.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pChanges => the changes of the edges (see GraphUpdate)
+	 * @return the index for the changed graph (this index, if no components were joined),
+	 *  		NULL if an edge was removed
+	 */
+	public ComponentIndex withChanges(List<EdgeChange> pChanges) {
+
+		boolean joined = false;
+
+		for(EdgeChange change: pChanges) {
+
+			if(change.getNewCost() == EdgeChange.NO_EDGE) {
+				return null;
+			}
+
+			if(change.getOldCost() == EdgeChange.NO_EDGE) {
+				joined |= !isConnected(change.getSourceNodeId(), change.getTargetNodeId());
+			}
+		}
+
+		if(!joined) {
+			return this;
+		}
+
+		//Every node points to the lowest node of its component, so the ids are already a valid union-find
+		AtomicIntegerArray parents = new AtomicIntegerArray(this.componentIds);
+
+		for(EdgeChange change: pChanges) {
+			union(parents, change.getSourceNodeId(), change.getTargetNodeId());
+		}
+
+		return flatten(parents);
+	}
+
+	/** @param pNodeId => id of the node
+	 *  @return the id of the component of the node, which is the lowest id of its nodes
+	 */
+	public int getComponentId(int pNodeId) {
+		return this.componentIds[pNodeId];
+	}
+
+	/** @return true if both nodes are in the same component. If not, there is no path between them. */
+	public boolean isConnected(int pFirstNodeId, int pSecondNodeId) {
+		return this.componentIds[pFirstNodeId] == this.componentIds[pSecondNodeId];
+	}
+
+	/** @return the number of components, a node without edges is a component of its own */
+	public int getComponentCount() {
+		return this.componentCount;
+	}
+
+	public int getNodeCount() {
+		return this.componentIds.length;
+	}
+
+	private static AtomicIntegerArray createParents(int pNodeCount) {
+
+		AtomicIntegerArray parents = new AtomicIntegerArray(pNodeCount);
+
+		for(int i=0; i < pNodeCount; i++) {
+			parents.lazySet(i, i);
+		}
+
+		return parents;
+	}
+
+	private static IntStream range(int pEdgeCount) {
+
+		IntStream edges = IntStream.range(0, pEdgeCount);
+
+		return pEdgeCount >= PARALLEL_THRESHOLD ? edges.parallel() : edges;
+	}
+
+	/** This function searches the root of the given node. On the way every node is linked
+	 *  to its grandparent (path halving), so the following searches are shorter.
+	 *
+	 * @return id of the root
+	 */
+	private static int find(AtomicIntegerArray pParents, int pNodeId) {
+
+		int node = pNodeId;
+		int parent = pParents.get(node);
+
+		while(parent != node) {
+
+			int grandParent = pParents.get(parent);
+
+			//If another thread changed the parent in the meantime, it already points higher up
+			if(grandParent != parent) {
+				pParents.compareAndSet(node, parent, grandParent);
+			}
+
+			node = grandParent;
+			parent = pParents.get(node);
+		}
+
+		return node;
+	}
+
+	/** This function joins the components of the given nodes. The root with the higher id is
+	 *  linked to the other one. If another thread linked that root first, the roots are searched again.
+	 */
+	private static void union(AtomicIntegerArray pParents, int pFirstNodeId, int pSecondNodeId) {
+
+		int first = pFirstNodeId;
+		int second = pSecondNodeId;
+
+		while(true) {
+
+			first = find(pParents, first);
+			second = find(pParents, second);
+
+			if(first == second) {
+				return;
+			}
+
+			if(first < second) {
+				int swap = first;
+				first = second;
+				second = swap;
+			}
+
+			if(pParents.compareAndSet(first, first, second)) {
+				return;
+			}
+		}
+	}
+
+	/** This function creates the index out of the finished union-find. As every parent has a
+	 *  lower id than its child, the roots of all parents are known when a node is reached.
+	 */
+	private static ComponentIndex flatten(AtomicIntegerArray pParents) {
+
+		int[] componentIds = new int[pParents.length()];
+		int componentCount = 0;
+
+		for(int i=0; i < componentIds.length; i++) {
+
+			int parent = pParents.get(i);
+
+			if(parent == i) {
+				componentIds[i] = i;
+				componentCount++;
+			} else {
+				componentIds[i] = componentIds[parent];
+			}
+		}
+
+		return new ComponentIndex(componentIds, componentCount);
+	}
+
+}
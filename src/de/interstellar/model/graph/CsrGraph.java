@@ -0,0 +1,79 @@
+package de.interstellar.model.graph;
+
+/** This interface describes a Graph in compressed sparse row (CSR) format.
+ *  Every node is addressed by its id (0 ... nodeCount-1). The outgoing edges
+ *  of a node are stored next to each other, so all edges of node N can be found
+ *  at the edge indices getEdgeStart(N) (inclusive) up to getEdgeEnd(N) (exclusive).
+ *
+ *  An undirected edge between A and B is stored as two directed edges, one
+ *  from A to B and one from B to A.
+ *
+ *  The search algorithms work directly on this representation, which means
+ *  that no objects need to be created while a query is running.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public interface CsrGraph {
+
+	/** @return the number of nodes of the graph */
+	int getNodeCount();
+
+	/** @return the number of directed edges of the graph */
+	int getEdgeCount();
+
+	/** @param pNodeId => id of the node
+	 *  @return the index of the first outgoing edge of the given node
+	 */
+	int getEdgeStart(int pNodeId);
+
+	/** @param pNodeId => id of the node
+	 *  @return the index after the last outgoing edge of the given node
+	 */
+	int getEdgeEnd(int pNodeId);
+
+	/** @param pEdgeIndex => index of the edge
+	 *  @return the id of the node the edge leads to
+	 */
+	int getEdgeTarget(int pEdgeIndex);
+
+	/** @param pEdgeIndex => index of the edge
+	 *  @return the cost of the edge
+	 */
+	double getEdgeCost(int pEdgeIndex);
+
+	/** @param pNodeId => id of the node
+	 *  @return the name (label) of the node
+	 */
+	String getNodeName(int pNodeId);
+
+	/** @return true if for every edge from A to B there is an edge from B to A with the
+	 *  		same costs. For such graphs the reverse graph is the graph itself.
+	 */
+	boolean isSymmetric();
+
+	/** This function searches the edge that leads from the given source to the given
+	 *  target node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceId => id of the source node
+	 * @param pTargetId => id of the target node
+	 * @return the index of the edge or -1 if the nodes are not connected.
+	 */
+	default int findEdge(int pSourceId, int pTargetId) {
+
+		int end = getEdgeEnd(pSourceId);
+
+		for(int e = getEdgeStart(pSourceId); e < end; e++) {
+			if(getEdgeTarget(e) == pTargetId) {
+				return e;
+			}
+		}
+
+		return -1;
+	}
+
+}
@@ -0,0 +1,38 @@
+package de.interstellar.model.graph;
+
+/** Defines which cost is kept, if the same connection between two nodes is given more
+ *  than once while a graph is built (in an undirected graph also as "a to b" and "b to a").
+ *
+ *  	- KEEP_LAST: the cost that was given last is kept.
+ *  	- KEEP_MIN: the smallest of the given costs is kept.
+ *
+ *  In both cases the connection keeps the position among the neighbors of its node,
+ *  where it was given first.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public enum DuplicateEdgePolicy {
+
+	KEEP_LAST {
+		@Override
+		public double merge(double pKeptCost, double pNewCost) {
+			return pNewCost;
+		}
+	},
+
+	KEEP_MIN {
+		@Override
+		public double merge(double pKeptCost, double pNewCost) {
+			return Math.min(pKeptCost, pNewCost);
+		}
+	};
+
+	/** @param pKeptCost => the cost of the connection so far
+	 *  @param pNewCost => the cost of the connection that was given again
+	 *  @return the cost that is kept
+	 */
+	public abstract double merge(double pKeptCost, double pNewCost);
+
+}
@@ -0,0 +1,56 @@
+package de.interstellar.model.graph;
+
+/** This class describes the change of one directed edge by a GraphUpdate. An edge that
+ *  was added has no old cost, an edge that was removed has no new cost (both are
+ *  Double.MAX_VALUE then, like the costs of nodes that can not be reached).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class EdgeChange {
+
+	public static final double NO_EDGE = Double.MAX_VALUE;
+
+	private final int sourceNodeId;
+	private final int targetNodeId;
+	private final double oldCost;
+	private final double newCost;
+
+	public EdgeChange(int pSourceNodeId, int pTargetNodeId, double pOldCost, double pNewCost) {
+
+		this.sourceNodeId = pSourceNodeId;
+		this.targetNodeId = pTargetNodeId;
+		this.oldCost = pOldCost;
+		this.newCost = pNewCost;
+	}
+
+	public int getSourceNodeId() {
+		return this.sourceNodeId;
+	}
+
+	public int getTargetNodeId() {
+		return this.targetNodeId;
+	}
+
+	/** @return the cost before the update, NO_EDGE if the edge was added */
+	public double getOldCost() {
+		return this.oldCost;
+	}
+
+	/** @return the cost after the update, NO_EDGE if the edge was removed */
+	public double getNewCost() {
+		return this.newCost;
+	}
+
+	/** @return true if the edge got more expensive or was removed */
+	public boolean isIncrease() {
+		return this.newCost > this.oldCost;
+	}
+
+	@Override
+	public String toString() {
+		return this.sourceNodeId + "To" + this.targetNodeId + ": " + this.oldCost + " -> " + this.newCost;
+	}
+
+}
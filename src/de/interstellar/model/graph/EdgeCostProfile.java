@@ -0,0 +1,146 @@
+package de.interstellar.model.graph;
+
+/** This class describes the costs of the edges of a graph: the smallest and biggest
+ *  cost and whether all costs are multiples of a precision (e.g. integers for the
+ *  precision 1, or costs with at most two decimals for the precision 0.01).
+ *
+ *  Frontiers that sort the nodes into buckets by their costs (see FrontierType.DIAL
+ *  and RADIX_HEAP) can only be used, if the costs are such multiples. The total costs
+ *  of the nodes are then sums of multiples of the precision, so they can be converted
+ *  into whole numbers without changing their order.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class EdgeCostProfile {
+
+	//The precision is searched from 1 down to 10^-MAX_DECIMALS
+	public static final int MAX_DECIMALS = 6;
+
+	//Relative deviation from a multiple of the precision that is seen as rounding error
+	private static final double TOLERANCE = 1e-9;
+
+	private final double precision;
+	private final boolean quantized;
+	private final double minCost;
+	private final double maxCost;
+
+	private EdgeCostProfile(double pPrecision, boolean pQuantized, double pMinCost, double pMaxCost) {
+
+		this.precision = pPrecision;
+		this.quantized = pQuantized;
+		this.minCost = pMinCost;
+		this.maxCost = pMaxCost;
+	}
+
+	/** This function checks whether all costs of the graph are multiples of the given precision.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph
+	 * @param pPrecision => the declared precision of the costs, bigger than 0
+	 * @return the profile of the costs
+	 */
+	public static EdgeCostProfile create(CsrGraph pCsrGraph, double pPrecision) {
+
+		if(!(pPrecision > 0)) {
+			throw new IllegalArgumentException("The precision has to be bigger than 0: " + pPrecision);
+		}
+
+		double minCost = Double.MAX_VALUE;
+		double maxCost = 0;
+		boolean quantized = true;
+
+		for(int e=0; e < pCsrGraph.getEdgeCount(); e++) {
+
+			double cost = pCsrGraph.getEdgeCost(e);
+
+			minCost = Math.min(minCost, cost);
+			maxCost = Math.max(maxCost, cost);
+			quantized &= isMultiple(cost, pPrecision);
+		}
+
+		return new EdgeCostProfile(pPrecision, quantized && minCost >= 0, minCost, maxCost);
+	}
+
+	/** This function searches the biggest precision (1, 0.1, 0.01, ... 10^-MAX_DECIMALS)
+	 *  of which all costs of the graph are multiples.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph
+	 * @return the profile of the costs, not quantized if there is no such precision
+	 */
+	public static EdgeCostProfile create(CsrGraph pCsrGraph) {
+
+		double minCost = Double.MAX_VALUE;
+		double maxCost = 0;
+		int decimals = 0;
+
+		for(int e=0; e < pCsrGraph.getEdgeCount(); e++) {
+
+			double cost = pCsrGraph.getEdgeCost(e);
+
+			minCost = Math.min(minCost, cost);
+			maxCost = Math.max(maxCost, cost);
+
+			//A cost that needs more decimals than the costs before raises the decimals of all
+			while(decimals <= MAX_DECIMALS && !isMultiple(cost, Math.pow(10, -decimals))) {
+				decimals++;
+			}
+		}
+
+		if(decimals > MAX_DECIMALS || minCost < 0) {
+			return new EdgeCostProfile(Math.pow(10, -MAX_DECIMALS), false, minCost, maxCost);
+		}
+
+		return new EdgeCostProfile(Math.pow(10, -decimals), true, minCost, maxCost);
+	}
+
+	private static boolean isMultiple(double pCost, double pPrecision) {
+
+		double multiple = pCost / pPrecision;
+
+		return Math.abs(multiple - Math.rint(multiple)) <= TOLERANCE * Math.max(1, Math.abs(multiple));
+	}
+
+	/** @param pCost => a cost or total cost, not negative
+	 *  @return the cost as multiple of the precision
+	 */
+	public long quantize(double pCost) {
+		return Math.round(pCost / this.precision);
+	}
+
+	public double getPrecision() {
+		return this.precision;
+	}
+
+	/** @return true if all costs are multiples of the precision and not negative */
+	public boolean isQuantized() {
+		return this.quantized;
+	}
+
+	/** @return the smallest cost of an edge, Double.MAX_VALUE if the graph has no edges */
+	public double getMinCost() {
+		return this.minCost;
+	}
+
+	/** @return the biggest cost of an edge, 0 if the graph has no edges */
+	public double getMaxCost() {
+		return this.maxCost;
+	}
+
+	/** @return the biggest cost of an edge as multiple of the precision */
+	public long getMaxQuantizedCost() {
+		return quantize(this.maxCost);
+	}
+
+	@Override
+	public String toString() {
+		return "precision " + this.precision + (this.quantized ? "" : " (not quantized)") + ", costs " + this.minCost + " - " + this.maxCost;
+	}
+
+}
@@ -1,9 +1,22 @@
 package de.interstellar.model.graph;
 
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /** This class represents a Graph. A Graph consists of Nodes, which are connected
  *  to each other by edges.
+ *
+ *  Internally the graph is stored in a compact CSR format (see CsrGraph), which is
+ *  used by the search algorithms. The Node and Edge objects are only an adapter view
+ *  on that data, they are created the first time they are requested.
+ *  
+ *  A graph is not changed by the search algorithms, so one graph can be used
+ *  by several queries at the same time.
+ *  
+ *  Every graph gets a unique version when it is created. Data that was calculated
+ *  for a graph (e.g. cached results) can compare the version to recognize, that it
+ *  was calculated for another graph.
  * 
  * @author Florian Sturn
  * @date 16.05.2019
@@ -11,21 +24,318 @@ import java.util.HashMap;
  */
 public class Graph {
 	
+	private static final AtomicLong VERSIONS = new AtomicLong();
+	
+	private final CsrGraph csrGraph;
+	private final long version = VERSIONS.incrementAndGet();
+	
 	private HashMap<Integer,Node> nodes;
 	private HashMap<String,Edge> edges;
+	private volatile Node[] nodesById;
+	private volatile CsrGraph reverseCsrGraph;
+	private volatile NodeNameIndex nameIndex;
+	private volatile EdgeCostProfile edgeCostProfile;
+	private volatile ComponentIndex componentIndex;
 	
 	public Graph(HashMap<Integer,Node> pNodeList, HashMap<String,Edge> pEdgeList) {
 		
 		this.nodes = pNodeList;
 		this.edges = pEdgeList;
+		this.csrGraph = createCsrGraph(pNodeList, pEdgeList);
+	}
+	
+	public Graph(CsrGraph pCsrGraph) {
+		
+		this.csrGraph = pCsrGraph;
+	}
+	
+	public Graph(CsrGraph pCsrGraph, NodeNameIndex pNameIndex) {
+		
+		this.csrGraph = pCsrGraph;
+		this.nameIndex = pNameIndex;
+	}
+	
+	public Graph(CsrGraph pCsrGraph, NodeNameIndex pNameIndex, ComponentIndex pComponentIndex) {
+		
+		this.csrGraph = pCsrGraph;
+		this.nameIndex = pNameIndex;
+		this.componentIndex = pComponentIndex;
+	}
+	
+	/** @param pReverseCsrGraph => the reverse of the graph, NULL to create it when it is needed */
+	Graph(CsrGraph pCsrGraph, NodeNameIndex pNameIndex, ComponentIndex pComponentIndex, CsrGraph pReverseCsrGraph) {
+		
+		this(pCsrGraph, pNameIndex, pComponentIndex);
+		this.reverseCsrGraph = pReverseCsrGraph;
 	}
 	
-	public HashMap<Integer,Node> getNodeList(){
+	public synchronized HashMap<Integer,Node> getNodeList(){
+		
+		if(this.nodes == null) {
+			createAdapterView();
+		}
+		
 		return this.nodes;
 	}
 	
-	public HashMap<String,Edge> getEdgeList(){
+	public synchronized HashMap<String,Edge> getEdgeList(){
+		
+		if(this.edges == null) {
+			createAdapterView();
+		}
+		
 		return this.edges;
 	}
 
+	/** @param pNodeId => id of the node
+	 *  @return the Node object with the given id, NULL if there is no such node
+	 */
+	public Node getNode(int pNodeId) {
+		
+		Node[] nodeArray = this.nodesById;
+		
+		if(nodeArray == null) {
+			nodeArray = createNodeIndex();
+		}
+		
+		return nodeArray[pNodeId];
+	}
+	
+	public CsrGraph getCsrGraph() {
+		return this.csrGraph;
+	}
+	
+	/** @return the version of the graph, no two graphs have the same version */
+	public long getVersion() {
+		return this.version;
+	}
+	
+	/** This function starts an update of the edges of the graph. The graph itself
+	 *  is not changed, GraphUpdate.apply creates a new graph with the changes.
+	 * 
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 * 
+	 * @return the update, which collects the changes
+	 */
+	public GraphUpdate update() {
+		return new GraphUpdate(this);
+	}
+	
+	/** This function searches the node with the given name. If several nodes have
+	 *  that name, the one with the lowest id is returned (see NodeNameIndex).
+	 * 
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 * 
+	 * @param pNodeName => name of the node
+	 * @return the id of the node, -1 if the graph does not contain a node with that name
+	 */
+	public int findNodeId(String pNodeName) {
+		return getNameIndex().findNodeId(pNodeName);
+	}
+	
+	/** @return the index to find nodes by their name. If it was not given when the graph was
+	 *  		created, it is created the first time it is requested.
+	 */
+	public NodeNameIndex getNameIndex() {
+		
+		NodeNameIndex index = this.nameIndex;
+		
+		if(index == null) {
+			synchronized(this) {
+				if(this.nameIndex == null) {
+					this.nameIndex = NodeNameIndex.create(this.csrGraph);
+				}
+				index = this.nameIndex;
+			}
+		}
+		
+		return index;
+	}
+
+	/** @return the profile of the edge costs (see EdgeCostProfile.create), it is created the
+	 *  		first time it is requested.
+	 */
+	public EdgeCostProfile getEdgeCostProfile() {
+		
+		EdgeCostProfile profile = this.edgeCostProfile;
+		
+		if(profile == null) {
+			profile = EdgeCostProfile.create(this.csrGraph);
+			this.edgeCostProfile = profile;
+		}
+		
+		return profile;
+	}
+	
+	/** @return the connected components of the graph (see ComponentIndex). If they were not
+	 *  		given when the graph was created, they are found the first time they are requested.
+	 */
+	public ComponentIndex getComponentIndex() {
+		
+		ComponentIndex index = this.componentIndex;
+		
+		if(index == null) {
+			synchronized(this) {
+				if(this.componentIndex == null) {
+					this.componentIndex = ComponentIndex.create(this.csrGraph);
+				}
+				index = this.componentIndex;
+			}
+		}
+		
+		return index;
+	}
+	
+	/** @return the connected components, NULL if they were not created yet */
+	ComponentIndex getCreatedComponentIndex() {
+		return this.componentIndex;
+	}
+	
+	/** @return the reverse graph if it was created already, NULL otherwise (also for undirected graphs) */
+	CsrGraph getCreatedReverseCsrGraph() {
+		return this.reverseCsrGraph;
+	}
+	
+	/** @return the graph with all edges reversed. For undirected graphs this is the graph
+	 *  		itself, otherwise the reverse graph is created the first time it is requested.
+	 */
+	public CsrGraph getReverseCsrGraph() {
+
+		if(this.csrGraph.isSymmetric()) {
+			return this.csrGraph;
+		}
+
+		CsrGraph reverse = this.reverseCsrGraph;
+
+		if(reverse == null) {
+			synchronized(this) {
+				if(this.reverseCsrGraph == null) {
+					this.reverseCsrGraph = ArrayCsrGraph.transpose(this.csrGraph);
+				}
+				reverse = this.reverseCsrGraph;
+			}
+		}
+
+		return reverse;
+	}
+	
+	/** This function creates an array that contains the Node objects at the
+	 *  position of their id.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the array of nodes
+	 */
+	private synchronized Node[] createNodeIndex() {
+		
+		if(this.nodesById == null) {
+			
+			Node[] nodeArray = new Node[this.csrGraph.getNodeCount()];
+			
+			for(Node node: getNodeList().values()) {
+				nodeArray[node.getId()] = node;
+			}
+			
+			this.nodesById = nodeArray;
+		}
+		
+		return this.nodesById;
+	}
+	
+	/** This function creates the Node and Edge objects for the compact graph data.
+	 *  The name of an edge is build by the id of source and target (e.g. "0To1").
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void createAdapterView() {
+		
+		int nodeCount = this.csrGraph.getNodeCount();
+		
+		HashMap<Integer,Node> nodeList = new HashMap<Integer,Node>();
+		HashMap<String,Edge> edgeList = new HashMap<String,Edge>();
+		
+		for(int i=0; i < nodeCount; i++) {
+			nodeList.put(i, new Node(i, this.csrGraph.getNodeName(i)));
+		}
+		
+		for(int i=0; i < nodeCount; i++) {
+			
+			Node sourceNode = nodeList.get(i);
+			
+			for(int e = this.csrGraph.getEdgeStart(i); e < this.csrGraph.getEdgeEnd(i); e++) {
+				
+				Node destinationNode = nodeList.get(this.csrGraph.getEdgeTarget(e));
+				sourceNode.getNeighbors().add(destinationNode);
+				
+				Edge edge = new Edge(i + "To" + destinationNode.getId(), sourceNode, destinationNode, this.csrGraph.getEdgeCost(e));
+				edgeList.put(edge.getName(), edge);
+			}
+		}
+		
+		this.nodes = nodeList;
+		this.edges = edgeList;
+	}
+	
+	/** This function creates the compact representation of a graph that is given by
+	 *  its Node and Edge objects. The ids of the nodes are used as ids in the compact graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNodeList => nodes of the graph
+	 * @param pEdgeList => edges of the graph
+	 * @return the compact graph
+	 */
+	private static CsrGraph createCsrGraph(HashMap<Integer,Node> pNodeList, HashMap<String,Edge> pEdgeList) {
+		
+		int nodeCount = 0;
+		
+		for(Integer id: pNodeList.keySet()) {
+			nodeCount = Math.max(nodeCount, id + 1);
+		}
+		
+		String[] names = new String[nodeCount];
+		
+		for(Map.Entry<Integer,Node> entry: pNodeList.entrySet()) {
+			names[entry.getKey()] = entry.getValue().getName();
+		}
+		
+		int capacity = 0;
+		
+		for(Node node: pNodeList.values()) {
+			capacity += node.getNeighbors().size();
+		}
+		
+		int[] sources = new int[capacity];
+		int[] targets = new int[capacity];
+		double[] costs = new double[capacity];
+		int edgeCount = 0;
+		
+		//Add the edges in the order of the neighbor lists, so that the neighbors keep their order
+		for(int i=0; i < nodeCount; i++) {
+			
+			Node node = pNodeList.get(i);
+			
+			if(node != null) {
+				for(Node neighbor: node.getNeighbors()) {
+					
+					Edge edge = pEdgeList.get(node.getId() + "To" + neighbor.getId());
+					
+					if(edge != null) {
+						sources[edgeCount] = node.getId();
+						targets[edgeCount] = neighbor.getId();
+						costs[edgeCount] = edge.getCost();
+						edgeCount++;
+					}
+				}
+			}
+		}
+		
+		return ArrayCsrGraph.fromEdges(names, nodeCount, sources, targets, costs, edgeCount, false);
+	}
+	
 }
@@ -1,15 +1,33 @@
 package de.interstellar.model.graph;
 
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import de.interstellar.metrics.SearchMetrics;
 import de.interstellar.model.data.JSONParser;
+import de.interstellar.model.data.JSONStreamReader;
 
 /** This class provides the functionality to build a Graph from a given
  *  input Data. The input data needs to be available in JSON format.
+ *
+ *  Large inputs can be read from a stream instead (see JSONStreamReader), then
+ *  the nodes and edges are added while they are read, without creating the
+ *  whole JSON document in memory.
+ *
+ *  Nodes and edges can also be added one by one (addNode, addEdge). The
+ *  graph is then created by calling buildGraph.
+ *
+ *  With the storage OFF_HEAP the nodes and edges are collected outside of the Java
+ *  heap and the created graph is an OffHeapCsrGraph (see GraphStorage).
+ *
+ *  If the same connection is given more than once, the cost of the last one is kept,
+ *  unless another DuplicateEdgePolicy is set.
  * 
  * @author Florian Sturn
  * @date 16.05.2019
@@ -17,15 +35,65 @@ import de.interstellar.model.data.JSONParser;
  */
 public class GraphBuilder {
 	
+	private static final int INITIAL_CAPACITY = 16;
+	
 	private JSONParser parser;
-	private HashMap<Integer,Node> nodes;
-	private HashMap<String,Edge> edges;
+	private final GraphStorage storage;
+	private DuplicateEdgePolicy duplicateEdgePolicy;
+	private int partCount;
+	
+	private String[] nodeNames;
+	private int nodeCount;
+	
+	private int[] edgeSources;
+	private int[] edgeTargets;
+	private double[] edgeCosts;
+	private int edgeCount;
+	
+	private OffHeapGraphData offHeapData;
 	
 	public GraphBuilder() {
 		
+		this(GraphStorage.HEAP);
+	}
+	
+	/** Creates a builder that keeps the graphs in the given storage.
+	 *
+	 * @param pStorage => where the data of the graphs is kept
+	 */
+	public GraphBuilder(GraphStorage pStorage) {
+		
 		this.parser = new JSONParser();
-		this.nodes = new HashMap<Integer,Node>();
-		this.edges = new HashMap<String,Edge>();
+		this.storage = pStorage;
+		this.duplicateEdgePolicy = DuplicateEdgePolicy.KEEP_LAST;
+		this.partCount = 1;
+		reset();
+	}
+	
+	/** Sets which cost is kept, if the same connection is given more than once. It is
+	 *  used for all graphs that are built afterwards.
+	 *
+	 * @param pPolicy => the policy, by default KEEP_LAST
+	 */
+	public void setDuplicateEdgePolicy(DuplicateEdgePolicy pPolicy) {
+		
+		this.duplicateEdgePolicy = pPolicy;
+	}
+	
+	/** Sets in how many parts the edges of a graph on the heap are sorted in parallel
+	 *  (see ArrayCsrGraph.fromEdges). Every part needs an int per node in addition. The
+	 *  nodes and edges are still added one after another, and a graph outside of the
+	 *  heap is always built in one part.
+	 *
+	 * @param pPartCount => number of parts, by default 1
+	 */
+	public void setPartCount(int pPartCount) {
+		
+		if(pPartCount < 1) {
+			throw new IllegalArgumentException("The number of parts has to be at least 1: " + pPartCount);
+		}
+		
+		this.partCount = pPartCount;
 	}
 	
 	/** Function to create a Graph based on the given input data. The data is formatted as
@@ -40,29 +108,185 @@ public class GraphBuilder {
 	 */
 	public Graph createGraph(JSONObject pObject) {
 		
+		reset();
+		
 		JSONArray nodeArray = pObject.getJSONArray("nodes");
-		nodes = createNodeList(nodeArray);
+		createNodeList(nodeArray);
 		
 		JSONArray edgeArray = pObject.getJSONArray("edges");
-		edges = createEdgeList(edgeArray);
+		createEdgeList(edgeArray);
+		
+		return buildGraph();
+	}
+	
+	/** Function to create a Graph out of JSON data that is read from the given stream.
+	 *  The data has the same format as for createGraph(JSONObject), other members of
+	 *  the objects are skipped. The stream is not closed.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pInputStream => stream that delivers the JSON data
+	 * @return the created graph.
+	 * @throws IOException if the stream can not be read or does not contain valid JSON data
+	 */
+	public Graph createGraph(InputStream pInputStream) throws IOException {
 		
-		Graph g = new Graph(nodes,edges);
+		return createGraph(new JSONStreamReader(pInputStream));
+	}
+	
+	/** Function to create a Graph out of JSON data that is read from the given channel
+	 *  (e.g. a FileChannel). The channel is not closed.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pChannel => channel that delivers the JSON data
+	 * @return the created graph.
+	 * @throws IOException if the channel can not be read or does not contain valid JSON data
+	 */
+	public Graph createGraph(ReadableByteChannel pChannel) throws IOException {
 		
-		return g;
+		return createGraph(new JSONStreamReader(pChannel));
 	}
 	
-	/** This function creates the nodes of the Graph and adds them
-	 *  to a HashMap.
+	/** This function adds a node to the graph that is currently build. The id of the
+	 *  node is the number of nodes that were added before.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pName => name (label) of the node
+	 * @return the id of the node
+	 */
+	public int addNode(String pName) {
+		
+		if(this.offHeapData != null) {
+			return this.offHeapData.addNode(pName);
+		}
+		
+		if(this.nodeCount == this.nodeNames.length) {
+			this.nodeNames = Arrays.copyOf(this.nodeNames, 2 * this.nodeNames.length);
+		}
+		
+		this.nodeNames[this.nodeCount] = pName;
+		
+		return this.nodeCount++;
+	}
+	
+	/** This function adds an undirected edge to the graph that is currently build.
+	 *  The nodes do not need to be added yet, the edge is only checked when the
+	 *  graph is build.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceId => id of the source node
+	 * @param pDestinationId => id of the target node
+	 * @param pCost => the cost of the edge
+	 */
+	public void addEdge(int pSourceId, int pDestinationId, double pCost) {
+		
+		if(this.offHeapData != null) {
+			this.offHeapData.addEdge(pSourceId, pDestinationId, pCost);
+			return;
+		}
+		
+		if(this.edgeCount == this.edgeSources.length) {
+			int capacity = 2 * this.edgeSources.length;
+			this.edgeSources = Arrays.copyOf(this.edgeSources, capacity);
+			this.edgeTargets = Arrays.copyOf(this.edgeTargets, capacity);
+			this.edgeCosts = Arrays.copyOf(this.edgeCosts, capacity);
+		}
+		
+		this.edgeSources[this.edgeCount] = pSourceId;
+		this.edgeTargets[this.edgeCount] = pDestinationId;
+		this.edgeCosts[this.edgeCount] = pCost;
+		this.edgeCount++;
+	}
+	
+	/** This function creates the graph out of all the nodes and edges that were added
+	 *  so far. Edges that refer to a node that does not exist are skipped. Afterwards
+	 *  the builder is empty again and can be used to build the next graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the created graph.
+	 */
+	public Graph buildGraph() {
+		
+		long startTime = SearchMetrics.getInstance().startTimer();
+		
+		if(this.offHeapData != null) {
+			return buildOffHeapGraph(startTime);
+		}
+		
+		removeInvalidEdges();
+		
+		String[] names = Arrays.copyOf(this.nodeNames, this.nodeCount);
+		
+		//As we are dealing with an undirected graph, every edge is stored from node A to
+		//node B and from node B to A, with the same costs.
+		CsrGraph csrGraph = ArrayCsrGraph.fromEdges(names, this.nodeCount, this.edgeSources, this.edgeTargets,
+				this.edgeCosts, this.edgeCount, true, this.duplicateEdgePolicy, this.partCount);
+		
+		NodeNameIndex nameIndex = NodeNameIndex.create(names);
+		
+		//The components are found over the edge list, so the queries can reject unreachable targets right away
+		ComponentIndex componentIndex = ComponentIndex.create(this.nodeCount, this.edgeSources, this.edgeTargets, this.edgeCount);
+		
+		reportDuplicateNames(nameIndex);
+		
+		reset();
+		
+		SearchMetrics.getInstance().recordBuild(startTime);
+		
+		return new Graph(csrGraph, nameIndex, componentIndex);
+	}
+	
+	/** This function creates the graph out of the nodes and edges that were collected
+	 *  outside of the heap. The names stay outside of the heap as well, so the index of
+	 *  the names reads them from the graph.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pStartTime => start of the build for the metrics
+	 * @return the created graph.
+	 */
+	private Graph buildOffHeapGraph(long pStartTime) {
+		
+		this.offHeapData.removeInvalidEdges();
+		
+		OffHeapCsrGraph csrGraph = this.offHeapData.createGraph(true, this.duplicateEdgePolicy);
+		NodeNameIndex nameIndex = NodeNameIndex.create(csrGraph);
+		ComponentIndex componentIndex = ComponentIndex.create(csrGraph);
+		
+		reportDuplicateNames(nameIndex);
+		reset();
+		
+		SearchMetrics.getInstance().recordBuild(pStartTime);
+		
+		return new Graph(csrGraph, nameIndex, componentIndex);
+	}
+	
+	private static void reportDuplicateNames(NodeNameIndex pNameIndex) {
+		
+		if(pNameIndex.getDuplicateCount() > 0) {
+			System.out.println(pNameIndex.getDuplicateCount() + " nodes have a label that is already used by another node."
+					+ " A search by that label finds the node that was added first.");
+		}
+	}
+	
+	/** This function creates the nodes of the Graph.
 	 * 
 	 * @author Florian Sturn
 	 * @date 16.05.2019
 	 * 
 	 * @param pJsonArray => containing the Nodes of the Graph
-	 * @return a list representing the nodes of the Graph
 	 */
-	private HashMap<Integer,Node> createNodeList(JSONArray pJsonArray){
-		
-		HashMap<Integer,Node> nodeList = new HashMap<Integer,Node>();
+	private void createNodeList(JSONArray pJsonArray){
 		
 		for(int i=0; i < pJsonArray.length(); i++) {
 			
@@ -70,28 +294,18 @@ public class GraphBuilder {
 			String nodeName = parser.retrieveStringValue(pJsonArray.getJSONObject(i), "label");
 			//Create the node. The node has a name and an id. Id is the position of the node in the
 			//JSON "nodes" array.
-			Node node = new Node(i,nodeName);
-			nodeList.put(i, node);
-
+			addNode(nodeName);
 		}
-		
-		return nodeList;
 	}
-	
-	/** This function creates the edges for the graph and adds them to a
-	 *  HashMap. As we are dealing with an undirected graph, this function
-	 *  not only creates an Edge from node A to node B, but also from 
-	 *  Node B to A, with the same costs.
+		
+	/** This function creates the edges for the graph.
 	 *  
 	 * @author Florian Sturn
 	 * @date 16.05.2019 
 	 * 
-	 * @param pJsonArray
-	 * @return
+	 * @param pJsonArray => containing the Edges of the Graph
 	 */
-	private HashMap<String,Edge> createEdgeList(JSONArray pJsonArray){
-		
-		HashMap<String,Edge> edgeList = new HashMap<String,Edge>();
+	private void createEdgeList(JSONArray pJsonArray){
 		
 		for(int i=0; i < pJsonArray.length(); i++) {
 			
@@ -105,39 +319,198 @@ public class GraphBuilder {
 			//Parse out the costs for that edge.
 			double cost = parser.retrieveDoubleValue(currentEdgeData, "cost");
 			
-			//Obtain the source and target nodes from the graphs node HashMap
-			Node sourceNode = nodes.get(sourceID);
-			Node destinationNode = nodes.get(destinationID);
+			addEdge(sourceID, destinationID, cost);
+		}
+	}
 			
-			//Update the neighbor list of the source and target node. Also update the
-			//target as we are dealing with an undirected Graph.			
-			if(!sourceNode.getNeighbors().contains(destinationNode)) {
-				sourceNode.getNeighbors().add(destinationNode);
-				//nodes.put(sourceID, sourceNode);
-			}
+	/** This function reads the JSON document and adds its nodes and edges.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pReader => reader positioned at the start of the document
+	 * @return the created graph.
+	 */
+	private Graph createGraph(JSONStreamReader pReader) throws IOException {
+		
+		reset();
+		
+		//Reading the data is counted as parse time, creating the graph out of it as build time
+		long startTime = SearchMetrics.getInstance().startTimer();
+		
+		pReader.beginObject();
+		
+		while(pReader.hasNext()) {
+			
+			String name = pReader.nextName();
 			
-			if(!destinationNode.getNeighbors().contains(sourceNode)) {
-				destinationNode.getNeighbors().add(sourceNode);
-				//nodes.put(destinationID, destinationNode);
+			if(name.equals("nodes")) {
+				readNodes(pReader);
+			} else if(name.equals("edges")) {
+				readEdges(pReader);
+			} else {
+				pReader.skipValue();
 			}
+		}
 						
-			//Create an edge based on the given source, target and costs. The name of the edge
-			//is build by id of source and target.
-			Edge sourceToDestinationEdge = new Edge(sourceID + "To" + destinationID,sourceNode,destinationNode,cost);
-			edgeList.put(sourceToDestinationEdge.getName(), sourceToDestinationEdge);
+		pReader.endObject();
+		
+		SearchMetrics.getInstance().recordParse(startTime);
 			
-			//System.out.println(sourceToDestinationEdge.getName());
+		return buildGraph();
+	}
+				
+	/** This function reads the "nodes" array and adds a node for each entry. Like in
+	 *  createNodeList the id of a node is its position in the array.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pReader => reader positioned at the start of the array
+	 */
+	private void readNodes(JSONStreamReader pReader) throws IOException {
+		
+		pReader.beginArray();
+		
+		while(pReader.hasNext()) {
 			
-			//As the graph is undirected we also create a edge for the reverse direction (target to source) with
-			//the same cost given by the data.
-			Edge destinationToSourceEdge = new Edge(destinationID + "To" + sourceID,destinationNode,sourceNode,cost);
-			edgeList.put(destinationToSourceEdge.getName(), destinationToSourceEdge);
+			String nodeName = null;
 			
-			//System.out.println(destinationToSourceEdge.getName());
-		
+			pReader.beginObject();
+			
+			while(pReader.hasNext()) {
+				if(pReader.nextName().equals("label") && pReader.peek() == JSONStreamReader.Token.STRING) {
+					nodeName = pReader.nextString();
+				} else {
+					pReader.skipValue();
+				}
+			}
+			
+			pReader.endObject();
+			
+			reportMissingValue(nodeName != null, "label");
+			
+			if(nodeName == null) {
+				nodeName = "";
+			}
+			
+			addNode(nodeName);
 		}
+		
+		pReader.endArray();
+	}
+	
+	/** This function reads the "edges" array and adds an edge for each entry. Missing
+	 *  values get the same default values as in createEdgeList.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pReader => reader positioned at the start of the array
+	 */
+	private void readEdges(JSONStreamReader pReader) throws IOException {
+		
+		pReader.beginArray();
+		
+		while(pReader.hasNext()) {
+			
+			int sourceID = -1;
+			int destinationID = -1;
+			double cost = -1.0;
+			boolean sourceFound = false;
+			boolean destinationFound = false;
+			boolean costFound = false;
+			
+			pReader.beginObject();
+			
+			while(pReader.hasNext()) {
+				
+				String name = pReader.nextName();
+				JSONStreamReader.Token token = pReader.peek();
 				
-		return edgeList;		
+				if(token != JSONStreamReader.Token.NUMBER && token != JSONStreamReader.Token.STRING) {
+					pReader.skipValue();
+				} else if(name.equals("source")) {
+					sourceID = pReader.nextInt();
+					sourceFound = true;
+				} else if(name.equals("target")) {
+					destinationID = pReader.nextInt();
+					destinationFound = true;
+				} else if(name.equals("cost")) {
+					cost = pReader.nextDouble();
+					costFound = true;
+				} else {
+					pReader.skipValue();
+				}
+			}
+			
+			pReader.endObject();
+			
+			reportMissingValue(sourceFound, "source");
+			reportMissingValue(destinationFound, "target");
+			reportMissingValue(costFound, "cost");
+			
+			addEdge(sourceID, destinationID, cost);
+		}
+		
+		pReader.endArray();
+	}
+	
+	/** Prints the same message as the JSONParser, if a value was not found. */
+	private static void reportMissingValue(boolean pFound, String pValueKey) {
+		
+		if(!pFound) {
+			System.out.println("[" + pValueKey + "]" + " " + "not found in JSONObject");
+		}
+	}
+	
+	/** This function removes all edges that refer to a node that does not exist.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void removeInvalidEdges() {
+		
+		int write = 0;
+		
+		for(int i=0; i < this.edgeCount; i++) {
+			
+			int sourceID = this.edgeSources[i];
+			int destinationID = this.edgeTargets[i];
+			
+			if(sourceID < 0 || sourceID >= this.nodeCount || destinationID < 0 || destinationID >= this.nodeCount) {
+				reportInvalidEdge(sourceID, destinationID);
+			} else {
+				this.edgeSources[write] = sourceID;
+				this.edgeTargets[write] = destinationID;
+				this.edgeCosts[write] = this.edgeCosts[i];
+				write++;
+			}
+		}
+		
+		this.edgeCount = write;
+	}
+	
+	/** Prints the message for an edge that refers to a node that does not exist. */
+	static void reportInvalidEdge(int pSourceId, int pDestinationId) {
+		
+		System.out.println("Edge from [" + pSourceId + "] to [" + pDestinationId + "] refers to an unknown node and is skipped");
+	}
+	
+	/** This function clears all nodes and edges of the builder.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 */
+	private void reset() {
+		
+		this.nodeNames = new String[INITIAL_CAPACITY];
+		this.nodeCount = 0;
+		this.edgeSources = new int[INITIAL_CAPACITY];
+		this.edgeTargets = new int[INITIAL_CAPACITY];
+		this.edgeCosts = new double[INITIAL_CAPACITY];
+		this.edgeCount = 0;
+		this.offHeapData = this.storage == GraphStorage.OFF_HEAP ? new OffHeapGraphData() : null;
 	}
 
 }
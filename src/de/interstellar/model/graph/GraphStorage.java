@@ -0,0 +1,18 @@
+package de.interstellar.model.graph;
+
+/** Defines where the GraphBuilder keeps the data of a graph.
+ *
+ *  	- HEAP: in arrays on the Java heap (see ArrayCsrGraph).
+ *  	- OFF_HEAP: outside of the Java heap (see OffHeapCsrGraph), for graphs that are
+ *  	  too big for the heap. The memory is limited by -XX:MaxDirectMemorySize.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public enum GraphStorage {
+
+	HEAP,
+	OFF_HEAP
+
+}
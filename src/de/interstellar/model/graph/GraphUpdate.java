@@ -0,0 +1,322 @@
+package de.interstellar.model.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** This class collects changes of the edges of a graph (new costs, new edges and removed
+ *  edges) and applies them all at once. The graph itself is not changed, apply creates a
+ *  new graph with a new version, so queries that are running on the old graph are not
+ *  disturbed and cached results of the old graph are not used for the new one.
+ *
+ *  In an undirected graph every change is done in both directions, so the edges
+ *  "aTob" and "bToa" always have the same costs.
+ *
+ *  If only costs are changed, the new graph shares the nodes and the structure of the
+ *  edges with the old graph and only the blocks of the costs that contain a changed edge
+ *  are copied (see ArrayCsrGraph.withCostChanges). The reverse graph of a directed graph
+ *  is patched in the same way, if the old graph already created it. Otherwise the edge
+ *  arrays are created again, which is still much faster than building the graph from the
+ *  data, and the reverse graph is created again when it is needed.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphUpdate {
+
+	private final Graph graph;
+	private final CsrGraph csrGraph;
+
+	//New cost of every changed directed edge (source id in the upper, target id in the
+	//lower 32 bits), NO_EDGE for removed edges. The last change of an edge wins.
+	private final LinkedHashMap<Long,Double> newCosts;
+
+	private List<EdgeChange> changes;
+
+	public GraphUpdate(Graph pGraph) {
+
+		this.graph = pGraph;
+		this.csrGraph = pGraph.getCsrGraph();
+		this.newCosts = new LinkedHashMap<Long,Double>();
+	}
+
+	/** This function sets the cost of the edge between the given nodes. If the nodes are
+	 *  not connected yet, the edge is added.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceNodeName => name of the source node
+	 * @param pTargetNodeName => name of the target node
+	 * @param pCost => the new cost, not negative
+	 * @return false if one of the nodes does not exist
+	 */
+	public boolean setEdgeCost(String pSourceNodeName, String pTargetNodeName, double pCost) {
+
+		int sourceId = this.graph.findNodeId(pSourceNodeName);
+		int targetId = this.graph.findNodeId(pTargetNodeName);
+
+		if(sourceId < 0 || targetId < 0) {
+			return false;
+		}
+
+		setEdgeCost(sourceId, targetId, pCost);
+
+		return true;
+	}
+
+	/** This function sets the cost of the edge between the given nodes. If the nodes are
+	 *  not connected yet, the edge is added.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceId => id of the source node
+	 * @param pTargetId => id of the target node
+	 * @param pCost => the new cost, not negative
+	 */
+	public void setEdgeCost(int pSourceId, int pTargetId, double pCost) {
+
+		//The searches rely on costs that are not negative
+		if(!(pCost >= 0) || pCost == EdgeChange.NO_EDGE) {
+			throw new IllegalArgumentException("Invalid edge cost: " + pCost);
+		}
+
+		change(pSourceId, pTargetId, pCost);
+	}
+
+	/** This function removes the edge between the given nodes, if there is one.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pSourceNodeName => name of the source node
+	 * @param pTargetNodeName => name of the target node
+	 * @return false if one of the nodes does not exist
+	 */
+	public boolean removeEdge(String pSourceNodeName, String pTargetNodeName) {
+
+		int sourceId = this.graph.findNodeId(pSourceNodeName);
+		int targetId = this.graph.findNodeId(pTargetNodeName);
+
+		if(sourceId < 0 || targetId < 0) {
+			return false;
+		}
+
+		removeEdge(sourceId, targetId);
+
+		return true;
+	}
+
+	/** This function removes the edge between the given nodes, if there is one.
+	 *
+	 * @param pSourceId => id of the source node
+	 * @param pTargetId => id of the target node
+	 */
+	public void removeEdge(int pSourceId, int pTargetId) {
+
+		change(pSourceId, pTargetId, EdgeChange.NO_EDGE);
+	}
+
+	private void change(int pSourceId, int pTargetId, double pCost) {
+
+		if(this.changes != null) {
+			throw new IllegalStateException("The update was already applied");
+		}
+
+		int nodeCount = this.csrGraph.getNodeCount();
+
+		if(pSourceId < 0 || pSourceId >= nodeCount || pTargetId < 0 || pTargetId >= nodeCount) {
+			throw new IllegalArgumentException("Invalid node id: " + pSourceId + " or " + pTargetId);
+		}
+
+		this.newCosts.put(key(pSourceId, pTargetId), pCost);
+
+		if(this.csrGraph.isSymmetric()) {
+			this.newCosts.put(key(pTargetId, pSourceId), pCost);
+		}
+	}
+
+	/** This function creates the graph with all changes. Afterwards the update can not
+	 *  be changed anymore.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return the new graph, which has a new version
+	 */
+	public Graph apply() {
+
+		if(this.changes != null) {
+			throw new IllegalStateException("The update was already applied");
+		}
+
+		List<EdgeChange> edgeChanges = new ArrayList<EdgeChange>(this.newCosts.size());
+		boolean structureChanged = false;
+
+		for(Map.Entry<Long,Double> entry: this.newCosts.entrySet()) {
+
+			int source = (int) (entry.getKey() >>> 32);
+			int target = (int) (long) entry.getKey();
+			int edge = this.csrGraph.findEdge(source, target);
+			double oldCost = edge >= 0 ? this.csrGraph.getEdgeCost(edge) : EdgeChange.NO_EDGE;
+			double newCost = entry.getValue();
+
+			if(oldCost != newCost) {
+				edgeChanges.add(new EdgeChange(source, target, oldCost, newCost));
+				structureChanged |= oldCost == EdgeChange.NO_EDGE || newCost == EdgeChange.NO_EDGE;
+			}
+		}
+
+		this.changes = Collections.unmodifiableList(edgeChanges);
+
+		CsrGraph updated;
+		CsrGraph reverse = null;
+
+		if(!structureChanged && this.csrGraph instanceof ArrayCsrGraph) {
+
+			updated = updateCosts((ArrayCsrGraph) this.csrGraph, edgeChanges, false);
+
+			//The reverse graph of a directed graph would have to be created again by the next search that needs it
+			CsrGraph oldReverse = this.graph.getCreatedReverseCsrGraph();
+
+			if(oldReverse instanceof ArrayCsrGraph) {
+				reverse = updateCosts((ArrayCsrGraph) oldReverse, edgeChanges, true);
+			}
+		} else {
+			updated = rebuild(edgeChanges);
+		}
+
+		//The nodes did not change, so the index of the names can be shared. The components
+		//are only updated if they were already created, otherwise the new graph creates them.
+		ComponentIndex components = this.graph.getCreatedComponentIndex();
+
+		if(components != null) {
+			components = components.withChanges(edgeChanges);
+		}
+
+		return new Graph(updated, this.graph.getNameIndex(), components, reverse);
+	}
+
+	/** @return the changes of the directed edges that were done by apply (in an undirected graph
+	 *  		each change is contained for both directions), changes that did not change
+	 *  		a cost are left out. NULL if the update was not applied yet.
+	 */
+	public List<EdgeChange> getChanges() {
+		return this.changes;
+	}
+
+	/** @param pReverse => true if the given graph is the reverse graph, so every edge is looked up from its target */
+	private static ArrayCsrGraph updateCosts(ArrayCsrGraph pCsrGraph, List<EdgeChange> pChanges, boolean pReverse) {
+
+		int[] edges = new int[pChanges.size()];
+		double[] costs = new double[pChanges.size()];
+
+		for(int i=0; i < edges.length; i++) {
+
+			EdgeChange change = pChanges.get(i);
+
+			edges[i] = pReverse ? pCsrGraph.findEdge(change.getTargetNodeId(), change.getSourceNodeId())
+					: pCsrGraph.findEdge(change.getSourceNodeId(), change.getTargetNodeId());
+			costs[i] = change.getNewCost();
+		}
+
+		return pCsrGraph.withCostChanges(edges, costs, edges.length);
+	}
+
+	/** This function creates the edge arrays of the new graph. The edges of a node keep
+	 *  their order, added edges are appended after the existing edges of their node.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pChanges => the changes of the edges
+	 * @return the new graph
+	 */
+	private CsrGraph rebuild(List<EdgeChange> pChanges) {
+
+		int nodeCount = this.csrGraph.getNodeCount();
+		int[] offsets = new int[nodeCount + 1];
+		int edgeCount = this.csrGraph.getEdgeCount();
+
+		//Added edges of each node, as linked lists through the indices of the changes
+		int[] firstAdded = new int[nodeCount];
+		int[] nextAdded = new int[pChanges.size()];
+		boolean[] changedNodes = new boolean[nodeCount];
+		Arrays.fill(firstAdded, -1);
+
+		for(int i = pChanges.size() - 1; i >= 0; i--) {
+
+			EdgeChange change = pChanges.get(i);
+			changedNodes[change.getSourceNodeId()] = true;
+
+			if(change.getOldCost() == EdgeChange.NO_EDGE) {
+				nextAdded[i] = firstAdded[change.getSourceNodeId()];
+				firstAdded[change.getSourceNodeId()] = i;
+				edgeCount++;
+			} else if(change.getNewCost() == EdgeChange.NO_EDGE) {
+				edgeCount--;
+			}
+		}
+
+		int[] targets = new int[edgeCount];
+		double[] costs = new double[edgeCount];
+		int write = 0;
+
+		for(int node=0; node < nodeCount; node++) {
+
+			offsets[node] = write;
+
+			for(int e = this.csrGraph.getEdgeStart(node); e < this.csrGraph.getEdgeEnd(node); e++) {
+
+				int target = this.csrGraph.getEdgeTarget(e);
+				Double cost = changedNodes[node] ? this.newCosts.get(key(node, target)) : null;
+
+				if(cost == null) {
+					targets[write] = target;
+					costs[write] = this.csrGraph.getEdgeCost(e);
+					write++;
+				} else if(cost != EdgeChange.NO_EDGE) {
+					targets[write] = target;
+					costs[write] = cost;
+					write++;
+				}
+			}
+
+			for(int i = firstAdded[node]; i >= 0; i = nextAdded[i]) {
+
+				targets[write] = pChanges.get(i).getTargetNodeId();
+				costs[write] = pChanges.get(i).getNewCost();
+				write++;
+			}
+		}
+
+		offsets[nodeCount] = write;
+
+		return new ArrayCsrGraph(getNames(), offsets, targets, costs, this.csrGraph.isSymmetric());
+	}
+
+	private String[] getNames() {
+
+		if(this.csrGraph instanceof ArrayCsrGraph) {
+			return ((ArrayCsrGraph) this.csrGraph).getNames();
+		}
+
+		String[] names = new String[this.csrGraph.getNodeCount()];
+
+		for(int i=0; i < names.length; i++) {
+			names[i] = this.csrGraph.getNodeName(i);
+		}
+
+		return names;
+	}
+
+	private static long key(int pSourceId, int pTargetId) {
+		return ((long) pSourceId << 32) | (pTargetId & 0xFFFFFFFFL);
+	}
+
+}
@@ -0,0 +1,149 @@
+package de.interstellar.model.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/** Immutable implementation of a CsrGraph that reads its data directly from buffers,
+ *  usually the sections of a memory-mapped snapshot file (see GraphSnapshotReader).
+ *  Nothing is copied onto the heap, the operating system loads the pages of the file
+ *  when they are accessed for the first time.
+ *
+ *  A single buffer can not be bigger than 2 GB, so every section is split into windows
+ *  of the same size (1 << windowShift bytes), like the chunks of the OffHeapStore. The
+ *  window size is a multiple of 8, so an int or double value never crosses the border
+ *  of two windows. Only the last window of a section can be smaller.
+ *
+ *  The names of the nodes are stored as UTF-8 bytes one after another. The name of
+ *  a node is decoded every time it is requested. The end position of a node without
+ *  name has the highest bit set, like in an OffHeapCsrGraph.
+ *
+ *  Only the absolute get methods of the buffers are used, so the graph can be used by
+ *  several threads at the same time.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public final class MappedCsrGraph implements CsrGraph {
+
+	private final int nodeCount;
+	private final int windowShift;
+	private final long windowMask;
+	private final ByteBuffer[] offsets;
+	private final ByteBuffer[] targets;
+	private final ByteBuffer[] costs;
+	private final ByteBuffer[] nameOffsets;
+	private final ByteBuffer[] nameBytes;
+	private final boolean symmetric;
+
+	/** @param pNodeCount => number of nodes
+	 *  @param pWindowShift => every window except the last one of a section has 1 << pWindowShift bytes (at least 3)
+	 *  @param pOffsets => for each node the index of its first edge as int (nodeCount + 1 values)
+	 *  @param pTargets => for each edge the id of the node it leads to as int
+	 *  @param pCosts => for each edge its cost as double
+	 *  @param pNameOffsets => for each node the position of its name in the name bytes as long (nodeCount + 1 values)
+	 *  @param pNameBytes => the UTF-8 encoded names of all nodes
+	 *  @param pSymmetric => true if the graph is undirected
+	 */
+	public MappedCsrGraph(int pNodeCount, int pWindowShift, ByteBuffer[] pOffsets, ByteBuffer[] pTargets, ByteBuffer[] pCosts,
+			ByteBuffer[] pNameOffsets, ByteBuffer[] pNameBytes, boolean pSymmetric) {
+
+		if(pWindowShift < 3 || pWindowShift > 30) {
+			throw new IllegalArgumentException("Invalid window shift: " + pWindowShift);
+		}
+
+		this.nodeCount = pNodeCount;
+		this.windowShift = pWindowShift;
+		this.windowMask = (1L << pWindowShift) - 1;
+		this.offsets = pOffsets;
+		this.targets = pTargets;
+		this.costs = pCosts;
+		this.nameOffsets = pNameOffsets;
+		this.nameBytes = pNameBytes;
+		this.symmetric = pSymmetric;
+	}
+
+	@Override
+	public int getNodeCount() {
+		return this.nodeCount;
+	}
+
+	@Override
+	public int getEdgeCount() {
+		return getInt(this.offsets, this.nodeCount);
+	}
+
+	@Override
+	public int getEdgeStart(int pNodeId) {
+		return getInt(this.offsets, pNodeId);
+	}
+
+	@Override
+	public int getEdgeEnd(int pNodeId) {
+		return getInt(this.offsets, pNodeId + 1);
+	}
+
+	@Override
+	public int getEdgeTarget(int pEdgeIndex) {
+		return getInt(this.targets, pEdgeIndex);
+	}
+
+	@Override
+	public double getEdgeCost(int pEdgeIndex) {
+
+		long position = (long) pEdgeIndex << 3;
+
+		return this.costs[(int) (position >>> this.windowShift)].getDouble((int) (position & this.windowMask));
+	}
+
+	@Override
+	public String getNodeName(int pNodeId) {
+
+		long end = getLong(this.nameOffsets, pNodeId + 1);
+
+		if(end < 0) {
+			return null;
+		}
+
+		long start = getLong(this.nameOffsets, pNodeId) & ~OffHeapCsrGraph.NULL_NAME;
+		byte[] bytes = new byte[(int) (end - start)];
+		int done = 0;
+
+		//A name can cross the border of two windows
+		while(done < bytes.length) {
+
+			long position = start + done;
+
+			//The duplicate has its own position, so other threads are not disturbed
+			ByteBuffer window = this.nameBytes[(int) (position >>> this.windowShift)].duplicate();
+			int offset = (int) (position & this.windowMask);
+			int length = Math.min(bytes.length - done, window.capacity() - offset);
+
+			window.position(offset);
+			window.get(bytes, done, length);
+			done += length;
+		}
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public boolean isSymmetric() {
+		return this.symmetric;
+	}
+
+	private int getInt(ByteBuffer[] pWindows, long pIndex) {
+
+		long position = pIndex << 2;
+
+		return pWindows[(int) (position >>> this.windowShift)].getInt((int) (position & this.windowMask));
+	}
+
+	private long getLong(ByteBuffer[] pWindows, long pIndex) {
+
+		long position = pIndex << 3;
+
+		return pWindows[(int) (position >>> this.windowShift)].getLong((int) (position & this.windowMask));
+	}
+
+}
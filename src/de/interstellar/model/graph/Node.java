@@ -1,11 +1,14 @@
 package de.interstellar.model.graph;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 
 /** This class represents a Node. A node consists of a unique name
  *  and a list of all its neighbor Nodes. This means all the nodes
  *  to which the specific node is connected to.
+ *  
+ *  The node does not hold any state of a shortest path search. This state
+ *  is kept by the algorithm for each query, so that the same graph can be
+ *  used by several queries at the same time.
  * 
  * @author Florian Sturn
  * @date 16.05.2019
@@ -17,17 +20,11 @@ public class Node {
 	private String name;
 	private ArrayList<Node> neighbors;
 	
-	private LinkedList<Node> shortestPath;
-	private double totalCost;
-	
 	public Node(int pId, String pName) {
 		
 		this.id = pId;
 		this.name = pName;
 		this.neighbors = new ArrayList<Node>();
-		 //Initialize the total cost with ifinity
-		this.totalCost = Double.MAX_VALUE;
-		this.shortestPath = new LinkedList<Node>();
 				
 	}
 	
@@ -47,22 +44,6 @@ public class Node {
 		return this.id;
 	}
 	
-	public double getTotalCost() {
-		return this.totalCost;
-	}
-	
-	public void updateTotalCost(double cost) {
-		this.totalCost = cost;
-	}
-	
-	public LinkedList<Node> getShortestPath(){
-		return this.shortestPath;
-	}
-	
-	public void updateShortestPath(LinkedList<Node> path) {
-		this.shortestPath = path;
-	}
-	
 	
 
 }
@@ -0,0 +1,308 @@
+package de.interstellar.model.graph;
+
+import java.util.Arrays;
+
+/** This class finds nodes by their name (label) without looking at every node.
+ *
+ *  	- exact names are found over a hash table (open addressing with linear probing),
+ *  	  that only stores the ids of the nodes
+ *  	- names that start with a given prefix (e.g. for an autocompletion) are found over
+ *  	  the ids sorted by name. All names with the same prefix are next to each other, so
+ *  	  the first one is found by a binary search. The sorted ids are created the first
+ *  	  time a prefix is searched.
+ *
+ *  Several nodes can have the same name. The hash table only contains the node with the
+ *  lowest id for each name, so findNodeId always returns that node. All nodes with a
+ *  name are returned by findNodeIds.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public final class NodeNameIndex {
+
+	//The names are either kept in the array or read from the graph, if it keeps them outside of the heap
+	private final String[] names;
+	private final CsrGraph csrGraph;
+	private final int nodeCount;
+	private final int[] table;
+	private final int mask;
+	private final int duplicateCount;
+
+	private volatile int[] sortedIds;
+
+	private NodeNameIndex(String[] pNames, CsrGraph pCsrGraph) {
+
+		this.names = pNames;
+		this.csrGraph = pCsrGraph;
+		this.nodeCount = pNames != null ? pNames.length : pCsrGraph.getNodeCount();
+
+		//At most half of the table is used, so the chains of the linear probing stay short
+		int capacity = Integer.highestOneBit(Math.max(2 * this.nodeCount - 1, 1)) << 1;
+		this.table = new int[capacity];
+		this.mask = capacity - 1;
+
+		int duplicates = 0;
+
+		for(int id=0; id < this.nodeCount; id++) {
+
+			String name = getName(id);
+
+			if(name == null) {
+				continue;
+			}
+
+			int slot = findSlot(name);
+
+			//The table stores id + 1, so that 0 marks an empty slot
+			if(this.table[slot] == 0) {
+				this.table[slot] = id + 1;
+			} else {
+				duplicates++;
+			}
+		}
+
+		this.duplicateCount = duplicates;
+	}
+
+	/** This function creates the index for the given names.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pNames => names of the nodes, the index is the id of the node. A node without
+	 *  				name (NULL) can not be found.
+	 * @return the created index
+	 */
+	public static NodeNameIndex create(String[] pNames) {
+		return new NodeNameIndex(pNames, null);
+	}
+
+	/** This function creates the index for the names of the nodes of the given graph.
+	 *  The names of an OffHeapCsrGraph are not copied onto the heap, they are read from
+	 *  the graph when they are compared.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph
+	 * @return the created index
+	 */
+	public static NodeNameIndex create(CsrGraph pCsrGraph) {
+
+		if(pCsrGraph instanceof OffHeapCsrGraph) {
+			return new NodeNameIndex(null, pCsrGraph);
+		}
+
+		String[] names = new String[pCsrGraph.getNodeCount()];
+
+		for(int i=0; i < names.length; i++) {
+			names[i] = pCsrGraph.getNodeName(i);
+		}
+
+		return new NodeNameIndex(names, null);
+	}
+
+	/** @param pNodeName => name of the node
+	 *  @return the lowest id of a node with the given name, -1 if there is no such node
+	 */
+	public int findNodeId(String pNodeName) {
+
+		if(pNodeName == null) {
+			return -1;
+		}
+
+		return this.table[findSlot(pNodeName)] - 1;
+	}
+
+	/** @param pNodeName => name of the nodes
+	 *  @return the ids of all nodes with the given name in ascending order
+	 */
+	public int[] findNodeIds(String pNodeName) {
+
+		int firstId = findNodeId(pNodeName);
+
+		if(firstId < 0) {
+			return new int[0];
+		}
+
+		if(this.duplicateCount == 0) {
+			return new int[] {firstId};
+		}
+
+		int[] sorted = getSortedIds();
+		int start = lowerBound(sorted, pNodeName);
+		int end = start;
+
+		while(end < sorted.length && getName(sorted[end]).equals(pNodeName)) {
+			end++;
+		}
+
+		return Arrays.copyOfRange(sorted, start, end);
+	}
+
+	/** This function searches the nodes whose name starts with the given prefix.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pPrefix => the beginning of the names (case sensitive)
+	 * @param pLimit => maximal number of returned nodes
+	 * @return the ids of the found nodes, ordered by their names
+	 */
+	public int[] findNodeIdsByPrefix(String pPrefix, int pLimit) {
+
+		int[] sorted = getSortedIds();
+		int start = lowerBound(sorted, pPrefix);
+		int end = start;
+
+		while(end < sorted.length && end - start < pLimit && getName(sorted[end]).startsWith(pPrefix)) {
+			end++;
+		}
+
+		return Arrays.copyOfRange(sorted, start, end);
+	}
+
+	/** @return the number of nodes that have the same name as a node with a lower id */
+	public int getDuplicateCount() {
+		return this.duplicateCount;
+	}
+
+	private String getName(int pNodeId) {
+		return this.names != null ? this.names[pNodeId] : this.csrGraph.getNodeName(pNodeId);
+	}
+
+	/** @return the slot of the table that contains the given name or the empty slot
+	 *  		where it would be inserted
+	 */
+	private int findSlot(String pNodeName) {
+
+		//Spread the bits of the hash code, as the lower bits are used for the slot
+		int hash = pNodeName.hashCode() * 0x9E3779B9;
+		int slot = (hash ^ (hash >>> 16)) & this.mask;
+
+		while(this.table[slot] != 0 && !getName(this.table[slot] - 1).equals(pNodeName)) {
+			slot = (slot + 1) & this.mask;
+		}
+
+		return slot;
+	}
+
+	/** @return the first position of the sorted ids whose name is not smaller than the given name */
+	private int lowerBound(int[] pSortedIds, String pNodeName) {
+
+		int low = 0;
+		int high = pSortedIds.length;
+
+		while(low < high) {
+
+			int middle = (low + high) >>> 1;
+
+			if(getName(pSortedIds[middle]).compareTo(pNodeName) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/** @return the ids of all nodes with a name, ordered by name and id */
+	private int[] getSortedIds() {
+
+		int[] sorted = this.sortedIds;
+
+		if(sorted == null) {
+			synchronized(this) {
+				if(this.sortedIds == null) {
+					this.sortedIds = createSortedIds();
+				}
+				sorted = this.sortedIds;
+			}
+		}
+
+		return sorted;
+	}
+
+	private int[] createSortedIds() {
+
+		int[] ids = new int[this.nodeCount];
+		int count = 0;
+
+		for(int id=0; id < this.nodeCount; id++) {
+			if(getName(id) != null) {
+				ids[count++] = id;
+			}
+		}
+
+		ids = Arrays.copyOf(ids, count);
+
+		//The first characters of each name are packed into a key, so most comparisons do not
+		//need the names (an OffHeapCsrGraph would decode them for every comparison)
+		long[] keys = new long[this.nodeCount];
+
+		for(int i=0; i < count; i++) {
+			keys[ids[i]] = createKey(getName(ids[i]));
+		}
+
+		//Merge sort is stable, so nodes with the same name stay ordered by their id
+		int[] buffer = new int[count];
+
+		for(int width=1; width < count; width <<= 1) {
+
+			for(int start=0; start < count; start += 2 * width) {
+				merge(ids, buffer, keys, start, Math.min(start + width, count), Math.min(start + 2 * width, count));
+			}
+
+			int[] swap = ids;
+			ids = buffer;
+			buffer = swap;
+		}
+
+		return ids;
+	}
+
+	/** This function merges the sorted ranges [pStart, pMiddle) and [pMiddle, pEnd) of the source
+	 *  into the same range of the target.
+	 */
+	private void merge(int[] pSource, int[] pTarget, long[] pKeys, int pStart, int pMiddle, int pEnd) {
+
+		int left = pStart;
+		int right = pMiddle;
+
+		for(int i=pStart; i < pEnd; i++) {
+			if(right >= pEnd || (left < pMiddle && compare(pSource[left], pSource[right], pKeys) <= 0)) {
+				pTarget[i] = pSource[left++];
+			} else {
+				pTarget[i] = pSource[right++];
+			}
+		}
+	}
+
+	private int compare(int pFirstId, int pSecondId, long[] pKeys) {
+
+		int result = Long.compareUnsigned(pKeys[pFirstId], pKeys[pSecondId]);
+
+		if(result != 0) {
+			return result;
+		}
+
+		return getName(pFirstId).compareTo(getName(pSecondId));
+	}
+
+	/** @return the first four characters of the name, the unsigned order of the keys is the order of
+	 *  		the names if the keys differ
+	 */
+	private static long createKey(String pName) {
+
+		long key = 0;
+
+		for(int i=0; i < 4; i++) {
+			key = (key << 16) | (i < pName.length() ? pName.charAt(i) : 0);
+		}
+
+		return key;
+	}
+
+}
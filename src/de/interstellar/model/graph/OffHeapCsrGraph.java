@@ -0,0 +1,177 @@
+package de.interstellar.model.graph;
+
+import java.nio.charset.StandardCharsets;
+
+/** Immutable implementation of a CsrGraph that keeps all its data outside of the Java
+ *  heap (see OffHeapStore): the offsets, targets and costs of the edges and the names of
+ *  the nodes as UTF-8 bytes. The heap only contains this object and the stores, however
+ *  big the graph is, so the garbage collector does not need to look at the graph.
+ *
+ *  Unlike a MappedCsrGraph the graph does not need a file and the sections are not
+ *  limited to 2 GB. The name of a node is decoded every time it is requested.
+ *
+ *  The name of a node ends where the name of the next node starts. For a node without
+ *  name (NULL) the end position is marked with the highest bit (NULL_NAME), so it is
+ *  returned as NULL like by an ArrayCsrGraph and can not be found by its name.
+ *
+ *  An update of the edges (see GraphUpdate) creates a graph on the heap.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public final class OffHeapCsrGraph implements CsrGraph {
+
+	//Marks the end position of a node without name, positions are never negative
+	static final long NULL_NAME = Long.MIN_VALUE;
+
+	private final int nodeCount;
+	private final OffHeapStore offsets;
+	private final OffHeapStore targets;
+	private final OffHeapStore costs;
+	private final OffHeapStore nameOffsets;
+	private final OffHeapStore nameBytes;
+	private final boolean symmetric;
+
+	/** @param pNodeCount => number of nodes
+	 *  @param pOffsets => for each node the index of its first edge as int (nodeCount + 1 values)
+	 *  @param pTargets => for each edge the id of the node it leads to as int
+	 *  @param pCosts => for each edge its cost as double
+	 *  @param pNameOffsets => for each node the position of its name in the name bytes as long (nodeCount + 1 values),
+	 *  					 see appendName
+	 *  @param pNameBytes => the UTF-8 encoded names of all nodes
+	 *  @param pSymmetric => true if the graph is undirected
+	 */
+	OffHeapCsrGraph(int pNodeCount, OffHeapStore pOffsets, OffHeapStore pTargets, OffHeapStore pCosts,
+			OffHeapStore pNameOffsets, OffHeapStore pNameBytes, boolean pSymmetric) {
+
+		this.nodeCount = pNodeCount;
+		this.offsets = pOffsets;
+		this.targets = pTargets;
+		this.costs = pCosts;
+		this.nameOffsets = pNameOffsets;
+		this.nameBytes = pNameBytes;
+		this.symmetric = pSymmetric;
+	}
+
+	/** This function copies the given graph out of the heap.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCsrGraph => the graph to copy
+	 * @return the copy
+	 */
+	public static OffHeapCsrGraph copyOf(CsrGraph pCsrGraph) {
+
+		int nodeCount = pCsrGraph.getNodeCount();
+		int edgeCount = pCsrGraph.getEdgeCount();
+
+		OffHeapStore offsets = new OffHeapStore(4L * (nodeCount + 1));
+		OffHeapStore targets = new OffHeapStore(4L * edgeCount);
+		OffHeapStore costs = new OffHeapStore(8L * edgeCount);
+		OffHeapStore nameOffsets = new OffHeapStore(8L * (nodeCount + 1));
+		OffHeapStore nameBytes = new OffHeapStore(0);
+		long nameOffset = 0;
+
+		for(int node=0; node < nodeCount; node++) {
+
+			offsets.putInt(node, pCsrGraph.getEdgeStart(node));
+
+			for(int e = pCsrGraph.getEdgeStart(node); e < pCsrGraph.getEdgeEnd(node); e++) {
+				targets.putInt(e, pCsrGraph.getEdgeTarget(e));
+				costs.putDouble(e, pCsrGraph.getEdgeCost(e));
+			}
+
+			nameOffset = appendName(nameBytes, nameOffset, pCsrGraph.getNodeName(node));
+			nameOffsets.putLong(node + 1, nameOffset);
+		}
+
+		offsets.putInt(nodeCount, edgeCount);
+
+		return new OffHeapCsrGraph(nodeCount, offsets, targets, costs, nameOffsets, nameBytes, pCsrGraph.isSymmetric());
+	}
+
+	/** This function appends the UTF-8 bytes of a name to the store, which grows if needed.
+	 *
+	 * @param pNameBytes => the store
+	 * @param pNameOffset => the name offset of the previous node
+	 * @param pName => the name
+	 * @return the name offset of the node: the position after the appended name, marked with
+	 *  	   NULL_NAME if the name is NULL
+	 */
+	static long appendName(OffHeapStore pNameBytes, long pNameOffset, String pName) {
+
+		long position = pNameOffset & ~NULL_NAME;
+
+		if(pName == null) {
+			return position | NULL_NAME;
+		}
+
+		byte[] bytes = pName.getBytes(StandardCharsets.UTF_8);
+
+		pNameBytes.ensureCapacity(position + bytes.length);
+		pNameBytes.putBytes(position, bytes);
+
+		return position + bytes.length;
+	}
+
+	/** @return the number of bytes outside of the heap that are used by the graph */
+	public long getOffHeapSize() {
+		return this.offsets.capacity() + this.targets.capacity() + this.costs.capacity()
+				+ this.nameOffsets.capacity() + this.nameBytes.capacity();
+	}
+
+	@Override
+	public int getNodeCount() {
+		return this.nodeCount;
+	}
+
+	@Override
+	public int getEdgeCount() {
+		return this.offsets.getInt(this.nodeCount);
+	}
+
+	@Override
+	public int getEdgeStart(int pNodeId) {
+		return this.offsets.getInt(pNodeId);
+	}
+
+	@Override
+	public int getEdgeEnd(int pNodeId) {
+		return this.offsets.getInt(pNodeId + 1);
+	}
+
+	@Override
+	public int getEdgeTarget(int pEdgeIndex) {
+		return this.targets.getInt(pEdgeIndex);
+	}
+
+	@Override
+	public double getEdgeCost(int pEdgeIndex) {
+		return this.costs.getDouble(pEdgeIndex);
+	}
+
+	@Override
+	public String getNodeName(int pNodeId) {
+
+		long end = this.nameOffsets.getLong(pNodeId + 1);
+
+		if(end < 0) {
+			return null;
+		}
+
+		long start = this.nameOffsets.getLong(pNodeId) & ~NULL_NAME;
+		byte[] bytes = new byte[(int) (end - start)];
+
+		this.nameBytes.getBytes(start, bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public boolean isSymmetric() {
+		return this.symmetric;
+	}
+
+}
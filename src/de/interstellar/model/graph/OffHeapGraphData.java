@@ -0,0 +1,197 @@
+package de.interstellar.model.graph;
+
+/** The nodes and edges that were added to a GraphBuilder with the storage OFF_HEAP.
+ *  Like the arrays of the builder for the heap, the edges are collected as a list
+ *  (source, target, cost), but in stores outside of the heap (see OffHeapStore). The
+ *  names are stored as UTF-8 bytes right away, so no String object is kept.
+ *
+ *  The graph is created in the same way as ArrayCsrGraph.fromEdges: the edges are sorted
+ *  by their source with a counting sort and duplicate edges are removed afterwards.
+ *  Unlike there, the graph is created in a single part.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+final class OffHeapGraphData {
+
+	private final OffHeapStore nameOffsets;
+	private final OffHeapStore nameBytes;
+	private long nameOffset;
+	private int nodeCount;
+
+	private final OffHeapStore edgeSources;
+	private final OffHeapStore edgeTargets;
+	private final OffHeapStore edgeCosts;
+	private int edgeCount;
+
+	OffHeapGraphData() {
+
+		this.nameOffsets = new OffHeapStore(8);
+		this.nameBytes = new OffHeapStore(0);
+		this.edgeSources = new OffHeapStore(0);
+		this.edgeTargets = new OffHeapStore(0);
+		this.edgeCosts = new OffHeapStore(0);
+	}
+
+	/** @return the id of the added node */
+	int addNode(String pName) {
+
+		this.nameOffset = OffHeapCsrGraph.appendName(this.nameBytes, this.nameOffset, pName);
+		this.nameOffsets.ensureCapacity(8L * (this.nodeCount + 2));
+		this.nameOffsets.putLong(this.nodeCount + 1, this.nameOffset);
+
+		return this.nodeCount++;
+	}
+
+	void addEdge(int pSourceId, int pDestinationId, double pCost) {
+
+		this.edgeSources.ensureCapacity(4L * (this.edgeCount + 1));
+		this.edgeTargets.ensureCapacity(4L * (this.edgeCount + 1));
+		this.edgeCosts.ensureCapacity(8L * (this.edgeCount + 1));
+
+		this.edgeSources.putInt(this.edgeCount, pSourceId);
+		this.edgeTargets.putInt(this.edgeCount, pDestinationId);
+		this.edgeCosts.putDouble(this.edgeCount, pCost);
+		this.edgeCount++;
+	}
+
+	/** This function removes all edges that refer to a node that does not exist, like
+	 *  GraphBuilder.removeInvalidEdges.
+	 */
+	void removeInvalidEdges() {
+
+		int write = 0;
+
+		for(int i=0; i < this.edgeCount; i++) {
+
+			int sourceID = this.edgeSources.getInt(i);
+			int destinationID = this.edgeTargets.getInt(i);
+
+			if(sourceID < 0 || sourceID >= this.nodeCount || destinationID < 0 || destinationID >= this.nodeCount) {
+				GraphBuilder.reportInvalidEdge(sourceID, destinationID);
+			} else {
+				this.edgeSources.putInt(write, sourceID);
+				this.edgeTargets.putInt(write, destinationID);
+				this.edgeCosts.putDouble(write, this.edgeCosts.getDouble(i));
+				write++;
+			}
+		}
+
+		this.edgeCount = write;
+	}
+
+	/** This function creates the graph out of the nodes and edges.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pUndirected => true if every edge needs to be stored in both directions
+	 * @param pPolicy => which cost is kept for duplicate edges
+	 * @return the created graph
+	 */
+	OffHeapCsrGraph createGraph(boolean pUndirected, DuplicateEdgePolicy pPolicy) {
+
+		long arcCount = pUndirected ? 2L * this.edgeCount : this.edgeCount;
+
+		if(arcCount > Integer.MAX_VALUE) {
+			throw new IllegalStateException("Too many edges for a graph: " + arcCount);
+		}
+
+		//Count the outgoing edges of each node (counting sort, step 1)
+		OffHeapStore offsets = new OffHeapStore(4L * (this.nodeCount + 1));
+
+		for(int i=0; i < this.edgeCount; i++) {
+
+			increment(offsets, this.edgeSources.getInt(i) + 1);
+
+			if(pUndirected) {
+				increment(offsets, this.edgeTargets.getInt(i) + 1);
+			}
+		}
+
+		for(int i=0; i < this.nodeCount; i++) {
+			offsets.putInt(i + 1, offsets.getInt(i + 1) + offsets.getInt(i));
+		}
+
+		//Put each edge at its place, the edges of every node keep their input order
+		OffHeapStore position = new OffHeapStore(4L * this.nodeCount);
+		OffHeapStore targets = new OffHeapStore(4L * arcCount);
+		OffHeapStore costs = new OffHeapStore(8L * arcCount);
+
+		for(int i=0; i < this.nodeCount; i++) {
+			position.putInt(i, offsets.getInt(i));
+		}
+
+		for(int i=0; i < this.edgeCount; i++) {
+
+			int source = this.edgeSources.getInt(i);
+			int target = this.edgeTargets.getInt(i);
+			double cost = this.edgeCosts.getDouble(i);
+
+			int p = increment(position, source) - 1;
+			targets.putInt(p, target);
+			costs.putDouble(p, cost);
+
+			if(pUndirected) {
+				p = increment(position, target) - 1;
+				targets.putInt(p, source);
+				costs.putDouble(p, cost);
+			}
+		}
+
+		removeDuplicates(offsets, targets, costs, position, pPolicy);
+
+		return new OffHeapCsrGraph(this.nodeCount, offsets, targets, costs, this.nameOffsets, this.nameBytes, pUndirected);
+	}
+
+	/** This function removes duplicate edges like ArrayCsrGraph.removeDuplicates: the first
+	 *  position is kept and its cost is chosen by the policy.
+	 *
+	 * @param pSeenAt => store with space for one int per node, it is overwritten
+	 */
+	private void removeDuplicates(OffHeapStore pOffsets, OffHeapStore pTargets, OffHeapStore pCosts, OffHeapStore pSeenAt,
+			DuplicateEdgePolicy pPolicy) {
+
+		for(int i=0; i < this.nodeCount; i++) {
+			pSeenAt.putInt(i, -1);
+		}
+
+		int write = 0;
+		int start = 0;
+
+		for(int node=0; node < this.nodeCount; node++) {
+
+			int end = pOffsets.getInt(node + 1);
+			int nodeStart = write;
+
+			for(int e = start; e < end; e++) {
+
+				int target = pTargets.getInt(e);
+				int seenAt = pSeenAt.getInt(target);
+
+				if(seenAt >= nodeStart) {
+					pCosts.putDouble(seenAt, pPolicy.merge(pCosts.getDouble(seenAt), pCosts.getDouble(e)));
+				} else {
+					pSeenAt.putInt(target, write);
+					pTargets.putInt(write, target);
+					pCosts.putDouble(write, pCosts.getDouble(e));
+					write++;
+				}
+			}
+
+			start = end;
+			pOffsets.putInt(node + 1, write);
+		}
+	}
+
+	/** @return the new value */
+	private static int increment(OffHeapStore pStore, long pIndex) {
+
+		int value = pStore.getInt(pIndex) + 1;
+		pStore.putInt(pIndex, value);
+
+		return value;
+	}
+
+}
@@ -0,0 +1,204 @@
+package de.interstellar.model.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/** Memory outside of the Java heap (direct ByteBuffers) that is addressed with long
+ *  positions, so it can be bigger than the 2 GB of a single buffer.
+ *
+ *  The memory is split into chunks of CHUNK_SIZE bytes. As the chunk size is a multiple
+ *  of 8, an int, long or double value never crosses the border of two chunks. Only the
+ *  last chunk can be smaller, it grows by doubling until it has the full chunk size,
+ *  further memory is added as new chunks without copying the existing ones.
+ *
+ *  The values are addressed by their index, e.g. getInt(i) reads the bytes 4*i to 4*i+3.
+ *  Only absolute get and put methods of the buffers are used, so the store can be read
+ *  by several threads at the same time. The memory is released by the garbage collector
+ *  when the store is not used anymore. How much memory can be allocated is limited by
+ *  the JVM option -XX:MaxDirectMemorySize (by default the maximal heap size).
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+final class OffHeapStore {
+
+	private static final int CHUNK_SHIFT = 30;
+	private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+	private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private static final int MIN_CAPACITY = 64;
+
+	private static final ByteBuffer[] NO_CHUNKS = new ByteBuffer[0];
+
+	private ByteBuffer[] chunks;
+	private long capacity;
+
+	/** Creates a store with the given capacity, the memory is filled with zeros.
+	 *
+	 * @param pCapacity => number of bytes
+	 */
+	OffHeapStore(long pCapacity) {
+
+		this.chunks = NO_CHUNKS;
+		ensureCapacity(pCapacity);
+	}
+
+	/** This function makes sure that the store has at least the given number of bytes.
+	 *  If more chunks are needed, the last chunk is enlarged to the full chunk size first.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pCapacity => number of bytes that are needed
+	 */
+	void ensureCapacity(long pCapacity) {
+
+		if(pCapacity <= this.capacity) {
+			return;
+		}
+
+		int chunkCount = (int) ((pCapacity + CHUNK_MASK) >>> CHUNK_SHIFT);
+		int last = this.chunks.length - 1;
+
+		if(last >= 0 && this.chunks[last].capacity() < CHUNK_SIZE) {
+
+			//Grow by doubling, so a small store does not need a whole chunk
+			long size = chunkCount - 1 > last ? CHUNK_SIZE : Math.min(CHUNK_SIZE, Math.max(2L * this.chunks[last].capacity(),
+					pCapacity - ((long) last << CHUNK_SHIFT)));
+
+			this.chunks[last] = copyOf(this.chunks[last], (int) size);
+		}
+
+		if(chunkCount > this.chunks.length) {
+
+			int oldLength = this.chunks.length;
+			this.chunks = Arrays.copyOf(this.chunks, chunkCount);
+
+			for(int i = oldLength; i < chunkCount; i++) {
+
+				long size = i < chunkCount - 1 ? CHUNK_SIZE : Math.max(MIN_CAPACITY, pCapacity - ((long) i << CHUNK_SHIFT));
+				this.chunks[i] = allocate((int) Math.min(CHUNK_SIZE, size));
+			}
+		}
+
+		long total = 0;
+
+		for(ByteBuffer chunk: this.chunks) {
+			total += chunk.capacity();
+		}
+
+		this.capacity = total;
+	}
+
+	/** @return the number of bytes of the store */
+	long capacity() {
+		return this.capacity;
+	}
+
+	int getInt(long pIndex) {
+
+		long position = pIndex << 2;
+
+		return this.chunks[(int) (position >>> CHUNK_SHIFT)].getInt((int) (position & CHUNK_MASK));
+	}
+
+	void putInt(long pIndex, int pValue) {
+
+		long position = pIndex << 2;
+
+		this.chunks[(int) (position >>> CHUNK_SHIFT)].putInt((int) (position & CHUNK_MASK), pValue);
+	}
+
+	long getLong(long pIndex) {
+
+		long position = pIndex << 3;
+
+		return this.chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & CHUNK_MASK));
+	}
+
+	void putLong(long pIndex, long pValue) {
+
+		long position = pIndex << 3;
+
+		this.chunks[(int) (position >>> CHUNK_SHIFT)].putLong((int) (position & CHUNK_MASK), pValue);
+	}
+
+	double getDouble(long pIndex) {
+
+		long position = pIndex << 3;
+
+		return this.chunks[(int) (position >>> CHUNK_SHIFT)].getDouble((int) (position & CHUNK_MASK));
+	}
+
+	void putDouble(long pIndex, double pValue) {
+
+		long position = pIndex << 3;
+
+		this.chunks[(int) (position >>> CHUNK_SHIFT)].putDouble((int) (position & CHUNK_MASK), pValue);
+	}
+
+	/** This function copies bytes out of the store.
+	 *
+	 * @param pPosition => position of the first byte in the store
+	 * @param pBytes => receives the bytes, it is filled completely
+	 */
+	void getBytes(long pPosition, byte[] pBytes) {
+
+		int done = 0;
+
+		//Bytes can cross the border of two chunks
+		while(done < pBytes.length) {
+
+			long position = pPosition + done;
+			ByteBuffer chunk = this.chunks[(int) (position >>> CHUNK_SHIFT)].duplicate();
+			int offset = (int) (position & CHUNK_MASK);
+			int length = Math.min(pBytes.length - done, chunk.capacity() - offset);
+
+			chunk.position(offset);
+			chunk.get(pBytes, done, length);
+			done += length;
+		}
+	}
+
+	/** This function copies bytes into the store.
+	 *
+	 * @param pPosition => position of the first byte in the store
+	 * @param pBytes => the bytes
+	 */
+	void putBytes(long pPosition, byte[] pBytes) {
+
+		int done = 0;
+
+		while(done < pBytes.length) {
+
+			long position = pPosition + done;
+			ByteBuffer chunk = this.chunks[(int) (position >>> CHUNK_SHIFT)].duplicate();
+			int offset = (int) (position & CHUNK_MASK);
+			int length = Math.min(pBytes.length - done, chunk.capacity() - offset);
+
+			chunk.position(offset);
+			chunk.put(pBytes, done, length);
+			done += length;
+		}
+	}
+
+	private static ByteBuffer allocate(int pSize) {
+
+		//The native order is the fastest to read
+		return ByteBuffer.allocateDirect(pSize).order(ByteOrder.nativeOrder());
+	}
+
+	private static ByteBuffer copyOf(ByteBuffer pChunk, int pSize) {
+
+		ByteBuffer copy = allocate(pSize);
+		ByteBuffer source = pChunk.duplicate();
+
+		source.clear();
+		copy.put(source);
+
+		return copy.clear();
+	}
+
+}
@@ -0,0 +1,375 @@
+package de.interstellar.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import de.interstellar.algorithm.ShortestPathCache;
+import de.interstellar.algorithm.ShortestPathQuery;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ShortestPathService;
+import de.interstellar.application.GraphLoader;
+import de.interstellar.metrics.SearchMetrics;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** This class answers shortest path queries over HTTP. The graph is loaded once and
+ *  shared by all requests. The server provides the following endpoints:
+ *
+ *  GET  /route?from=A&to=B      => {"from":..,"to":..,"reachable":..,"totalCost":..,"path":[..]}
+ *  POST /routes                 => the body is a JSON array of {"from":..,"to":..} objects,
+ *                                  the answer is a JSON array of the results in the same order
+ *  GET  /nodes?prefix=P&limit=N => the names of at most N nodes that start with P
+ *  GET  /metrics                => the SearchMetrics as plain text
+ *
+ *  Each request is handled by its own virtual thread, if the JVM supports them (Java 21),
+ *  otherwise by a cached thread pool. The searches themselves run on the fork-join pool
+ *  of the ShortestPathService, so the memory for the searches is only allocated once per
+ *  processor and not once per request.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class RouteServer implements AutoCloseable {
+
+	public static final int DEFAULT_PORT = 8080;
+	public static final int MAX_BATCH_SIZE = 10000;
+
+	private static final int DEFAULT_CACHE_SIZE = 10000;
+	private static final int DEFAULT_NODE_LIMIT = 100;
+
+	private final Graph graph;
+	private final ShortestPathService service;
+	private final ExecutorService requestExecutor;
+	private final HttpServer httpServer;
+
+	/** Creates the server, it does not accept requests before start is called.
+	 *
+	 * @param pGraph => the graph on which the queries are answered
+	 * @param pPort => the port of the server, 0 to choose a free port
+	 * @throws IOException if the port can not be opened
+	 */
+	public RouteServer(Graph pGraph, int pPort) throws IOException {
+
+		this.graph = pGraph;
+		this.service = new ShortestPathService(pGraph);
+		this.requestExecutor = createRequestExecutor();
+
+		this.httpServer = HttpServer.create(new InetSocketAddress(pPort), 0);
+		this.httpServer.setExecutor(this.requestExecutor);
+		this.httpServer.createContext("/route", this::handleRoute);
+		this.httpServer.createContext("/routes", this::handleRoutes);
+		this.httpServer.createContext("/nodes", this::handleNodes);
+		this.httpServer.createContext("/metrics", this::handleMetrics);
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		//Arguments: [port] [snapshot file]
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		Path snapshotPath = args.length > 1 ? Paths.get(args[1]) : null;
+
+		//The metrics of the server are always collected and can be read over JMX or /metrics
+		SearchMetrics.getInstance().setEnabled(true);
+		SearchMetrics.register();
+
+		Graph g = new GraphLoader().load(snapshotPath);
+
+		RouteServer server = new RouteServer(g, port);
+		server.getService().setCache(ShortestPathCache.withMaxEntries(DEFAULT_CACHE_SIZE));
+		server.start();
+
+		//Requests that are running when the JVM is stopped (e.g. Ctrl+C) are finished first
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(5)));
+
+		System.out.println("Server gestartet auf Port " + server.getPort());
+	}
+
+	public void start() {
+		this.httpServer.start();
+	}
+
+	/** This function stops the server gracefully. No new requests are accepted, the
+	 *  running requests are finished within the given time.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @param pDelaySeconds => maximal time to wait for the running requests
+	 */
+	public void stop(int pDelaySeconds) {
+
+		this.httpServer.stop(pDelaySeconds);
+		this.requestExecutor.shutdown();
+
+		try {
+			this.requestExecutor.awaitTermination(pDelaySeconds, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		this.service.close();
+	}
+
+	@Override
+	public void close() {
+		stop(1);
+	}
+
+	/** @return the port the server listens on */
+	public int getPort() {
+		return this.httpServer.getAddress().getPort();
+	}
+
+	/** @return the service that answers the queries, e.g. to set a cache */
+	public ShortestPathService getService() {
+		return this.service;
+	}
+
+	private void handleRoute(HttpExchange pExchange) throws IOException {
+
+		try {
+			if(!"GET".equals(pExchange.getRequestMethod())) {
+				sendError(pExchange, 405, "Only GET is supported");
+				return;
+			}
+
+			Map<String,String> parameters = parseQuery(pExchange.getRequestURI());
+			String from = parameters.get("from");
+			String to = parameters.get("to");
+
+			if(from == null || to == null) {
+				sendError(pExchange, 400, "The parameters from and to are required");
+				return;
+			}
+
+			ShortestPathResult result = this.service.submit(new ShortestPathQuery(from, to)).join();
+
+			if(result == null) {
+				sendError(pExchange, 404, "Unknown node");
+				return;
+			}
+
+			send(pExchange, 200, toJSON(from, to, result).toString());
+
+		} catch (CompletionException | IllegalArgumentException e) {
+			sendError(pExchange, 500, e.getMessage());
+		} finally {
+			pExchange.close();
+		}
+	}
+
+	private void handleRoutes(HttpExchange pExchange) throws IOException {
+
+		try {
+			if(!"POST".equals(pExchange.getRequestMethod())) {
+				sendError(pExchange, 405, "Only POST is supported");
+				return;
+			}
+
+			JSONArray requests;
+
+			try(InputStream body = pExchange.getRequestBody()) {
+				requests = new JSONArray(new JSONTokener(body));
+			} catch (JSONException e) {
+				sendError(pExchange, 400, "The body has to be a JSON array: " + e.getMessage());
+				return;
+			}
+
+			if(requests.length() > MAX_BATCH_SIZE) {
+				sendError(pExchange, 413, "At most " + MAX_BATCH_SIZE + " queries per request");
+				return;
+			}
+
+			List<ShortestPathQuery> queries = new ArrayList<ShortestPathQuery>(requests.length());
+
+			for(int i=0; i < requests.length(); i++) {
+
+				JSONObject request = requests.optJSONObject(i);
+
+				//A missing field and a field that is not a string (e.g. a number) are both errors of the client
+				if(request == null || !(request.opt("from") instanceof String) || !(request.opt("to") instanceof String)) {
+					sendError(pExchange, 400, "Query " + i + " needs the fields from and to");
+					return;
+				}
+
+				queries.add(new ShortestPathQuery(request.getString("from"), request.getString("to")));
+			}
+
+			//All queries of the batch are answered concurrently by the service
+			List<ShortestPathResult> results = this.service.calculateAll(queries);
+			JSONArray answer = new JSONArray();
+
+			for(int i=0; i < queries.size(); i++) {
+
+				ShortestPathQuery query = queries.get(i);
+				ShortestPathResult result = results.get(i);
+
+				if(result == null) {
+					answer.put(new JSONObject().put("from", query.getSourceNodeName()).put("to", query.getTargetNodeName())
+							.put("error", "Unknown node"));
+				} else {
+					answer.put(toJSON(query.getSourceNodeName(), query.getTargetNodeName(), result));
+				}
+			}
+
+			send(pExchange, 200, answer.toString());
+
+		} catch (CompletionException | JSONException e) {
+			sendError(pExchange, 500, e.getMessage());
+		} finally {
+			pExchange.close();
+		}
+	}
+
+	private void handleNodes(HttpExchange pExchange) throws IOException {
+
+		try {
+			Map<String,String> parameters = parseQuery(pExchange.getRequestURI());
+			String prefix = parameters.getOrDefault("prefix", "");
+			int limit;
+
+			try {
+				limit = Integer.parseInt(parameters.getOrDefault("limit", String.valueOf(DEFAULT_NODE_LIMIT)));
+			} catch (NumberFormatException e) {
+				sendError(pExchange, 400, "The parameter limit has to be a number");
+				return;
+			}
+
+			CsrGraph csrGraph = this.graph.getCsrGraph();
+			JSONArray names = new JSONArray();
+
+			for(int nodeId: this.graph.getNameIndex().findNodeIdsByPrefix(prefix, limit)) {
+				names.put(csrGraph.getNodeName(nodeId));
+			}
+
+			send(pExchange, 200, names.toString());
+
+		} finally {
+			pExchange.close();
+		}
+	}
+
+	private void handleMetrics(HttpExchange pExchange) throws IOException {
+
+		try {
+			if(!"GET".equals(pExchange.getRequestMethod())) {
+				sendError(pExchange, 405, "Only GET is supported");
+				return;
+			}
+
+			send(pExchange, 200, "text/plain; charset=utf-8", SearchMetrics.getInstance().dump());
+
+		} finally {
+			pExchange.close();
+		}
+	}
+
+	private static JSONObject toJSON(String pFrom, String pTo, ShortestPathResult pResult) {
+
+		JSONObject json = new JSONObject();
+		JSONArray path = new JSONArray();
+
+		for(String name: pResult.getPath().getNodeNames()) {
+			path.put(name);
+		}
+
+		boolean reachable = pResult.getTotalCost() != Double.MAX_VALUE;
+
+		json.put("from", pFrom);
+		json.put("to", pTo);
+		json.put("reachable", reachable);
+		json.put("totalCost", reachable ? pResult.getTotalCost() : JSONObject.NULL);
+		json.put("path", path);
+
+		return json;
+	}
+
+	/** @return the decoded parameters of the query string of the uri */
+	private static Map<String,String> parseQuery(URI pUri) {
+
+		Map<String,String> parameters = new HashMap<String,String>();
+		String query = pUri.getRawQuery();
+
+		if(query == null) {
+			return parameters;
+		}
+
+		for(String parameter: query.split("&")) {
+
+			int separator = parameter.indexOf('=');
+
+			if(separator > 0) {
+				parameters.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+						URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+			}
+		}
+
+		return parameters;
+	}
+
+	private static void sendError(HttpExchange pExchange, int pStatus, String pMessage) throws IOException {
+
+		send(pExchange, pStatus, new JSONObject().put("error", String.valueOf(pMessage)).toString());
+	}
+
+	private static void send(HttpExchange pExchange, int pStatus, String pBody) throws IOException {
+
+		send(pExchange, pStatus, "application/json; charset=utf-8", pBody);
+	}
+
+	private static void send(HttpExchange pExchange, int pStatus, String pContentType, String pBody) throws IOException {
+
+		byte[] bytes = pBody.getBytes(StandardCharsets.UTF_8);
+
+		pExchange.getResponseHeaders().set("Content-Type", pContentType);
+		pExchange.sendResponseHeaders(pStatus, bytes.length);
+
+		try(OutputStream out = pExchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/** This function creates the executor for the requests. Virtual threads are only
+	 *  available since Java 21, so they are looked up by reflection and a cached thread
+	 *  pool is used on older JVMs.
+	 *
+	 * @author Florian Sturn
+	 * @date 18.10.2026
+	 *
+	 * @return an executor that starts a thread for each request
+	 */
+	private static ExecutorService createRequestExecutor() {
+
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			System.out.println("Virtuelle Threads werden nicht unterstützt, es wird ein Thread-Pool verwendet");
+			return Executors.newCachedThreadPool();
+		}
+	}
+
+}
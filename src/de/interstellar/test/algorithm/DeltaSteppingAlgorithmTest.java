@@ -0,0 +1,167 @@
+package de.interstellar.test.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.DeltaSteppingAlgorithm;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathTree;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.graph.ArrayCsrGraph;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** Compares the trees of the DeltaSteppingAlgorithm with the trees of Dijkstra's
+ *  algorithm for different graphs, numbers of threads and deltas.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DeltaSteppingAlgorithmTest {
+
+	@Test
+	public void randomGraphTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(3000, 6000, 71);
+
+		for(int threads: new int[] {1, 4}) {
+			for(double delta: new double[] {0.01, 0.1, 1, 100}) {
+				assertSameTree(g, threads, delta);
+			}
+		}
+	}
+
+	@Test
+	public void gridGraphTest() {
+
+		Graph g = SyntheticGraphFactory.createGridGraph(60, 73);
+
+		assertSameTree(g, 4, 0);
+	}
+
+	@Test
+	public void directedGraphTest() {
+
+		Random random = new Random(79);
+		int nodeCount = 2000;
+		String[] names = new String[nodeCount];
+		int[] sources = new int[4 * nodeCount];
+		int[] targets = new int[4 * nodeCount];
+		double[] costs = new double[4 * nodeCount];
+
+		names[0] = "Erde";
+		for(int i=1; i < nodeCount; i++) {
+			names[i] = "node_" + i;
+		}
+
+		//Some edges have the costs 0, their targets need a predecessor with the same costs
+		for(int i=0; i < sources.length; i++) {
+			sources[i] = random.nextInt(nodeCount);
+			targets[i] = random.nextInt(nodeCount);
+			costs[i] = random.nextInt(5) == 0 ? 0 : random.nextInt(10);
+		}
+
+		Graph g = new Graph(ArrayCsrGraph.fromEdges(names, nodeCount, sources, targets, costs, sources.length, false));
+
+		assertSameTree(g, 3, 0);
+		assertSameTree(g, 1, 2.5);
+
+		try(DeltaSteppingAlgorithm algorithm = new DeltaSteppingAlgorithm(g, 2)) {
+			assertNull(algorithm.calculateShortestPathTree("Pluto"));
+		}
+	}
+
+	@Test
+	public void skewedCostTest() {
+
+		//Erde leads to a long chain with the costs 1, to y0 ... y9 with the costs 5 and to a
+		//single node with huge costs. The sampled delta does not see the huge edge, so the
+		//bucket of that node is far behind all others.
+		int chainLength = 20000;
+		int nodeCount = 12 + chainLength;
+		String[] names = new String[nodeCount];
+		int[] sources = new int[nodeCount - 1];
+		int[] targets = new int[nodeCount - 1];
+		double[] costs = new double[nodeCount - 1];
+		int edgeCount = 0;
+
+		names[0] = "Erde";
+		names[11] = "far";
+		for(int i=0; i < 10; i++) {
+			names[1 + i] = "y" + i;
+		}
+		for(int i=0; i < chainLength; i++) {
+			names[12 + i] = "node_" + i;
+		}
+
+		for(int i=0; i < chainLength; i++) {
+			sources[edgeCount] = i == 0 ? 0 : 11 + i;
+			targets[edgeCount] = 12 + i;
+			costs[edgeCount++] = 1;
+		}
+
+		for(int i=0; i < 10; i++) {
+			sources[edgeCount] = 0;
+			targets[edgeCount] = 1 + i;
+			costs[edgeCount++] = 5;
+		}
+
+		sources[edgeCount] = 0;
+		targets[edgeCount] = 11;
+		costs[edgeCount++] = 1e12;
+
+		Graph g = new Graph(ArrayCsrGraph.fromEdges(names, nodeCount, sources, targets, costs, edgeCount, false));
+
+		try(DeltaSteppingAlgorithm algorithm = new DeltaSteppingAlgorithm(g, 1)) {
+			assertTrue(1e12 / algorithm.getDelta() > Integer.MAX_VALUE);
+		}
+
+		assertSameTree(g, 1, 0);
+		assertSameTree(g, 2, 0);
+	}
+
+	/** Compares both trees. If two paths have the same costs, the trees can contain different
+	 *  predecessors, so only the costs of the predecessors are checked.
+	 */
+	private static void assertSameTree(Graph pGraph, int pThreadCount, double pDelta) {
+
+		CsrGraph csrGraph = pGraph.getCsrGraph();
+		ShortestPathTree expected = new ShortestPathAlgorithm(pGraph, "Erde", null).calculateShortestPathTree();
+		ShortestPathTree actual;
+
+		try(DeltaSteppingAlgorithm algorithm = new DeltaSteppingAlgorithm(pGraph, pThreadCount)) {
+
+			if(pDelta > 0) {
+				algorithm.setDelta(pDelta);
+			}
+
+			actual = algorithm.calculateShortestPathTree("Erde");
+		}
+
+		assertEquals(expected.getSettledNodeCount(), actual.getSettledNodeCount());
+		assertEquals(0, actual.getSourceNodeId());
+
+		for(int node=0; node < csrGraph.getNodeCount(); node++) {
+
+			assertEquals(expected.getTotalCost(node), actual.getTotalCost(node), 1e-9);
+
+			int predecessor = actual.getPredecessor(node);
+
+			if(node != 0 && actual.isReachable(node)) {
+				int edge = csrGraph.findEdge(predecessor, node);
+				assertTrue(edge >= 0);
+				assertEquals(actual.getTotalCost(node), actual.getTotalCost(predecessor) + csrGraph.getEdgeCost(edge), 1e-9);
+
+				//The path has to end at the source
+				assertEquals(0, actual.getPath(node).getNodeId(0));
+			}
+		}
+	}
+
+}
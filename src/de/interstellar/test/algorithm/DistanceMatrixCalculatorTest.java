@@ -0,0 +1,111 @@
+package de.interstellar.test.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.DistanceMatrix;
+import de.interstellar.algorithm.DistanceMatrixCalculator;
+import de.interstellar.algorithm.DistanceMatrixRow;
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.graph.Graph;
+
+/** Compares the distance matrix with the results of single queries.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DistanceMatrixCalculatorTest {
+
+	private static final int NODE_COUNT = 2000;
+
+	@Test
+	public void matrixTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(NODE_COUNT, 3000, 17);
+		List<String> sources = randomNodeNames(g, 30, new Random(1));
+		List<String> targets = randomNodeNames(g, 20, new Random(2));
+
+		//Unknown nodes and a target that is given twice
+		sources.add("Pluto");
+		targets.add("Pluto");
+		targets.add(targets.get(0));
+
+		DistanceMatrix matrix;
+
+		try(DistanceMatrixCalculator calculator = new DistanceMatrixCalculator(g, new ForkJoinPool(4))) {
+			calculator.setIncludePaths(true);
+			matrix = calculator.calculate(sources, targets);
+		}
+
+		for(int i=0; i < sources.size(); i++) {
+			for(int j=0; j < targets.size(); j++) {
+
+				ShortestPathResult expected = new ShortestPathAlgorithm(g, sources.get(i), targets.get(j)).calculateShortestDistance();
+				ShortestPath path = matrix.getPath(i, j);
+
+				if(expected == null) {
+					assertEquals(Double.MAX_VALUE, matrix.getDistance(i, j));
+					assertTrue(path.isEmpty());
+				} else {
+					assertEquals(expected.getTotalCost(), matrix.getDistance(i, j));
+					assertEquals(expected.getTotalCost(), path.getTotalCost());
+
+					if(!path.isEmpty()) {
+						assertEquals(sources.get(i), g.getCsrGraph().getNodeName(path.getNodeId(0)));
+						assertEquals(targets.get(j), g.getCsrGraph().getNodeName(path.getNodeId(path.size() - 1)));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void streamedRowsTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(NODE_COUNT, 3000, 19);
+		List<String> sources = randomNodeNames(g, 100, new Random(3));
+		List<String> targets = randomNodeNames(g, 10, new Random(4));
+
+		ConcurrentHashMap<Integer,DistanceMatrixRow> rows = new ConcurrentHashMap<Integer,DistanceMatrixRow>();
+		DistanceMatrix matrix;
+
+		try(DistanceMatrixCalculator calculator = new DistanceMatrixCalculator(g)) {
+			calculator.calculate(sources, targets, row -> rows.put(row.getSourceIndex(), row));
+			matrix = calculator.calculate(sources, targets);
+		}
+
+		assertEquals(sources.size(), rows.size());
+
+		for(int i=0; i < sources.size(); i++) {
+			assertEquals(sources.get(i), rows.get(i).getSourceNodeName());
+			assertTrue(Arrays.equals(matrix.getRow(i).getDistances(), rows.get(i).getDistances()));
+			assertNull(rows.get(i).getPath(0));
+		}
+	}
+
+	private static List<String> randomNodeNames(Graph pGraph, int pCount, Random pRandom) {
+
+		List<String> names = new ArrayList<String>(pCount);
+
+		for(int i=0; i < pCount; i++) {
+			names.add(pGraph.getCsrGraph().getNodeName(pRandom.nextInt(NODE_COUNT)));
+		}
+
+		return names;
+	}
+
+}
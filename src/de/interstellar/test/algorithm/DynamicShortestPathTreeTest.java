@@ -0,0 +1,157 @@
+package de.interstellar.test.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.DynamicShortestPathTree;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathTree;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.graph.ArrayCsrGraph;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphUpdate;
+
+/** Changes, adds and removes random edges and compares the repaired tree with a new
+ *  search on the changed graph after every update.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class DynamicShortestPathTreeTest {
+
+	private static final int NODE_COUNT = 800;
+
+	@Test
+	public void updateTest() {
+
+		runUpdates(SyntheticGraphFactory.createRandomGraph(NODE_COUNT, 1000, 53), new Random(59));
+	}
+
+	@Test
+	public void directedUpdateTest() {
+
+		Random random = new Random(67);
+		String[] names = new String[NODE_COUNT];
+		int[] sources = new int[3 * NODE_COUNT];
+		int[] targets = new int[3 * NODE_COUNT];
+		double[] costs = new double[3 * NODE_COUNT];
+
+		names[0] = "Erde";
+		for(int i=1; i < NODE_COUNT; i++) {
+			names[i] = "node_" + i;
+		}
+
+		for(int i=0; i < sources.length; i++) {
+			sources[i] = random.nextInt(NODE_COUNT);
+			targets[i] = random.nextInt(NODE_COUNT);
+			costs[i] = random.nextDouble();
+		}
+
+		runUpdates(new Graph(ArrayCsrGraph.fromEdges(names, NODE_COUNT, sources, targets, costs, sources.length, false)), random);
+	}
+
+	private static void runUpdates(Graph pGraph, Random pRandom) {
+
+		Graph g = pGraph;
+
+		DynamicShortestPathTree tree = DynamicShortestPathTree.create(g, "Erde");
+
+		for(int round=0; round < 100; round++) {
+
+			CsrGraph csrGraph = g.getCsrGraph();
+			GraphUpdate update = g.update();
+			int changeCount = 1 + pRandom.nextInt(round % 10 == 0 ? 50 : 5);
+
+			for(int i=0; i < changeCount; i++) {
+
+				int node = pRandom.nextInt(NODE_COUNT);
+				int degree = csrGraph.getEdgeEnd(node) - csrGraph.getEdgeStart(node);
+				int choice = pRandom.nextInt(4);
+
+				if(choice == 0 || degree == 0) {
+					update.setEdgeCost(node, pRandom.nextInt(NODE_COUNT), pRandom.nextDouble());
+				} else {
+					int edge = csrGraph.getEdgeStart(node) + pRandom.nextInt(degree);
+					int target = csrGraph.getEdgeTarget(edge);
+
+					if(choice == 1) {
+						update.removeEdge(node, target);
+					} else {
+						update.setEdgeCost(node, target, csrGraph.getEdgeCost(edge) * 2 * pRandom.nextDouble());
+					}
+				}
+			}
+
+			g = tree.apply(update);
+
+			//A reverse graph that was patched by the update has to be the reverse of the new graph
+			if(!g.getCsrGraph().isSymmetric()) {
+				assertSameGraph(ArrayCsrGraph.transpose(g.getCsrGraph()), g.getReverseCsrGraph());
+			}
+
+			ShortestPathTree expected = new ShortestPathAlgorithm(g, "Erde", null).calculateShortestPathTree();
+
+			for(int node=0; node < NODE_COUNT; node++) {
+
+				assertEquals(expected.getTotalCost(node), tree.getTotalCost(node), 1e-9);
+
+				//The predecessor has to lead to the node with its costs
+				if(tree.getPredecessor(node) >= 0) {
+					int edge = g.getCsrGraph().findEdge(tree.getPredecessor(node), node);
+					assertTrue(edge >= 0);
+					assertEquals(tree.getTotalCost(node), tree.getTotalCost(tree.getPredecessor(node)) + g.getCsrGraph().getEdgeCost(edge), 1e-9);
+				}
+			}
+		}
+	}
+
+	private static void assertSameGraph(CsrGraph pExpected, CsrGraph pActual) {
+
+		assertEquals(pExpected.getEdgeCount(), pActual.getEdgeCount());
+
+		for(int node=0; node < pExpected.getNodeCount(); node++) {
+
+			assertEquals(pExpected.getEdgeStart(node), pActual.getEdgeStart(node));
+
+			for(int e = pExpected.getEdgeStart(node); e < pExpected.getEdgeEnd(node); e++) {
+				assertEquals(pExpected.getEdgeTarget(e), pActual.getEdgeTarget(e));
+				assertEquals(pExpected.getEdgeCost(e), pActual.getEdgeCost(e));
+			}
+		}
+	}
+
+	@Test
+	public void symmetricUpdateTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(100, 150, 61);
+		CsrGraph csrGraph = g.getCsrGraph();
+		int target = csrGraph.getEdgeTarget(csrGraph.getEdgeStart(5));
+
+		GraphUpdate update = g.update();
+		update.setEdgeCost(5, target, 7.5);
+		update.setEdgeCost(csrGraph.getNodeName(10), csrGraph.getNodeName(20), 3);
+		update.removeEdge(csrGraph.getNodeName(30), csrGraph.getNodeName(csrGraph.getEdgeTarget(csrGraph.getEdgeStart(30))));
+
+		Graph updated = update.apply();
+		CsrGraph updatedCsr = updated.getCsrGraph();
+
+		assertNotEquals(g.getVersion(), updated.getVersion());
+		assertEquals(csrGraph.getEdgeCost(csrGraph.findEdge(5, target)), g.getCsrGraph().getEdgeCost(g.getCsrGraph().findEdge(5, target)));
+
+		//Both directions of an undirected edge are changed
+		assertEquals(7.5, updatedCsr.getEdgeCost(updatedCsr.findEdge(5, target)));
+		assertEquals(7.5, updatedCsr.getEdgeCost(updatedCsr.findEdge(target, 5)));
+		assertEquals(3, updatedCsr.getEdgeCost(updatedCsr.findEdge(20, 10)));
+		assertEquals(-1, updatedCsr.findEdge(csrGraph.getEdgeTarget(csrGraph.getEdgeStart(30)), 30));
+		assertTrue(updatedCsr.isSymmetric());
+		assertEquals(20, updated.findNodeId(csrGraph.getNodeName(20)));
+	}
+
+}
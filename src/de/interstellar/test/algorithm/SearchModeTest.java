@@ -0,0 +1,118 @@
+package de.interstellar.test.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.SearchMode;
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Edge;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.Node;
+
+/** Test class, to validate that the point-to-point and the bidirectional search
+ *  find paths with the same costs as the search over the whole graph.
+ * 
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class SearchModeTest {
+	
+	private static final int NODE_COUNT = 500;
+	private static final int QUERY_COUNT = 300;
+	
+	@Test
+	public void undirectedGraphTest() {
+		
+		Random random = new Random(5);
+		GraphBuilder builder = new GraphBuilder();
+		
+		for(int i=0; i < NODE_COUNT; i++) {
+			builder.addNode("node_" + i);
+		}
+		
+		for(int i=0; i < 2 * NODE_COUNT; i++) {
+			builder.addEdge(random.nextInt(NODE_COUNT), random.nextInt(NODE_COUNT), random.nextInt(100) / 4.0);
+		}
+		
+		compareSearchModes(builder.buildGraph(), random);
+	}
+	
+	@Test
+	public void directedGraphTest() {
+		
+		Random random = new Random(9);
+		HashMap<Integer,Node> nodeList = new HashMap<Integer,Node>();
+		HashMap<String,Edge> edgeList = new HashMap<String,Edge>();
+		
+		for(int i=0; i < NODE_COUNT; i++) {
+			nodeList.put(i, new Node(i, "node_" + i));
+		}
+		
+		for(int i=0; i < 3 * NODE_COUNT; i++) {
+			
+			Node source = nodeList.get(random.nextInt(NODE_COUNT));
+			Node target = nodeList.get(random.nextInt(NODE_COUNT));
+			String name = source.getId() + "To" + target.getId();
+			
+			if(!edgeList.containsKey(name)) {
+				edgeList.put(name, new Edge(name, source, target, random.nextInt(100) / 4.0));
+				source.getNeighbors().add(target);
+			}
+		}
+		
+		compareSearchModes(new Graph(nodeList, edgeList), random);
+	}
+	
+	private void compareSearchModes(Graph pGraph, Random pRandom) {
+		
+		for(int i=0; i < QUERY_COUNT; i++) {
+			
+			String source = "node_" + pRandom.nextInt(NODE_COUNT);
+			String target = "node_" + pRandom.nextInt(NODE_COUNT);
+			
+			ShortestPathResult expected = runQuery(pGraph, source, target, SearchMode.ONE_TO_ALL);
+			
+			ShortestPathResult pointToPoint = runQuery(pGraph, source, target, SearchMode.POINT_TO_POINT);
+			ShortestPathResult bidirectional = runQuery(pGraph, source, target, SearchMode.BIDIRECTIONAL);
+			
+			assertEquals(expected.getTotalCost(), pointToPoint.getTotalCost());
+			assertEquals(expected.getTotalCost(), bidirectional.getTotalCost());
+			assertTrue(pointToPoint.getSettledNodeCount() <= expected.getSettledNodeCount());
+			assertValidPath(pGraph.getCsrGraph(), pointToPoint.getPath());
+			assertValidPath(pGraph.getCsrGraph(), bidirectional.getPath());
+		}
+	}
+	
+	private ShortestPathResult runQuery(Graph pGraph, String pSource, String pTarget, SearchMode pMode) {
+		
+		ShortestPathAlgorithm sp = new ShortestPathAlgorithm(pGraph, pSource, pTarget);
+		sp.setSearchMode(pMode);
+		
+		return sp.calculateShortestDistance();
+	}
+	
+	private void assertValidPath(CsrGraph pCsrGraph, ShortestPath pPath) {
+		
+		double cost = pPath.isEmpty() ? Double.MAX_VALUE : 0;
+		
+		for(int i=1; i < pPath.size(); i++) {
+			
+			int edge = pCsrGraph.findEdge(pPath.getNodeId(i - 1), pPath.getNodeId(i));
+			
+			assertTrue(edge >= 0);
+			cost += pCsrGraph.getEdgeCost(edge);
+		}
+		
+		assertEquals(pPath.getTotalCost(), cost);
+	}
+}
@@ -0,0 +1,129 @@
+package de.interstellar.test.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathCache;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ShortestPathService;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.graph.Graph;
+
+/** Tests the hits, evictions and invalidations of the ShortestPathCache.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPathCacheTest {
+
+	@Test
+	public void hitTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(500, 800, 31);
+
+		try(ShortestPathService service = new ShortestPathService(g)) {
+
+			ShortestPathCache cache = ShortestPathCache.withMaxEntries(10);
+			service.setCache(cache);
+
+			ShortestPathResult first = service.calculateShortestDistance("Erde", "node_123");
+			ShortestPathResult second = service.calculateShortestDistance("Erde", "node_123");
+
+			assertEquals(1, cache.getMissCount());
+			assertEquals(1, cache.getHitCount());
+			assertEquals(first.getTotalCost(), second.getTotalCost());
+			assertArrayEquals(first.getPath().getNodeIds(), second.getPath().getNodeIds());
+
+			//The graph is undirected, so the opposite direction uses the same entry
+			ShortestPathResult reversed = service.calculateShortestDistance("node_123", "Erde");
+			ShortestPathResult expected = new ShortestPathAlgorithm(g, "node_123", "Erde").calculateShortestDistance();
+
+			assertEquals(2, cache.getHitCount());
+			assertEquals(1, cache.size());
+			assertEquals("node_123", reversed.getSourceNodeName());
+			assertEquals(expected.getTotalCost(), reversed.getTotalCost());
+			assertArrayEquals(expected.getPath().getNodeIds(), reversed.getPath().getNodeIds());
+
+			//Unknown nodes are not cached
+			assertNull(service.calculateShortestDistance("Erde", "Pluto"));
+			assertEquals(1, cache.size());
+		}
+	}
+
+	@Test
+	public void evictionTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(500, 800, 37);
+
+		try(ShortestPathService service = new ShortestPathService(g)) {
+
+			ShortestPathCache cache = ShortestPathCache.withMaxEntries(2);
+			service.setCache(cache);
+
+			service.calculateShortestDistance("Erde", "node_1");
+			service.calculateShortestDistance("Erde", "node_2");
+			service.calculateShortestDistance("Erde", "node_1");
+			service.calculateShortestDistance("Erde", "node_3");
+
+			//node_2 was used least recently
+			assertEquals(2, cache.size());
+			assertEquals(1, cache.getEvictionCount());
+
+			service.calculateShortestDistance("Erde", "node_1");
+			assertEquals(2, cache.getHitCount());
+
+			service.calculateShortestDistance("Erde", "node_2");
+			assertEquals(4, cache.getMissCount());
+		}
+	}
+
+	@Test
+	public void byteLimitTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(500, 800, 41);
+
+		try(ShortestPathService service = new ShortestPathService(g)) {
+
+			ShortestPathCache cache = ShortestPathCache.withMaxBytes(1000);
+			service.setCache(cache);
+
+			for(int i=1; i < 100; i++) {
+				service.calculateShortestDistance("Erde", "node_" + i);
+				assertTrue(cache.getWeight() <= 1000);
+			}
+
+			assertTrue(cache.size() > 1);
+			assertEquals(99 - cache.size(), cache.getEvictionCount());
+		}
+	}
+
+	@Test
+	public void versionTest() {
+
+		ShortestPathCache cache = ShortestPathCache.withMaxEntries(10);
+
+		Graph first = SyntheticGraphFactory.createRandomGraph(500, 800, 43);
+		Graph second = SyntheticGraphFactory.createRandomGraph(500, 800, 43);
+
+		cache.getOrCalculate(first, "Erde", "node_7",
+				(s, t) -> new ShortestPathAlgorithm(first, s, t).calculateShortestDistance());
+		cache.getOrCalculate(first, "Erde", "node_7",
+				(s, t) -> new ShortestPathAlgorithm(first, s, t).calculateShortestDistance());
+
+		//The same query on another graph must not return the entry of the first graph
+		cache.getOrCalculate(second, "Erde", "node_7",
+				(s, t) -> new ShortestPathAlgorithm(second, s, t).calculateShortestDistance());
+
+		assertEquals(1, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(1, cache.getInvalidationCount());
+		assertEquals(1, cache.size());
+	}
+
+}
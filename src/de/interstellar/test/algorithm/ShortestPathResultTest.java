@@ -0,0 +1,186 @@
+package de.interstellar.test.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.model.graph.Edge;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.Node;
+
+/** Tests the lazy path of the ShortestPathResult. The path that is created from the
+ *  predecessors has to be the same as the path of the original algorithm, which copied
+ *  the LinkedList of its predecessor into every node it reached.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPathResultTest {
+
+	private static final int NODE_COUNT = 400;
+	private static final int EDGE_COUNT = 1200;
+
+	@Test
+	public void costWithoutPathTest() {
+
+		Graph g = createRandomGraph(new Random(31));
+		ShortestPathResult result = new ShortestPathAlgorithm(g, "node_0", "node_1").calculateShortestDistance();
+
+		assertTrue(result.getTotalCost() > 0);
+		assertFalse(result.isPathCreated());
+
+		ShortestPath path = result.getPath();
+
+		assertTrue(result.isPathCreated());
+		assertSame(path, result.getPath());
+		assertEquals(result.getTotalCost(), path.getTotalCost());
+	}
+
+	@Test
+	public void linkedListPathTest() {
+
+		Random random = new Random(32);
+		Graph g = createRandomGraph(random);
+
+		for(int i=0; i < 30; i++) {
+
+			int source = random.nextInt(NODE_COUNT);
+			int target = random.nextInt(NODE_COUNT);
+			ShortestPathResult result = new ShortestPathAlgorithm(g, "node_" + source, "node_" + target).calculateShortestDistance();
+			LinkedList<Node> expected = calculateLinkedListPath(g, source, target);
+
+			//The old path contains the source but not the target
+			List<Integer> expectedIds = new ArrayList<Integer>();
+
+			for(Node node: expected) {
+				expectedIds.add(node.getId());
+			}
+
+			List<Integer> actualIds = new ArrayList<Integer>();
+
+			for(Node node: result.getShortestPath()) {
+				actualIds.add(node.getId());
+			}
+
+			assertEquals(expectedIds, actualIds);
+
+			if(result.getTotalCost() != Double.MAX_VALUE) {
+
+				ShortestPath path = result.getPath();
+
+				assertEquals(expected.size() + 1, path.size());
+				assertEquals(target, path.getNodeId(path.size() - 1));
+
+				for(int p=0; p < expected.size(); p++) {
+					assertEquals(expectedIds.get(p).intValue(), path.getNodeId(p));
+				}
+			} else {
+				assertTrue(result.getPath().isEmpty());
+			}
+		}
+	}
+
+	@Test
+	public void nodeNamesTest() {
+
+		Graph g = createRandomGraph(new Random(33));
+		ShortestPath path = new ShortestPathAlgorithm(g, "node_0", "node_2").calculateShortestDistance().getPath();
+		List<String> names = new ArrayList<String>();
+
+		for(String name: path.getNodeNames()) {
+			names.add(name);
+		}
+
+		assertTrue(path.size() > 2);
+		assertEquals(path.size(), names.size());
+
+		for(int i=0; i < path.size(); i++) {
+			assertEquals("node_" + path.getNodeId(i), names.get(i));
+		}
+
+		assertEquals(String.join(" -> ", names), path.toString());
+	}
+
+	private static Graph createRandomGraph(Random pRandom) {
+
+		GraphBuilder builder = new GraphBuilder();
+
+		for(int i=0; i < NODE_COUNT; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		//Random costs, so there is only one shortest path
+		for(int i=0; i < EDGE_COUNT; i++) {
+			builder.addEdge(pRandom.nextInt(NODE_COUNT), pRandom.nextInt(NODE_COUNT), 1 + pRandom.nextDouble());
+		}
+
+		return builder.buildGraph();
+	}
+
+	/** Calculates the path like the original algorithm: every node that is reached gets a
+	 *  copy of the path of its predecessor plus the predecessor itself.
+	 */
+	private static LinkedList<Node> calculateLinkedListPath(Graph pGraph, int pSourceId, int pTargetId) {
+
+		HashMap<Integer,Node> nodes = pGraph.getNodeList();
+		HashMap<String,Edge> edges = pGraph.getEdgeList();
+		HashMap<Node,Double> costs = new HashMap<Node,Double>();
+		HashMap<Node,LinkedList<Node>> paths = new HashMap<Node,LinkedList<Node>>();
+		HashSet<Node> visited = new HashSet<Node>();
+
+		Node source = nodes.get(pSourceId);
+		costs.put(source, 0.0);
+		paths.put(source, new LinkedList<Node>());
+
+		while(true) {
+
+			Node current = null;
+
+			for(Node node: costs.keySet()) {
+				if(!visited.contains(node) && (current == null || costs.get(node) < costs.get(current))) {
+					current = node;
+				}
+			}
+
+			if(current == null) {
+				break;
+			}
+
+			visited.add(current);
+
+			for(Node neighbor: current.getNeighbors()) {
+
+				double cost = costs.get(current) + edges.get(current.getId() + "To" + neighbor.getId()).getCost();
+
+				if(!visited.contains(neighbor) && (!costs.containsKey(neighbor) || cost < costs.get(neighbor))) {
+
+					LinkedList<Node> path = new LinkedList<Node>(paths.get(current));
+					path.add(current);
+
+					costs.put(neighbor, cost);
+					paths.put(neighbor, path);
+				}
+			}
+		}
+
+		LinkedList<Node> path = paths.get(nodes.get(pTargetId));
+
+		return path != null ? path : new LinkedList<Node>();
+	}
+
+}
@@ -0,0 +1,104 @@
+package de.interstellar.test.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathQuery;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ShortestPathService;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.Node;
+
+/** Stress test for the ShortestPathService. Many queries are run concurrently
+ *  on the same graph and compared to the results of sequential runs.
+ * 
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPathServiceTest {
+	
+	private static final int NODE_COUNT = 2000;
+	private static final int EDGE_COUNT = 5000;
+	private static final int QUERY_COUNT = 2000;
+	
+	@Test
+	public void concurrentQueriesTest() {
+		
+		Graph g = createRandomGraph(new Random(7));
+		Random random = new Random(11);
+		
+		List<ShortestPathQuery> queries = new ArrayList<ShortestPathQuery>();
+		
+		for(int i=0; i < QUERY_COUNT; i++) {
+			queries.add(new ShortestPathQuery("node_" + random.nextInt(NODE_COUNT), "node_" + random.nextInt(NODE_COUNT)));
+		}
+		
+		List<ShortestPathResult> concurrentResults;
+		
+		try(ShortestPathService service = new ShortestPathService(g)) {
+			concurrentResults = service.calculateAll(queries);
+		}
+		
+		for(int i=0; i < QUERY_COUNT; i++) {
+			
+			ShortestPathQuery query = queries.get(i);
+			ShortestPathResult expected = new ShortestPathAlgorithm(g, query.getSourceNodeName(), query.getTargetNodeName()).calculateShortestDistance();
+			
+			assertEquals(expected.getTotalCost(), concurrentResults.get(i).getTotalCost());
+			assertEquals(pathToString(expected), pathToString(concurrentResults.get(i)));
+		}
+	}
+	
+	@Test
+	public void repeatedQueryTest() {
+		
+		Graph g = createRandomGraph(new Random(3));
+		
+		ShortestPathAlgorithm sp = new ShortestPathAlgorithm(g, "node_0", "node_42");
+		ShortestPathResult first = sp.calculateShortestDistance();
+		ShortestPathResult second = sp.calculateShortestDistance();
+		ShortestPathResult other = new ShortestPathAlgorithm(g, "node_0", "node_42").calculateShortestDistance();
+		
+		assertEquals(first.getTotalCost(), second.getTotalCost());
+		assertEquals(first.getTotalCost(), other.getTotalCost());
+		assertEquals(pathToString(first), pathToString(other));
+	}
+	
+	private Graph createRandomGraph(Random pRandom) {
+		
+		GraphBuilder builder = new GraphBuilder();
+		
+		for(int i=0; i < NODE_COUNT; i++) {
+			builder.addNode("node_" + i);
+		}
+		
+		for(int i=0; i < EDGE_COUNT; i++) {
+			//Costs with two decimals, like in the challenge data
+			builder.addEdge(pRandom.nextInt(NODE_COUNT), pRandom.nextInt(NODE_COUNT), pRandom.nextInt(100) / 100.0);
+		}
+		
+		return builder.buildGraph();
+	}
+	
+	private String pathToString(ShortestPathResult pResult) {
+		
+		StringBuilder path = new StringBuilder();
+		
+		for(Node node: pResult.getShortestPath()) {
+			path.append(node.getName());
+			path.append(" -> ");
+		}
+		
+		path.append(pResult.getTargetNodeName());
+		
+		return path.toString();
+	}
+}
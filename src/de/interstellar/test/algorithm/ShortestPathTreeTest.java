@@ -0,0 +1,74 @@
+package de.interstellar.test.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ShortestPathTree;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** Compares the shortest path tree with the results of single queries.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ShortestPathTreeTest {
+
+	private static final int NODE_COUNT = 1000;
+
+	@Test
+	public void treeTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(NODE_COUNT, 1200, 23);
+		CsrGraph csrGraph = g.getCsrGraph();
+
+		SearchState state = new SearchState(NODE_COUNT, FrontierType.BINARY_HEAP);
+		ShortestPathTree tree = new ShortestPathTree(csrGraph);
+
+		//The same tree is filled twice, the second result must not depend on the first one
+		for(String source: new String[] {csrGraph.getNodeName(17), "Erde"}) {
+
+			ShortestPathTree result = new ShortestPathAlgorithm(g, source, null).calculateShortestPathTree(state, tree);
+			assertSame(tree, result);
+			assertEquals(source, csrGraph.getNodeName(tree.getSourceNodeId()));
+
+			for(int target=0; target < NODE_COUNT; target++) {
+
+				ShortestPathResult expected = new ShortestPathAlgorithm(g, source, csrGraph.getNodeName(target)).calculateShortestDistance();
+				ShortestPath path = tree.getPath(target);
+
+				assertEquals(expected.getTotalCost(), tree.getTotalCost(target));
+				assertEquals(expected.getTotalCost() != Double.MAX_VALUE, tree.isReachable(target));
+				assertArrayEquals(expected.getPath().getNodeIds(), path.getNodeIds());
+			}
+		}
+
+		assertEquals(-1, tree.getPredecessor(tree.getSourceNodeId()));
+		assertEquals(0, tree.getTotalCost(tree.getSourceNodeId()));
+	}
+
+	@Test
+	public void unknownSourceTest() {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(NODE_COUNT, 1200, 29);
+		ShortestPathTree tree = new ShortestPathTree(g.getCsrGraph());
+
+		assertNull(new ShortestPathAlgorithm(g, "Pluto", null).calculateShortestPathTree());
+		assertFalse(tree.isReachable(0));
+		assertTrue(tree.getPath(0).isEmpty());
+	}
+
+}
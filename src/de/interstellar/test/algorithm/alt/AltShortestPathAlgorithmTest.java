@@ -0,0 +1,64 @@
+package de.interstellar.test.algorithm.alt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.alt.AltShortestPathAlgorithm;
+import de.interstellar.algorithm.alt.LandmarkIndex;
+import de.interstellar.algorithm.alt.LandmarkSelection;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Test class, to validate that the ALT algorithm finds the same costs as the
+ *  ShortestPathAlgorithm for every landmark selection.
+ * 
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class AltShortestPathAlgorithmTest {
+	
+	private static final int NODE_COUNT = 1000;
+	private static final int QUERY_COUNT = 200;
+	
+	@Test
+	public void altMatchesDijkstraTest() {
+		
+		Random random = new Random(21);
+		GraphBuilder builder = new GraphBuilder();
+		
+		for(int i=0; i < NODE_COUNT; i++) {
+			builder.addNode("node_" + i);
+		}
+		
+		//Sparse enough to have more than one component
+		for(int i=0; i < NODE_COUNT; i++) {
+			builder.addEdge(random.nextInt(NODE_COUNT), random.nextInt(NODE_COUNT), random.nextInt(40) / 4.0);
+		}
+		
+		Graph g = builder.buildGraph();
+		
+		for(LandmarkSelection selection: LandmarkSelection.values()) {
+			
+			LandmarkIndex index = new LandmarkIndex(g, 8, selection, 1);
+			
+			for(int i=0; i < QUERY_COUNT; i++) {
+				
+				String source = "node_" + random.nextInt(NODE_COUNT);
+				String target = "node_" + random.nextInt(NODE_COUNT);
+				
+				ShortestPathResult expected = new ShortestPathAlgorithm(g, source, target).calculateShortestDistance();
+				ShortestPathResult result = new AltShortestPathAlgorithm(g, index, source, target).calculateShortestDistance();
+				
+				assertEquals(expected.getTotalCost(), result.getTotalCost());
+				assertTrue(result.getSettledNodeCount() <= expected.getSettledNodeCount());
+			}
+		}
+	}
+}
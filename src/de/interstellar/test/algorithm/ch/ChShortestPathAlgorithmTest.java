@@ -0,0 +1,168 @@
+package de.interstellar.test.algorithm.ch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ch.ChShortestPathAlgorithm;
+import de.interstellar.algorithm.ch.ContractionHierarchy;
+import de.interstellar.algorithm.ch.ContractionHierarchyBuilder;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Edge;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.Node;
+
+/** Test class, to validate that the Contraction Hierarchy finds the same results
+ *  as the ShortestPathAlgorithm.
+ * 
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ChShortestPathAlgorithmTest {
+	
+	private static final int NODE_COUNT = 1000;
+	private static final int QUERY_COUNT = 500;
+	
+	@Test
+	public void smallGraphTest() {
+		
+		//Same graph as in the ShortestPathAlgorithmTest
+		HashMap<Integer,Node> nodeList = new HashMap<Integer,Node>();
+		HashMap<String,Edge> edgeList = new HashMap<String,Edge>();
+		
+		for(int i=0; i < 6; i++) {
+			nodeList.put(i, new Node(i, "node_" + i));
+		}
+		
+		addEdge(nodeList, edgeList, 0, 1, 10.0);
+		addEdge(nodeList, edgeList, 1, 0, 10.0);
+		addEdge(nodeList, edgeList, 0, 2, 15.0);
+		addEdge(nodeList, edgeList, 2, 0, 10.0);
+		addEdge(nodeList, edgeList, 1, 3, 12.0);
+		addEdge(nodeList, edgeList, 3, 1, 12.0);
+		addEdge(nodeList, edgeList, 1, 5, 15.0);
+		addEdge(nodeList, edgeList, 5, 1, 15.0);
+		addEdge(nodeList, edgeList, 2, 4, 10.0);
+		addEdge(nodeList, edgeList, 4, 2, 10.0);
+		addEdge(nodeList, edgeList, 3, 4, 2.0);
+		addEdge(nodeList, edgeList, 4, 3, 2.0);
+		addEdge(nodeList, edgeList, 3, 5, 1.0);
+		addEdge(nodeList, edgeList, 5, 3, 1.0);
+		addEdge(nodeList, edgeList, 5, 4, 5.0);
+		addEdge(nodeList, edgeList, 4, 5, 5.0);
+		
+		Graph g = new Graph(nodeList, edgeList);
+		ContractionHierarchy hierarchy = new ContractionHierarchyBuilder().createHierarchy(g);
+		
+		ShortestPathResult result = new ChShortestPathAlgorithm(g, hierarchy, "node_0", "node_5").calculateShortestDistance();
+		
+		assertEquals(23.0, result.getTotalCost());
+		assertEquals("node_0 -> node_1 -> node_3 -> node_5", result.getPath().toString());
+		assertEquals(3, result.getShortestPath().size());
+		
+		for(int i=0; i < 6; i++) {
+			for(int j=0; j < 6; j++) {
+				compareQuery(g, hierarchy, "node_" + i, "node_" + j);
+			}
+		}
+	}
+	
+	@Test
+	public void undirectedRandomGraphTest() {
+		
+		Random random = new Random(3);
+		GraphBuilder builder = new GraphBuilder();
+		
+		for(int i=0; i < NODE_COUNT; i++) {
+			builder.addNode("node_" + i);
+		}
+		
+		for(int i=0; i < 2 * NODE_COUNT; i++) {
+			builder.addEdge(random.nextInt(NODE_COUNT), random.nextInt(NODE_COUNT), random.nextInt(100) / 4.0);
+		}
+		
+		compareRandomQueries(builder.buildGraph(), random);
+	}
+	
+	@Test
+	public void directedRandomGraphTest() {
+		
+		Random random = new Random(4);
+		HashMap<Integer,Node> nodeList = new HashMap<Integer,Node>();
+		HashMap<String,Edge> edgeList = new HashMap<String,Edge>();
+		
+		for(int i=0; i < NODE_COUNT; i++) {
+			nodeList.put(i, new Node(i, "node_" + i));
+		}
+		
+		for(int i=0; i < 3 * NODE_COUNT; i++) {
+			
+			int source = random.nextInt(NODE_COUNT);
+			int target = random.nextInt(NODE_COUNT);
+			
+			if(!edgeList.containsKey(source + "To" + target)) {
+				addEdge(nodeList, edgeList, source, target, random.nextInt(100) / 4.0);
+			}
+		}
+		
+		compareRandomQueries(new Graph(nodeList, edgeList), random);
+	}
+	
+	private void addEdge(HashMap<Integer,Node> pNodeList, HashMap<String,Edge> pEdgeList, int pSource, int pTarget, double pCost) {
+		
+		String name = pSource + "To" + pTarget;
+		pEdgeList.put(name, new Edge(name, pNodeList.get(pSource), pNodeList.get(pTarget), pCost));
+		pNodeList.get(pSource).getNeighbors().add(pNodeList.get(pTarget));
+	}
+	
+	private void compareRandomQueries(Graph pGraph, Random pRandom) {
+		
+		ContractionHierarchyBuilder builder = new ContractionHierarchyBuilder();
+		ContractionHierarchy hierarchy = builder.createHierarchy(pGraph);
+		
+		//Same graph, but all nodes are contracted
+		builder.setMaxCoreDegree(Double.MAX_VALUE);
+		ContractionHierarchy fullHierarchy = builder.createHierarchy(pGraph);
+		
+		assertEquals(0, fullHierarchy.getCoreNodeCount());
+		
+		for(int i=0; i < QUERY_COUNT; i++) {
+			
+			String source = "node_" + pRandom.nextInt(NODE_COUNT);
+			String target = "node_" + pRandom.nextInt(NODE_COUNT);
+			
+			compareQuery(pGraph, hierarchy, source, target);
+			compareQuery(pGraph, fullHierarchy, source, target);
+		}
+	}
+	
+	private void compareQuery(Graph pGraph, ContractionHierarchy pHierarchy, String pSource, String pTarget) {
+		
+		ShortestPathResult expected = new ShortestPathAlgorithm(pGraph, pSource, pTarget).calculateShortestDistance();
+		ShortestPathResult result = new ChShortestPathAlgorithm(pGraph, pHierarchy, pSource, pTarget).calculateShortestDistance();
+		
+		assertEquals(expected.getTotalCost(), result.getTotalCost());
+		assertEquals(expected.getPath().isEmpty(), result.getPath().isEmpty());
+		
+		CsrGraph csrGraph = pGraph.getCsrGraph();
+		ShortestPath path = result.getPath();
+		
+		if(!path.isEmpty()) {
+			assertEquals(pSource, csrGraph.getNodeName(path.getNodeId(0)));
+			assertEquals(pTarget, csrGraph.getNodeName(path.getNodeId(path.size() - 1)));
+		}
+		
+		for(int i=1; i < path.size(); i++) {
+			assertTrue(csrGraph.findEdge(path.getNodeId(i - 1), path.getNodeId(i)) >= 0);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package de.interstellar.test.algorithm.frontier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.SearchState;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathTree;
+import de.interstellar.algorithm.frontier.FrontierType;
+import de.interstellar.model.graph.EdgeCostProfile;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Compares the trees of the bucket frontiers (DIAL, RADIX_HEAP) with the trees of
+ *  the binary heap and checks the fallback for costs that are not quantized.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class BucketFrontierTest {
+
+	@Test
+	public void integerCostTest() {
+
+		Random random = new Random(83);
+		Graph g = createGraph(2000, () -> 1 + random.nextInt(20));
+		EdgeCostProfile profile = g.getEdgeCostProfile();
+
+		assertTrue(profile.isQuantized());
+		assertEquals(1, profile.getPrecision());
+		assertEquals(FrontierType.DIAL, FrontierType.AUTO.resolve(profile, 2000));
+
+		assertSameTree(g, FrontierType.DIAL);
+		assertSameTree(g, FrontierType.RADIX_HEAP);
+	}
+
+	@Test
+	public void decimalCostTest() {
+
+		Random random = new Random(89);
+		Graph g = createGraph(2000, () -> (1 + random.nextInt(100000)) / 100.0);
+		EdgeCostProfile profile = g.getEdgeCostProfile();
+
+		assertTrue(profile.isQuantized());
+		assertEquals(0.01, profile.getPrecision(), 1e-12);
+		assertEquals(FrontierType.RADIX_HEAP, FrontierType.AUTO.resolve(profile, 2000));
+
+		assertSameTree(g, FrontierType.DIAL);
+		assertSameTree(g, FrontierType.RADIX_HEAP);
+		assertSameTree(g, FrontierType.AUTO);
+	}
+
+	@Test
+	public void fallbackTest() {
+
+		Random random = new Random(97);
+		Graph g = createGraph(500, random::nextDouble);
+		EdgeCostProfile profile = g.getEdgeCostProfile();
+
+		assertFalse(profile.isQuantized());
+		assertEquals(FrontierType.BINARY_HEAP, FrontierType.DIAL.resolve(profile, 2000));
+		assertEquals(FrontierType.BINARY_HEAP, FrontierType.RADIX_HEAP.resolve(profile, 2000));
+		assertEquals(FrontierType.BINARY_HEAP, FrontierType.AUTO.resolve(profile, 2000));
+		assertEquals(FrontierType.BINARY_HEAP, FrontierType.DIAL.resolve(null, 2000));
+
+		assertSameTree(g, FrontierType.AUTO);
+	}
+
+	private static void assertSameTree(Graph pGraph, FrontierType pType) {
+
+		int nodeCount = pGraph.getCsrGraph().getNodeCount();
+		ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(pGraph, "Erde", null);
+
+		ShortestPathTree expected = new ShortestPathTree(pGraph.getCsrGraph());
+		algorithm.calculateShortestPathTree(new SearchState(nodeCount, FrontierType.BINARY_HEAP), expected);
+
+		ShortestPathTree actual = new ShortestPathTree(pGraph.getCsrGraph());
+		algorithm.calculateShortestPathTree(new SearchState(nodeCount, pType, pGraph.getEdgeCostProfile()), actual);
+
+		for(int i=0; i < nodeCount; i++) {
+			assertEquals(expected.isReachable(i), actual.isReachable(i));
+			assertEquals(expected.getTotalCost(i), actual.getTotalCost(i), 1e-9);
+		}
+	}
+
+	private static Graph createGraph(int pNodeCount, DoubleSupplier pCosts) {
+
+		Random random = new Random(pNodeCount);
+		GraphBuilder builder = new GraphBuilder();
+
+		builder.addNode("Erde");
+		for(int i=1; i < pNodeCount; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		//Some nodes stay unreachable
+		for(int i=0; i < 3 * pNodeCount; i++) {
+			builder.addEdge(random.nextInt(pNodeCount), random.nextInt(pNodeCount - 10), pCosts.getAsDouble());
+		}
+
+		return builder.buildGraph();
+	}
+
+}
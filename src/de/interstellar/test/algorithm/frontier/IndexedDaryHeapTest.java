@@ -0,0 +1,128 @@
+package de.interstellar.test.algorithm.frontier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.frontier.Frontier;
+import de.interstellar.algorithm.frontier.IndexedDaryHeap;
+import de.interstellar.algorithm.frontier.LinearScanFrontier;
+
+/** Compares the binary and the 4-ary IndexedDaryHeap and the LinearScanFrontier with a
+ *  simple reference (the key of every contained node) under random sequences of insert,
+ *  decreaseKey and extractMin, also after clear.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class IndexedDaryHeapTest {
+
+	private static final int CAPACITY = 300;
+
+	@Test
+	public void binaryHeapTest() {
+		assertSameOrder(new IndexedDaryHeap(CAPACITY, 2), 101);
+	}
+
+	@Test
+	public void quaternaryHeapTest() {
+		assertSameOrder(new IndexedDaryHeap(CAPACITY, 4), 103);
+	}
+
+	@Test
+	public void linearScanTest() {
+		assertSameOrder(new LinearScanFrontier(CAPACITY), 107);
+	}
+
+	private static void assertSameOrder(Frontier pFrontier, long pSeed) {
+
+		Random random = new Random(pSeed);
+
+		//The key of each contained node, NaN for the other nodes
+		double[] keys = new double[CAPACITY];
+
+		for(int round=0; round < 5; round++) {
+
+			Arrays.fill(keys, Double.NaN);
+			int size = 0;
+
+			for(int step=0; step < 5000; step++) {
+
+				int node = random.nextInt(CAPACITY);
+				int operation = random.nextInt(3);
+
+				assertEquals(!Double.isNaN(keys[node]), pFrontier.contains(node));
+
+				if(Double.isNaN(keys[node]) && operation < 2) {
+					keys[node] = random.nextInt(100000);
+					pFrontier.insert(node, keys[node]);
+					size++;
+				} else if(!Double.isNaN(keys[node]) && operation == 0) {
+					keys[node] -= random.nextInt((int) keys[node] + 1);
+					pFrontier.decreaseKey(node, keys[node]);
+				} else if(size > 0) {
+					assertExtractMin(pFrontier, keys);
+					size--;
+				}
+
+				assertEquals(size, pFrontier.size());
+				assertEquals(size == 0, pFrontier.isEmpty());
+				assertEquals(size == 0 ? Double.MAX_VALUE : min(keys), pFrontier.peekMinKey());
+			}
+
+			//Every second round drains the frontier, the other ones clear it
+			if(round % 2 == 0) {
+
+				double last = -1;
+
+				while(!pFrontier.isEmpty()) {
+
+					double key = min(keys);
+					assertTrue(key >= last);
+					assertExtractMin(pFrontier, keys);
+					last = key;
+				}
+			} else {
+				pFrontier.clear();
+			}
+
+			assertTrue(pFrontier.isEmpty());
+
+			for(int i=0; i < CAPACITY; i++) {
+				assertFalse(pFrontier.contains(i));
+			}
+		}
+	}
+
+	/** Extracts the minimum and removes it from the reference, for equal keys any of the nodes may come first */
+	private static void assertExtractMin(Frontier pFrontier, double[] pKeys) {
+
+		double min = min(pKeys);
+		int node = pFrontier.extractMin();
+
+		assertEquals(min, pKeys[node]);
+		assertFalse(pFrontier.contains(node));
+
+		pKeys[node] = Double.NaN;
+	}
+
+	private static double min(double[] pKeys) {
+
+		double min = Double.MAX_VALUE;
+
+		for(double key: pKeys) {
+			if(!Double.isNaN(key) && key < min) {
+				min = key;
+			}
+		}
+
+		return min;
+	}
+
+}
@@ -0,0 +1,188 @@
+package de.interstellar.test.algorithm.ksp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPath;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ksp.KShortestPathsAlgorithm;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.graph.ArrayCsrGraph;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+
+/** Compares the paths of the KShortestPathsAlgorithm with all loopless paths of small
+ *  graphs, which are found by a depth first search.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class KShortestPathsAlgorithmTest {
+
+	@Test
+	public void undirectedGraphTest() {
+
+		for(long seed=1; seed <= 20; seed++) {
+			assertAllPaths(createGraph(10, 18, seed, true), 40);
+		}
+	}
+
+	@Test
+	public void directedGraphTest() {
+
+		for(long seed=1; seed <= 20; seed++) {
+			assertAllPaths(createGraph(10, 30, seed, false), 40);
+		}
+	}
+
+	@Test
+	public void gridGraphTest() {
+
+		Graph g = SyntheticGraphFactory.createGridGraph(30, 107);
+		List<ShortestPath> paths = new KShortestPathsAlgorithm(g, "Erde", "node_899").calculateShortestPaths(20);
+
+		assertEquals(20, paths.size());
+		assertEquals(new ShortestPathAlgorithm(g, "Erde", "node_899").calculateShortestDistance().getTotalCost(),
+				paths.get(0).getTotalCost(), 1e-9);
+
+		for(int i=1; i < paths.size(); i++) {
+			assertTrue(paths.get(i - 1).getTotalCost() <= paths.get(i).getTotalCost() + 1e-9);
+		}
+	}
+
+	@Test
+	public void unknownNodeTest() {
+
+		Graph g = createGraph(10, 18, 3, true);
+
+		assertNull(new KShortestPathsAlgorithm(g, "Erde", "Pluto").calculateShortestPaths(3));
+		assertEquals(0, new KShortestPathsAlgorithm(g, "Pluto", "Erde").stream().count());
+
+		//The same node as source and target gives one path without edges
+		List<ShortestPath> paths = new KShortestPathsAlgorithm(g, "Erde", "Erde").calculateShortestPaths(3);
+
+		assertEquals(1, paths.size());
+		assertEquals(1, paths.get(0).size());
+	}
+
+	/** Checks that the algorithm delivers all loopless paths from node 0 to the last node
+	 *  (at most pLimit), each one once and ordered by their costs.
+	 */
+	private static void assertAllPaths(Graph pGraph, int pLimit) {
+
+		CsrGraph csrGraph = pGraph.getCsrGraph();
+		int targetNodeId = csrGraph.getNodeCount() - 1;
+
+		List<Double> expectedCosts = new ArrayList<Double>();
+		findAllPaths(csrGraph, 0, targetNodeId, new boolean[csrGraph.getNodeCount()], 0, expectedCosts);
+		Collections.sort(expectedCosts);
+
+		List<ShortestPath> paths = new KShortestPathsAlgorithm(pGraph, "Erde", csrGraph.getNodeName(targetNodeId))
+				.stream().limit(pLimit).collect(Collectors.toList());
+
+		assertEquals(Math.min(pLimit, expectedCosts.size()), paths.size());
+
+		Set<List<Integer>> seenPaths = new HashSet<List<Integer>>();
+
+		for(int i=0; i < paths.size(); i++) {
+
+			ShortestPath path = paths.get(i);
+			List<Integer> nodes = new ArrayList<Integer>();
+			double cost = 0;
+
+			for(int j=0; j < path.size(); j++) {
+
+				nodes.add(path.getNodeId(j));
+
+				if(j > 0) {
+					cost += getEdgeCost(csrGraph, path.getNodeId(j - 1), path.getNodeId(j));
+				}
+			}
+
+			assertEquals(0, path.getNodeId(0));
+			assertEquals(targetNodeId, path.getNodeId(path.size() - 1));
+			assertEquals(nodes.size(), new HashSet<Integer>(nodes).size());
+			assertTrue(seenPaths.add(nodes));
+			assertEquals(cost, path.getTotalCost(), 1e-9);
+			assertEquals(expectedCosts.get(i), path.getTotalCost(), 1e-9);
+		}
+	}
+
+	private static void findAllPaths(CsrGraph pCsrGraph, int pNodeId, int pTargetNodeId, boolean[] pOnPath,
+			double pCost, List<Double> pCosts) {
+
+		if(pNodeId == pTargetNodeId) {
+			pCosts.add(pCost);
+			return;
+		}
+
+		pOnPath[pNodeId] = true;
+
+		//Parallel edges count as one edge with the smallest costs
+		Set<Integer> neighbors = new HashSet<Integer>();
+
+		for(int e = pCsrGraph.getEdgeStart(pNodeId); e < pCsrGraph.getEdgeEnd(pNodeId); e++) {
+			neighbors.add(pCsrGraph.getEdgeTarget(e));
+		}
+
+		for(int neighborId: neighbors) {
+			if(!pOnPath[neighborId]) {
+				findAllPaths(pCsrGraph, neighborId, pTargetNodeId, pOnPath, pCost + getEdgeCost(pCsrGraph, pNodeId, neighborId), pCosts);
+			}
+		}
+
+		pOnPath[pNodeId] = false;
+	}
+
+	private static double getEdgeCost(CsrGraph pCsrGraph, int pSourceId, int pTargetId) {
+
+		double cost = Double.MAX_VALUE;
+
+		for(int e = pCsrGraph.getEdgeStart(pSourceId); e < pCsrGraph.getEdgeEnd(pSourceId); e++) {
+			if(pCsrGraph.getEdgeTarget(e) == pTargetId) {
+				cost = Math.min(cost, pCsrGraph.getEdgeCost(e));
+			}
+		}
+
+		assertFalse(cost == Double.MAX_VALUE);
+
+		return cost;
+	}
+
+	private static Graph createGraph(int pNodeCount, int pEdgeCount, long pSeed, boolean pSymmetric) {
+
+		Random random = new Random(pSeed);
+		String[] names = new String[pNodeCount];
+		int[] sources = new int[pEdgeCount];
+		int[] targets = new int[pEdgeCount];
+		double[] costs = new double[pEdgeCount];
+
+		names[0] = "Erde";
+		for(int i=1; i < pNodeCount; i++) {
+			names[i] = "node_" + i;
+		}
+
+		//Small whole costs, so there are many paths with the same costs
+		for(int i=0; i < pEdgeCount; i++) {
+			sources[i] = random.nextInt(pNodeCount);
+			targets[i] = random.nextInt(pNodeCount);
+			costs[i] = 1 + random.nextInt(4);
+		}
+
+		return new Graph(ArrayCsrGraph.fromEdges(names, pNodeCount, sources, targets, costs, pEdgeCount, pSymmetric));
+	}
+
+}
@@ -0,0 +1,148 @@
+package de.interstellar.test.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathService;
+import de.interstellar.application.GraphLoader;
+import de.interstellar.batch.BatchOutputFormat;
+import de.interstellar.batch.BatchQueryRunner;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.data.GraphSnapshotWriter;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Tests the order and the formats of the results of the BatchQueryRunner and the
+ *  sources the GraphLoader accepts for the batch mode.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class BatchQueryRunnerTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void csvTest() throws IOException {
+
+		Graph g = SyntheticGraphFactory.createGridGraph(20, 109);
+		String input = "from,to\n"
+				+ "# comment\n"
+				+ "Erde,node_399\n"
+				+ "\n"
+				+ "Erde\tnode_5\n"
+				+ "Erde,Pluto\n"
+				+ "invalid\n";
+
+		StringWriter output = new StringWriter();
+
+		try(ShortestPathService service = new ShortestPathService(g)) {
+			assertEquals(4, new BatchQueryRunner(service, BatchOutputFormat.CSV, 2, true).run(new StringReader(input), output));
+		}
+
+		String[] lines = output.toString().split("\n");
+		double cost = new ShortestPathAlgorithm(g, "Erde", "node_399").calculateShortestDistance().getTotalCost();
+
+		assertEquals(5, lines.length);
+		assertEquals("from,to,status,totalCost,path", lines[0]);
+		assertTrue(lines[1].startsWith("Erde,node_399,ok," + cost + ",Erde|"));
+		assertTrue(lines[1].endsWith("|node_399"));
+		assertTrue(lines[2].startsWith("Erde,node_5,ok,"));
+		assertEquals("Erde,Pluto,unknown_node,,", lines[3]);
+		assertEquals(",,invalid_line,,", lines[4]);
+	}
+
+	@Test
+	public void quotedNamesTest() throws IOException {
+
+		GraphBuilder builder = new GraphBuilder();
+		builder.addNode("Alpha, Centauri");
+		builder.addNode("Mars");
+		builder.addNode("Say \"Hi\"");
+		builder.addEdge(0, 1, 2);
+		builder.addEdge(1, 2, 3);
+
+		//The names are quoted like in the output, the second line is an unclosed quote
+		String input = "\"Alpha, Centauri\",Mars\n"
+				+ "\"Alpha, Centauri\n"
+				+ "Mars, \"Say \"\"Hi\"\"\"\n";
+
+		StringWriter output = new StringWriter();
+
+		try(ShortestPathService service = new ShortestPathService(builder.buildGraph())) {
+			assertEquals(3, new BatchQueryRunner(service, BatchOutputFormat.CSV, 2, true).run(new StringReader(input), output));
+		}
+
+		String[] lines = output.toString().split("\n");
+
+		assertEquals("\"Alpha, Centauri\",Mars,ok,2.0,\"Alpha, Centauri|Mars\"", lines[1]);
+		assertEquals(",,invalid_line,,", lines[2]);
+		assertEquals("Mars,\"Say \"\"Hi\"\"\",ok,3.0,\"Mars|Say \"\"Hi\"\"\"", lines[3]);
+	}
+
+	@Test
+	public void orderTest() throws IOException {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(2000, 3000, 113);
+		StringBuilder input = new StringBuilder();
+
+		for(int i=0; i < 3000; i++) {
+			input.append("node_").append((i * 7) % 2000).append(',').append("node_").append(i % 2000).append('\n');
+		}
+
+		StringWriter output = new StringWriter();
+
+		//A small window, so reading has to wait for the results
+		try(ShortestPathService service = new ShortestPathService(g)) {
+			new BatchQueryRunner(service, BatchOutputFormat.NDJSON, 16, false).run(new StringReader(input.toString()), output);
+		}
+
+		String[] lines = output.toString().split("\n");
+
+		assertEquals(3000, lines.length);
+
+		for(int i=0; i < lines.length; i++) {
+
+			JSONObject json = new JSONObject(lines[i]);
+
+			assertEquals("node_" + ((i * 7) % 2000), json.getString("from"));
+			assertEquals("node_" + (i % 2000), json.getString("to"));
+			assertTrue(!json.has("path"));
+		}
+	}
+
+	@Test
+	public void loadFromTest() throws IOException {
+
+		Graph g = SyntheticGraphFactory.createGridGraph(10, 127);
+		Path snapshotPath = this.tempDir.resolve("graph.snapshot");
+		Path jsonPath = this.tempDir.resolve("graph.json");
+
+		new GraphSnapshotWriter().write(g, snapshotPath);
+		Files.write(jsonPath, ("{\"nodes\":[{\"label\":\"Erde\"},{\"label\":\"Mars\"}],"
+				+ "\"edges\":[{\"source\":0,\"target\":1,\"cost\":0.5}]}").getBytes(StandardCharsets.UTF_8));
+
+		Graph snapshot = new GraphLoader().loadFrom(snapshotPath.toString());
+		Graph json = new GraphLoader().loadFrom(jsonPath.toString());
+
+		assertEquals(100, snapshot.getCsrGraph().getNodeCount());
+		assertEquals(g.getCsrGraph().getEdgeCount(), snapshot.getCsrGraph().getEdgeCount());
+		assertEquals(2, json.getCsrGraph().getNodeCount());
+		assertEquals(0.5, new ShortestPathAlgorithm(json, "Erde", "Mars").calculateShortestDistance().getTotalCost());
+	}
+
+}
@@ -0,0 +1,80 @@
+package de.interstellar.test.benchmark.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathTree;
+import de.interstellar.benchmark.generator.GraphGenerator;
+import de.interstellar.benchmark.generator.GraphTopology;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Tests the graphs of the GraphGenerator: for every topology the JSON document has
+ *  to give the same graph as the direct creation, the same seed has to give the same
+ *  document and every node has to be reachable.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphGeneratorTest {
+
+	private static final int NODE_COUNT = 2345;
+	private static final double EDGES_PER_NODE = 3;
+
+	@Test
+	public void topologyTest() throws IOException {
+
+		for(GraphTopology topology: GraphTopology.values()) {
+
+			GraphGenerator generator = new GraphGenerator(topology, NODE_COUNT, EDGES_PER_NODE, 5);
+
+			ByteArrayOutputStream first = new ByteArrayOutputStream();
+			ByteArrayOutputStream second = new ByteArrayOutputStream();
+			long edgeCount = generator.writeJson(first);
+			generator.writeJson(second);
+
+			assertArrayEquals(first.toByteArray(), second.toByteArray(), topology.name());
+
+			//The number of edges is about the requested one
+			assertTrue(edgeCount > 0.5 * NODE_COUNT * EDGES_PER_NODE && edgeCount < 1.5 * NODE_COUNT * EDGES_PER_NODE, topology.name());
+
+			Graph expected = generator.createGraph();
+			Graph actual = new GraphBuilder().createGraph(new ByteArrayInputStream(first.toByteArray()));
+
+			assertSameGraph(expected.getCsrGraph(), actual.getCsrGraph());
+
+			ShortestPathTree tree = new ShortestPathAlgorithm(actual, "Erde", null).calculateShortestPathTree();
+
+			for(int i=0; i < NODE_COUNT; i++) {
+				assertTrue(tree.isReachable(i), topology.name());
+			}
+		}
+	}
+
+	private static void assertSameGraph(CsrGraph pExpected, CsrGraph pActual) {
+
+		assertEquals(pExpected.getNodeCount(), pActual.getNodeCount());
+		assertEquals(pExpected.getEdgeCount(), pActual.getEdgeCount());
+
+		for(int i=0; i < pExpected.getNodeCount(); i++) {
+			assertEquals(pExpected.getNodeName(i), pActual.getNodeName(i));
+			assertEquals(pExpected.getEdgeEnd(i), pActual.getEdgeEnd(i));
+		}
+
+		for(int e=0; e < pExpected.getEdgeCount(); e++) {
+			assertEquals(pExpected.getEdgeTarget(e), pActual.getEdgeTarget(e));
+			assertEquals(pExpected.getEdgeCost(e), pActual.getEdgeCost(e));
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+package de.interstellar.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.Attribute;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathCache;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.algorithm.ShortestPathService;
+import de.interstellar.algorithm.alt.AltShortestPathAlgorithm;
+import de.interstellar.algorithm.alt.LandmarkIndex;
+import de.interstellar.algorithm.alt.LandmarkSelection;
+import de.interstellar.algorithm.ch.ChShortestPathAlgorithm;
+import de.interstellar.algorithm.ch.ContractionHierarchyBuilder;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.metrics.Histogram;
+import de.interstellar.metrics.SearchMetrics;
+import de.interstellar.model.graph.Graph;
+
+/** Tests the percentiles of the Histogram and the recording of the SearchMetrics.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class SearchMetricsTest {
+
+	@AfterEach
+	public void disableMetrics() {
+
+		SearchMetrics.getInstance().setEnabled(false);
+		SearchMetrics.getInstance().reset();
+	}
+
+	@Test
+	public void histogramTest() {
+
+		Histogram histogram = new Histogram();
+
+		for(int value=1; value <= 1000; value++) {
+			histogram.record(value);
+		}
+
+		assertEquals(1000, histogram.getCount());
+		assertEquals(500.5, histogram.getMean(), 1e-9);
+		assertEquals(1000, histogram.getMax());
+
+		//The buckets are at most 1/16 wider than their smallest value
+		assertEquals(500, histogram.getValueAtPercentile(50), 500 / 16.0);
+		assertEquals(990, histogram.getValueAtPercentile(99), 990 / 16.0);
+		assertEquals(1000, histogram.getValueAtPercentile(100));
+		assertEquals(1, histogram.getValueAtPercentile(0));
+
+		//Small values have their own buckets
+		Histogram small = new Histogram();
+		small.record(3);
+		small.record(7);
+
+		assertEquals(3, small.getValueAtPercentile(50));
+		assertEquals(7, small.getValueAtPercentile(100));
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(99));
+	}
+
+	@Test
+	public void queryTest() {
+
+		Graph g = SyntheticGraphFactory.createGridGraph(30, 101);
+		SearchMetrics metrics = SearchMetrics.getInstance();
+
+		//Nothing is recorded while the metrics are disabled
+		metrics.setEnabled(false);
+		metrics.reset();
+		new ShortestPathAlgorithm(g, "Erde", "node_500").calculateShortestDistance();
+
+		assertEquals(0, metrics.getQueryCount());
+
+		metrics.setEnabled(true);
+
+		ShortestPathResult result = new ShortestPathAlgorithm(g, "Erde", "node_500").calculateShortestDistance();
+		new ShortestPathAlgorithm(g, "Erde", "unknown").calculateShortestDistance();
+		new ShortestPathAlgorithm(g, "Erde", null).calculateShortestPathTree();
+
+		assertEquals(1, metrics.getQueryCount());
+		assertEquals(1, metrics.getUnknownNodeQueryCount());
+		assertEquals(1, metrics.getTreeCount());
+		assertEquals(result.getSettledNodeCount(), metrics.getSettledNodesMean(), 1e-9);
+		assertEquals(result.getPath().size(), metrics.getPathLengthMean(), 1e-9);
+		assertTrue(metrics.getRelaxedEdgesMean() >= result.getSettledNodeCount());
+		assertTrue(metrics.getFrontierPeakMax() > 0);
+		assertTrue(metrics.dump().contains("query latency ms    count 1"));
+	}
+
+	@Test
+	public void otherAlgorithmsTest() {
+
+		Graph g = SyntheticGraphFactory.createGridGraph(20, 102);
+		SearchMetrics metrics = SearchMetrics.getInstance();
+		LandmarkIndex landmarks = new LandmarkIndex(g, 4, LandmarkSelection.FARTHEST, 1);
+
+		metrics.setEnabled(true);
+		metrics.reset();
+
+		ShortestPathResult alt = new AltShortestPathAlgorithm(g, landmarks, "Erde", "node_300").calculateShortestDistance();
+		ShortestPathResult ch = new ChShortestPathAlgorithm(g, new ContractionHierarchyBuilder().createHierarchy(g), "Erde", "node_300")
+				.calculateShortestDistance();
+		new AltShortestPathAlgorithm(g, landmarks, "Erde", "unknown").calculateShortestDistance();
+
+		assertEquals(2, metrics.getQueryCount());
+		assertEquals(1, metrics.getUnknownNodeQueryCount());
+		assertEquals((alt.getSettledNodeCount() + ch.getSettledNodeCount()) / 2.0, metrics.getSettledNodesMean(), 1e-9);
+		assertEquals(alt.getPath().size(), metrics.getPathLengthMean(), 1e-9);
+		assertTrue(metrics.getRelaxedEdgesMean() > 0);
+
+		//A cache hit is only counted, it does not search
+		metrics.reset();
+
+		try(ShortestPathService service = new ShortestPathService(g)) {
+
+			service.setCache(ShortestPathCache.withMaxEntries(10));
+			service.calculateShortestDistance("Erde", "node_300");
+			service.calculateShortestDistance("Erde", "node_300");
+		}
+
+		assertEquals(1, metrics.getQueryCount());
+		assertEquals(1, metrics.getCacheHitCount());
+		assertTrue(metrics.dump().contains("cache hits"));
+	}
+
+	@Test
+	public void mbeanTest() throws Exception {
+
+		SearchMetrics.register();
+
+		ObjectName name = new ObjectName(SearchMetrics.OBJECT_NAME);
+
+		ManagementFactory.getPlatformMBeanServer().setAttribute(name, new Attribute("Enabled", true));
+
+		assertTrue(SearchMetrics.getInstance().isEnabled());
+		assertEquals(0L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "QueryCount"));
+	}
+
+}
@@ -0,0 +1,162 @@
+package de.interstellar.test.model.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.model.data.GraphSnapshotReader;
+import de.interstellar.model.data.GraphSnapshotWriter;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Tests the binary graph snapshot. A graph that is written and loaded again has
+ *  to be the same as the graph that was created by the GraphBuilder.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphSnapshotTest {
+
+	private static final int NODE_COUNT = 500;
+	private static final int EDGE_COUNT = 1500;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void roundTripTest() throws IOException {
+
+		Graph expected = new GraphBuilder().createGraph(createRandomData(new Random(3)));
+		Path path = this.tempDir.resolve("graph.snapshot");
+
+		new GraphSnapshotWriter().write(expected, path);
+		Graph actual = new GraphSnapshotReader().read(path);
+
+		assertSameGraph(expected, actual);
+	}
+
+	@Test
+	public void smallWindowTest() throws IOException {
+
+		Graph expected = new GraphBuilder().createGraph(createRandomData(new Random(4)));
+		Path path = this.tempDir.resolve("graph.snapshot");
+
+		new GraphSnapshotWriter().write(expected, path);
+
+		//Windows of 8 and 64 bytes split every section and most of the names, like the 1 GB windows of a file bigger than 2 GB
+		assertSameGraph(expected, new GraphSnapshotReader(3).read(path));
+		assertSameGraph(expected, new GraphSnapshotReader(6).read(path));
+	}
+
+	@Test
+	public void nullNameTest() throws IOException {
+
+		GraphBuilder builder = new GraphBuilder();
+		builder.addNode("Erde");
+		builder.addNode(null);
+		builder.addNode("");
+		builder.addNode("Mars");
+		builder.addEdge(0, 1, 1);
+
+		Path path = this.tempDir.resolve("graph.snapshot");
+		new GraphSnapshotWriter().write(builder.buildGraph(), path);
+
+		Graph g = new GraphSnapshotReader(3).read(path);
+
+		assertEquals("Erde", g.getCsrGraph().getNodeName(0));
+		assertNull(g.getCsrGraph().getNodeName(1));
+		assertEquals("", g.getCsrGraph().getNodeName(2));
+		assertEquals("Mars", g.getCsrGraph().getNodeName(3));
+		assertEquals(2, g.findNodeId(""));
+	}
+
+	@Test
+	public void corruptedSnapshotTest() throws IOException {
+
+		Graph graph = new GraphBuilder().createGraph(createRandomData(new Random(5)));
+		Path path = this.tempDir.resolve("graph.snapshot");
+
+		new GraphSnapshotWriter().write(graph, path);
+
+		try(RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+
+			//Change one byte of the edge costs
+			long position = file.length() - 100;
+			file.seek(position);
+			int value = file.read();
+			file.seek(position);
+			file.write(value ^ 1);
+		}
+
+		assertThrows(IOException.class, () -> new GraphSnapshotReader().read(path));
+	}
+
+	@Test
+	public void invalidFileTest() throws IOException {
+
+		Path path = this.tempDir.resolve("graph.json");
+		Files.write(path, "{\"nodes\": [], \"edges\": []}".getBytes("UTF-8"));
+
+		assertThrows(IOException.class, () -> new GraphSnapshotReader().read(path));
+	}
+
+	private static void assertSameGraph(Graph pExpected, Graph pActual) {
+
+		CsrGraph expectedCsr = pExpected.getCsrGraph();
+		CsrGraph actualCsr = pActual.getCsrGraph();
+
+		assertEquals(expectedCsr.getNodeCount(), actualCsr.getNodeCount());
+		assertEquals(expectedCsr.getEdgeCount(), actualCsr.getEdgeCount());
+		assertEquals(expectedCsr.isSymmetric(), actualCsr.isSymmetric());
+
+		for(int i=0; i < expectedCsr.getNodeCount(); i++) {
+			assertEquals(expectedCsr.getNodeName(i), actualCsr.getNodeName(i));
+			assertEquals(expectedCsr.getEdgeStart(i), actualCsr.getEdgeStart(i));
+			assertEquals(expectedCsr.getEdgeEnd(i), actualCsr.getEdgeEnd(i));
+		}
+
+		for(int e=0; e < expectedCsr.getEdgeCount(); e++) {
+			assertEquals(expectedCsr.getEdgeTarget(e), actualCsr.getEdgeTarget(e));
+			assertEquals(expectedCsr.getEdgeCost(e), actualCsr.getEdgeCost(e));
+		}
+
+		assertEquals(new ShortestPathAlgorithm(pExpected, "Planet_0", "Planet_ä_7").calculateShortestDistance().getTotalCost(),
+				new ShortestPathAlgorithm(pActual, "Planet_0", "Planet_ä_7").calculateShortestDistance().getTotalCost());
+	}
+
+	private static JSONObject createRandomData(Random pRandom) {
+
+		JSONArray nodes = new JSONArray();
+
+		for(int i=0; i < NODE_COUNT; i++) {
+			//Every 7th name contains a character that needs more than one byte in UTF-8
+			nodes.put(new JSONObject().put("label", i % 7 == 0 && i > 0 ? "Planet_ä_" + i : "Planet_" + i));
+		}
+
+		JSONArray edges = new JSONArray();
+
+		for(int i=0; i < EDGE_COUNT; i++) {
+			edges.put(new JSONObject()
+					.put("source", pRandom.nextInt(NODE_COUNT))
+					.put("target", pRandom.nextInt(NODE_COUNT))
+					.put("cost", pRandom.nextDouble()));
+		}
+
+		return new JSONObject().put("nodes", nodes).put("edges", edges);
+	}
+
+}
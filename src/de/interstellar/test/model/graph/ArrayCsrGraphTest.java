@@ -0,0 +1,136 @@
+package de.interstellar.test.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.model.graph.ArrayCsrGraph;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.DuplicateEdgePolicy;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.GraphStorage;
+
+/** Tests that the CSR graph built from a list of edges is the same for any number of
+ *  parts and keeps the costs of duplicate edges as given by the DuplicateEdgePolicy.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ArrayCsrGraphTest {
+
+	@Test
+	public void partCountTest() {
+
+		for(DuplicateEdgePolicy policy: DuplicateEdgePolicy.values()) {
+			for(boolean undirected: new boolean[] {false, true}) {
+
+				Random random = new Random(5);
+				int nodeCount = 3000;
+				int edgeCount = 40000;
+				int[] sources = new int[edgeCount];
+				int[] targets = new int[edgeCount];
+				double[] costs = new double[edgeCount];
+
+				//A few nodes with a lot of edges and many duplicates
+				for(int i=0; i < edgeCount; i++) {
+					sources[i] = i % 4 == 0 ? random.nextInt(3) : random.nextInt(nodeCount);
+					targets[i] = random.nextInt(i % 3 == 0 ? 50 : nodeCount);
+					costs[i] = random.nextInt(100);
+				}
+
+				List<Map<Integer,Double>> expected = buildExpected(nodeCount, sources, targets, costs, undirected, policy);
+
+				for(int partCount: new int[] {1, 2, 3, 8, 5000}) {
+					assertGraph(expected, ArrayCsrGraph.fromEdges(new String[nodeCount], nodeCount, sources, targets, costs, edgeCount,
+							undirected, policy, partCount));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void builderTest() {
+
+		for(GraphStorage storage: GraphStorage.values()) {
+
+			GraphBuilder builder = new GraphBuilder(storage);
+			builder.setDuplicateEdgePolicy(DuplicateEdgePolicy.KEEP_MIN);
+			builder.setPartCount(3);
+
+			builder.addNode("Erde");
+			builder.addNode("Mars");
+			builder.addNode("Venus");
+			builder.addEdge(0, 1, 4);
+			builder.addEdge(1, 0, 2);
+			builder.addEdge(0, 1, 3);
+			builder.addEdge(1, 2, 1);
+
+			Graph g = builder.buildGraph();
+
+			//The cheapest of the three connections between Erde and Mars is kept in both directions
+			assertEquals(2, g.getCsrGraph().getEdgeCount() / 2);
+			assertEquals(3, new ShortestPathAlgorithm(g, "Erde", "Venus").calculateShortestDistance().getTotalCost());
+			assertEquals(2, new ShortestPathAlgorithm(g, "Mars", "Erde").calculateShortestDistance().getTotalCost());
+
+			//Without a policy the last one is kept
+			builder = new GraphBuilder(storage);
+			builder.addNode("Erde");
+			builder.addNode("Mars");
+			builder.addEdge(0, 1, 4);
+			builder.addEdge(1, 0, 2);
+			builder.addEdge(0, 1, 3);
+
+			assertEquals(3, new ShortestPathAlgorithm(builder.buildGraph(), "Erde", "Mars").calculateShortestDistance().getTotalCost());
+		}
+	}
+
+	/** @return for each node its neighbors with their costs, in the order they were first seen */
+	private static List<Map<Integer,Double>> buildExpected(int pNodeCount, int[] pSources, int[] pTargets, double[] pCosts,
+			boolean pUndirected, DuplicateEdgePolicy pPolicy) {
+
+		List<Map<Integer,Double>> neighbors = new ArrayList<>();
+
+		for(int i=0; i < pNodeCount; i++) {
+			neighbors.add(new LinkedHashMap<>());
+		}
+
+		for(int i=0; i < pSources.length; i++) {
+
+			neighbors.get(pSources[i]).merge(pTargets[i], pCosts[i], pPolicy::merge);
+
+			if(pUndirected) {
+				neighbors.get(pTargets[i]).merge(pSources[i], pCosts[i], pPolicy::merge);
+			}
+		}
+
+		return neighbors;
+	}
+
+	private static void assertGraph(List<Map<Integer,Double>> pExpected, CsrGraph pActual) {
+
+		assertEquals(pExpected.size(), pActual.getNodeCount());
+
+		for(int node=0; node < pExpected.size(); node++) {
+
+			int e = pActual.getEdgeStart(node);
+
+			assertEquals(pExpected.get(node).size(), pActual.getEdgeEnd(node) - e);
+
+			for(Map.Entry<Integer,Double> entry: pExpected.get(node).entrySet()) {
+				assertEquals(entry.getKey(), pActual.getEdgeTarget(e));
+				assertEquals(entry.getValue(), pActual.getEdgeCost(e));
+				e++;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+package de.interstellar.test.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.SearchMode;
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.model.graph.ArrayCsrGraph;
+import de.interstellar.model.graph.ComponentIndex;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.GraphUpdate;
+
+/** Compares the components of the ComponentIndex with the components that are found
+ *  by a breadth-first search, also after updates of the edges.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class ComponentIndexTest {
+
+	@Test
+	public void builderTest() {
+
+		for(long seed=1; seed <= 10; seed++) {
+
+			Graph g = createGraph(300, 200, seed);
+
+			assertComponents(g.getCsrGraph(), g.getComponentIndex());
+			assertComponents(g.getCsrGraph(), ComponentIndex.create(g.getCsrGraph()));
+		}
+	}
+
+	@Test
+	public void largeGraphTest() {
+
+		//Enough edges to find the components in parallel
+		Graph g = createGraph(200000, 150000, 7);
+
+		assertComponents(g.getCsrGraph(), g.getComponentIndex());
+		assertComponents(g.getCsrGraph(), ComponentIndex.create(g.getCsrGraph()));
+	}
+
+	@Test
+	public void directedGraphTest() {
+
+		String[] names = {"Erde", "Mars", "Venus", "Pluto"};
+		CsrGraph csrGraph = ArrayCsrGraph.fromEdges(names, 4, new int[] {1, 3}, new int[] {0, 2}, new double[] {1, 1}, 2, false);
+		ComponentIndex index = new Graph(csrGraph).getComponentIndex();
+
+		//The direction of the edges is ignored
+		assertEquals(2, index.getComponentCount());
+		assertTrue(index.isConnected(0, 1));
+		assertTrue(!index.isConnected(0, 2));
+	}
+
+	@Test
+	public void updateTest() {
+
+		Graph g = createGraph(100, 40, 3);
+		ComponentIndex index = g.getComponentIndex();
+		CsrGraph csrGraph = g.getCsrGraph();
+		Random random = new Random(3);
+
+		int source = 0;
+		while(csrGraph.getEdgeStart(source) == csrGraph.getEdgeEnd(source)) {
+			source++;
+		}
+
+		//Changed costs keep the components
+		GraphUpdate costUpdate = g.update();
+		costUpdate.setEdgeCost(source, csrGraph.getEdgeTarget(csrGraph.getEdgeStart(source)), 100);
+		assertSame(index, costUpdate.apply().getComponentIndex());
+
+		//Added edges join components
+		Graph changed = g;
+
+		for(int i=0; i < 20; i++) {
+
+			GraphUpdate update = changed.update();
+			update.setEdgeCost(random.nextInt(100), random.nextInt(100), 1);
+			update.setEdgeCost(random.nextInt(100), random.nextInt(100), 1);
+			changed = update.apply();
+
+			assertComponents(changed.getCsrGraph(), changed.getComponentIndex());
+		}
+
+		int componentCount = changed.getComponentIndex().getComponentCount();
+
+		//A removed edge can split a component, so the components are found again
+		GraphUpdate update = changed.update();
+
+		for(int e = changed.getCsrGraph().getEdgeStart(source); e < changed.getCsrGraph().getEdgeEnd(source); e++) {
+			update.removeEdge(source, changed.getCsrGraph().getEdgeTarget(e));
+		}
+
+		Graph removed = update.apply();
+
+		assertComponents(removed.getCsrGraph(), removed.getComponentIndex());
+		assertTrue(removed.getComponentIndex().getComponentCount() > componentCount);
+	}
+
+	@Test
+	public void unreachableQueryTest() {
+
+		GraphBuilder builder = new GraphBuilder();
+
+		for(int i=0; i < 1000; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		//Two chains: 0 ... 499 and 500 ... 999
+		for(int i=1; i < 1000; i++) {
+			if(i != 500) {
+				builder.addEdge(i - 1, i, 1);
+			}
+		}
+
+		Graph g = builder.buildGraph();
+
+		for(SearchMode mode: new SearchMode[] {SearchMode.POINT_TO_POINT, SearchMode.BIDIRECTIONAL}) {
+
+			ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(g, "node_0", "node_999");
+			algorithm.setSearchMode(mode);
+			ShortestPathResult result = algorithm.calculateShortestDistance();
+
+			assertNotNull(result);
+			assertEquals(Double.MAX_VALUE, result.getTotalCost());
+			assertTrue(result.getPath().isEmpty());
+			assertTrue(result.getSettledNodeCount() <= 1);
+		}
+
+		//The whole component is still searched in ONE_TO_ALL mode
+		ShortestPathAlgorithm algorithm = new ShortestPathAlgorithm(g, "node_0", "node_999");
+		algorithm.setSearchMode(SearchMode.ONE_TO_ALL);
+
+		assertEquals(500, algorithm.calculateShortestDistance().getSettledNodeCount());
+		assertEquals(499.0, new ShortestPathAlgorithm(g, "node_0", "node_499").calculateShortestDistance().getTotalCost());
+	}
+
+	/** Checks that two nodes are in the same component of the index, if and only if they
+	 *  are connected in the graph.
+	 */
+	private static void assertComponents(CsrGraph pCsrGraph, ComponentIndex pIndex) {
+
+		int nodeCount = pCsrGraph.getNodeCount();
+		CsrGraph reverse = pCsrGraph.isSymmetric() ? pCsrGraph : ArrayCsrGraph.transpose(pCsrGraph);
+		int[] components = new int[nodeCount];
+		int componentCount = 0;
+
+		Arrays.fill(components, -1);
+
+		for(int start=0; start < nodeCount; start++) {
+
+			if(components[start] >= 0) {
+				continue;
+			}
+
+			ArrayDeque<Integer> queue = new ArrayDeque<Integer>();
+			components[start] = start;
+			queue.add(start);
+			componentCount++;
+
+			while(!queue.isEmpty()) {
+
+				int node = queue.poll();
+
+				for(CsrGraph graph: new CsrGraph[] {pCsrGraph, reverse}) {
+					for(int e = graph.getEdgeStart(node); e < graph.getEdgeEnd(node); e++) {
+						int neighbor = graph.getEdgeTarget(e);
+						if(components[neighbor] < 0) {
+							components[neighbor] = start;
+							queue.add(neighbor);
+						}
+					}
+				}
+			}
+		}
+
+		assertEquals(nodeCount, pIndex.getNodeCount());
+		assertEquals(componentCount, pIndex.getComponentCount());
+
+		//The id of a component is the lowest id of its nodes, which is where the search started
+		for(int i=0; i < nodeCount; i++) {
+			assertEquals(components[i], pIndex.getComponentId(i));
+		}
+	}
+
+	private static Graph createGraph(int pNodeCount, int pEdgeCount, long pSeed) {
+
+		Random random = new Random(pSeed);
+		GraphBuilder builder = new GraphBuilder();
+
+		for(int i=0; i < pNodeCount; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		for(int i=0; i < pEdgeCount; i++) {
+			builder.addEdge(random.nextInt(pNodeCount), random.nextInt(pNodeCount), 1 + random.nextInt(10));
+		}
+
+		return builder.buildGraph();
+	}
+
+}
@@ -0,0 +1,97 @@
+package de.interstellar.test.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+
+/** Tests the streaming creation of a graph. The graph that is created from a stream
+ *  has to be the same as the graph that is created from a JSONObject.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphBuilderTest {
+
+	private static final String DATA = "{"
+			+ "\"info\": {\"version\": [1, 2, {\"a\": null}], \"valid\": true},"
+			+ "\"nodes\": ["
+			+ "  {\"label\": \"Erde\"},"
+			+ "  {\"label\": \"Pl\\u00e4net \\\"X\\\"\\n\", \"size\": 1.5e3},"
+			+ "  {\"label\": \"Mond\\\\\\/\"},"
+			+ "  {\"label\": \"\u00dcberall\"},"
+			+ "  {\"color\": \"red\"}"
+			+ "],"
+			+ "\"edges\": ["
+			+ "  {\"source\": 0, \"target\": 1, \"cost\": 0.25},"
+			+ "  {\"target\": 2, \"source\": 1, \"cost\": 1E-2},"
+			+ "  {\"source\": \"2\", \"target\": 3, \"cost\": \"4.5\"},"
+			+ "  {\"source\": 3, \"target\": 0, \"cost\": -0.5},"
+			+ "  {\"source\": 0, \"target\": 3}"
+			+ "]"
+			+ "}";
+
+	@Test
+	public void streamMatchesJSONObjectTest() throws IOException {
+
+		Graph expected = new GraphBuilder().createGraph(new JSONObject(DATA));
+		Graph actual = new GraphBuilder().createGraph(new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8)));
+
+		assertSameGraph(expected.getCsrGraph(), actual.getCsrGraph());
+		assertEquals("Pl\u00e4net \"X\"\n", actual.getCsrGraph().getNodeName(1));
+	}
+
+	@Test
+	public void channelMatchesJSONObjectTest() throws IOException {
+
+		Graph expected = new GraphBuilder().createGraph(new JSONObject(DATA));
+		Graph actual = new GraphBuilder().createGraph(Channels.newChannel(new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8))));
+
+		assertSameGraph(expected.getCsrGraph(), actual.getCsrGraph());
+	}
+
+	@Test
+	public void malformedDataTest() {
+
+		String[] malformedData = {
+				"{\"nodes\": [{\"label\": \"Erde\"}",
+				"{\"nodes\": [{\"label\" \"Erde\"}]}",
+				"{\"nodes\": [{\"label\": \"Erde}]}",
+				"[1, 2]"
+		};
+
+		for(String data : malformedData) {
+			assertThrows(IOException.class, () -> new GraphBuilder().createGraph(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8))));
+		}
+	}
+
+	private static void assertSameGraph(CsrGraph pExpected, CsrGraph pActual) {
+
+		assertEquals(pExpected.getNodeCount(), pActual.getNodeCount());
+		assertEquals(pExpected.getEdgeCount(), pActual.getEdgeCount());
+
+		for(int i=0; i < pExpected.getNodeCount(); i++) {
+
+			assertEquals(pExpected.getNodeName(i), pActual.getNodeName(i));
+			assertEquals(pExpected.getEdgeStart(i), pActual.getEdgeStart(i));
+			assertEquals(pExpected.getEdgeEnd(i), pActual.getEdgeEnd(i));
+		}
+
+		for(int e=0; e < pExpected.getEdgeCount(); e++) {
+			assertEquals(pExpected.getEdgeTarget(e), pActual.getEdgeTarget(e));
+			assertEquals(pExpected.getEdgeCost(e), pActual.getEdgeCost(e));
+		}
+	}
+
+}
@@ -0,0 +1,125 @@
+package de.interstellar.test.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Edge;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.Node;
+
+/** Tests that the Node and Edge objects of a graph (the adapter view) describe the
+ *  same graph as its compact CSR data, in both directions.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class GraphTest {
+
+	private static final int NODE_COUNT = 300;
+	private static final int EDGE_COUNT = 900;
+
+	@Test
+	public void nodeListToCsrTest() {
+
+		Random random = new Random(21);
+		HashMap<Integer,Node> nodes = new HashMap<Integer,Node>();
+		HashMap<String,Edge> edges = new HashMap<String,Edge>();
+
+		for(int i=0; i < NODE_COUNT; i++) {
+			nodes.put(i, new Node(i, "node_" + i));
+		}
+
+		//The edges are created like the original parser did: one Edge per direction and the target as neighbor
+		for(int i=0; i < EDGE_COUNT; i++) {
+
+			Node source = nodes.get(random.nextInt(NODE_COUNT));
+			Node target = nodes.get(random.nextInt(NODE_COUNT));
+			String name = source.getId() + "To" + target.getId();
+
+			if(!edges.containsKey(name)) {
+				source.getNeighbors().add(target);
+				edges.put(name, new Edge(name, source, target, random.nextInt(100) / 4.0));
+			}
+		}
+
+		Graph g = new Graph(nodes, edges);
+
+		assertSameGraph(g.getCsrGraph(), nodes, edges);
+	}
+
+	@Test
+	public void csrToNodeListTest() {
+
+		Random random = new Random(22);
+		GraphBuilder builder = new GraphBuilder();
+
+		for(int i=0; i < NODE_COUNT; i++) {
+			builder.addNode("node_" + i);
+		}
+
+		for(int i=0; i < EDGE_COUNT; i++) {
+			builder.addEdge(random.nextInt(NODE_COUNT), random.nextInt(NODE_COUNT), random.nextInt(100) / 4.0);
+		}
+
+		Graph g = builder.buildGraph();
+
+		assertSameGraph(g.getCsrGraph(), g.getNodeList(), g.getEdgeList());
+
+		for(int i=0; i < NODE_COUNT; i++) {
+			assertSame(g.getNodeList().get(i), g.getNode(i));
+		}
+
+		//A graph that is created again from the adapter view finds the same paths
+		Graph copy = new Graph(g.getNodeList(), g.getEdgeList());
+
+		for(int i=0; i < 50; i++) {
+
+			String source = "node_" + random.nextInt(NODE_COUNT);
+			String target = "node_" + random.nextInt(NODE_COUNT);
+
+			assertEquals(new ShortestPathAlgorithm(g, source, target).calculateShortestDistance().getTotalCost(),
+					new ShortestPathAlgorithm(copy, source, target).calculateShortestDistance().getTotalCost());
+		}
+	}
+
+	/** Checks that every node has the same name and the same neighbors in the same order
+	 *  in both representations and that each CSR edge has the cost of its Edge object.
+	 */
+	private static void assertSameGraph(CsrGraph pCsrGraph, HashMap<Integer,Node> pNodes, HashMap<String,Edge> pEdges) {
+
+		assertEquals(pNodes.size(), pCsrGraph.getNodeCount());
+		assertEquals(pEdges.size(), pCsrGraph.getEdgeCount());
+
+		for(int i=0; i < pCsrGraph.getNodeCount(); i++) {
+
+			Node node = pNodes.get(i);
+			List<Node> neighbors = node.getNeighbors();
+
+			assertEquals(i, node.getId());
+			assertEquals(node.getName(), pCsrGraph.getNodeName(i));
+			assertEquals(neighbors.size(), pCsrGraph.getEdgeEnd(i) - pCsrGraph.getEdgeStart(i));
+
+			for(int e = pCsrGraph.getEdgeStart(i); e < pCsrGraph.getEdgeEnd(i); e++) {
+
+				int target = pCsrGraph.getEdgeTarget(e);
+				Edge edge = pEdges.get(i + "To" + target);
+
+				assertEquals(neighbors.get(e - pCsrGraph.getEdgeStart(i)).getId(), target);
+				assertSame(node, edge.getStartNode());
+				assertSame(pNodes.get(target), edge.getDestinatonNode());
+				assertEquals(edge.getCost(), pCsrGraph.getEdgeCost(e));
+			}
+		}
+	}
+
+}
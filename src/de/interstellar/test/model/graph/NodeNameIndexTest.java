@@ -0,0 +1,121 @@
+package de.interstellar.test.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.NodeNameIndex;
+
+/** Tests the search of nodes by their name.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class NodeNameIndexTest {
+
+	@Test
+	public void findNodeIdTest() {
+
+		String[] names = new String[2000];
+		Random random = new Random(13);
+
+		for(int i=0; i < names.length; i++) {
+			names[i] = "n" + random.nextInt(1500);
+		}
+
+		NodeNameIndex index = NodeNameIndex.create(names);
+		int duplicates = 0;
+
+		for(int i=0; i < names.length; i++) {
+
+			int firstId = linearSearch(names, names[i]);
+
+			if(firstId != i) {
+				duplicates++;
+			}
+
+			assertEquals(firstId, index.findNodeId(names[i]));
+		}
+
+		assertEquals(duplicates, index.getDuplicateCount());
+		assertEquals(-1, index.findNodeId("n1500"));
+		assertEquals(-1, index.findNodeId(null));
+	}
+
+	@Test
+	public void duplicateLabelTest() {
+
+		GraphBuilder builder = new GraphBuilder();
+		builder.addNode("Erde");
+		builder.addNode("Mars");
+		builder.addNode("Erde");
+		builder.addNode("Venus");
+		builder.addNode("Erde");
+
+		Graph g = builder.buildGraph();
+
+		assertEquals(0, g.findNodeId("Erde"));
+		assertEquals(2, g.getNameIndex().getDuplicateCount());
+		assertArrayEquals(new int[] {0, 2, 4}, g.getNameIndex().findNodeIds("Erde"));
+		assertArrayEquals(new int[] {1}, g.getNameIndex().findNodeIds("Mars"));
+		assertArrayEquals(new int[0], g.getNameIndex().findNodeIds("Pluto"));
+	}
+
+	@Test
+	public void prefixTest() {
+
+		NodeNameIndex index = NodeNameIndex.create(new String[] {"b3-r7", "Erde", "b3-a1", "b3", "c1", null, "b", "b3-r7"});
+
+		assertArrayEquals(new int[] {3, 2, 0, 7}, index.findNodeIdsByPrefix("b3", 10));
+		assertArrayEquals(new int[] {3, 2}, index.findNodeIdsByPrefix("b3", 2));
+		assertArrayEquals(new int[] {0, 7}, index.findNodeIdsByPrefix("b3-r", 10));
+		assertArrayEquals(new int[] {1, 6, 3, 2, 0, 7, 4}, index.findNodeIdsByPrefix("", 10));
+		assertArrayEquals(new int[0], index.findNodeIdsByPrefix("x", 10));
+	}
+
+	@Test
+	public void sortOrderTest() {
+
+		//Names that share their first characters, differ only after them or contain characters outside of the ASCII range
+		String[] parts = {"", "a", "ab", "ab\u0000", "abcd", "abcde", "abcdf", "\uE000", "\uD83D\uDE80", "Z", "z"};
+		String[] names = new String[3000];
+		Random random = new Random(5);
+
+		for(int i=0; i < names.length; i++) {
+			names[i] = random.nextInt(20) == 0 ? null : parts[random.nextInt(parts.length)] + parts[random.nextInt(parts.length)];
+		}
+
+		Integer[] expected = new Integer[names.length];
+
+		for(int i=0; i < names.length; i++) {
+			expected[i] = i;
+		}
+
+		expected = Arrays.stream(expected).filter(id -> names[id] != null).toArray(Integer[]::new);
+		Arrays.sort(expected, Comparator.comparing((Integer id) -> names[id]).thenComparing(id -> id));
+
+		int[] expectedIds = Arrays.stream(expected).mapToInt(Integer::intValue).toArray();
+
+		assertArrayEquals(expectedIds, NodeNameIndex.create(names).findNodeIdsByPrefix("", names.length));
+	}
+
+	private static int linearSearch(String[] pNames, String pName) {
+
+		for(int i=0; i < pNames.length; i++) {
+			if(pNames[i].equals(pName)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+}
@@ -0,0 +1,160 @@
+package de.interstellar.test.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.model.graph.CsrGraph;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.model.graph.GraphBuilder;
+import de.interstellar.model.graph.GraphStorage;
+import de.interstellar.model.graph.OffHeapCsrGraph;
+
+/** Tests that a graph that is kept outside of the heap is the same as the graph on
+ *  the heap and gives the same results.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class OffHeapCsrGraphTest {
+
+	private static final String DATA = "{"
+			+ "\"nodes\": ["
+			+ "  {\"label\": \"Erde\"},"
+			+ "  {\"label\": \"Pl\\u00e4net \\\"X\\\"\"},"
+			+ "  {\"label\": \"Mond\"},"
+			+ "  {\"label\": \"Erde\"},"
+			+ "  {\"color\": \"red\"}"
+			+ "],"
+			+ "\"edges\": ["
+			+ "  {\"source\": 0, \"target\": 1, \"cost\": 0.25},"
+			+ "  {\"source\": 1, \"target\": 2, \"cost\": 1.5},"
+			+ "  {\"source\": 2, \"target\": 1, \"cost\": 0.5},"
+			+ "  {\"source\": 2, \"target\": 7, \"cost\": 1},"
+			+ "  {\"source\": 3, \"target\": 0, \"cost\": 2}"
+			+ "]"
+			+ "}";
+
+	@Test
+	public void builderTest() throws IOException {
+
+		Graph heap = new GraphBuilder().createGraph(new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8)));
+		Graph offHeap = new GraphBuilder(GraphStorage.OFF_HEAP).createGraph(new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8)));
+
+		assertTrue(offHeap.getCsrGraph() instanceof OffHeapCsrGraph);
+		assertSameGraph(heap.getCsrGraph(), offHeap.getCsrGraph());
+
+		//The names are read from the graph by the index
+		assertEquals(0, offHeap.findNodeId("Erde"));
+		assertEquals(1, offHeap.findNodeId("Plänet \"X\""));
+		assertEquals(-1, offHeap.findNodeId("Pluto"));
+		assertArrayEquals(new int[] {0, 3}, offHeap.getNameIndex().findNodeIds("Erde"));
+		assertArrayEquals(new int[] {2}, offHeap.getNameIndex().findNodeIdsByPrefix("Mo", 10));
+
+		//The second edge between Plänet "X" and Mond replaces the cost of the first one
+		assertEquals(0.75, new ShortestPathAlgorithm(offHeap, "Erde", "Mond").calculateShortestDistance().getTotalCost());
+	}
+
+	@Test
+	public void nullNameTest() {
+
+		GraphBuilder heapBuilder = new GraphBuilder();
+		GraphBuilder offHeapBuilder = new GraphBuilder(GraphStorage.OFF_HEAP);
+
+		for(GraphBuilder builder: new GraphBuilder[] {heapBuilder, offHeapBuilder}) {
+			builder.addNode("Erde");
+			builder.addNode(null);
+			builder.addNode("");
+			builder.addNode(null);
+			builder.addNode("Mars");
+			builder.addEdge(0, 1, 1);
+		}
+
+		Graph heap = heapBuilder.buildGraph();
+		Graph offHeap = offHeapBuilder.buildGraph();
+
+		assertSameGraph(heap.getCsrGraph(), offHeap.getCsrGraph());
+		assertSameGraph(heap.getCsrGraph(), OffHeapCsrGraph.copyOf(heap.getCsrGraph()));
+
+		//A node without name can not be found, but a node with an empty name can
+		for(Graph g: new Graph[] {heap, offHeap}) {
+			assertNull(g.getCsrGraph().getNodeName(1));
+			assertEquals(2, g.findNodeId(""));
+			assertEquals(4, g.findNodeId("Mars"));
+			assertArrayEquals(new int[] {2, 0, 4}, g.getNameIndex().findNodeIdsByPrefix("", 10));
+		}
+	}
+
+	@Test
+	public void randomGraphTest() {
+
+		Random random = new Random(17);
+		GraphBuilder heapBuilder = new GraphBuilder();
+		GraphBuilder offHeapBuilder = new GraphBuilder(GraphStorage.OFF_HEAP);
+
+		for(int i=0; i < 5000; i++) {
+			heapBuilder.addNode("node_" + i);
+			offHeapBuilder.addNode("node_" + i);
+		}
+
+		for(int i=0; i < 12000; i++) {
+
+			int source = random.nextInt(5000);
+			int target = random.nextInt(5000);
+			double cost = random.nextInt(100) / 10.0;
+
+			heapBuilder.addEdge(source, target, cost);
+			offHeapBuilder.addEdge(source, target, cost);
+		}
+
+		Graph heap = heapBuilder.buildGraph();
+		Graph offHeap = offHeapBuilder.buildGraph();
+
+		assertSameGraph(heap.getCsrGraph(), offHeap.getCsrGraph());
+		assertSameGraph(heap.getCsrGraph(), OffHeapCsrGraph.copyOf(heap.getCsrGraph()));
+		assertEquals(heap.getComponentIndex().getComponentCount(), offHeap.getComponentIndex().getComponentCount());
+
+		for(int i=0; i < 50; i++) {
+
+			String source = "node_" + random.nextInt(5000);
+			String target = "node_" + random.nextInt(5000);
+
+			ShortestPathResult expected = new ShortestPathAlgorithm(heap, source, target).calculateShortestDistance();
+			ShortestPathResult result = new ShortestPathAlgorithm(offHeap, source, target).calculateShortestDistance();
+
+			assertEquals(expected.getTotalCost(), result.getTotalCost());
+			assertArrayEquals(expected.getPath().getNodeIds(), result.getPath().getNodeIds());
+		}
+	}
+
+	private static void assertSameGraph(CsrGraph pExpected, CsrGraph pActual) {
+
+		assertEquals(pExpected.getNodeCount(), pActual.getNodeCount());
+		assertEquals(pExpected.getEdgeCount(), pActual.getEdgeCount());
+		assertEquals(pExpected.isSymmetric(), pActual.isSymmetric());
+
+		for(int i=0; i < pExpected.getNodeCount(); i++) {
+
+			assertEquals(pExpected.getNodeName(i), pActual.getNodeName(i));
+			assertEquals(pExpected.getEdgeStart(i), pActual.getEdgeStart(i));
+			assertEquals(pExpected.getEdgeEnd(i), pActual.getEdgeEnd(i));
+		}
+
+		for(int e=0; e < pExpected.getEdgeCount(); e++) {
+			assertEquals(pExpected.getEdgeTarget(e), pActual.getEdgeTarget(e));
+			assertEquals(pExpected.getEdgeCost(e), pActual.getEdgeCost(e));
+		}
+	}
+
+}
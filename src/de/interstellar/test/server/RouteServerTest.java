@@ -0,0 +1,105 @@
+package de.interstellar.test.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import de.interstellar.algorithm.ShortestPathAlgorithm;
+import de.interstellar.algorithm.ShortestPathResult;
+import de.interstellar.benchmark.SyntheticGraphFactory;
+import de.interstellar.model.graph.Graph;
+import de.interstellar.server.RouteServer;
+
+/** Sends requests to all endpoints of the RouteServer and compares the answers with
+ *  the results of the ShortestPathAlgorithm.
+ *
+ * @author Florian Sturn
+ * @date 18.10.2026
+ *
+ */
+public class RouteServerTest {
+
+	@Test
+	public void routeTest() throws IOException, InterruptedException {
+
+		Graph g = SyntheticGraphFactory.createRandomGraph(500, 800, 47);
+		HttpClient client = HttpClient.newHttpClient();
+
+		try(RouteServer server = new RouteServer(g, 0)) {
+
+			server.start();
+			String baseUrl = "http://localhost:" + server.getPort();
+
+			HttpResponse<String> response = get(client, baseUrl + "/route?from=Erde&to=node_42");
+			ShortestPathResult expected = new ShortestPathAlgorithm(g, "Erde", "node_42").calculateShortestDistance();
+
+			assertEquals(200, response.statusCode());
+			assertResult(expected, new JSONObject(response.body()));
+
+			assertEquals(404, get(client, baseUrl + "/route?from=Erde&to=Pluto").statusCode());
+			assertEquals(400, get(client, baseUrl + "/route?from=Erde").statusCode());
+
+			//Batch with an unknown node, which only fails its own query
+			JSONArray batch = new JSONArray();
+			batch.put(new JSONObject().put("from", "node_7").put("to", "node_99"));
+			batch.put(new JSONObject().put("from", "Pluto").put("to", "node_99"));
+			batch.put(new JSONObject().put("from", "node_99").put("to", "Erde"));
+
+			HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/routes"))
+					.POST(HttpRequest.BodyPublishers.ofString(batch.toString())).build();
+			response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+			assertEquals(200, response.statusCode());
+
+			JSONArray results = new JSONArray(response.body());
+
+			assertEquals(3, results.length());
+			assertResult(new ShortestPathAlgorithm(g, "node_7", "node_99").calculateShortestDistance(), results.getJSONObject(0));
+			assertTrue(results.getJSONObject(1).has("error"));
+			assertResult(new ShortestPathAlgorithm(g, "node_99", "Erde").calculateShortestDistance(), results.getJSONObject(2));
+
+			//A field that is not a string is an error of the client
+			request = HttpRequest.newBuilder(URI.create(baseUrl + "/routes"))
+					.POST(HttpRequest.BodyPublishers.ofString("[{\"from\": 1, \"to\": \"node_99\"}]")).build();
+
+			assertEquals(400, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+
+			JSONArray names = new JSONArray(get(client, baseUrl + "/nodes?prefix=node_12&limit=5").body());
+
+			assertEquals(5, names.length());
+			assertTrue(names.getString(0).startsWith("node_12"));
+		}
+	}
+
+	private static HttpResponse<String> get(HttpClient pClient, String pUrl) throws IOException, InterruptedException {
+
+		return pClient.send(HttpRequest.newBuilder(URI.create(pUrl)).GET().build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private static void assertResult(ShortestPathResult pExpected, JSONObject pActual) {
+
+		assertTrue(pActual.getBoolean("reachable"));
+		assertEquals(pExpected.getTotalCost(), pActual.getDouble("totalCost"), 1e-9);
+
+		JSONArray path = pActual.getJSONArray("path");
+		int index = 0;
+
+		for(String name: pExpected.getPath().getNodeNames()) {
+			assertEquals(name, path.getString(index++));
+		}
+
+		assertEquals(index, path.length());
+		assertFalse(pActual.has("error"));
+	}
+
+}